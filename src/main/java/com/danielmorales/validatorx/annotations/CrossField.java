@@ -0,0 +1,95 @@
+package com.danielmorales.validatorx.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to validate several fields of a class together with a rule registered in the
+ * {@link com.danielmorales.validatorx.rules.RuleRegistry}. The rule is tested against an
+ * {@code Object[]} holding the values of {@link #fields()}, in order.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * RuleRegistry.registerRule("startBeforeEnd", values -> {
+ *     Object[] range = (Object[]) values;
+ *     return range[0] == null || range[1] == null || ((LocalDate) range[0]).isBefore((LocalDate) range[1]);
+ * });
+ *
+ * @CrossField(rule = "startBeforeEnd", fields = {"start", "end"}, message = "End must be after start")
+ * public class Booking {
+ *     private LocalDate start;
+ *     private LocalDate end;
+ * }
+ * }
+ * </pre>
+ *
+ * <p>Only the declared fields are read, so incremental revalidation re-runs the rule only when
+ * one of them changes. If the rule is not registered, a "No rule found" error is reported.
+ * The default validation message key is {@code error.crossField}.
+ *
+ * @author Daniel Morales
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(CrossField.List.class)
+public @interface CrossField {
+
+    /**
+     * Specifies the name of the registered rule.
+     *
+     * @return the rule name
+     */
+    String rule();
+
+    /**
+     * Specifies the fields whose values are passed to the rule, in order.
+     *
+     * @return the field names
+     */
+    String[] fields();
+
+    /**
+     * Specifies the field errors are reported on. If empty, the last of {@link #fields()} is used.
+     *
+     * @return the field name (default: empty)
+     */
+    String reportOn() default "";
+
+    /**
+     * Specifies the message key for localization.
+     *
+     * @return the message key (default: "error.crossField")
+     */
+    String messageKey() default "error.crossField";
+
+    /**
+     * Specifies a custom validation message.
+     *
+     * @return the custom validation message (default: empty)
+     */
+    String message() default "";
+
+    /**
+     * Specifies the validation groups this constraint belongs to. A constraint without
+     * groups belongs to {@link javax.validation.groups.Default}.
+     *
+     * @return the groups (default: empty)
+     */
+    Class<?>[] groups() default {};
+
+    /**
+     * Holds several {@code CrossField} annotations on the same class.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    @interface List {
+        /**
+         * @return the annotations
+         */
+        CrossField[] value();
+    }
+}
@@ -46,4 +46,20 @@ public @interface Email {
      * @return the custom regex pattern (default: empty string)
      */
     String regex() default "";
+
+    /**
+     * Specifies whether to remember the outcome for each value. Enable this when the field
+     * sees a small set of repeated values, so the regex only runs for values not seen before.
+     *
+     * @return {@code true} to memoize outcomes (default: false)
+     */
+    boolean memoize() default false;
+
+    /**
+     * Specifies the validation groups this constraint belongs to. A constraint without
+     * groups belongs to {@link javax.validation.groups.Default}.
+     *
+     * @return the groups (default: empty)
+     */
+    Class<?>[] groups() default {};
 }
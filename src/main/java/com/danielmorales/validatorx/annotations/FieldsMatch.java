@@ -0,0 +1,80 @@
+package com.danielmorales.validatorx.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to require two fields of a class to hold equal values, such as a password
+ * and its confirmation. The error is reported on the {@link #other()} field.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * @FieldsMatch(field = "password", other = "confirmPassword", message = "Passwords do not match")
+ * public class SignUpForm {
+ *     private String password;
+ *     private String confirmPassword;
+ * }
+ * }
+ * </pre>
+ *
+ * <p>Two {@code null} values match. The default validation message key is {@code error.fieldsMatch}.
+ *
+ * @author Daniel Morales
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(FieldsMatch.List.class)
+public @interface FieldsMatch {
+
+    /**
+     * Specifies the field holding the reference value.
+     *
+     * @return the field name
+     */
+    String field();
+
+    /**
+     * Specifies the field that must match {@link #field()}. Errors are reported on this field.
+     *
+     * @return the field name
+     */
+    String other();
+
+    /**
+     * Specifies the message key for localization.
+     *
+     * @return the message key (default: "error.fieldsMatch")
+     */
+    String messageKey() default "error.fieldsMatch";
+
+    /**
+     * Specifies a custom validation message.
+     *
+     * @return the custom validation message (default: empty)
+     */
+    String message() default "";
+
+    /**
+     * Specifies the validation groups this constraint belongs to. A constraint without
+     * groups belongs to {@link javax.validation.groups.Default}.
+     *
+     * @return the groups (default: empty)
+     */
+    Class<?>[] groups() default {};
+
+    /**
+     * Holds several {@code FieldsMatch} annotations on the same class.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    @interface List {
+        /**
+         * @return the annotations
+         */
+        FieldsMatch[] value();
+    }
+}
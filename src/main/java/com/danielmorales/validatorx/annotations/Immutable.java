@@ -0,0 +1,32 @@
+package com.danielmorales.validatorx.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.annotation.ElementType;
+
+/**
+ * Annotation to indicate that instances of a class never change after construction,
+ * so that their validation results can be cached.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * @Immutable
+ * public final class Currency {
+ *     @NotNull
+ *     @Pattern(regex = "^[A-Z]{3}$")
+ *     private final String code;
+ * }
+ * }
+ * </pre>
+ *
+ * <p>The objects a marked class refers to must not change either. Results are only cached
+ * while {@link com.danielmorales.validatorx.core.ValidationResultCache} is enabled.
+ *
+ * @author Daniel Morales
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Immutable {
+}
@@ -46,4 +46,12 @@ public @interface Min {
      * @return the custom validation message (default: empty)
      */
     String message() default "";
-}
\ No newline at end of file
+
+    /**
+     * Specifies the validation groups this constraint belongs to. A constraint without
+     * groups belongs to {@link javax.validation.groups.Default}.
+     *
+     * @return the groups (default: empty)
+     */
+    Class<?>[] groups() default {};
+}
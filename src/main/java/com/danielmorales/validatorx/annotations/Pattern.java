@@ -45,4 +45,20 @@ public @interface Pattern {
      * @return the custom validation message (default: empty)
      */
     String message() default "";
-}
\ No newline at end of file
+
+    /**
+     * Specifies whether to remember the outcome for each value. Enable this when the field
+     * sees a small set of repeated values, so the regex only runs for values not seen before.
+     *
+     * @return {@code true} to memoize outcomes (default: false)
+     */
+    boolean memoize() default false;
+
+    /**
+     * Specifies the validation groups this constraint belongs to. A constraint without
+     * groups belongs to {@link javax.validation.groups.Default}.
+     *
+     * @return the groups (default: empty)
+     */
+    Class<?>[] groups() default {};
+}
@@ -52,4 +52,12 @@ public @interface Size {
      * @return the custom validation message (default: empty)
      */
     String message() default "";
+
+    /**
+     * Specifies the validation groups this constraint belongs to. A constraint without
+     * groups belongs to {@link javax.validation.groups.Default}.
+     *
+     * @return the groups (default: empty)
+     */
+    Class<?>[] groups() default {};
 }
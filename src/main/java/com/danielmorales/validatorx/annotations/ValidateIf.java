@@ -0,0 +1,50 @@
+package com.danielmorales.validatorx.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.annotation.ElementType;
+
+/**
+ * Annotation to indicate that the constraints on a field only apply when a condition holds.
+ * The condition is a rule registered in the {@link com.danielmorales.validatorx.rules.RuleRegistry},
+ * tested against the whole object being validated.
+ *
+ * <p>Example usage:
+ * <pre>
+ * {@code
+ * RuleRegistry.registerRule("isEuCustomer", obj -> EU_COUNTRIES.contains(((Customer) obj).country));
+ *
+ * public class Customer {
+ *     private String country;
+ *
+ *     @ValidateIf(rule = "isEuCustomer", dependsOn = "country")
+ *     @NotNull(message = "VAT ID is required for EU customers")
+ *     private String vatId;
+ * }
+ * }
+ * </pre>
+ *
+ * <p>If the rule is not registered, a "No rule found" error is reported for the field.
+ *
+ * @author Daniel Morales
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ValidateIf {
+    /**
+     * Specifies the name of the registered rule that must pass for the constraints to apply.
+     *
+     * @return the rule name
+     */
+    String rule();
+
+    /**
+     * Specifies the fields the condition reads. Incremental revalidation uses this to decide
+     * when the constraints must be evaluated again. If empty, the condition is assumed to
+     * read any field.
+     *
+     * @return the field names (default: empty)
+     */
+    String[] dependsOn() default {};
+}
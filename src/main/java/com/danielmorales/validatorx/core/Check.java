@@ -0,0 +1,209 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.metrics.ValidationMetrics;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A single compiled validation check. A check is bound to a field by name, or to the
+ * whole object when its field name is {@code null}.
+ *
+ * <p>Checks are created once when a {@link ValidationPlan} is compiled and are then
+ * evaluated against field values that the plan has already read from the target. A
+ * {@link ValueCheck} tests one value and reports at most one error; a {@link CompositeCheck}
+ * reports the errors of the checks or plans it evaluates in turn.
+ *
+ * @author Daniel Morales
+ */
+abstract class Check {
+    private final String fieldName;
+    private int constraintCode = -1;
+
+    /**
+     * Constructs a {@code Check}.
+     *
+     * @param fieldName the field this check reads, or {@code null} for an object-level check
+     */
+    Check(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * @return the field this check reads, or {@code null} for an object-level check
+     */
+    String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Returns the fields whose values this check depends on. A field check depends on its own
+     * field; an object-level check may read any field unless it declares otherwise.
+     *
+     * @return the names of the fields read, or {@code null} if the check may read any field
+     */
+    String[] getDependencies() {
+        return fieldName == null ? null : new String[] { fieldName };
+    }
+
+    /**
+     * Resolves any named rules this check depends on against a registry snapshot.
+     * Checks without such dependencies return themselves.
+     *
+     * @param rules the rule registry snapshot the plan is compiled from
+     * @return a check that no longer looks anything up while validating
+     */
+    Check bind(RuleRegistry.Snapshot rules) {
+        return this;
+    }
+
+    /**
+     * Adds the resolved rule checks this check depends on, so that the plan can tell when a
+     * named rule it uses has been replaced.
+     *
+     * @param out the list to add to
+     */
+    void collectRuleChecks(List<RuleCheck> out) {
+    }
+
+    /**
+     * Tells whether this check must see the object being validated, not just the field value.
+     * A plan never reads the field of such a check without boxing it.
+     *
+     * @return {@code true} if the check depends on the target
+     */
+    boolean needsTarget() {
+        return false;
+    }
+
+    /**
+     * Evaluates this check and records any error in the given result.
+     *
+     * @param target the object being validated
+     * @param value  the field value (or the target itself for object-level checks)
+     * @param result the validation result to accumulate errors
+     */
+    abstract void applyTo(Object target, Object value, ValidationResult result);
+
+    /**
+     * Counts the errors {@link #applyTo} would report, without building them. Checks that
+     * report several errors, such as cascades, stop counting once {@code limit} is reached.
+     *
+     * @param target the object being validated
+     * @param value  the field value (or the target itself for object-level checks)
+     * @param limit  the number of errors after which counting may stop; at least 1
+     * @return the number of errors, or at least {@code limit} if there are more
+     */
+    abstract int countViolations(Object target, Object value, int limit);
+
+    /**
+     * @return the code of {@link #getConstraintType()}, see {@link ConstraintCodes}
+     */
+    final int getConstraintCode() {
+        int code = constraintCode;
+        if (code < 0) {
+            // Benign race: every thread computes the same code
+            code = ConstraintCodes.codeOf(getConstraintType());
+            constraintCode = code;
+        }
+        return code;
+    }
+
+    /**
+     * Returns the name this check is reported under in {@link ValidationMetrics}.
+     *
+     * @return the constraint type, or {@code null} if this check is not reported on its own
+     */
+    String getConstraintType() {
+        return null;
+    }
+
+    /**
+     * Evaluates this check like {@link #applyTo} and reports the evaluation to a metrics sink.
+     *
+     * @param target  the object being validated
+     * @param value   the field value (or the target itself for object-level checks)
+     * @param result  the validation result to accumulate errors
+     * @param metrics the sink to report to
+     * @param type    the class being validated
+     */
+    void applyMeasured(Object target, Object value, ValidationResult result, ValidationMetrics metrics, Class<?> type) {
+        String constraint = getConstraintType();
+        if (constraint == null) {
+            applyTo(target, value, result);
+            return;
+        }
+        int before = result.getErrors().size();
+        long start = System.nanoTime();
+        applyTo(target, value, result);
+        long nanos = System.nanoTime() - start;
+        boolean failed = result.getErrors().size() > before;
+        if (metrics instanceof ValidationTrace) {
+            ((ValidationTrace) metrics).recordConstraint(type, fieldName, constraint, value, failed, nanos);
+        } else {
+            metrics.recordConstraint(type, fieldName, constraint, failed, nanos);
+        }
+    }
+
+    // ----- Plan explanation -----
+
+    /**
+     * Describes how this check is evaluated, for {@link PlanExplanation}: the regex and the
+     * engine that runs it, the rule it applies, whether outcomes are memoized.
+     *
+     * @return the description, or {@code null} if the constraint type says it all
+     */
+    String describe() {
+        return null;
+    }
+
+    /**
+     * Estimates the cost of one evaluation of this check, excluding nested checks, in the
+     * relative units of {@link PlanExplanation}.
+     *
+     * @return the estimated cost
+     */
+    int estimateCost() {
+        return PlanExplanation.COST_PREDICATE;
+    }
+
+    /**
+     * Returns the checks this check evaluates in turn, such as the checks of a condition.
+     *
+     * @return the nested checks; empty by default
+     */
+    List<Check> getNestedChecks() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Tells whether this check can have any effect on a field of the given declared type.
+     * Checks that cannot (such as a cascade on a {@code String}) are left out of explanations.
+     *
+     * @param declaredType the declared type of the field
+     * @return {@code true} by default
+     */
+    boolean appliesTo(Class<?> declaredType) {
+        return true;
+    }
+
+    /**
+     * Tells whether this check validates the field value with its own plan.
+     *
+     * @return {@code false} by default
+     */
+    boolean isCascade() {
+        return false;
+    }
+
+    /**
+     * Returns the plan this check cascades into for a field of the given declared type.
+     *
+     * @param declaredType the declared type of the field
+     * @return the plan, or {@code null} if it is only known from the runtime value
+     */
+    ValidationPlan getCascadePlan(Class<?> declaredType) {
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.danielmorales.validatorx.core;
+
+/**
+ * A check that reports the errors of what it evaluates in turn rather than an error of its
+ * own: a cascade into the plan of a nested object, a group of conditional checks, or a
+ * cross-field check over several values.
+ *
+ * <p>A composite check has no single value to test, so it is always evaluated through
+ * {@link #applyTo} and {@link #countViolations}.
+ *
+ * @author Daniel Morales
+ */
+abstract class CompositeCheck extends Check {
+
+    /**
+     * Constructs a {@code CompositeCheck}.
+     *
+     * @param fieldName the field this check reads, or {@code null} for an object-level check
+     */
+    CompositeCheck(String fieldName) {
+        super(fieldName);
+    }
+}
@@ -0,0 +1,152 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.metrics.ValidationMetrics;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A group of checks on one field that only apply when a named rule passes for the object
+ * being validated (see {@link com.danielmorales.validatorx.annotations.ValidateIf}).
+ *
+ * <p>The condition is evaluated once per validation, before any of the checks.
+ *
+ * @author Daniel Morales
+ */
+final class ConditionalCheck extends CompositeCheck {
+    private final RuleCheck condition;
+    private final String[] conditionDependencies;
+    private final Check[] checks;
+
+    /**
+     * Constructs an unresolved {@code ConditionalCheck}.
+     *
+     * @param fieldName             the field the checks read
+     * @param ruleName              the name of the registered rule to test against the target
+     * @param conditionDependencies the fields the rule reads, or an empty array if it may read any field
+     * @param checks                the checks to apply when the rule passes
+     */
+    ConditionalCheck(String fieldName, String ruleName, String[] conditionDependencies, List<Check> checks) {
+        this(fieldName, new RuleCheck(ruleName, fieldName, null), conditionDependencies, checks.toArray(new Check[0]));
+    }
+
+    private ConditionalCheck(String fieldName, RuleCheck condition, String[] conditionDependencies, Check[] checks) {
+        super(fieldName);
+        this.condition = condition;
+        this.conditionDependencies = conditionDependencies;
+        this.checks = checks;
+    }
+
+    @Override
+    Check bind(RuleRegistry.Snapshot rules) {
+        Check[] bound = new Check[checks.length];
+        for (int i = 0; i < checks.length; i++) {
+            bound[i] = checks[i].bind(rules);
+        }
+        return new ConditionalCheck(getFieldName(), (RuleCheck) condition.bind(rules), conditionDependencies, bound);
+    }
+
+    @Override
+    void collectRuleChecks(List<RuleCheck> out) {
+        condition.collectRuleChecks(out);
+        for (Check check : checks) {
+            check.collectRuleChecks(out);
+        }
+    }
+
+    @Override
+    String[] getDependencies() {
+        if (conditionDependencies.length == 0) {
+            return null;
+        }
+        Set<String> dependencies = new LinkedHashSet<>(Arrays.asList(conditionDependencies));
+        for (Check check : checks) {
+            String[] read = check.getDependencies();
+            if (read == null) {
+                return null;
+            }
+            dependencies.addAll(Arrays.asList(read));
+        }
+        return dependencies.toArray(new String[0]);
+    }
+
+    @Override
+    boolean needsTarget() {
+        return true;
+    }
+
+    @Override
+    void applyTo(Object target, Object value, ValidationResult result) {
+        if (condition.getRule() == null) {
+            result.addError(condition.report(value));
+            return;
+        }
+        if (condition.test(target)) {
+            for (Check check : checks) {
+                check.applyTo(target, value, result);
+            }
+        }
+    }
+
+    @Override
+    int countViolations(Object target, Object value, int limit) {
+        if (condition.getRule() == null) {
+            return 1;
+        }
+        if (!condition.test(target)) {
+            return 0;
+        }
+        int count = 0;
+        for (Check check : checks) {
+            count += check.countViolations(target, value, limit - count);
+            if (count >= limit) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    String getConstraintType() {
+        return "ValidateIf";
+    }
+
+    /**
+     * Reports the condition as a {@code ValidateIf} constraint that never fails, and each
+     * conditional check under its own type.
+     */
+    @Override
+    void applyMeasured(Object target, Object value, ValidationResult result, ValidationMetrics metrics, Class<?> type) {
+        if (condition.getRule() == null) {
+            super.applyMeasured(target, value, result, metrics, type);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean applies = condition.test(target);
+        metrics.recordConstraint(type, getFieldName(), getConstraintType(), false, System.nanoTime() - start);
+        if (applies) {
+            for (Check check : checks) {
+                check.applyMeasured(target, value, result, metrics, type);
+            }
+        }
+    }
+
+    @Override
+    String describe() {
+        return "only if rule '" + condition.getRuleName() + "' passes"
+                + (condition.getRule() == null ? " (rule not registered)" : "");
+    }
+
+    @Override
+    int estimateCost() {
+        return condition.estimateCost();
+    }
+
+    @Override
+    List<Check> getNestedChecks() {
+        return Arrays.asList(checks);
+    }
+}
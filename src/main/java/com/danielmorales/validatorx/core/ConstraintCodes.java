@@ -0,0 +1,72 @@
+package com.danielmorales.validatorx.core;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns small integer codes to constraint types, such as {@code NotNull} or
+ * {@code jsr380:Size}, so that errors can identify their constraint with an {@code int}
+ * instead of a string. Codes are assigned on first use, are dense and stay stable for the
+ * lifetime of the JVM; they are not meant to be persisted.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * for (ValidationError error : result.getErrors()) {
+ *     if (error.getConstraintCode() == ConstraintCodes.codeOf("NotNull")) {
+ *         missing++;
+ *     }
+ * }
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class ConstraintCodes {
+    /** The code of errors that were not reported by a compiled constraint. */
+    public static final int UNKNOWN = 0;
+
+    private static final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private static volatile String[] names = { null };
+
+    private ConstraintCodes() {
+    }
+
+    /**
+     * Returns the code of a constraint type, assigning one if it has none yet.
+     *
+     * @param constraintType the constraint type, as reported to metrics
+     * @return the code, or {@link #UNKNOWN} if {@code constraintType} is {@code null}
+     */
+    public static int codeOf(String constraintType) {
+        if (constraintType == null) {
+            return UNKNOWN;
+        }
+        Integer code = codes.get(constraintType);
+        return code != null ? code : assign(constraintType);
+    }
+
+    /**
+     * Returns the constraint type of a code.
+     *
+     * @param code the code
+     * @return the constraint type, or {@code null} for {@link #UNKNOWN} or an unassigned code
+     */
+    public static String nameOf(int code) {
+        String[] current = names;
+        return code > 0 && code < current.length ? current[code] : null;
+    }
+
+    private static synchronized int assign(String constraintType) {
+        Integer code = codes.get(constraintType);
+        if (code != null) {
+            return code;
+        }
+        String[] next = Arrays.copyOf(names, names.length + 1);
+        next[names.length] = constraintType;
+        names = next;
+        codes.put(constraintType, names.length - 1);
+        return names.length - 1;
+    }
+}
@@ -0,0 +1,209 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.rules.RuleRegistry;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A check on several fields of an object, such as a password confirmation or a date range.
+ *
+ * <p>A cross-field check declares the fields it reads, and the {@link ValidationPlan} passes it
+ * their values, in that order. Values are read once per validation and shared with the
+ * field-level checks. Errors are reported on a single field (usually the one a user would
+ * correct). When that field is one of the values read, its value is the invalid value.
+ *
+ * @author Daniel Morales
+ */
+final class CrossFieldCheck extends CompositeCheck {
+    private final String constraintType;
+    private final String[] fields;
+    private final Predicate<Object[]> predicate;
+    private final RuleCheck rule;
+    private final Supplier<String> message;
+    private final int reportIndex;
+    private volatile ValidationError.Identity description;
+
+    /**
+     * Constructs a {@code CrossFieldCheck} from a predicate.
+     *
+     * @param constraintType the name the check is reported under in metrics
+     * @param reportOn  the field errors are reported on
+     * @param fields    the fields whose values are passed to the predicate, in order
+     * @param predicate the condition the values must meet
+     * @param message   computes the error message when the check fails
+     */
+    CrossFieldCheck(String constraintType, String reportOn, String[] fields, Predicate<Object[]> predicate,
+                    Supplier<String> message) {
+        this(constraintType, reportOn, fields, predicate, null, message);
+    }
+
+    private CrossFieldCheck(String constraintType, String reportOn, String[] fields, Predicate<Object[]> predicate,
+                            RuleCheck rule, Supplier<String> message) {
+        super(reportOn);
+        this.constraintType = constraintType;
+        this.fields = fields.clone();
+        this.predicate = predicate;
+        this.rule = rule;
+        this.message = message;
+        int index = -1;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].equals(reportOn)) {
+                index = i;
+                break;
+            }
+        }
+        this.reportIndex = index;
+    }
+
+    /**
+     * Constructs an unresolved {@code CrossFieldCheck} that applies a rule from the
+     * {@link RuleRegistry}. The rule is tested against an {@code Object[]} of the field values.
+     *
+     * @param constraintType the name the check is reported under in metrics
+     * @param reportOn       the field errors are reported on
+     * @param fields         the fields whose values are passed to the rule, in order
+     * @param ruleName       the name of the registered rule
+     * @param message        computes the error message when the check fails
+     * @return the check
+     */
+    static CrossFieldCheck ofRule(String constraintType, String reportOn, String[] fields, String ruleName,
+                                  Supplier<String> message) {
+        return new CrossFieldCheck(constraintType, reportOn, fields, null, new RuleCheck(ruleName, reportOn, null),
+                message);
+    }
+
+    /**
+     * @return the fields this check reads, in the order their values are passed to it
+     */
+    String[] getFields() {
+        return fields;
+    }
+
+    @Override
+    Check bind(RuleRegistry.Snapshot rules) {
+        if (rule == null) {
+            return this;
+        }
+        return new CrossFieldCheck(constraintType, getFieldName(), fields, null, (RuleCheck) rule.bind(rules), message);
+    }
+
+    @Override
+    void collectRuleChecks(List<RuleCheck> out) {
+        if (rule != null) {
+            rule.collectRuleChecks(out);
+        }
+    }
+
+    @Override
+    String getConstraintType() {
+        return constraintType;
+    }
+
+    @Override
+    String[] getDependencies() {
+        Set<String> dependencies = new LinkedHashSet<>();
+        for (String field : fields) {
+            dependencies.add(field);
+        }
+        dependencies.add(getFieldName());
+        return dependencies.toArray(new String[0]);
+    }
+
+    /**
+     * Evaluates this check and records any error in the given result. The description of the
+     * error is built once per message and source and shared between the errors of this check.
+     *
+     * @param values the values of {@link #getFields()}, in order
+     * @param source the source the plan attributes errors of this check to
+     * @param result the validation result to accumulate errors
+     */
+    void applyValues(Object[] values, String source, ValidationResult result) {
+        if (!testValues(values)) {
+            String text = rule != null && rule.getRule() == null ? rule.violationMessage() : message.get();
+            ValidationError.Identity identity = description;
+            if (identity == null || !identity.matches(text, source)) {
+                identity = new ValidationError.Identity(getFieldName(), text, getConstraintCode(), source);
+                description = identity;
+            }
+            result.addError(new ValidationError(identity, reportIndex < 0 ? null : values[reportIndex]));
+        }
+    }
+
+    /**
+     * Tests the values of {@link #getFields()} without reporting an error.
+     *
+     * @param values the values of {@link #getFields()}, in order
+     * @return {@code true} if the values are valid
+     */
+    boolean testValues(Object[] values) {
+        return rule != null ? rule.test(values) : predicate.test(values);
+    }
+
+    @Override
+    boolean needsTarget() {
+        return true;
+    }
+
+    /**
+     * Evaluates this check against the object being validated, reading the values of
+     * {@link #getFields()} from it. A {@link ValidationPlan} reads them once for all of its
+     * checks and calls {@link #applyValues} instead.
+     */
+    @Override
+    void applyTo(Object target, Object value, ValidationResult result) {
+        Object[] values = readValues(target);
+        if (values != null) {
+            applyValues(values, getFieldName(), result);
+        }
+    }
+
+    @Override
+    int countViolations(Object target, Object value, int limit) {
+        Object[] values = readValues(target);
+        return values == null || testValues(values) ? 0 : 1;
+    }
+
+    /**
+     * Reads the values of {@link #getFields()} from a target.
+     *
+     * @param target the object being validated
+     * @return the values, in order, or {@code null} if the target does not declare one of
+     *         the fields this check depends on
+     */
+    Object[] readValues(Object target) {
+        if (target == null) {
+            return null;
+        }
+        for (String dependency : getDependencies()) {
+            if (ReflectionCache.getField(target.getClass(), dependency) == null) {
+                return null;
+            }
+        }
+        Object[] values = new Object[fields.length];
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = ReflectionCache.getField(target.getClass(), fields[i]).get(target);
+            }
+        } catch (IllegalAccessException e) {
+            // Inaccessible fields are skipped
+            return null;
+        }
+        return values;
+    }
+
+    @Override
+    String describe() {
+        String reads = "reads " + String.join(", ", fields);
+        return rule == null ? reads : reads + ", " + rule.describe();
+    }
+
+    @Override
+    int estimateCost() {
+        return PlanExplanation.COST_CHECK * fields.length
+                + (rule == null ? PlanExplanation.COST_PREDICATE : rule.estimateCost());
+    }
+}
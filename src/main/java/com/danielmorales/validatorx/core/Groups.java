@@ -0,0 +1,119 @@
+package com.danielmorales.validatorx.core;
+
+import javax.validation.groups.Default;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility methods for validation groups.
+ *
+ * <p>Groups are plain interfaces. A constraint applies when one of the active groups is one
+ * of its groups or extends one of them, so a group can inherit the constraints of another.
+ * Constraints that declare no groups belong to {@link Default}, and validating without
+ * groups activates {@code Default}. This is the same model {@code javax.validation} uses,
+ * and ValidatorX and JSR 380 constraints share the same {@code Default} group.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * public interface Create {}
+ *
+ * public class User {
+ *     @NotNull(groups = Create.class)
+ *     private String password;
+ * }
+ *
+ * ValidationResult result = new ValidatorEngine().accumulateValidate(user, Create.class);
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class Groups {
+    /** The group set used when no groups are given. */
+    public static final Set<Class<?>> DEFAULT = Collections.singleton(Default.class);
+
+    private static final Class<?>[] NONE = new Class<?>[0];
+    private static final Map<Class<? extends Annotation>, Optional<Method>> groupsAttributes = new ConcurrentHashMap<>();
+
+    private Groups() {
+    }
+
+    /**
+     * Normalizes the groups to validate.
+     *
+     * @param groups the groups, possibly empty or {@code null}
+     * @return an immutable set of groups; {@link #DEFAULT} if none are given
+     */
+    public static Set<Class<?>> of(Class<?>... groups) {
+        if (groups == null || groups.length == 0) {
+            return DEFAULT;
+        }
+        if (groups.length == 1 && groups[0] == Default.class) {
+            return DEFAULT;
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(groups)));
+    }
+
+    /**
+     * Tells whether a constraint applies to the active groups.
+     *
+     * @param constraintGroups the groups declared by the constraint; empty means {@link Default}
+     * @param active           the active groups, as returned by {@link #of(Class[])}
+     * @return {@code true} if the constraint must be evaluated
+     */
+    public static boolean isActive(Class<?>[] constraintGroups, Set<Class<?>> active) {
+        if (constraintGroups.length == 0) {
+            return isActive(Default.class, active);
+        }
+        for (Class<?> group : constraintGroups) {
+            if (isActive(group, active)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the {@code groups} attribute of a constraint annotation.
+     *
+     * @param annotation a ValidatorX or {@code javax.validation} constraint annotation
+     * @return the declared groups, or an empty array if the annotation has no such attribute
+     */
+    public static Class<?>[] groupsOf(Annotation annotation) {
+        Optional<Method> attribute = groupsAttributes.computeIfAbsent(annotation.annotationType(), Groups::findGroupsAttribute);
+        if (!attribute.isPresent()) {
+            return NONE;
+        }
+        try {
+            return (Class<?>[]) attribute.get().invoke(annotation);
+        } catch (ReflectiveOperationException e) {
+            return NONE;
+        }
+    }
+
+    private static boolean isActive(Class<?> constraintGroup, Set<Class<?>> active) {
+        for (Class<?> group : active) {
+            if (constraintGroup.isAssignableFrom(group)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<Method> findGroupsAttribute(Class<? extends Annotation> type) {
+        try {
+            Method method = type.getMethod("groups");
+            return method.getReturnType() == Class[].class ? Optional.of(method) : Optional.empty();
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+}
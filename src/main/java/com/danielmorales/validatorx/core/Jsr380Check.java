@@ -0,0 +1,569 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.i18n.MessageResolver;
+
+import javax.validation.constraints.AssertFalse;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Future;
+import javax.validation.constraints.FutureOrPresent;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Negative;
+import javax.validation.constraints.NegativeOrZero;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Null;
+import javax.validation.constraints.Past;
+import javax.validation.constraints.PastOrPresent;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A check compiled from a JSR 380 ({@code javax.validation.constraints}) annotation, so that
+ * JSR 380 constraints run in the same {@link ValidationPlan} as ValidatorX constraints.
+ *
+ * <p>Every constraint of {@code javax.validation.constraints} is supported, with the value
+ * types the specification lists for it. As in the specification, {@code null} is valid for
+ * every constraint except {@code NotNull}, {@code NotEmpty} and {@code NotBlank}; a value of a
+ * type a constraint does not support is also valid. Each constraint is specialized when it is
+ * compiled: numeric bounds are converted once into {@code long} and {@code double} thresholds,
+ * so that primitive and boxed integral and floating-point values are checked without
+ * allocating, and {@code BigDecimal} is only used for {@code BigDecimal}, {@code BigInteger}
+ * and numeric strings.
+ *
+ * <p>A constraint's {@code message} is used as it is, unless it is a {@code {key}} template:
+ * the default templates of {@code javax.validation} resolve to the matching ValidatorX
+ * message (such as {@code error.notNull}), and any other key is looked up in the message
+ * bundle. Like ValidatorX messages, a resolved message is kept for the locale it was
+ * resolved in.
+ *
+ * <p>Constraints are reported to metrics as {@code jsr380:<annotation name>}.
+ *
+ * @author Daniel Morales
+ */
+final class Jsr380Check extends ValueCheck {
+    private static final String DEFAULT_TEMPLATE_PREFIX = "{javax.validation.constraints.";
+    private static final java.util.regex.Pattern EMAIL_PATTERN =
+            java.util.regex.Pattern.compile("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$");
+    /** Returned by {@link #compareToNow} for values that are not dates or times. */
+    private static final int UNSUPPORTED = Integer.MIN_VALUE;
+
+    private final String constraintType;
+    private final String customMessage;
+    private final String messageKey;
+    private final Object[] messageArgs;
+    private final Predicate<Object> predicate;
+    private final LongPredicate longPredicate;
+    private final DoublePredicate doublePredicate;
+    private final String detail;
+    private final int cost;
+    private volatile ValidatorEngine.LocalizedMessage message;
+
+    /**
+     * Constructs a {@code Jsr380Check}.
+     *
+     * @param annotation      the constraint
+     * @param fieldName       the constrained field
+     * @param message         the constraint's {@code message} attribute
+     * @param defaultKey      the message key used for the default {@code javax.validation} template
+     * @param predicate       tests a value
+     * @param longPredicate   tests an integral primitive value, or {@code null} to box it
+     * @param doublePredicate tests a floating-point primitive value, or {@code null} to box it
+     * @param detail          describes the check for {@link PlanExplanation}, or {@code null}
+     * @param cost            the estimated cost of one evaluation
+     * @param bounds          the constraint attributes filling {@code {1}}, {@code {2}}, ... in the message
+     */
+    private Jsr380Check(Annotation annotation, String fieldName, String message, String defaultKey,
+                        Predicate<Object> predicate, LongPredicate longPredicate, DoublePredicate doublePredicate,
+                        String detail, int cost, Object... bounds) {
+        super(fieldName);
+        this.constraintType = "jsr380:" + annotation.annotationType().getSimpleName();
+        boolean template = message.startsWith("{") && message.endsWith("}");
+        this.customMessage = message.isEmpty() || template ? null : message;
+        this.messageKey = !template || message.startsWith(DEFAULT_TEMPLATE_PREFIX)
+                ? defaultKey
+                : message.substring(1, message.length() - 1);
+        this.messageArgs = new Object[bounds.length + 1];
+        this.messageArgs[0] = fieldName;
+        System.arraycopy(bounds, 0, this.messageArgs, 1, bounds.length);
+        this.predicate = predicate;
+        this.longPredicate = longPredicate;
+        this.doublePredicate = doublePredicate;
+        this.detail = detail;
+        this.cost = cost;
+    }
+
+    /**
+     * Compiles a JSR 380 constraint on a field.
+     *
+     * @param field      the constrained field
+     * @param annotation an annotation on the field
+     * @return the check, or {@code null} if the annotation is not a JSR 380 constraint
+     */
+    static Check compile(Field field, Annotation annotation) {
+        String fieldName = field.getName();
+        if (annotation instanceof NotNull) {
+            return new Jsr380Check(annotation, fieldName, ((NotNull) annotation).message(), "error.notNull",
+                    value -> value != null, value -> true, value -> true, null, PlanExplanation.COST_CHECK);
+        }
+        if (annotation instanceof Null) {
+            return new Jsr380Check(annotation, fieldName, ((Null) annotation).message(), "error.null",
+                    value -> value == null, value -> false, value -> false, null, PlanExplanation.COST_CHECK);
+        }
+        if (annotation instanceof NotEmpty) {
+            return new Jsr380Check(annotation, fieldName, ((NotEmpty) annotation).message(), "error.notEmpty",
+                    value -> value != null && sizeOf(value) != 0, value -> true, value -> true, null,
+                    PlanExplanation.COST_LENGTH);
+        }
+        if (annotation instanceof NotBlank) {
+            return new Jsr380Check(annotation, fieldName, ((NotBlank) annotation).message(), "error.notBlank",
+                    value -> value != null && (!(value instanceof CharSequence) || !isBlank((CharSequence) value)),
+                    value -> true, value -> true, null, PlanExplanation.COST_LENGTH);
+        }
+        if (annotation instanceof Size) {
+            Size size = (Size) annotation;
+            int min = size.min();
+            int max = size.max();
+            return new Jsr380Check(annotation, fieldName, size.message(), "error.size",
+                    value -> {
+                        int length = value == null ? -1 : sizeOf(value);
+                        return length < 0 || length >= min && length <= max;
+                    }, value -> true, value -> true, String.format("size in [%d, %d]", min, max),
+                    PlanExplanation.COST_LENGTH);
+        }
+        if (annotation instanceof AssertTrue) {
+            return new Jsr380Check(annotation, fieldName, ((AssertTrue) annotation).message(), "error.assertTrue",
+                    value -> !(value instanceof Boolean) || (Boolean) value, value -> true, value -> true, null,
+                    PlanExplanation.COST_CHECK);
+        }
+        if (annotation instanceof AssertFalse) {
+            return new Jsr380Check(annotation, fieldName, ((AssertFalse) annotation).message(), "error.assertFalse",
+                    value -> !(value instanceof Boolean) || !(Boolean) value, value -> true, value -> true, null,
+                    PlanExplanation.COST_CHECK);
+        }
+        if (annotation instanceof Min) {
+            long min = ((Min) annotation).value();
+            return numeric(annotation, fieldName, ((Min) annotation).message(), "error.min",
+                    new NumericBound(BigDecimal.valueOf(min), true, true), min);
+        }
+        if (annotation instanceof Max) {
+            long max = ((Max) annotation).value();
+            return numeric(annotation, fieldName, ((Max) annotation).message(), "error.max",
+                    new NumericBound(BigDecimal.valueOf(max), false, true), max);
+        }
+        if (annotation instanceof DecimalMin) {
+            DecimalMin decimalMin = (DecimalMin) annotation;
+            return numeric(annotation, fieldName, decimalMin.message(),
+                    decimalMin.inclusive() ? "error.min" : "error.greaterThan",
+                    new NumericBound(decimal(decimalMin.value(), field), true, decimalMin.inclusive()),
+                    decimalMin.value());
+        }
+        if (annotation instanceof DecimalMax) {
+            DecimalMax decimalMax = (DecimalMax) annotation;
+            return numeric(annotation, fieldName, decimalMax.message(),
+                    decimalMax.inclusive() ? "error.max" : "error.lessThan",
+                    new NumericBound(decimal(decimalMax.value(), field), false, decimalMax.inclusive()),
+                    decimalMax.value());
+        }
+        if (annotation instanceof Positive) {
+            return numeric(annotation, fieldName, ((Positive) annotation).message(), "error.positive",
+                    new NumericBound(BigDecimal.ZERO, true, false));
+        }
+        if (annotation instanceof PositiveOrZero) {
+            return numeric(annotation, fieldName, ((PositiveOrZero) annotation).message(), "error.positiveOrZero",
+                    new NumericBound(BigDecimal.ZERO, true, true));
+        }
+        if (annotation instanceof Negative) {
+            return numeric(annotation, fieldName, ((Negative) annotation).message(), "error.negative",
+                    new NumericBound(BigDecimal.ZERO, false, false));
+        }
+        if (annotation instanceof NegativeOrZero) {
+            return numeric(annotation, fieldName, ((NegativeOrZero) annotation).message(), "error.negativeOrZero",
+                    new NumericBound(BigDecimal.ZERO, false, true));
+        }
+        if (annotation instanceof Digits) {
+            Digits digits = (Digits) annotation;
+            int integer = digits.integer();
+            int fraction = digits.fraction();
+            if (integer < 0 || fraction < 0) {
+                throw new IllegalArgumentException("@Digits on field '" + fieldName + "' has a negative length");
+            }
+            return new Jsr380Check(annotation, fieldName, digits.message(), "error.digits",
+                    value -> {
+                        if (value instanceof Long || value instanceof Integer || value instanceof Short
+                                || value instanceof Byte) {
+                            return integerDigits(((Number) value).longValue()) <= integer;
+                        }
+                        BigDecimal decimal = toBigDecimal(value);
+                        if (decimal == null) {
+                            return !(value instanceof Number || value instanceof CharSequence);
+                        }
+                        decimal = decimal.stripTrailingZeros();
+                        int fractionDigits = Math.max(decimal.scale(), 0);
+                        return decimal.precision() - decimal.scale() <= integer && fractionDigits <= fraction;
+                    }, value -> integerDigits(value) <= integer, null,
+                    String.format("at most %d integer and %d fraction digits", integer, fraction),
+                    PlanExplanation.COST_LENGTH, integer, fraction);
+        }
+        if (annotation instanceof Past) {
+            return temporal(annotation, fieldName, ((Past) annotation).message(), "error.past", c -> c < 0);
+        }
+        if (annotation instanceof PastOrPresent) {
+            return temporal(annotation, fieldName, ((PastOrPresent) annotation).message(), "error.pastOrPresent",
+                    c -> c <= 0);
+        }
+        if (annotation instanceof Future) {
+            return temporal(annotation, fieldName, ((Future) annotation).message(), "error.future", c -> c > 0);
+        }
+        if (annotation instanceof FutureOrPresent) {
+            return temporal(annotation, fieldName, ((FutureOrPresent) annotation).message(), "error.futureOrPresent",
+                    c -> c >= 0);
+        }
+        if (annotation instanceof Email) {
+            Email email = (Email) annotation;
+            java.util.regex.Pattern regex = ".*".equals(email.regexp()) ? null
+                    : java.util.regex.Pattern.compile(email.regexp(), flags(email.flags()));
+            Predicate<Object> format = regexPredicate(EMAIL_PATTERN);
+            return new Jsr380Check(annotation, fieldName, email.message(), "error.invalidEmail",
+                    regex == null ? format : format.and(regexPredicate(regex)), value -> true, value -> true,
+                    describeRegex(EMAIL_PATTERN), regex == null ? PlanExplanation.COST_REGEX : 2 * PlanExplanation.COST_REGEX);
+        }
+        if (annotation instanceof Pattern) {
+            Pattern pattern = (Pattern) annotation;
+            java.util.regex.Pattern regex = java.util.regex.Pattern.compile(pattern.regexp(), flags(pattern.flags()));
+            return new Jsr380Check(annotation, fieldName, pattern.message(), "error.pattern",
+                    regexPredicate(regex), value -> true, value -> true, describeRegex(regex),
+                    PlanExplanation.COST_REGEX);
+        }
+        return null;
+    }
+
+    private static Check numeric(Annotation annotation, String fieldName, String message, String defaultKey,
+                                 NumericBound bound, Object... bounds) {
+        return new Jsr380Check(annotation, fieldName, message, defaultKey, bound::test, bound.longTest,
+                bound.doubleTest, bound.describe(), PlanExplanation.COST_CHECK, bounds);
+    }
+
+    private static Check temporal(Annotation annotation, String fieldName, String message, String defaultKey,
+                                  IntPredicate accepts) {
+        return new Jsr380Check(annotation, fieldName, message, defaultKey,
+                value -> {
+                    int comparison = compareToNow(value);
+                    return comparison == UNSUPPORTED || accepts.test(comparison);
+                }, value -> true, value -> true, null, PlanExplanation.COST_CHECK);
+    }
+
+    private static BigDecimal decimal(String value, Field field) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid decimal bound '" + value + "' on field '"
+                    + field.getName() + "' of " + field.getDeclaringClass().getName(), e);
+        }
+    }
+
+    private static int flags(Pattern.Flag[] flags) {
+        int value = 0;
+        for (Pattern.Flag flag : flags) {
+            value |= flag.getValue();
+        }
+        return value;
+    }
+
+    private static Predicate<Object> regexPredicate(java.util.regex.Pattern regex) {
+        return value -> !(value instanceof CharSequence) || regex.matcher((CharSequence) value).matches();
+    }
+
+    private static String describeRegex(java.util.regex.Pattern regex) {
+        return "regex '" + regex.pattern() + "' (java.util.regex)";
+    }
+
+    /**
+     * Returns the size of a character sequence, collection, map or array.
+     *
+     * @return the size, or {@code -1} for any other value
+     */
+    private static int sizeOf(Object value) {
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length();
+        }
+        if (value instanceof Collection<?>) {
+            return ((Collection<?>) value).size();
+        }
+        if (value instanceof Map<?, ?>) {
+            return ((Map<?, ?>) value).size();
+        }
+        if (value.getClass().isArray()) {
+            return java.lang.reflect.Array.getLength(value);
+        }
+        return -1;
+    }
+
+    private static boolean isBlank(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the digits of the integer part of a value, as {@code BigDecimal.precision()} would.
+     */
+    private static int integerDigits(long value) {
+        int digits = 1;
+        // Stay negative, so that Long.MIN_VALUE needs no special case
+        for (long rest = value > 0 ? -value : value; rest <= -10; rest /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Converts a {@code BigDecimal}, {@code BigInteger}, floating-point value or numeric string
+     * to {@code BigDecimal}.
+     *
+     * @return the value, or {@code null} if it is not a number or not finite
+     */
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            return Double.isNaN(d) || Double.isInfinite(d) ? null : new BigDecimal(value.toString());
+        }
+        if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof CharSequence) {
+            try {
+                return new BigDecimal(value.toString());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compares a date or time with the current date or time of the same kind.
+     *
+     * @return a negative number if the value is in the past, zero if it is the present, a
+     * positive number if it is in the future, or {@link #UNSUPPORTED}
+     */
+    private static int compareToNow(Object value) {
+        if (value instanceof Date) {
+            return Long.compare(((Date) value).getTime(), System.currentTimeMillis());
+        }
+        if (value instanceof Calendar) {
+            return Long.compare(((Calendar) value).getTimeInMillis(), System.currentTimeMillis());
+        }
+        if (value instanceof Instant) {
+            return Integer.signum(((Instant) value).compareTo(Instant.now()));
+        }
+        if (value instanceof ZonedDateTime) {
+            return Integer.signum(((ZonedDateTime) value).toInstant().compareTo(Instant.now()));
+        }
+        if (value instanceof OffsetDateTime) {
+            return Integer.signum(((OffsetDateTime) value).toInstant().compareTo(Instant.now()));
+        }
+        if (value instanceof LocalDateTime) {
+            return Integer.signum(((LocalDateTime) value).compareTo(LocalDateTime.now()));
+        }
+        if (value instanceof LocalDate) {
+            return Integer.signum(((LocalDate) value).compareTo(LocalDate.now()));
+        }
+        if (value instanceof LocalTime) {
+            return Integer.signum(((LocalTime) value).compareTo(LocalTime.now()));
+        }
+        if (value instanceof OffsetTime) {
+            return Integer.signum(((OffsetTime) value).compareTo(OffsetTime.now()));
+        }
+        if (value instanceof YearMonth) {
+            return Integer.signum(((YearMonth) value).compareTo(YearMonth.now()));
+        }
+        if (value instanceof Year) {
+            return Integer.signum(((Year) value).compareTo(Year.now()));
+        }
+        if (value instanceof MonthDay) {
+            return Integer.signum(((MonthDay) value).compareTo(MonthDay.now()));
+        }
+        return UNSUPPORTED;
+    }
+
+    @Override
+    String getConstraintType() {
+        return constraintType;
+    }
+
+    @Override
+    String describe() {
+        return detail;
+    }
+
+    @Override
+    int estimateCost() {
+        return cost;
+    }
+
+    @Override
+    boolean test(Object value) {
+        return predicate.test(value);
+    }
+
+    @Override
+    boolean supportsPrimitive(int kind) {
+        return kind == DOUBLE ? doublePredicate != null : longPredicate != null;
+    }
+
+    @Override
+    boolean testInt(int value) {
+        return longPredicate.test(value);
+    }
+
+    @Override
+    boolean testLong(long value) {
+        return longPredicate.test(value);
+    }
+
+    @Override
+    boolean testDouble(double value) {
+        return doublePredicate.test(value);
+    }
+
+    @Override
+    String violationMessage() {
+        if (customMessage != null) {
+            return customMessage;
+        }
+        Locale locale = ValidationContext.currentLocale();
+        ValidatorEngine.LocalizedMessage resolved = message;
+        if (resolved == null || !resolved.locale.equals(locale)) {
+            resolved = new ValidatorEngine.LocalizedMessage(locale,
+                    MessageResolver.getMessage(locale, messageKey, messageArgs));
+            message = resolved;
+        }
+        return resolved.text;
+    }
+
+    /**
+     * A lower or upper bound on numeric values, converted once into exact {@code long}
+     * thresholds and a {@code double} threshold. {@code NaN} never satisfies a bound.
+     */
+    private static final class NumericBound {
+        private final BigDecimal bound;
+        private final boolean lower;
+        private final boolean inclusive;
+        final LongPredicate longTest;
+        final DoublePredicate doubleTest;
+
+        NumericBound(BigDecimal bound, boolean lower, boolean inclusive) {
+            this.bound = bound;
+            this.lower = lower;
+            this.inclusive = inclusive;
+            this.longTest = longTest(bound, lower, inclusive);
+            double threshold = bound.doubleValue();
+            if (lower) {
+                this.doubleTest = inclusive ? value -> value >= threshold : value -> value > threshold;
+            } else {
+                this.doubleTest = inclusive ? value -> value <= threshold : value -> value < threshold;
+            }
+        }
+
+        /**
+         * Builds an exact test for integral values: the bound is rounded to the nearest
+         * integral threshold on the valid side, or the test is constant if no {@code long} or
+         * every {@code long} satisfies the bound.
+         */
+        private static LongPredicate longTest(BigDecimal bound, boolean lower, boolean inclusive) {
+            BigInteger threshold;
+            if (lower) {
+                threshold = inclusive
+                        ? bound.setScale(0, RoundingMode.CEILING).toBigInteger()
+                        : bound.setScale(0, RoundingMode.FLOOR).toBigInteger().add(BigInteger.ONE);
+                if (threshold.compareTo(BigInteger.valueOf(Long.MIN_VALUE)) <= 0) {
+                    return value -> true;
+                }
+                if (threshold.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) > 0) {
+                    return value -> false;
+                }
+                long min = threshold.longValue();
+                return value -> value >= min;
+            }
+            threshold = inclusive
+                    ? bound.setScale(0, RoundingMode.FLOOR).toBigInteger()
+                    : bound.setScale(0, RoundingMode.CEILING).toBigInteger().subtract(BigInteger.ONE);
+            if (threshold.compareTo(BigInteger.valueOf(Long.MAX_VALUE)) >= 0) {
+                return value -> true;
+            }
+            if (threshold.compareTo(BigInteger.valueOf(Long.MIN_VALUE)) < 0) {
+                return value -> false;
+            }
+            long max = threshold.longValue();
+            return value -> value <= max;
+        }
+
+        boolean test(Object value) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return longTest.test(((Number) value).longValue());
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return doubleTest.test(((Number) value).doubleValue());
+            }
+            if (value instanceof BigDecimal || value instanceof BigInteger || value instanceof CharSequence) {
+                BigDecimal decimal = toBigDecimal(value);
+                if (decimal == null) {
+                    // Not a number
+                    return false;
+                }
+                int comparison = decimal.compareTo(bound);
+                return lower ? comparison > 0 || inclusive && comparison == 0
+                        : comparison < 0 || inclusive && comparison == 0;
+            }
+            if (value instanceof Number) {
+                return doubleTest.test(((Number) value).doubleValue());
+            }
+            return true;
+        }
+
+        String describe() {
+            return (lower ? (inclusive ? ">= " : "> ") : (inclusive ? "<= " : "< ")) + bound.toPlainString();
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.rules.RuleRegistry;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches compiled {@link ValidationPlan}s, one per (class, group set) for annotation-based
+ * validation and one per (class, rule set, group set) for annotations combined with a
+ * registered profile. Plans for the {@code Default} group are looked up by class alone.
+ * Plans that also enforce JSR 380 constraints, or enforce only those, are cached per
+ * (class, group set) as well.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * ValidationResult result = PlanCache.getPlan(User.class, "signup").validate(user);
+ * ValidationResult created = PlanCache.getPlan(User.class, Create.class).validate(user);
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public class PlanCache {
+
+    private static final Map<Class<?>, ValidationPlan> plans = new ConcurrentHashMap<>();
+    private static final Map<GroupKey, ValidationPlan> groupPlans = new ConcurrentHashMap<>();
+    private static final Map<RuleSetKey, RuleSetPlan> ruleSetPlans = new ConcurrentHashMap<>();
+    private static final Map<GroupKey, ValidationPlan> unifiedPlans = new ConcurrentHashMap<>();
+    private static final Map<GroupKey, ValidationPlan> jsr380Plans = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ValidationPlan> emptyPlans = new ConcurrentHashMap<>();
+
+    /**
+     * @return the number of compiled plans held, for all classes, groups and rule sets
+     */
+    public static int size() {
+        return plans.size() + groupPlans.size() + ruleSetPlans.size() + unifiedPlans.size() + jsr380Plans.size()
+                + emptyPlans.size();
+    }
+
+    /**
+     * Removes every compiled plan. Plans are compiled again on their next use.
+     */
+    public static void clear() {
+        plans.clear();
+        groupPlans.clear();
+        ruleSetPlans.clear();
+        unifiedPlans.clear();
+        jsr380Plans.clear();
+        emptyPlans.clear();
+    }
+
+    /**
+     * Retrieves a plan without any check for a class, which runs only the checks it is given.
+     * Used by fluent validations that skip annotations.
+     *
+     * @param clazz the class to validate
+     * @return the plan
+     */
+    static ValidationPlan getEmptyPlan(Class<?> clazz) {
+        return emptyPlans.computeIfAbsent(clazz,
+                type -> ValidationPlan.compile(type, Collections.emptyList(), RuleRegistry.snapshot()));
+    }
+
+    /**
+     * Retrieves the annotation plan of the {@code Default} group for a class, compiling it if necessary.
+     *
+     * @param clazz the class to validate
+     * @return the compiled plan
+     */
+    public static ValidationPlan getPlan(Class<?> clazz) {
+        RuleRegistry.Snapshot rules = RuleRegistry.snapshot();
+        ValidationPlan plan = plans.get(clazz);
+        if (plan != null && plan.isCurrent(rules)) {
+            return plan;
+        }
+        ValidationPlan compiled = ValidationPlan.compile(clazz, ValidatorEngine.compile(clazz), rules);
+        plans.put(clazz, compiled);
+        return compiled;
+    }
+
+    /**
+     * Retrieves the annotation plan for a class and a set of validation groups, compiling it
+     * if necessary. The plan only contains the constraints of those groups.
+     *
+     * @param clazz  the class to validate
+     * @param groups the groups to validate; none means {@code Default}
+     * @return the compiled plan
+     * @see Groups
+     */
+    public static ValidationPlan getPlan(Class<?> clazz, Class<?>... groups) {
+        return forGroups(clazz, Groups.of(groups));
+    }
+
+    /**
+     * Retrieves the annotation plan for a class and a normalized group set.
+     *
+     * @param clazz  the class to validate
+     * @param groups the groups, as returned by {@link Groups#of(Class[])}
+     * @return the compiled plan
+     */
+    static ValidationPlan forGroups(Class<?> clazz, Set<Class<?>> groups) {
+        if (groups == Groups.DEFAULT) {
+            return getPlan(clazz);
+        }
+        RuleRegistry.Snapshot rules = RuleRegistry.snapshot();
+        GroupKey key = new GroupKey(clazz, groups);
+        ValidationPlan plan = groupPlans.get(key);
+        if (plan != null && plan.isCurrent(rules)) {
+            return plan;
+        }
+        ValidationPlan compiled = ValidationPlan.compile(clazz, ValidatorEngine.compile(clazz, groups), rules);
+        groupPlans.put(key, compiled);
+        return compiled;
+    }
+
+    /**
+     * Retrieves the plan that enforces both the ValidatorX and the JSR 380 constraints of a
+     * class, compiling it if necessary. Each field is read once and all of its constraints are
+     * evaluated together; a JSR 380 constraint that repeats a ValidatorX one on the same field
+     * is evaluated once.
+     *
+     * @param clazz  the class to validate
+     * @param groups the groups to validate; none means {@code Default}
+     * @return the compiled plan
+     */
+    public static ValidationPlan getUnifiedPlan(Class<?> clazz, Class<?>... groups) {
+        return forUnified(clazz, Groups.of(groups));
+    }
+
+    /**
+     * Retrieves the plan that enforces only the JSR 380 constraints of a class, compiling it
+     * if necessary.
+     *
+     * @param clazz  the class to validate
+     * @param groups the groups to validate; none means {@code Default}
+     * @return the compiled plan
+     */
+    public static ValidationPlan getJsr380Plan(Class<?> clazz, Class<?>... groups) {
+        return compiled(jsr380Plans, clazz, Groups.of(groups), false);
+    }
+
+    /**
+     * Retrieves the unified plan for a class and a normalized group set.
+     */
+    static ValidationPlan forUnified(Class<?> clazz, Set<Class<?>> groups) {
+        return compiled(unifiedPlans, clazz, groups, true);
+    }
+
+    private static ValidationPlan compiled(Map<GroupKey, ValidationPlan> cache, Class<?> clazz,
+                                           Set<Class<?>> groups, boolean validatorX) {
+        RuleRegistry.Snapshot rules = RuleRegistry.snapshot();
+        GroupKey key = new GroupKey(clazz, groups);
+        ValidationPlan plan = cache.get(key);
+        if (plan != null && plan.isCurrent(rules)) {
+            return plan;
+        }
+        ValidationPlan compiled = ValidationPlan.compile(clazz,
+                ValidatorEngine.compile(clazz, groups, validatorX, true), rules);
+        cache.put(key, compiled);
+        return compiled;
+    }
+
+    /**
+     * Retrieves the combined plan for a class and a named rule set, compiling it if necessary.
+     * If the rule set is {@code null} or not registered, the annotation plan is returned.
+     *
+     * <p>A cached plan is recompiled when its profile is registered again or when a named rule
+     * it applies is replaced in the {@link RuleRegistry}.
+     *
+     * @param clazz       the class to validate
+     * @param ruleSetName the name of a profile registered in {@link ValidationProfileRegistry}
+     * @return the compiled plan
+     */
+    public static ValidationPlan getPlan(Class<?> clazz, String ruleSetName) {
+        return forRuleSet(clazz, ruleSetName, Groups.DEFAULT);
+    }
+
+    /**
+     * Retrieves the combined plan for a class, a named rule set and a set of validation groups,
+     * compiling it if necessary. Groups only select annotation constraints; every rule of the
+     * rule set applies.
+     *
+     * @param clazz       the class to validate
+     * @param ruleSetName the name of a profile registered in {@link ValidationProfileRegistry}
+     * @param groups      the groups to validate; none means {@code Default}
+     * @return the compiled plan
+     */
+    public static ValidationPlan getPlan(Class<?> clazz, String ruleSetName, Class<?>... groups) {
+        return forRuleSet(clazz, ruleSetName, Groups.of(groups));
+    }
+
+    /**
+     * Retrieves the combined plan for a class, a rule set and a normalized group set.
+     */
+    private static ValidationPlan forRuleSet(Class<?> clazz, String ruleSetName, Set<Class<?>> groups) {
+        if (ruleSetName == null) {
+            return forGroups(clazz, groups);
+        }
+        List<Check> profile = ValidationProfileRegistry.getCompiledProfile(ruleSetName);
+        if (profile == null) {
+            return forGroups(clazz, groups);
+        }
+        RuleRegistry.Snapshot rules = RuleRegistry.snapshot();
+        RuleSetKey key = new RuleSetKey(clazz, ruleSetName, groups);
+        RuleSetPlan cached = ruleSetPlans.get(key);
+        if (cached != null && cached.profile == profile && cached.plan.isCurrent(rules)) {
+            return cached.plan;
+        }
+        ValidationPlan compiled = forGroups(clazz, groups).extend(profile, rules);
+        ruleSetPlans.put(key, new RuleSetPlan(profile, compiled));
+        return compiled;
+    }
+
+    /**
+     * A combined plan together with the compiled profile it was built from.
+     */
+    private static final class RuleSetPlan {
+        private final List<Check> profile;
+        private final ValidationPlan plan;
+
+        RuleSetPlan(List<Check> profile, ValidationPlan plan) {
+            this.profile = profile;
+            this.plan = plan;
+        }
+    }
+
+    /**
+     * Cache key for an annotation plan of a non-default group set.
+     */
+    private static final class GroupKey {
+        private final Class<?> type;
+        private final Set<Class<?>> groups;
+
+        GroupKey(Class<?> type, Set<Class<?>> groups) {
+            this.type = type;
+            this.groups = groups;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof GroupKey)) {
+                return false;
+            }
+            GroupKey other = (GroupKey) o;
+            return type == other.type && groups.equals(other.groups);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, groups);
+        }
+    }
+
+    /**
+     * Cache key for a combined (class, rule set, group set) plan.
+     */
+    private static final class RuleSetKey {
+        private final Class<?> type;
+        private final String ruleSetName;
+        private final Set<Class<?>> groups;
+
+        RuleSetKey(Class<?> type, String ruleSetName, Set<Class<?>> groups) {
+            this.type = type;
+            this.ruleSetName = ruleSetName;
+            this.groups = groups;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RuleSetKey)) {
+                return false;
+            }
+            RuleSetKey other = (RuleSetKey) o;
+            return type == other.type && ruleSetName.equals(other.ruleSetName) && groups.equals(other.groups);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, ruleSetName, groups);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.metrics.SlowValidation;
+import com.danielmorales.validatorx.rules.DoubleRuleBuilder.DoubleRule;
+import com.danielmorales.validatorx.rules.IntRuleBuilder.IntRule;
+import com.danielmorales.validatorx.rules.LongRuleBuilder.LongRule;
+import com.danielmorales.validatorx.rules.MemoizedRule;
+import com.danielmorales.validatorx.rules.RuleBuilder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * A description of a compiled {@link ValidationPlan}, like the output of {@code EXPLAIN} in
+ * a database: the fields the plan reads, in order, the checks on each field, the cascades
+ * into nested plans, how each check is evaluated (regex engine, memoization, unboxed reads)
+ * and an estimated relative cost per node.
+ *
+ * <p>Costs are relative units: a null check or numeric comparison costs 1, a string length
+ * check 2, a memoized lookup 5, an opaque predicate 10 and a {@code java.util.regex} match 20.
+ * A node's cost includes the nodes below it.
+ *
+ * <p>An explanation returned by {@link ValidationPlan#analyze(Object)} also carries the
+ * result of one validation and the measured time of every node, like {@code EXPLAIN ANALYZE}.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * System.out.println(Validator.explain(Order.class));
+ * System.out.println(Validator.analyze(order));
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class PlanExplanation {
+    static final int COST_CHECK = 1;
+    static final int COST_LENGTH = 2;
+    static final int COST_MEMOIZED = 5;
+    static final int COST_CASCADE = 5;
+    static final int COST_PREDICATE = 10;
+    static final int COST_REGEX = 20;
+
+    private final Class<?> type;
+    private final boolean resultCacheable;
+    private final List<Node> nodes;
+    private final ValidationResult result;
+    private final List<SlowValidation.Entry> timings;
+    private final long totalNanos;
+
+    PlanExplanation(Class<?> type, boolean resultCacheable, List<Node> nodes, ValidationResult result,
+                    List<SlowValidation.Entry> timings, long totalNanos) {
+        this.type = type;
+        this.resultCacheable = resultCacheable;
+        this.nodes = Collections.unmodifiableList(nodes);
+        this.result = result;
+        this.timings = timings == null ? null : Collections.unmodifiableList(timings);
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * @return the class the plan validates
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return {@code true} if results for this class can be kept in the {@link ValidationResultCache}
+     */
+    public boolean isResultCacheable() {
+        return resultCacheable;
+    }
+
+    /**
+     * @return the field, cross-field and object-level nodes, in evaluation order
+     */
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the estimated cost of validating one object, in relative units
+     */
+    public int getEstimatedCost() {
+        int cost = 0;
+        for (Node node : nodes) {
+            cost += node.getEstimatedCost();
+        }
+        return cost;
+    }
+
+    /**
+     * @return {@code true} if this explanation carries the timings of a validation
+     */
+    public boolean isAnalyzed() {
+        return result != null;
+    }
+
+    /**
+     * @return the result of the analyzed validation, or {@code null} if not analyzed
+     */
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Returns every evaluation of the analyzed validation, including those that do not map
+     * to a node of the static plan, such as cascades into collection elements.
+     *
+     * @return the evaluations in order, or {@code null} if not analyzed
+     */
+    public List<SlowValidation.Entry> getTimings() {
+        return timings;
+    }
+
+    /**
+     * @return the duration of the analyzed validation in nanoseconds, or {@code -1} if not analyzed
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Finds a node by path and constraint, searching nested nodes too.
+     *
+     * @param path       the path, such as {@code customer.name}
+     * @param constraint the constraint type, or {@code null} for a field or object node
+     * @return the node, or {@code null} if there is none
+     */
+    public Node find(String path, String constraint) {
+        return find(nodes, path, constraint);
+    }
+
+    private static Node find(List<Node> nodes, String path, String constraint) {
+        for (Node node : nodes) {
+            if (node.path.equals(path) && (constraint == null ? node.constraint == null
+                    : constraint.equals(node.constraint))) {
+                return node;
+            }
+            Node nested = find(node.children, path, constraint);
+            if (nested != null) {
+                return nested;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Plan for ").append(type.getName()).append(" (cost ").append(getEstimatedCost())
+                .append(", result cache: ").append(resultCacheable ? "cacheable" : "not cacheable");
+        if (isAnalyzed()) {
+            sb.append(", ").append(result.getErrors().size()).append(" errors, ").append(micros(totalNanos));
+        }
+        sb.append(')');
+        for (Node node : nodes) {
+            node.appendTo(sb, 1);
+        }
+        return sb.toString();
+    }
+
+    private static String micros(long nanos) {
+        return String.format("%.1f us", nanos / (double) TimeUnit.MICROSECONDS.toNanos(1));
+    }
+
+    /**
+     * Describes a registered rule.
+     *
+     * @param rule the rule, or {@code null} if it is not registered
+     * @return the description
+     */
+    static String describeRule(Predicate<Object> rule) {
+        if (rule == null) {
+            return "not registered";
+        } else if (rule instanceof MemoizedRule) {
+            return "memoized " + describeRule(((MemoizedRule) rule).getRule());
+        } else if (rule instanceof IntRule) {
+            return "int rule, unboxed on primitive fields";
+        } else if (rule instanceof LongRule) {
+            return "long rule, unboxed on primitive fields";
+        } else if (rule instanceof DoubleRule) {
+            return "double rule, unboxed on primitive fields";
+        } else if (rule instanceof RuleBuilder.CompositeRule) {
+            return rule.toString();
+        }
+        return "custom predicate";
+    }
+
+    /**
+     * Estimates the cost of one evaluation of a registered rule.
+     *
+     * @param rule the rule, or {@code null} if it is not registered
+     * @return the estimated cost
+     */
+    static int estimateRuleCost(Predicate<Object> rule) {
+        if (rule == null || rule instanceof IntRule || rule instanceof LongRule || rule instanceof DoubleRule) {
+            return COST_CHECK;
+        } else if (rule instanceof MemoizedRule) {
+            return COST_MEMOIZED;
+        } else if (rule instanceof RuleBuilder.CompositeRule) {
+            int cost = 0;
+            for (RuleBuilder.Rule unit : ((RuleBuilder.CompositeRule) rule).getEvaluationOrder()) {
+                cost += unit.toString().contains("java.util.regex") ? COST_REGEX : COST_LENGTH;
+            }
+            return cost;
+        }
+        return COST_PREDICATE;
+    }
+
+    /**
+     * One step of a plan: a field read, a check, a cascade into a nested plan, a cross-field
+     * check or the object-level checks.
+     */
+    public static final class Node {
+        /**
+         * The kind of a node.
+         */
+        public enum Kind {
+            /** Reads a field; the checks on the field are its children. */
+            FIELD,
+            /** A check on a field or on the object. */
+            CHECK,
+            /** Validates the field value with its own plan, whose nodes are its children. */
+            CASCADE,
+            /** A check on the values of several fields. */
+            CROSS_FIELD,
+            /** The object-level checks, which are its children. */
+            OBJECT
+        }
+
+        private final Kind kind;
+        private final String path;
+        private final String constraint;
+        private final String detail;
+        private final int cost;
+        private final List<Node> children;
+        private final long evaluations;
+        private final long failures;
+        private final long nanos;
+
+        Node(Kind kind, String path, String constraint, String detail, int cost, List<Node> children,
+             long[] timing) {
+            this.kind = kind;
+            this.path = path;
+            this.constraint = constraint;
+            this.detail = detail;
+            this.cost = cost;
+            this.children = Collections.unmodifiableList(children);
+            this.evaluations = timing == null ? 0 : timing[0];
+            this.failures = timing == null ? 0 : timing[1];
+            this.nanos = timing == null ? 0 : timing[2];
+        }
+
+        /**
+         * @return the kind of node
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return the path of the field from the explained class, such as {@code customer.name}
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return the constraint type, as reported to metrics, or {@code null} for field and object nodes
+         */
+        public String getConstraint() {
+            return constraint;
+        }
+
+        /**
+         * @return how the node is evaluated (regex engine, memoization, read mode), or {@code null}
+         */
+        public String getDetail() {
+            return detail;
+        }
+
+        /**
+         * @return the estimated cost of this node and the nodes below it, in relative units
+         */
+        public int getEstimatedCost() {
+            int total = cost;
+            for (Node child : children) {
+                total += child.getEstimatedCost();
+            }
+            return total;
+        }
+
+        /**
+         * @return the checks on a field, the nodes of a nested plan, or the conditional checks of a check
+         */
+        public List<Node> getChildren() {
+            return children;
+        }
+
+        /**
+         * @return the number of times the node was evaluated in the analyzed validation
+         */
+        public long getEvaluations() {
+            return evaluations;
+        }
+
+        /**
+         * @return the number of evaluations that reported an error
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        /**
+         * Returns the measured time of this node, including the nodes below it.
+         *
+         * @return the time in nanoseconds, or {@code 0} if not analyzed
+         */
+        public long getNanos() {
+            if (kind == Kind.CASCADE) {
+                // A cascade is timed as a whole
+                return nanos;
+            }
+            long total = nanos;
+            for (Node child : children) {
+                total += child.getNanos();
+            }
+            return total;
+        }
+
+        private void appendTo(StringBuilder sb, int depth) {
+            sb.append(System.lineSeparator());
+            for (int i = 0; i < depth; i++) {
+                sb.append("  ");
+            }
+            sb.append(kind.name().toLowerCase().replace('_', '-')).append(' ').append(path);
+            if (constraint != null && kind != Kind.CASCADE) {
+                sb.append(' ').append(constraint);
+            }
+            if (detail != null) {
+                sb.append(": ").append(detail);
+            }
+            sb.append(" (cost ").append(getEstimatedCost());
+            if (evaluations > 0) {
+                sb.append(", ").append(evaluations).append(evaluations == 1 ? " evaluation" : " evaluations");
+                if (failures > 0) {
+                    sb.append(", ").append(failures).append(" failed");
+                }
+            }
+            long measured = getNanos();
+            if (measured > 0) {
+                sb.append(", ").append(micros(measured));
+            }
+            sb.append(')');
+            for (Node child : children) {
+                child.appendTo(sb, depth + 1);
+            }
+        }
+    }
+}
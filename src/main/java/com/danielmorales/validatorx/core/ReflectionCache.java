@@ -1,11 +1,16 @@
 package com.danielmorales.validatorx.core;
 
+import com.danielmorales.validatorx.rules.MemoizedRule;
+
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * A utility class that caches reflection-based metadata about fields and their annotations.
@@ -26,6 +31,8 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ReflectionCache {
 
     private static final Map<Class<?>, List<FieldAnnotations>> cache = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<String, Field>> fieldsByName = new ConcurrentHashMap<>();
+    private static final Map<Field, Map<Annotation, MemoizedRule>> memoizedRules = new ConcurrentHashMap<>();
 
     /**
      * Retrieves the list of field annotations for a given class, computing them if necessary.
@@ -37,6 +44,45 @@ public class ReflectionCache {
         return cache.computeIfAbsent(clazz, ReflectionCache::scanClass);
     }
 
+    /**
+     * Looks up a field declared by a class, by name.
+     *
+     * @param clazz the class declaring the field
+     * @param name  the name of the field
+     * @return the accessible field, or {@code null} if the class declares no such field
+     */
+    public static Field getField(Class<?> clazz, String name) {
+        return fieldsByName.computeIfAbsent(clazz, type -> {
+            Map<String, Field> byName = new HashMap<>();
+            for (FieldAnnotations fa : getFieldAnnotations(type)) {
+                byName.put(fa.getField().getName(), fa.getField());
+            }
+            return byName;
+        }).get(name);
+    }
+
+    /**
+     * Returns the memoized rule of a constraint on a field, creating it the first time. Plans
+     * compiled for the same field, such as those for different groups, share one rule and
+     * therefore one set of memoized outcomes.
+     *
+     * @param field      the constrained field
+     * @param annotation the constraint annotation on the field
+     * @param rule       creates the rule to memoize
+     * @return the memoized rule
+     */
+    static MemoizedRule getMemoizedRule(Field field, Annotation annotation, Supplier<Predicate<Object>> rule) {
+        return memoizedRules.computeIfAbsent(field, f -> new ConcurrentHashMap<>())
+                .computeIfAbsent(annotation, a -> MemoizedRule.of(rule.get()));
+    }
+
+    /**
+     * @return the number of classes whose fields are cached
+     */
+    public static int size() {
+        return cache.size();
+    }
+
     /**
      * Scans a class for fields and their annotations.
      *
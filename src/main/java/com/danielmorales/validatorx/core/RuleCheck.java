@@ -0,0 +1,136 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.rules.DoubleRuleBuilder.DoubleRule;
+import com.danielmorales.validatorx.rules.IntRuleBuilder.IntRule;
+import com.danielmorales.validatorx.rules.LongRuleBuilder.LongRule;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A check that applies a named rule from the {@link RuleRegistry}.
+ *
+ * <p>The rule is looked up once, when the owning {@link ValidationPlan} is compiled, and
+ * the resolved predicate is called directly on every validation. Typed rules (an
+ * {@link IntRule}, {@link LongRule} or {@link DoubleRule}) are called on primitive fields
+ * without boxing, widening the value the same way the boxed path would.
+ *
+ * @author Daniel Morales
+ */
+final class RuleCheck extends ValueCheck {
+    private final String ruleName;
+    private final String constraintType;
+    private final String message;
+    private final Predicate<Object> rule;
+
+    /**
+     * Constructs an unresolved {@code RuleCheck}.
+     *
+     * @param ruleName  the name of the registered rule
+     * @param fieldName the name of the field
+     * @param message   the error message if validation fails
+     */
+    RuleCheck(String ruleName, String fieldName, String message) {
+        this(ruleName, fieldName, message, null);
+    }
+
+    private RuleCheck(String ruleName, String fieldName, String message, Predicate<Object> rule) {
+        super(fieldName);
+        this.ruleName = ruleName;
+        this.constraintType = "rule:" + ruleName;
+        this.message = message;
+        this.rule = rule;
+    }
+
+    /**
+     * @return the name of the registered rule
+     */
+    String getRuleName() {
+        return ruleName;
+    }
+
+    /**
+     * @return the resolved rule, or {@code null} if unresolved or not registered
+     */
+    Predicate<Object> getRule() {
+        return rule;
+    }
+
+    @Override
+    Check bind(RuleRegistry.Snapshot rules) {
+        return new RuleCheck(ruleName, getFieldName(), message, rules.getRule(ruleName));
+    }
+
+    @Override
+    void collectRuleChecks(List<RuleCheck> out) {
+        out.add(this);
+    }
+
+    @Override
+    boolean test(Object value) {
+        return rule != null && rule.test(value);
+    }
+
+    @Override
+    boolean supportsPrimitive(int kind) {
+        switch (kind) {
+            case INT:
+                return rule instanceof IntRule || rule instanceof LongRule || rule instanceof DoubleRule;
+            case LONG:
+                return rule instanceof LongRule || rule instanceof DoubleRule;
+            case DOUBLE:
+                return rule instanceof DoubleRule;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    boolean testInt(int value) {
+        if (rule instanceof IntRule) {
+            return ((IntRule) rule).testInt(value);
+        }
+        if (rule instanceof LongRule) {
+            return ((LongRule) rule).testLong(value);
+        }
+        return ((DoubleRule) rule).testDouble(value);
+    }
+
+    @Override
+    boolean testLong(long value) {
+        if (rule instanceof LongRule) {
+            return ((LongRule) rule).testLong(value);
+        }
+        return ((DoubleRule) rule).testDouble(value);
+    }
+
+    @Override
+    boolean testDouble(double value) {
+        return ((DoubleRule) rule).testDouble(value);
+    }
+
+    @Override
+    String getConstraintType() {
+        return constraintType;
+    }
+
+    @Override
+    String violationMessage() {
+        if (rule == null) {
+            // Can possibly log or handle the case where the rule doesn't exist
+            return "No rule found for: " + ruleName;
+        }
+        return message;
+    }
+
+    @Override
+    String describe() {
+        return "rule '" + ruleName + "': " + PlanExplanation.describeRule(rule);
+    }
+
+    @Override
+    int estimateCost() {
+        return PlanExplanation.estimateRuleCost(rule);
+    }
+}
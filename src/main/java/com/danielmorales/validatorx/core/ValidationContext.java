@@ -0,0 +1,274 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.i18n.MessageResolver;
+import com.danielmorales.validatorx.jfr.ValidationEvents;
+import com.danielmorales.validatorx.metrics.MetricsRegistry;
+import com.danielmorales.validatorx.metrics.ValidationMetrics;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The settings of one validation call: the locale messages are rendered in, the validation
+ * mode, the active groups and the metrics sink. Anything a context leaves unset falls back
+ * to the global default ({@link MessageResolver#getLocale()},
+ * {@link ValidationPlan#isFailFastDefault()}, the {@code Default} group and
+ * {@link MetricsRegistry#get()}) at the time of the call.
+ *
+ * <p>A context is immutable. It can be passed explicitly, as in
+ * {@link ValidatorEngine#accumulateValidate(Object, ValidationContext)}, or bound to the
+ * current thread for a scope, so that every validation inside the scope uses it. Binding
+ * touches no global state, so request threads serving different locales never interfere.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * ValidationContext context = ValidationContext.builder()
+ *         .locale(Locale.FRANCE)
+ *         .mode(ValidationContext.Mode.FAIL_FAST)
+ *         .build();
+ *
+ * ValidationResult result = engine.accumulateValidate(order, context);
+ *
+ * try (ValidationContext.Scope scope = context.bind()) {
+ *     Validator.checkWithJsr380(order);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class ValidationContext {
+    private static final ValidationContext DEFAULTS = new Builder().build();
+    private static final ThreadLocal<ValidationContext> BOUND = new ThreadLocal<>();
+
+    private final Locale locale;
+    private final Mode mode;
+    private final Set<Class<?>> groups;
+    private final boolean metricsSet;
+    private final ValidationMetrics metrics;
+
+    private ValidationContext(Builder builder) {
+        this.locale = builder.locale;
+        this.mode = builder.mode;
+        this.groups = builder.groups;
+        this.metricsSet = builder.metricsSet;
+        this.metrics = builder.metrics;
+    }
+
+    /**
+     * How much of an object a validation evaluates.
+     */
+    public enum Mode {
+        /** Evaluates every check and reports every error. */
+        COLLECT_ALL,
+        /** Stops at the first failing field; see {@link ValidationPlan#setFailFastDefault(boolean)}. */
+        FAIL_FAST
+    }
+
+    /**
+     * @return a builder for a new context
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the context bound to the current thread, or a context that uses the global
+     * defaults if none is bound.
+     *
+     * @return the current context
+     */
+    public static ValidationContext current() {
+        ValidationContext context = BOUND.get();
+        return context != null ? context : DEFAULTS;
+    }
+
+    /**
+     * @return the context bound to the current thread, or {@code null}
+     */
+    static ValidationContext bound() {
+        return BOUND.get();
+    }
+
+    /**
+     * @return the locale of the current context
+     */
+    static Locale currentLocale() {
+        ValidationContext context = BOUND.get();
+        return context != null ? context.getLocale() : MessageResolver.getLocale();
+    }
+
+    /**
+     * Binds this context to the current thread until the returned scope is closed. Scopes
+     * nest: closing a scope restores the context that was bound before it.
+     *
+     * @return the scope, to be closed in a {@code finally} block or try-with-resources
+     */
+    public Scope bind() {
+        ValidationContext previous = BOUND.get();
+        BOUND.set(this);
+        return new Scope(previous);
+    }
+
+    /**
+     * Returns a copy of this context that selects other groups. The locale, mode and metrics
+     * sink are kept.
+     *
+     * @param groups the active groups; none means {@code Default}
+     * @return the copy
+     */
+    public ValidationContext withGroups(Class<?>... groups) {
+        Builder builder = new Builder();
+        builder.locale = locale;
+        builder.mode = mode;
+        builder.metricsSet = metricsSet;
+        builder.metrics = metrics;
+        return builder.groups(groups).build();
+    }
+
+    /**
+     * @return the locale messages are rendered in
+     */
+    public Locale getLocale() {
+        return locale != null ? locale : MessageResolver.getLocale();
+    }
+
+    /**
+     * @return the validation mode
+     */
+    public Mode getMode() {
+        if (mode != null) {
+            return mode;
+        }
+        return ValidationPlan.isFailFastDefault() ? Mode.FAIL_FAST : Mode.COLLECT_ALL;
+    }
+
+    /**
+     * @return {@code true} if validations stop at the first failing field
+     */
+    public boolean isFailFast() {
+        return mode != null ? mode == Mode.FAIL_FAST : ValidationPlan.isFailFastDefault();
+    }
+
+    /**
+     * @return the active groups, or {@code null} if this context does not select groups
+     */
+    public Set<Class<?>> getGroups() {
+        return groups;
+    }
+
+    /**
+     * @return the metrics sink, or {@code null} if metrics are disabled for this context
+     */
+    public ValidationMetrics getMetrics() {
+        return metricsSet ? metrics : MetricsRegistry.get();
+    }
+
+    /**
+     * Returns the sink a validation in this context should report constraint evaluations to:
+     * the context's metrics sink, extended with JFR slow-constraint events while they are enabled.
+     *
+     * @return the sink, or {@code null} if constraint evaluations need not be timed
+     * @see ValidationEvents#sink()
+     */
+    public ValidationMetrics sink() {
+        return metricsSet ? ValidationEvents.sink(metrics) : ValidationEvents.sink();
+    }
+
+    /**
+     * Tells whether results computed in this context can be shared through the
+     * {@link ValidationResultCache}, which holds results for the default locale and mode only.
+     */
+    boolean usesDefaultResults() {
+        return (locale == null || locale.equals(MessageResolver.getLocale()))
+                && (mode == null || (mode == Mode.FAIL_FAST) == ValidationPlan.isFailFastDefault());
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationContext[locale=" + getLocale() + ", mode=" + getMode()
+                + ", groups=" + (groups == null ? "default" : groups) + "]";
+    }
+
+    /**
+     * Restores the previously bound context when closed.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final ValidationContext previous;
+
+        private Scope(ValidationContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                BOUND.remove();
+            } else {
+                BOUND.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Builds a {@link ValidationContext}.
+     */
+    public static final class Builder {
+        private Locale locale;
+        private Mode mode;
+        private Set<Class<?>> groups;
+        private boolean metricsSet;
+        private ValidationMetrics metrics;
+
+        private Builder() {
+        }
+
+        /**
+         * @param locale the locale messages are rendered in
+         * @return this builder
+         */
+        public Builder locale(Locale locale) {
+            this.locale = locale;
+            return this;
+        }
+
+        /**
+         * @param mode the validation mode
+         * @return this builder
+         */
+        public Builder mode(Mode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * @param groups the active groups; none means {@code Default}
+         * @return this builder
+         * @see Groups
+         */
+        public Builder groups(Class<?>... groups) {
+            this.groups = Groups.of(groups);
+            return this;
+        }
+
+        /**
+         * Sets the metrics sink, in place of the registered one.
+         *
+         * @param metrics the sink, or {@code null} to disable metrics
+         * @return this builder
+         */
+        public Builder metrics(ValidationMetrics metrics) {
+            this.metricsSet = true;
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * @return the context
+         */
+        public ValidationContext build() {
+            return new ValidationContext(this);
+        }
+    }
+}
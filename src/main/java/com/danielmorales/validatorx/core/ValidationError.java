@@ -11,11 +11,16 @@ package com.danielmorales.validatorx.core;
  * }
  * </pre>
  *
+ * <p>Errors reported by a {@link ValidationPlan} carry the integer code of the constraint that
+ * failed (see {@link ConstraintCodes}). What an error reports apart from its invalid value (the
+ * constraint, field, message and source) is a description that each check builds once and
+ * shares between all errors it reports, so an error holds only a reference to it and its own
+ * invalid value. Errors are immutable.
+ *
  * @author Daniel Morales
  */
 public class ValidationError {
-    private final String fieldName;
-    private final String message;
+    private final Identity identity;
     private final Object invalidValue;
 
     /**
@@ -26,8 +31,17 @@ public class ValidationError {
      * @param invalidValue the value that caused the validation error
      */
     public ValidationError(String fieldName, String message, Object invalidValue) {
-        this.fieldName = fieldName;
-        this.message = message;
+        this(new Identity(fieldName, message, ConstraintCodes.UNKNOWN, null), invalidValue);
+    }
+
+    /**
+     * Constructs a {@code ValidationError} from a shared description.
+     *
+     * @param identity     what the error reports apart from its invalid value
+     * @param invalidValue the value that caused the validation error
+     */
+    ValidationError(Identity identity, Object invalidValue) {
+        this.identity = identity;
         this.invalidValue = invalidValue;
     }
 
@@ -35,14 +49,14 @@ public class ValidationError {
      * @return the name of the field that failed validation
      */
     public String getFieldName() {
-        return fieldName;
+        return identity.fieldName;
     }
 
     /**
      * @return the validation error message
      */
     public String getMessage() {
-        return message;
+        return identity.message;
     }
 
     /**
@@ -52,9 +66,98 @@ public class ValidationError {
         return invalidValue;
     }
 
+    /**
+     * @return the code of the constraint that failed, or {@link ConstraintCodes#UNKNOWN}
+     */
+    public int getConstraintCode() {
+        return identity.constraintCode;
+    }
+
+    /**
+     * @return the type of the constraint that failed, such as {@code NotNull}, or {@code null} if unknown
+     */
+    public String getConstraint() {
+        return ConstraintCodes.nameOf(identity.constraintCode);
+    }
+
+    /**
+     * @return the description of this error, without its invalid value
+     */
+    Identity getIdentity() {
+        return identity;
+    }
+
+    /**
+     * @param other another error
+     * @return {@code true} if both errors use the same description instance
+     */
+    boolean sharesIdentity(ValidationError other) {
+        return identity == other.identity;
+    }
+
+    /**
+     * @return the top-level field whose checks reported this error, or {@code null} if the
+     *         error was not reported by a {@link ValidationPlan}
+     */
+    String getSource() {
+        return identity.source;
+    }
+
     @Override
     public String toString() {
         return String.format("ValidationError[field=%s, message=%s, value=%s]",
-                fieldName, message, invalidValue);
+                identity.fieldName, identity.message, invalidValue);
+    }
+
+    /**
+     * Everything an error reports except its invalid value. Checks build one per message and
+     * source and share it between the errors they report.
+     */
+    static final class Identity {
+        private final String fieldName;
+        private final String message;
+        private final int constraintCode;
+        private final String source;
+
+        /**
+         * Constructs an {@code Identity}.
+         *
+         * @param fieldName      the name of the field that failed validation
+         * @param message        the validation error message
+         * @param constraintCode the code of the constraint that failed
+         * @param source         the top-level field whose checks report the error, or
+         *                       {@link ValidationPlan#OBJECT_SOURCE} for object-level checks
+         */
+        Identity(String fieldName, String message, int constraintCode, String source) {
+            this.fieldName = fieldName;
+            this.message = message;
+            this.constraintCode = constraintCode;
+            this.source = source;
+        }
+
+        /**
+         * @return the source of errors with this description
+         */
+        String getSource() {
+            return source;
+        }
+
+        /**
+         * @param message a message
+         * @param source  a source
+         * @return {@code true} if this description reports the given message and source
+         */
+        boolean matches(String message, String source) {
+            return (this.message == message || this.message != null && this.message.equals(message))
+                    && (this.source == source || this.source != null && this.source.equals(source));
+        }
+
+        /**
+         * @param source the top-level field to attribute the error to
+         * @return a copy of this description with another source
+         */
+        Identity withSource(String source) {
+            return new Identity(fieldName, message, constraintCode, source);
+        }
     }
 }
@@ -0,0 +1,1089 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.jfr.ValidationEvents;
+import com.danielmorales.validatorx.metrics.SlowValidation;
+import com.danielmorales.validatorx.metrics.SlowValidationLog;
+import com.danielmorales.validatorx.metrics.ValidationMetrics;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, precompiled set of checks for one class.
+ *
+ * <p>Checks are grouped by the field they read, so that validating an object reads each
+ * constrained field exactly once and runs every check on that field before moving on.
+ * Object-level checks run last, against the target itself.
+ *
+ * <p>A primitive field is read without boxing when every check on it can test the primitive
+ * value directly; the value is only boxed to report an error.
+ *
+ * <p>Named rules from the {@link RuleRegistry} are resolved from a single registry snapshot
+ * when the plan is compiled, so a validation never mixes rule versions and never looks
+ * rules up by name while it runs.
+ *
+ * <p>Cross-field checks receive the values of the fields they declare. Each of those fields is
+ * read at most once per validation, and the value is shared with the field-level checks.
+ *
+ * <p>Each group of checks is a <em>slot</em>: one per constrained field, one per cross-field
+ * check, plus one for the object-level checks. Every error is tagged with the slot that reported it, and the plan
+ * knows which slots depend on which fields. This lets {@link #validateFields} re-run only the
+ * slots affected by a change and keep the rest of a previous result.
+ *
+ * <p>Plans are obtained from {@link PlanCache}:
+ * <pre>
+ * {@code
+ * ValidationPlan plan = PlanCache.getPlan(User.class, "signup");
+ * ValidationResult result = plan.validate(user);
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class ValidationPlan {
+    /** The source of errors reported by object-level checks. Never a valid Java field name. */
+    static final String OBJECT_SOURCE = "<object>";
+
+    private static final Object NOT_LOADED = new Object();
+    /** The most descriptions of nested errors a plan keeps per source; further ones are not shared. */
+    static final int MAX_CANONICAL_ERRORS = 1024;
+    private static final ValidationError.Identity NULL_TARGET =
+            new ValidationError.Identity("object", "Target object is null", ConstraintCodes.UNKNOWN, OBJECT_SOURCE);
+
+    private static volatile boolean failFastDefault;
+
+    private final Class<?> type;
+    private final List<Check> checks;
+    private final Field[] fields;
+    private final Check[][] fieldChecks;
+    private final int[] primitiveKinds;
+    private final ValueCheck[][] primitiveChecks;
+    private final boolean[] shared;
+    private final CrossFieldCheck[] crossChecks;
+    private final int[][] crossFieldIndexes;
+    private final Check[] objectChecks;
+    private final int objectSlot;
+    private final Field[] contentFields;
+    private final RuleCheck[] ruleDependencies;
+    private final String[] slotSources;
+    private final Map<String, Integer> slotsBySource;
+    private final Map<String, int[]> slotsByDependency;
+    private final int[] alwaysAffectedSlots;
+    private final ConcurrentMap<String, ConcurrentMap<ValidationError.Identity, ValidationError.Identity>> attributed =
+            new ConcurrentHashMap<>();
+    private volatile long verifiedRuleVersion;
+
+    private ValidationPlan(Class<?> type, List<Check> checks, RuleRegistry.Snapshot rules) {
+        this.type = type;
+        this.checks = checks;
+        this.verifiedRuleVersion = rules.getVersion();
+
+        List<Check> bound = new ArrayList<>(checks.size());
+        List<RuleCheck> dependencies = new ArrayList<>();
+        for (Check check : checks) {
+            Check resolved = check.bind(rules);
+            resolved.collectRuleChecks(dependencies);
+            bound.add(resolved);
+        }
+        this.ruleDependencies = dependencies.toArray(new RuleCheck[0]);
+
+        Map<String, Field> declared = new HashMap<>();
+        for (ReflectionCache.FieldAnnotations fa : ReflectionCache.getFieldAnnotations(type)) {
+            declared.put(fa.getField().getName(), fa.getField());
+        }
+
+        // Cross-field checks naming an unknown field are dropped, like field checks
+        List<CrossFieldCheck> cross = new ArrayList<>();
+        Set<String> crossRead = new HashSet<>();
+        for (Check check : bound) {
+            if (check instanceof CrossFieldCheck) {
+                CrossFieldCheck crossCheck = (CrossFieldCheck) check;
+                if (declared.keySet().containsAll(Arrays.asList(crossCheck.getDependencies()))) {
+                    cross.add(crossCheck);
+                    crossRead.addAll(Arrays.asList(crossCheck.getFields()));
+                }
+            }
+        }
+
+        // Fields are read in declaration order: those with checks and those cross-field checks read
+        List<Field> boundFields = new ArrayList<>();
+        List<Check[]> boundChecks = new ArrayList<>();
+        for (ReflectionCache.FieldAnnotations fa : ReflectionCache.getFieldAnnotations(type)) {
+            String name = fa.getField().getName();
+            List<Check> forField = new ArrayList<>();
+            for (Check check : bound) {
+                if (!(check instanceof CrossFieldCheck) && name.equals(check.getFieldName())) {
+                    forField.add(check);
+                }
+            }
+            if (!forField.isEmpty() || crossRead.contains(name)) {
+                boundFields.add(fa.getField());
+                boundChecks.add(forField.toArray(new Check[0]));
+            }
+        }
+
+        List<Check> forObject = new ArrayList<>();
+        for (Check check : bound) {
+            if (check.getFieldName() == null) {
+                forObject.add(check);
+            }
+        }
+
+        this.fields = boundFields.toArray(new Field[0]);
+        this.fieldChecks = boundChecks.toArray(new Check[0][]);
+        this.objectChecks = forObject.toArray(new Check[0]);
+        this.primitiveKinds = new int[fields.length];
+        this.primitiveChecks = new ValueCheck[fields.length][];
+        this.shared = new boolean[fields.length];
+        Map<String, Integer> fieldIndexes = new HashMap<>();
+        for (int i = 0; i < fields.length; i++) {
+            fieldIndexes.put(fields[i].getName(), i);
+            shared[i] = crossRead.contains(fields[i].getName());
+            boolean needsTarget = false;
+            for (Check check : fieldChecks[i]) {
+                needsTarget |= check.needsTarget();
+            }
+            // Values shared with cross-field checks are read boxed, once
+            primitiveKinds[i] = needsTarget || shared[i] ? -1 : primitiveKind(fields[i].getType(), fieldChecks[i]);
+            if (primitiveKinds[i] >= 0) {
+                primitiveChecks[i] = valueChecks(fieldChecks[i]);
+            }
+        }
+
+        this.crossChecks = cross.toArray(new CrossFieldCheck[0]);
+        this.crossFieldIndexes = new int[crossChecks.length][];
+        for (int k = 0; k < crossChecks.length; k++) {
+            String[] read = crossChecks[k].getFields();
+            crossFieldIndexes[k] = new int[read.length];
+            for (int j = 0; j < read.length; j++) {
+                crossFieldIndexes[k][j] = fieldIndexes.get(read[j]);
+            }
+        }
+        this.objectSlot = fields.length + crossChecks.length;
+
+        if (objectChecks.length == 0) {
+            this.contentFields = fields;
+        } else {
+            // Object-level checks may read any instance field
+            List<Field> instanceFields = new ArrayList<>();
+            for (ReflectionCache.FieldAnnotations fa : ReflectionCache.getFieldAnnotations(type)) {
+                Field field = fa.getField();
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    instanceFields.add(field);
+                }
+            }
+            this.contentFields = instanceFields.toArray(new Field[0]);
+        }
+
+        // Index which slots must re-run when a field changes
+        this.slotSources = new String[objectSlot + 1];
+        Map<String, Integer> sources = new HashMap<>();
+        Map<String, BitSet> dependents = new HashMap<>();
+        BitSet always = new BitSet();
+        for (int slot = 0; slot <= objectSlot; slot++) {
+            Check[] slotChecks;
+            if (slot < fields.length) {
+                slotChecks = fieldChecks[slot];
+                slotSources[slot] = fields[slot].getName();
+            } else if (slot < objectSlot) {
+                CrossFieldCheck crossCheck = crossChecks[slot - fields.length];
+                slotChecks = new Check[] { crossCheck };
+                // '#' cannot appear in a field name, so cross-field sources never clash
+                slotSources[slot] = crossCheck.getFieldName() + "#" + (slot - fields.length);
+            } else {
+                slotChecks = objectChecks;
+                slotSources[slot] = OBJECT_SOURCE;
+            }
+            sources.put(slotSources[slot], slot);
+            for (Check check : slotChecks) {
+                String[] reads = check.getDependencies();
+                if (reads == null) {
+                    always.set(slot);
+                } else {
+                    for (String dependency : reads) {
+                        dependents.computeIfAbsent(dependency, name -> new BitSet()).set(slot);
+                    }
+                }
+            }
+        }
+        Map<String, int[]> bySlot = new HashMap<>();
+        for (Map.Entry<String, BitSet> entry : dependents.entrySet()) {
+            bySlot.put(entry.getKey(), entry.getValue().stream().toArray());
+        }
+        this.slotsBySource = sources;
+        this.slotsByDependency = bySlot;
+        this.alwaysAffectedSlots = always.stream().toArray();
+    }
+
+    /**
+     * Determines how a field can be read without boxing.
+     *
+     * @param fieldType the declared type of the field
+     * @param checks    the checks on the field
+     * @return {@link ValueCheck#INT}, {@link ValueCheck#LONG} or {@link ValueCheck#DOUBLE}, or
+     *         {@code -1} if the field must be read as an object
+     */
+    private static int primitiveKind(Class<?> fieldType, Check[] checks) {
+        int kind;
+        if (fieldType == int.class || fieldType == short.class || fieldType == byte.class) {
+            kind = ValueCheck.INT;
+        } else if (fieldType == long.class) {
+            kind = ValueCheck.LONG;
+        } else if (fieldType == double.class || fieldType == float.class) {
+            kind = ValueCheck.DOUBLE;
+        } else {
+            return -1;
+        }
+        for (Check check : checks) {
+            // Composite checks that cannot apply to a primitive, such as cascades, are skipped
+            boolean supported = check instanceof ValueCheck
+                    ? ((ValueCheck) check).supportsPrimitive(kind) : !check.appliesTo(fieldType);
+            if (!supported) {
+                return -1;
+            }
+        }
+        return kind;
+    }
+
+    /**
+     * Returns the value checks of a field read without boxing, leaving out the composite
+     * checks {@link #primitiveKind} skipped.
+     */
+    private static ValueCheck[] valueChecks(Check[] checks) {
+        List<ValueCheck> valueChecks = new ArrayList<>(checks.length);
+        for (Check check : checks) {
+            if (check instanceof ValueCheck) {
+                valueChecks.add((ValueCheck) check);
+            }
+        }
+        return valueChecks.toArray(new ValueCheck[0]);
+    }
+
+    /**
+     * Compiles a plan for a class from a list of checks. Checks naming a field that the
+     * class does not declare are dropped, matching the behavior of the fluent API.
+     *
+     * @param type   the class the plan validates
+     * @param checks the checks, in evaluation order
+     * @param rules  the rule registry snapshot to resolve named rules from
+     * @return the compiled plan
+     */
+    static ValidationPlan compile(Class<?> type, List<Check> checks, RuleRegistry.Snapshot rules) {
+        return new ValidationPlan(type, Collections.unmodifiableList(new ArrayList<>(checks)), rules);
+    }
+
+    /**
+     * Compiles a new plan containing this plan's checks followed by additional checks.
+     *
+     * @param extra the checks to append
+     * @param rules the rule registry snapshot to resolve named rules from
+     * @return the combined plan
+     */
+    ValidationPlan extend(List<Check> extra, RuleRegistry.Snapshot rules) {
+        if (extra.isEmpty() && isCurrent(rules)) {
+            return this;
+        }
+        List<Check> combined = new ArrayList<>(checks.size() + extra.size());
+        combined.addAll(checks);
+        combined.addAll(extra);
+        return compile(type, combined, rules);
+    }
+
+    /**
+     * Checks whether every named rule this plan resolved is still the one registered in the
+     * given snapshot. Unrelated registrations do not invalidate the plan.
+     *
+     * @param rules the current rule registry snapshot
+     * @return {@code true} if the plan can still be used, {@code false} if it must be recompiled
+     */
+    boolean isCurrent(RuleRegistry.Snapshot rules) {
+        long version = rules.getVersion();
+        if (version == verifiedRuleVersion) {
+            return true;
+        }
+        for (RuleCheck dependency : ruleDependencies) {
+            Predicate<Object> registered = rules.getRule(dependency.getRuleName());
+            if (registered != dependency.getRule()) {
+                return false;
+            }
+        }
+        verifiedRuleVersion = version;
+        return true;
+    }
+
+    /**
+     * Returns the fields whose values fully determine the result of this plan: the
+     * constrained fields and the fields cross-field checks read, or every instance field
+     * if the plan has object-level checks.
+     *
+     * @return the fields, in declaration order; the array must not be modified
+     */
+    Field[] getContentFields() {
+        return contentFields;
+    }
+
+    /**
+     * Sets whether validations stop at the first failing field. In fail-fast mode, a plan
+     * stops after the first field, cross-field check or group of object-level checks that
+     * reports an error; that group reports all of its errors. Nested objects are validated
+     * the same way. Incremental revalidation ({@link #validateFields}) always runs every
+     * affected check. Changing the mode clears the {@link ValidationResultCache}. A
+     * {@link ValidationContext} can choose the mode per call instead.
+     *
+     * @param failFast {@code true} to stop at the first failing field
+     */
+    public static void setFailFastDefault(boolean failFast) {
+        failFastDefault = failFast;
+        ValidationResultCache.clear();
+    }
+
+    /**
+     * @return {@code true} if validations stop at the first failing field
+     */
+    public static boolean isFailFastDefault() {
+        return failFastDefault;
+    }
+
+    /**
+     * @return the class this plan validates
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Describes this plan: the fields it reads in order, the checks on each field, the
+     * cascades into nested plans and the estimated cost of each step.
+     *
+     * @return the explanation
+     * @see PlanExplanation
+     */
+    public PlanExplanation explain() {
+        return new PlanExplanation(type, ValidationResultCache.isCacheable(type),
+                explainNodes("", Collections.emptyMap(), new HashSet<>()), null, null, -1L);
+    }
+
+    /**
+     * Validates a target with every check timed, and describes this plan with the measured
+     * time of each step. The validation is not cached and not reported to metrics.
+     *
+     * @param target the object to validate
+     * @return the explanation, with the validation result and timings
+     * @see PlanExplanation
+     */
+    public PlanExplanation analyze(Object target) {
+        ValidationTrace trace = new ValidationTrace();
+        ValidationResult result = new ValidationResult();
+        long start = System.nanoTime();
+        validateInto(target, result, trace);
+        long nanos = System.nanoTime() - start;
+
+        Map<String, long[]> timings = new HashMap<>();
+        for (SlowValidation.Entry entry : trace.getEntries()) {
+            long[] timing = timings.computeIfAbsent(timingKey(entry.getPath(), entry.getConstraint()),
+                    key -> new long[3]);
+            timing[0]++;
+            timing[1] += entry.isFailed() ? 1 : 0;
+            timing[2] += entry.getNanos();
+        }
+        return new PlanExplanation(type, ValidationResultCache.isCacheable(type),
+                explainNodes("", timings, new HashSet<>()), result, trace.getEntries(), nanos);
+    }
+
+    /**
+     * Describes the slots of this plan.
+     *
+     * @param prefix   the path of the object this plan validates, ending with a dot, or empty
+     * @param timings  measured timings by {@link #timingKey}
+     * @param visiting the plans being explained on the current cascade path, to stop at cycles
+     * @return the nodes, in evaluation order
+     */
+    private List<PlanExplanation.Node> explainNodes(String prefix, Map<String, long[]> timings,
+                                                    Set<Class<?>> visiting) {
+        visiting.add(type);
+        List<PlanExplanation.Node> nodes = new ArrayList<>();
+        for (int i = 0; i < fields.length; i++) {
+            Class<?> declaredType = fields[i].getType();
+            List<PlanExplanation.Node> children = new ArrayList<>();
+            for (Check check : fieldChecks[i]) {
+                if (check.appliesTo(declaredType)) {
+                    children.add(explainCheck(prefix, check, declaredType, timings, visiting));
+                }
+            }
+            nodes.add(new PlanExplanation.Node(PlanExplanation.Node.Kind.FIELD, prefix + fields[i].getName(), null,
+                    describeRead(i), PlanExplanation.COST_CHECK, children, null));
+        }
+        for (CrossFieldCheck check : crossChecks) {
+            String path = prefix + check.getFieldName();
+            nodes.add(new PlanExplanation.Node(PlanExplanation.Node.Kind.CROSS_FIELD, path, check.getConstraintType(),
+                    check.describe(), check.estimateCost(), Collections.emptyList(),
+                    timings.get(timingKey(path, check.getConstraintType()))));
+        }
+        if (objectChecks.length > 0) {
+            List<PlanExplanation.Node> children = new ArrayList<>();
+            for (Check check : objectChecks) {
+                children.add(explainCheck(prefix, check, type, timings, visiting));
+            }
+            nodes.add(new PlanExplanation.Node(PlanExplanation.Node.Kind.OBJECT, prefix + OBJECT_SOURCE, null,
+                    null, 0, children, null));
+        }
+        visiting.remove(type);
+        return nodes;
+    }
+
+    /**
+     * Describes one check, with its nested checks or the plan it cascades into.
+     */
+    private PlanExplanation.Node explainCheck(String prefix, Check check, Class<?> declaredType,
+                                              Map<String, long[]> timings, Set<Class<?>> visiting) {
+        String path = prefix + (check.getFieldName() == null ? OBJECT_SOURCE : check.getFieldName());
+        List<PlanExplanation.Node> children = new ArrayList<>();
+        if (check.isCascade()) {
+            ValidationPlan nested = check.getCascadePlan(declaredType);
+            String detail;
+            if (nested == null) {
+                detail = "plan chosen from the runtime value";
+            } else if (visiting.contains(nested.type)) {
+                detail = nested.type.getSimpleName() + ", recursive";
+            } else {
+                detail = nested.type.getSimpleName();
+                children.addAll(nested.explainNodes(path + ".", timings, visiting));
+            }
+            String constraint = SlowValidation.Entry.CASCADE;
+            return new PlanExplanation.Node(PlanExplanation.Node.Kind.CASCADE, path, constraint, detail,
+                    check.estimateCost(), children, timings.get(timingKey(path, constraint)));
+        }
+        for (Check nested : check.getNestedChecks()) {
+            children.add(explainCheck(prefix, nested, declaredType, timings, visiting));
+        }
+        String constraint = check.getConstraintType();
+        return new PlanExplanation.Node(PlanExplanation.Node.Kind.CHECK, path, constraint, check.describe(),
+                check.estimateCost(), children, constraint == null ? null : timings.get(timingKey(path, constraint)));
+    }
+
+    /**
+     * Describes how a field is read.
+     */
+    private String describeRead(int index) {
+        String read = fields[index].getType().getSimpleName();
+        switch (primitiveKinds[index]) {
+            case ValueCheck.INT:
+            case ValueCheck.LONG:
+            case ValueCheck.DOUBLE:
+                read += ", unboxed";
+                break;
+            default:
+                if (fields[index].getType().isPrimitive()) {
+                    read += ", boxed";
+                }
+                break;
+        }
+        return shared[index] ? read + ", shared with cross-field checks" : read;
+    }
+
+    private static String timingKey(String path, String constraint) {
+        return path + '\u0000' + constraint;
+    }
+
+    /**
+     * Validates a target in a single pass over its constrained fields.
+     *
+     * @param target the object to validate
+     * @return a {@code ValidationResult} containing any validation errors found
+     */
+    public ValidationResult validate(Object target) {
+        ValidationResult result = new ValidationResult();
+        long start = SlowValidationLog.start();
+        validateInto(target, result);
+        if (start != 0L) {
+            ValidationTrace.checkSlow(this, target, start);
+        }
+        return result;
+    }
+
+    /**
+     * Validates a target and accumulates errors into an existing result.
+     *
+     * @param target the object to validate
+     * @param result the validation result to accumulate errors
+     */
+    void validateInto(Object target, ValidationResult result) {
+        ValidationContext context = ValidationContext.bound();
+        validateInto(target, result, context == null ? ValidationEvents.sink() : context.sink());
+    }
+
+    /**
+     * Validates a target with this plan, then runs additional checks in the order they were
+     * given, in the same pass. The fields the additional checks name are looked up once per
+     * class and read directly, so no plan is compiled for them: a fluent validation costs the
+     * cached plan plus its own checks. Checks naming a field the class does not declare are
+     * skipped, as {@link #compile} drops them.
+     *
+     * <p>Errors of this plan come first, followed by the errors of the additional checks in
+     * their order. Errors are attributed to the same sources as in the plan {@link #extend}
+     * would compile, so the result can be passed to that plan's {@link #validateFields}.
+     *
+     * @param target the object to validate
+     * @param extra  the checks to run after this plan's checks, in order
+     * @param rules  the rule registry snapshot to resolve named rules from
+     * @return a {@code ValidationResult} containing any validation errors found
+     */
+    ValidationResult validate(Object target, List<Check> extra, RuleRegistry.Snapshot rules) {
+        ValidationResult result = new ValidationResult();
+        long start = SlowValidationLog.start();
+        ValidationContext context = ValidationContext.bound();
+        validateInto(target, result, context == null ? ValidationEvents.sink() : context.sink(), extra, rules);
+        if (start != 0L) {
+            ValidationTrace.checkSlow(this, target, start, extra, rules);
+        }
+        return result;
+    }
+
+    /**
+     * Validates a target and accumulates errors into an existing result, reporting to a given
+     * metrics sink. Nested validations report to the same sink.
+     *
+     * @param target  the object to validate
+     * @param result  the validation result to accumulate errors
+     * @param metrics the sink to report each check to, or {@code null} to run unmeasured
+     */
+    void validateInto(Object target, ValidationResult result, ValidationMetrics metrics) {
+        validateInto(target, result, metrics, Collections.emptyList(), null);
+    }
+
+    /**
+     * Validates a target, then runs additional checks, accumulating errors into an existing
+     * result and reporting to a given metrics sink.
+     *
+     * @param target  the object to validate
+     * @param result  the validation result to accumulate errors
+     * @param metrics the sink to report each check to, or {@code null} to run unmeasured
+     * @param extra   the checks to run after this plan's checks, in order
+     * @param rules   the rule registry snapshot to resolve named rules from
+     * @see #validate(Object, List, RuleRegistry.Snapshot)
+     */
+    void validateInto(Object target, ValidationResult result, ValidationMetrics metrics, List<Check> extra,
+                      RuleRegistry.Snapshot rules) {
+        if (target == null) {
+            result.addError(new ValidationError(NULL_TARGET, null));
+            return;
+        }
+        Object[] values = newValues();
+        ValidationContext context = ValidationContext.bound();
+        boolean failFast = context == null ? failFastDefault : context.isFailFast();
+        int before = result.getErrors().size();
+        long start = metrics == null ? 0L : System.nanoTime();
+        for (int slot = 0; slot <= objectSlot; slot++) {
+            validateSlot(target, slot, result, values, metrics);
+            if (failFast && result.getErrors().size() > before) {
+                break;
+            }
+        }
+        if (!extra.isEmpty() && !(failFast && result.getErrors().size() > before)) {
+            validateExtra(target, extra, rules, result, metrics, failFast);
+        }
+        if (metrics != null) {
+            metrics.recordValidation(type, result.getErrors().size() - before, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs additional checks one by one, in order, reading the fields they name.
+     *
+     * @param target   the object being validated
+     * @param extra    the checks to run
+     * @param rules    the rule registry snapshot to resolve named rules from
+     * @param result   the validation result to accumulate errors
+     * @param metrics  the sink to report each check to, or {@code null} if metrics are disabled
+     * @param failFast {@code true} to stop at the first check that reports an error
+     */
+    private void validateExtra(Object target, List<Check> extra, RuleRegistry.Snapshot rules, ValidationResult result,
+                               ValidationMetrics metrics, boolean failFast) {
+        List<ValidationError> errors = result.getErrors();
+        int crossIndex = crossChecks.length;
+        for (Check unbound : extra) {
+            Check check = unbound.bind(rules);
+            int before = errors.size();
+            String source;
+            try {
+                if (check instanceof CrossFieldCheck) {
+                    CrossFieldCheck crossCheck = (CrossFieldCheck) check;
+                    Object[] arguments = crossCheck.readValues(target);
+                    if (arguments == null) {
+                        continue;
+                    }
+                    source = crossCheck.getFieldName() + "#" + crossIndex++;
+                    if (metrics == null) {
+                        crossCheck.applyValues(arguments, source, result);
+                    } else {
+                        long start = System.nanoTime();
+                        crossCheck.applyValues(arguments, source, result);
+                        metrics.recordConstraint(type, crossCheck.getFieldName(), crossCheck.getConstraintType(),
+                                errors.size() > before, System.nanoTime() - start);
+                    }
+                } else if (check.getFieldName() == null) {
+                    source = OBJECT_SOURCE;
+                    if (metrics == null) {
+                        check.applyTo(target, target, result);
+                    } else {
+                        check.applyMeasured(target, target, result, metrics, type);
+                    }
+                } else {
+                    Field field = ReflectionCache.getField(type, check.getFieldName());
+                    if (field == null) {
+                        continue;
+                    }
+                    source = field.getName();
+                    Object value = field.get(target);
+                    if (metrics == null) {
+                        check.applyTo(target, value, result);
+                    } else {
+                        check.applyMeasured(target, value, result, metrics, type);
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                // Inaccessible fields are skipped
+                continue;
+            }
+            attribute(errors, before, source);
+            if (failFast && errors.size() > before) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Tells whether a target has no validation errors. The checks run as in
+     * {@link #validate}, including cascades, but no error or message is built and the
+     * first failing check ends the validation.
+     *
+     * @param target the object to validate
+     * @return {@code true} if {@link #validate} would report no error
+     */
+    public boolean isValid(Object target) {
+        return countViolations(target, 1) == 0;
+    }
+
+    /**
+     * Counts the errors {@link #validate} would report for a target, without building them.
+     *
+     * @param target the object to validate
+     * @return the number of errors
+     */
+    public int countViolations(Object target) {
+        return countViolations(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Counts the errors of a target, stopping once {@code limit} errors were found. Count-only
+     * validations are not reported to metrics sinks and bypass the result cache. The fail-fast
+     * mode applies, as it does to {@link #validate}.
+     *
+     * @param target the object to validate
+     * @param limit  the number of errors after which counting stops; at least 1
+     * @return the number of errors, at most {@code limit}
+     */
+    int countViolations(Object target, int limit) {
+        if (target == null) {
+            return 1;
+        }
+        Object[] values = newValues();
+        ValidationContext context = ValidationContext.bound();
+        boolean failFast = context == null ? failFastDefault : context.isFailFast();
+        int count = 0;
+        for (int slot = 0; slot <= objectSlot; slot++) {
+            count += countSlot(target, slot, values, limit - count);
+            if (count >= limit || failFast && count > 0) {
+                break;
+            }
+        }
+        return Math.min(count, limit);
+    }
+
+    /**
+     * Counts the errors {@link #validate(Object, List, RuleRegistry.Snapshot)} would report,
+     * without building them.
+     *
+     * @param target the object to validate
+     * @param extra  the checks to run after this plan's checks, in order
+     * @param rules  the rule registry snapshot to resolve named rules from
+     * @param limit  the number of errors after which counting stops; at least 1
+     * @return the number of errors, at most {@code limit}
+     */
+    int countViolations(Object target, List<Check> extra, RuleRegistry.Snapshot rules, int limit) {
+        int count = countViolations(target, limit);
+        if (target == null || extra.isEmpty()) {
+            return count;
+        }
+        ValidationContext context = ValidationContext.bound();
+        boolean failFast = context == null ? failFastDefault : context.isFailFast();
+        for (Check unbound : extra) {
+            if (count >= limit || failFast && count > 0) {
+                break;
+            }
+            Check check = unbound.bind(rules);
+            try {
+                if (check instanceof CrossFieldCheck) {
+                    CrossFieldCheck crossCheck = (CrossFieldCheck) check;
+                    Object[] arguments = crossCheck.readValues(target);
+                    if (arguments != null && !crossCheck.testValues(arguments)) {
+                        count++;
+                    }
+                } else if (check.getFieldName() == null) {
+                    count += check.countViolations(target, target, limit - count);
+                } else {
+                    Field field = ReflectionCache.getField(type, check.getFieldName());
+                    if (field != null) {
+                        count += check.countViolations(target, field.get(target), limit - count);
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                // Inaccessible fields are skipped
+            }
+        }
+        return Math.min(count, limit);
+    }
+
+    /**
+     * Counts the errors the checks of one slot would report, like {@link #validateSlot}.
+     *
+     * @param target the object being validated
+     * @param slot   the slot to evaluate
+     * @param values the field values loaded so far, or {@code null} without cross-field checks
+     * @param limit  the number of errors after which counting may stop
+     * @return the number of errors
+     */
+    private int countSlot(Object target, int slot, Object[] values, int limit) {
+        int count = 0;
+        try {
+            if (slot < fields.length) {
+                Field field = fields[slot];
+                Check[] checks = fieldChecks[slot];
+                ValueCheck[] valueChecks = primitiveChecks[slot];
+                switch (primitiveKinds[slot]) {
+                    case ValueCheck.INT: {
+                        int value = field.getInt(target);
+                        for (int i = 0; i < valueChecks.length && count < limit; i++) {
+                            if (!valueChecks[i].testInt(value)) {
+                                count++;
+                            }
+                        }
+                        break;
+                    }
+                    case ValueCheck.LONG: {
+                        long value = field.getLong(target);
+                        for (int i = 0; i < valueChecks.length && count < limit; i++) {
+                            if (!valueChecks[i].testLong(value)) {
+                                count++;
+                            }
+                        }
+                        break;
+                    }
+                    case ValueCheck.DOUBLE: {
+                        double value = field.getDouble(target);
+                        for (int i = 0; i < valueChecks.length && count < limit; i++) {
+                            if (!valueChecks[i].testDouble(value)) {
+                                count++;
+                            }
+                        }
+                        break;
+                    }
+                    default: {
+                        if (checks.length == 0) {
+                            break;
+                        }
+                        Object value = shared[slot] ? load(target, slot, values) : field.get(target);
+                        for (int i = 0; i < checks.length && count < limit; i++) {
+                            count += checks[i].countViolations(target, value, limit - count);
+                        }
+                        break;
+                    }
+                }
+            } else if (slot < objectSlot) {
+                int k = slot - fields.length;
+                int[] indexes = crossFieldIndexes[k];
+                Object[] arguments = new Object[indexes.length];
+                for (int j = 0; j < indexes.length; j++) {
+                    arguments[j] = load(target, indexes[j], values);
+                }
+                if (!crossChecks[k].testValues(arguments)) {
+                    count++;
+                }
+            } else {
+                for (int i = 0; i < objectChecks.length && count < limit; i++) {
+                    count += objectChecks[i].countViolations(target, target, limit - count);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            // Inaccessible fields are skipped
+        }
+        return count;
+    }
+
+    /**
+     * Revalidates a target after some of its fields changed. Only the checks that depend on a
+     * changed field are evaluated: the checks on that field, checks on other fields that read
+     * it, and object-level checks (which may read any field). Errors from the previous result
+     * that were reported by any other check are kept as they are.
+     *
+     * <p>Kept errors come first, followed by the errors of the re-evaluated checks in plan
+     * order. Field names this plan does not know are ignored. If the target or the previous
+     * result is {@code null}, the whole target is validated.
+     *
+     * @param target        the object to validate
+     * @param changedFields the names of the fields that changed since {@code previous}
+     * @param previous      the result of validating the target before the change
+     * @return a new {@code ValidationResult}; {@code previous} is not modified
+     */
+    public ValidationResult validateFields(Object target, Set<String> changedFields, ValidationResult previous) {
+        if (target == null || previous == null) {
+            return validate(target);
+        }
+        BitSet affected = new BitSet(objectSlot + 1);
+        for (int slot : alwaysAffectedSlots) {
+            affected.set(slot);
+        }
+        for (String field : changedFields) {
+            int[] slots = slotsByDependency.get(field);
+            if (slots != null) {
+                for (int slot : slots) {
+                    affected.set(slot);
+                }
+            }
+        }
+
+        ValidationResult result = new ValidationResult();
+        for (ValidationError error : previous.getErrors()) {
+            String source = error.getSource() != null ? error.getSource() : error.getFieldName();
+            Integer slot = slotsBySource.get(source);
+            if (slot == null || !affected.get(slot)) {
+                result.addError(error);
+            }
+        }
+        ValidationContext context = ValidationContext.bound();
+        ValidationMetrics metrics = context == null ? ValidationEvents.sink() : context.sink();
+        int kept = result.getErrors().size();
+        long start = metrics == null ? 0L : System.nanoTime();
+        Object[] values = newValues();
+        for (int slot = affected.nextSetBit(0); slot >= 0; slot = affected.nextSetBit(slot + 1)) {
+            validateSlot(target, slot, result, values, metrics);
+        }
+        if (metrics != null) {
+            metrics.recordValidation(type, result.getErrors().size() - kept, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the per-validation array of field values shared with cross-field checks.
+     *
+     * @return an array of unloaded values, or {@code null} if the plan has no cross-field checks
+     */
+    private Object[] newValues() {
+        if (crossChecks.length == 0) {
+            return null;
+        }
+        Object[] values = new Object[fields.length];
+        Arrays.fill(values, NOT_LOADED);
+        return values;
+    }
+
+    /**
+     * Runs the checks of one slot and tags the errors they report with the slot's source.
+     *
+     * @param target  the object being validated
+     * @param slot    a field index, a cross-field check index offset by the number of fields,
+     *                or {@code objectSlot} for the object-level checks
+     * @param result  the validation result to accumulate errors
+     * @param values  the field values loaded so far, or {@code null} without cross-field checks
+     * @param metrics the sink to report each check to, or {@code null} if metrics are disabled
+     */
+    private void validateSlot(Object target, int slot, ValidationResult result, Object[] values,
+                              ValidationMetrics metrics) {
+        int before = result.getErrors().size();
+        try {
+            if (slot < fields.length) {
+                if (fieldChecks[slot].length > 0) {
+                    if (metrics == null) {
+                        validateField(target, slot, result, values);
+                    } else {
+                        validateFieldMeasured(target, slot, result, values, metrics);
+                    }
+                }
+            } else if (slot < objectSlot) {
+                int k = slot - fields.length;
+                int[] indexes = crossFieldIndexes[k];
+                Object[] arguments = new Object[indexes.length];
+                for (int j = 0; j < indexes.length; j++) {
+                    arguments[j] = load(target, indexes[j], values);
+                }
+                if (metrics == null) {
+                    crossChecks[k].applyValues(arguments, slotSources[slot], result);
+                } else {
+                    long start = System.nanoTime();
+                    crossChecks[k].applyValues(arguments, slotSources[slot], result);
+                    metrics.recordConstraint(type, crossChecks[k].getFieldName(), crossChecks[k].getConstraintType(),
+                            result.getErrors().size() > before, System.nanoTime() - start);
+                }
+            } else {
+                for (Check check : objectChecks) {
+                    if (metrics == null) {
+                        check.applyTo(target, target, result);
+                    } else {
+                        check.applyMeasured(target, target, result, metrics, type);
+                    }
+                }
+            }
+        } catch (IllegalAccessException e) {
+            // Inaccessible fields are skipped
+        }
+        attribute(result.getErrors(), before, slotSources[slot]);
+    }
+
+    /**
+     * Attributes the errors reported from an index on to a source. The checks of this plan
+     * already report errors under their own source, so usually nothing changes. Errors of
+     * nested objects are replaced by a copy under the cascaded field; the description of the
+     * copy is built once per nested description and source.
+     *
+     * @param errors the errors of the result being validated
+     * @param from   the index of the first error to attribute
+     * @param source the source of the slot that reported them
+     */
+    private void attribute(List<ValidationError> errors, int from, String source) {
+        for (int i = from; i < errors.size(); i++) {
+            ValidationError error = errors.get(i);
+            if (!source.equals(error.getSource())) {
+                errors.set(i, new ValidationError(attributed(error.getIdentity(), source), error.getInvalidValue()));
+            }
+        }
+    }
+
+    /**
+     * Returns a description under a source, shared if the original description is one a check
+     * reported. Descriptions of errors built with the public constructor are not kept.
+     */
+    private ValidationError.Identity attributed(ValidationError.Identity identity, String source) {
+        if (identity.getSource() == null) {
+            return identity.withSource(source);
+        }
+        ConcurrentMap<ValidationError.Identity, ValidationError.Identity> descriptions =
+                attributed.computeIfAbsent(source, s -> new ConcurrentHashMap<>());
+        ValidationError.Identity copy = descriptions.get(identity);
+        if (copy == null) {
+            copy = identity.withSource(source);
+            if (descriptions.size() < MAX_CANONICAL_ERRORS) {
+                ValidationError.Identity existing = descriptions.putIfAbsent(identity, copy);
+                if (existing != null) {
+                    copy = existing;
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * @return the number of descriptions of nested errors this plan holds
+     */
+    int getCanonicalErrorCount() {
+        int count = 0;
+        for (Map<ValidationError.Identity, ValidationError.Identity> descriptions : attributed.values()) {
+            count += descriptions.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the value of a field, reading it only if no other check has read it yet.
+     */
+    private Object load(Object target, int index, Object[] values) throws IllegalAccessException {
+        Object value = values[index];
+        if (value == NOT_LOADED) {
+            value = fields[index].get(target);
+            values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Reads one field and runs every check on it.
+     *
+     * @param target the object being validated
+     * @param index  the index of the field in this plan
+     * @param result the validation result to accumulate errors
+     * @param values the field values loaded so far, or {@code null} without cross-field checks
+     * @throws IllegalAccessException if the field is inaccessible
+     */
+    private void validateField(Object target, int index, ValidationResult result, Object[] values)
+            throws IllegalAccessException {
+        Field field = fields[index];
+        switch (primitiveKinds[index]) {
+            case ValueCheck.INT: {
+                int value = field.getInt(target);
+                for (ValueCheck check : primitiveChecks[index]) {
+                    if (!check.testInt(value)) {
+                        result.addError(check.report(field.get(target)));
+                    }
+                }
+                break;
+            }
+            case ValueCheck.LONG: {
+                long value = field.getLong(target);
+                for (ValueCheck check : primitiveChecks[index]) {
+                    if (!check.testLong(value)) {
+                        result.addError(check.report(field.get(target)));
+                    }
+                }
+                break;
+            }
+            case ValueCheck.DOUBLE: {
+                double value = field.getDouble(target);
+                for (ValueCheck check : primitiveChecks[index]) {
+                    if (!check.testDouble(value)) {
+                        result.addError(check.report(field.get(target)));
+                    }
+                }
+                break;
+            }
+            default: {
+                Object value = shared[index] ? load(target, index, values) : field.get(target);
+                for (Check check : fieldChecks[index]) {
+                    check.applyTo(target, value, result);
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * Reads one field and runs every check on it, reporting each check to a metrics sink.
+     * Primitive fields are boxed, so that every check is timed the same way.
+     *
+     * @param target  the object being validated
+     * @param index   the index of the field in this plan
+     * @param result  the validation result to accumulate errors
+     * @param values  the field values loaded so far, or {@code null} without cross-field checks
+     * @param metrics the sink to report to
+     * @throws IllegalAccessException if the field is inaccessible
+     */
+    private void validateFieldMeasured(Object target, int index, ValidationResult result, Object[] values,
+                                       ValidationMetrics metrics) throws IllegalAccessException {
+        Object value = shared[index] ? load(target, index, values) : fields[index].get(target);
+        for (Check check : fieldChecks[index]) {
+            check.applyMeasured(target, value, result, metrics, type);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.danielmorales.validatorx.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 /**
@@ -22,10 +26,19 @@ import java.util.function.Consumer;
  * }
  * </pre>
  *
+ * <p>Each profile is compiled once, when it is registered, into a list of checks. Pipelines
+ * merge those checks with a class's annotation plan (see {@link PlanCache}) instead of
+ * running the {@code Consumer} on every validation.
+ *
+ * <p>The registry is safe to use from multiple threads. Profiles are held in an immutable,
+ * versioned snapshot that is replaced atomically on every registration, so lookups never
+ * block.
+ *
  * @author Daniel Morales
  */
 public class ValidationProfileRegistry {
-    private static final Map<String, Consumer<Validator.ValidationBuilder>> profiles = new HashMap<>();
+    private static final AtomicReference<Snapshot> current =
+            new AtomicReference<>(new Snapshot(Collections.emptyMap(), 0L));
 
     /**
      * Registers a validation profile with a given name.
@@ -34,7 +47,19 @@ public class ValidationProfileRegistry {
      * @param profile a {@code Consumer} that applies validation rules to a {@code ValidationBuilder}
      */
     public static void registerProfile(String name, Consumer<Validator.ValidationBuilder> profile) {
-        profiles.put(name, profile);
+        // Record the profile's rules once against a target-less builder
+        Validator.ValidationBuilder recorder = new Validator.ValidationBuilder(null);
+        profile.accept(recorder);
+        Profile compiled = new Profile(profile, Collections.unmodifiableList(new ArrayList<>(recorder.getChecks())));
+
+        Snapshot previous;
+        Snapshot next;
+        do {
+            previous = current.get();
+            Map<String, Profile> copy = new HashMap<>(previous.profiles);
+            copy.put(name, compiled);
+            next = new Snapshot(Collections.unmodifiableMap(copy), previous.version + 1);
+        } while (!current.compareAndSet(previous, next));
     }
 
     /**
@@ -44,6 +69,54 @@ public class ValidationProfileRegistry {
      * @return the {@code Consumer} associated with the profile, or {@code null} if not found
      */
     public static Consumer<Validator.ValidationBuilder> getProfile(String name) {
-        return profiles.get(name);
+        Profile profile = current.get().profiles.get(name);
+        return profile == null ? null : profile.consumer;
+    }
+
+    /**
+     * Gets the version of the registry. Versions increase with every registration.
+     *
+     * @return the current registry version
+     */
+    public static long getVersion() {
+        return current.get().version;
+    }
+
+    /**
+     * Retrieves the checks compiled from a registered profile. Each registration produces
+     * a new list, so callers can compare lists by identity to detect a reload.
+     *
+     * @param name the name of the validation profile
+     * @return the compiled checks, or {@code null} if not found
+     */
+    static List<Check> getCompiledProfile(String name) {
+        Profile profile = current.get().profiles.get(name);
+        return profile == null ? null : profile.checks;
+    }
+
+    /**
+     * A registered profile together with the checks compiled from it.
+     */
+    private static final class Profile {
+        private final Consumer<Validator.ValidationBuilder> consumer;
+        private final List<Check> checks;
+
+        Profile(Consumer<Validator.ValidationBuilder> consumer, List<Check> checks) {
+            this.consumer = consumer;
+            this.checks = checks;
+        }
+    }
+
+    /**
+     * An immutable view of the registry at a point in time.
+     */
+    private static final class Snapshot {
+        private final Map<String, Profile> profiles;
+        private final long version;
+
+        Snapshot(Map<String, Profile> profiles, long version) {
+            this.profiles = profiles;
+            this.version = version;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,492 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.annotations.Immutable;
+import com.danielmorales.validatorx.i18n.MessageResolver;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in, bounded cache of validation results for immutable objects.
+ *
+ * <p>Only instances of classes annotated with {@link Immutable}, or of records, are cached.
+ * The cache key is the compiled {@link ValidationPlan} together with the values of the fields
+ * that plan reads, so validating an unchanged object again costs one hash computation and
+ * one lookup. Objects that are equal field by field share a cache entry.
+ *
+ * <p>The cache is bounded by a number of entries and by a total weight, where an entry
+ * weighs one plus its number of errors. When the cache is full, a new entry is admitted
+ * only if it has been requested more often than the oldest entry, which it then replaces.
+ * Request frequencies are estimated with a small count-min sketch that is aged periodically,
+ * so values that are validated only once do not push out the objects validated over and over.
+ *
+ * <p>The whole cache is cleared when a rule or profile is registered or when the message
+ * locale changes.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * ValidationResultCache.setEnabled(true);
+ * ValidationResult result = new ValidatorEngine().accumulateValidate(currency);
+ * System.out.println(ValidationResultCache.getStats().getHitRate());
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public class ValidationResultCache {
+    /** Default maximum number of cached results. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    /** Default maximum total weight of cached results. */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 50_000L;
+
+    private static final Method IS_RECORD = findIsRecord();
+    private static final Map<Class<?>, Boolean> cacheable = new ConcurrentHashMap<>();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final LongAdder rejections = new LongAdder();
+
+    private static volatile boolean enabled;
+    private static volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private static volatile long maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+    private static volatile Store store = new Store(DEFAULT_MAXIMUM_SIZE, DEFAULT_MAXIMUM_WEIGHT);
+
+    /**
+     * Enables or disables the cache. Disabling it also clears it.
+     *
+     * @param enabled {@code true} to cache validation results
+     */
+    public static void setEnabled(boolean enabled) {
+        ValidationResultCache.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    /**
+     * @return {@code true} if validation results are cached
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the maximum number of cached results and clears the cache.
+     *
+     * @param maximumSize the maximum number of entries
+     */
+    public static void setMaximumSize(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        ValidationResultCache.maximumSize = maximumSize;
+        clear();
+    }
+
+    /**
+     * Sets the maximum total weight of cached results and clears the cache.
+     *
+     * @param maximumWeight the maximum weight
+     */
+    public static void setMaximumWeight(long maximumWeight) {
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException("Maximum weight must be positive: " + maximumWeight);
+        }
+        ValidationResultCache.maximumWeight = maximumWeight;
+        clear();
+    }
+
+    /**
+     * @return the maximum number of cached results
+     */
+    public static int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return the maximum total weight of cached results
+     */
+    public static long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Removes every cached result. Statistics are kept.
+     */
+    public static void clear() {
+        store = new Store(maximumSize, maximumWeight);
+    }
+
+    /**
+     * Tells whether results for instances of a class can be cached.
+     *
+     * @param clazz the class to check
+     * @return {@code true} if the class is annotated with {@link Immutable} or is a record
+     */
+    public static boolean isCacheable(Class<?> clazz) {
+        return cacheable.computeIfAbsent(clazz, ValidationResultCache::scanClass);
+    }
+
+    /**
+     * Validates a target with a plan, returning a cached result when possible. If the cache is
+     * disabled or the target's class is not cacheable, this is the same as
+     * {@link ValidationPlan#validate(Object)}.
+     *
+     * @param plan   the plan to validate with
+     * @param target the object to validate
+     * @return a {@code ValidationResult} containing any validation errors found
+     */
+    public static ValidationResult validate(ValidationPlan plan, Object target) {
+        if (!enabled || target == null || !isCacheable(target.getClass())) {
+            return plan.validate(target);
+        }
+        ValidationContext context = ValidationContext.bound();
+        if (context != null && !context.usesDefaultResults()) {
+            // The cache holds results rendered in the default locale and mode
+            return plan.validate(target);
+        }
+        Store current = currentStore();
+        ContentKey key;
+        try {
+            key = ContentKey.of(plan, target);
+        } catch (IllegalAccessException e) {
+            return plan.validate(target);
+        }
+
+        current.sketch.increment(key.hash);
+        Entry entry = current.entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            return entry.toResult();
+        }
+        misses.increment();
+        ValidationResult result = plan.validate(target);
+        current.admit(key, new Entry(result.getErrors().toArray(new ValidationError[0])));
+        return result;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the current statistics
+     */
+    public static Stats getStats() {
+        Store current = store;
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), rejections.sum(),
+                current.entries.size(), current.weight);
+    }
+
+    /**
+     * Resets the hit, miss, eviction and rejection counters.
+     */
+    public static void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        rejections.reset();
+    }
+
+    /**
+     * Returns the store, replacing it first if a registry or the locale changed since it was created.
+     */
+    private static Store currentStore() {
+        Store current = store;
+        long ruleVersion = RuleRegistry.snapshot().getVersion();
+        long profileVersion = ValidationProfileRegistry.getVersion();
+        Locale locale = MessageResolver.getLocale();
+        if (current.ruleVersion == ruleVersion && current.profileVersion == profileVersion
+                && current.locale == locale) {
+            return current;
+        }
+        synchronized (ValidationResultCache.class) {
+            if (store == current) {
+                store = new Store(maximumSize, maximumWeight, ruleVersion, profileVersion, locale);
+            }
+            return store;
+        }
+    }
+
+    /**
+     * Determines whether a class is cacheable.
+     */
+    private static Boolean scanClass(Class<?> clazz) {
+        if (clazz.isAnnotationPresent(Immutable.class)) {
+            return Boolean.TRUE;
+        }
+        try {
+            return IS_RECORD != null && (Boolean) IS_RECORD.invoke(clazz);
+        } catch (ReflectiveOperationException e) {
+            return Boolean.FALSE;
+        }
+    }
+
+    /**
+     * Looks up {@code Class.isRecord()}, which only exists on Java 16 and later.
+     */
+    private static Method findIsRecord() {
+        try {
+            return Class.class.getMethod("isRecord");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A snapshot of the cache statistics.
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long rejectionCount;
+        private final int size;
+        private final long weight;
+
+        Stats(long hitCount, long missCount, long evictionCount, long rejectionCount, int size, long weight) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.rejectionCount = rejectionCount;
+            this.size = size;
+            this.weight = weight;
+        }
+
+        /**
+         * @return the number of validations answered from the cache
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return the number of cacheable validations that had to be evaluated
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return the number of entries removed to make room for new ones
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return the number of results not cached because they were requested less often
+         *         than the entries they would have replaced
+         */
+        public long getRejectionCount() {
+            return rejectionCount;
+        }
+
+        /**
+         * @return the number of cached results
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return the total weight of cached results
+         */
+        public long getWeight() {
+            return weight;
+        }
+
+        /**
+         * @return the fraction of cacheable validations answered from the cache, or 0 if there were none
+         */
+        public double getHitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ValidationResultCache.Stats[hits=%d, misses=%d, evictions=%d, rejections=%d, size=%d, weight=%d]",
+                    hitCount, missCount, evictionCount, rejectionCount, size, weight);
+        }
+    }
+
+    /**
+     * The cached entries for one generation of the registries.
+     */
+    private static final class Store {
+        private final Map<ContentKey, Entry> entries = new ConcurrentHashMap<>();
+        private final ArrayDeque<ContentKey> insertionOrder = new ArrayDeque<>();
+        private final FrequencySketch sketch;
+        private final int maximumSize;
+        private final long maximumWeight;
+        private final long ruleVersion;
+        private final long profileVersion;
+        private final Locale locale;
+        private volatile long weight;
+
+        Store(int maximumSize, long maximumWeight) {
+            this(maximumSize, maximumWeight, RuleRegistry.snapshot().getVersion(),
+                    ValidationProfileRegistry.getVersion(), MessageResolver.getLocale());
+        }
+
+        Store(int maximumSize, long maximumWeight, long ruleVersion, long profileVersion, Locale locale) {
+            this.sketch = new FrequencySketch(maximumSize);
+            this.maximumSize = maximumSize;
+            this.maximumWeight = maximumWeight;
+            this.ruleVersion = ruleVersion;
+            this.profileVersion = profileVersion;
+            this.locale = locale;
+        }
+
+        /**
+         * Adds an entry, evicting the oldest entries if the candidate is requested more often than them.
+         */
+        synchronized void admit(ContentKey key, Entry entry) {
+            if (entries.containsKey(key)) {
+                return;
+            }
+            if (entry.weight > maximumWeight) {
+                rejections.increment();
+                return;
+            }
+            int frequency = sketch.frequency(key.hash);
+            while (entries.size() >= maximumSize || weight + entry.weight > maximumWeight) {
+                ContentKey victim = insertionOrder.peekFirst();
+                if (frequency <= sketch.frequency(victim.hash)) {
+                    rejections.increment();
+                    return;
+                }
+                insertionOrder.pollFirst();
+                weight -= entries.remove(victim).weight;
+                evictions.increment();
+            }
+            entries.put(key, entry);
+            insertionOrder.addLast(key);
+            weight += entry.weight;
+        }
+    }
+
+    /**
+     * A cached result. The errors are shared between hits and never modified.
+     */
+    private static final class Entry {
+        private final ValidationError[] errors;
+        private final int weight;
+
+        Entry(ValidationError[] errors) {
+            this.errors = errors;
+            this.weight = 1 + errors.length;
+        }
+
+        ValidationResult toResult() {
+            ValidationResult result = new ValidationResult();
+            for (ValidationError error : errors) {
+                result.addError(error);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Identifies a plan together with the values of the fields it reads.
+     */
+    private static final class ContentKey {
+        private final ValidationPlan plan;
+        private final Object[] values;
+        private final int hash;
+
+        private ContentKey(ValidationPlan plan, Object[] values) {
+            this.plan = plan;
+            this.values = values;
+            this.hash = 31 * System.identityHashCode(plan) + Arrays.deepHashCode(values);
+        }
+
+        static ContentKey of(ValidationPlan plan, Object target) throws IllegalAccessException {
+            Field[] fields = plan.getContentFields();
+            Object[] values = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = fields[i].get(target);
+            }
+            return new ContentKey(plan, values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ContentKey)) {
+                return false;
+            }
+            ContentKey other = (ContentKey) o;
+            return plan == other.plan && hash == other.hash && Arrays.deepEquals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * An approximate count-min sketch of request frequencies with 4-bit counters. Counters are
+     * halved after a sample of increments so that old popularity fades. Updates are not
+     * synchronized; a lost increment only makes an estimate slightly lower.
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = { 0x97cb3127, 0xb1c3b2f5, 0x2f6e8b3d, 0x6c8e9cf5 };
+        private static final int MAX_COUNT = 15;
+
+        private final byte[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int length = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 24)) - 1) << 1;
+            this.table = new byte[length * 4];
+            this.mask = table.length - 1;
+            this.sampleSize = 10 * Math.max(16, maximumSize);
+        }
+
+        void increment(int hash) {
+            for (int seed : SEEDS) {
+                int index = indexOf(hash, seed);
+                if (table[index] < MAX_COUNT) {
+                    table[index]++;
+                }
+            }
+            if (++additions >= sampleSize) {
+                age();
+            }
+        }
+
+        int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, table[indexOf(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int seed) {
+            int h = (hash ^ seed) * 0x9e3779b9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private void age() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] >>= 1;
+            }
+            additions = 0;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.metrics.SlowValidation;
+import com.danielmorales.validatorx.metrics.SlowValidationLog;
+import com.danielmorales.validatorx.metrics.ValidationMetrics;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+
+import java.lang.reflect.Array;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * A metrics sink that records the evaluations of one validation, with the path of the field,
+ * the cascade depth and the size of the value.
+ *
+ * <p>Plans report to a trace like to any other {@link ValidationMetrics} sink. Checks that know
+ * the value they tested, and cascades into nested objects, recognize a trace and report more
+ * detail to it. A trace is used by a single thread.
+ *
+ * <p>A trace either keeps every evaluation, for {@link ValidationPlan#analyze}, or is bounded,
+ * for slow validation captures. A bounded trace adds up the evaluations of collection elements
+ * under one path (such as {@code lines[*].sku}) and keeps a bounded number of such timings,
+ * dropping the fastest half when it is full, so its size does not grow with the input.
+ *
+ * @author Daniel Morales
+ */
+final class ValidationTrace implements ValidationMetrics {
+    /** The smallest number of distinct timings a bounded trace holds before dropping the fastest. */
+    private static final int MIN_TIMINGS = 64;
+
+    private final List<SlowValidation.Entry> entries;
+    private final int maxEntries;
+    private final int maxTimings;
+    private final Map<Timing, Timing> timings;
+    private final Map<String, Map<String, String>> prefixes;
+    private final Map<String, String> elementSegments;
+    private final Timing probe;
+    private String prefix = "";
+    private int depth;
+    private int maxDepth;
+    private int evaluations;
+
+    /**
+     * Creates a trace that keeps every evaluation, in order.
+     */
+    ValidationTrace() {
+        this.entries = new ArrayList<>();
+        this.maxEntries = -1;
+        this.maxTimings = 0;
+        this.timings = null;
+        this.prefixes = null;
+        this.elementSegments = null;
+        this.probe = null;
+    }
+
+    /**
+     * Creates a bounded trace that adds up collection elements and keeps the slowest timings.
+     *
+     * @param maxEntries the number of slowest entries reported by {@link #getEntries()}
+     */
+    ValidationTrace(int maxEntries) {
+        this.entries = null;
+        this.maxEntries = maxEntries;
+        this.maxTimings = Math.max(MIN_TIMINGS, 4 * maxEntries);
+        this.timings = new HashMap<>();
+        this.prefixes = new HashMap<>();
+        this.elementSegments = new HashMap<>();
+        this.probe = new Timing(null, null, null, null, 0);
+    }
+
+    /**
+     * Checks a finished validation against the {@link SlowValidationLog} threshold and, if it
+     * is slow and the rate limit allows, replays it under a bounded trace and publishes the
+     * breakdown. The replay runs on the calling thread and evaluates every check again,
+     * including user predicates and registered rules.
+     *
+     * @param plan   the plan the target was validated with
+     * @param target the validated object
+     * @param start  the value returned by {@link SlowValidationLog#start()}
+     */
+    static void checkSlow(ValidationPlan plan, Object target, long start) {
+        checkSlow(plan, target, start, Collections.emptyList(), null);
+    }
+
+    /**
+     * Like {@link #checkSlow(ValidationPlan, Object, long)}, for a validation that also ran
+     * additional checks after the plan.
+     *
+     * @param plan   the plan the target was validated with
+     * @param target the validated object
+     * @param start  the value returned by {@link SlowValidationLog#start()}
+     * @param extra  the checks run after the plan, in order
+     * @param rules  the rule registry snapshot the checks were resolved from
+     */
+    static void checkSlow(ValidationPlan plan, Object target, long start, List<Check> extra,
+                          RuleRegistry.Snapshot rules) {
+        long nanos = System.nanoTime() - start;
+        if (target == null || !SlowValidationLog.shouldCapture(nanos)) {
+            return;
+        }
+        int maxEntries = SlowValidationLog.getMaxEntries();
+        ValidationTrace trace = new ValidationTrace(maxEntries);
+        long replayStart = System.nanoTime();
+        plan.validateInto(target, new ValidationResult(), trace, extra, rules);
+        long replayNanos = System.nanoTime() - replayStart;
+        SlowValidationLog.publish(new SlowValidation(Instant.now(), plan.getType(), nanos, replayNanos,
+                trace.maxDepth, trace.evaluations, trace.getEntries(), maxEntries));
+    }
+
+    /**
+     * Validates a nested object with its plan, reporting to the sink of the enclosing
+     * validation. Under a trace, the nested validation is recorded as one
+     * {@linkplain SlowValidation.Entry#CASCADE cascade} entry, and its own evaluations one
+     * level deeper, under the path of the field.
+     *
+     * @param plan    the plan of the nested object
+     * @param value   the nested object
+     * @param result  the validation result to accumulate errors
+     * @param metrics the sink of the enclosing validation, or {@code null} if it is not measured
+     * @param type    the class declaring the field
+     * @param field   the field holding the nested object
+     */
+    static void validateNested(ValidationPlan plan, Object value, ValidationResult result, ValidationMetrics metrics,
+                               Class<?> type, String field) {
+        validateNested(plan, value, result, metrics, type, field, -1);
+    }
+
+    /**
+     * Like {@link #validateNested(ValidationPlan, Object, ValidationResult, ValidationMetrics, Class, String)},
+     * for an element of a collection or array. The element is recorded under {@code field[index]},
+     * or under {@code field[*]} with the other elements in a bounded trace.
+     *
+     * @param plan    the plan of the nested object
+     * @param value   the nested object
+     * @param result  the validation result to accumulate errors
+     * @param metrics the sink of the enclosing validation, or {@code null} if it is not measured
+     * @param type    the class declaring the field
+     * @param field   the field holding the collection or array
+     * @param index   the index of the element, or {@code -1} if the field holds the object itself
+     */
+    static void validateNested(ValidationPlan plan, Object value, ValidationResult result, ValidationMetrics metrics,
+                               Class<?> type, String field, int index) {
+        if (!(metrics instanceof ValidationTrace)) {
+            plan.validateInto(value, result, metrics);
+            return;
+        }
+        ValidationTrace trace = (ValidationTrace) metrics;
+        String segment = trace.segment(field, index);
+        int mark = trace.size();
+        int before = result.getErrors().size();
+        String outer = trace.prefix;
+        trace.prefix = trace.prefixOf(outer, segment);
+        trace.depth++;
+        trace.maxDepth = Math.max(trace.maxDepth, trace.depth);
+        long start = System.nanoTime();
+        try {
+            plan.validateInto(value, result, trace);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            trace.depth--;
+            trace.prefix = outer;
+            trace.record(mark, type, segment, SlowValidation.Entry.CASCADE, value,
+                    result.getErrors().size() > before, nanos);
+        }
+    }
+
+    /**
+     * Records an evaluation with the value it tested.
+     *
+     * @param type       the class declaring the field
+     * @param field      the field, or {@code null} for an object-level check
+     * @param constraint the constraint type
+     * @param value      the tested value
+     * @param failed     whether the evaluation reported an error
+     * @param nanos      the evaluation time
+     */
+    void recordConstraint(Class<?> type, String field, String constraint, Object value, boolean failed, long nanos) {
+        record(-1, type, field, constraint, value, failed, nanos);
+    }
+
+    /**
+     * Records the span of several entries, such as a cascade over a collection, before them.
+     *
+     * @param mark       the number of entries before the span started, from {@link #size()}
+     * @param type       the class declaring the field
+     * @param field      the field
+     * @param constraint the constraint type
+     * @param value      the value
+     * @param failed     whether the span reported an error
+     * @param nanos      the time of the span
+     */
+    void recordSpan(int mark, Class<?> type, String field, String constraint, Object value, boolean failed,
+                    long nanos) {
+        record(mark, type, field, constraint, value, failed, nanos);
+    }
+
+    /**
+     * @return the number of entries recorded so far, to mark the start of a span
+     */
+    int size() {
+        return entries != null ? entries.size() : evaluations;
+    }
+
+    /**
+     * Returns the recorded entries. A trace that keeps every evaluation returns them in
+     * evaluation order (spans before their content); a bounded trace returns its slowest
+     * timings, slowest first.
+     *
+     * @return the entries
+     */
+    List<SlowValidation.Entry> getEntries() {
+        if (entries != null) {
+            return entries;
+        }
+        PriorityQueue<Timing> slowest = new PriorityQueue<>(maxEntries, Comparator.comparingLong(t -> t.nanos));
+        for (Timing timing : timings.values()) {
+            slowest.add(timing);
+            if (slowest.size() > maxEntries) {
+                slowest.poll();
+            }
+        }
+        List<SlowValidation.Entry> result = new ArrayList<>(slowest.size());
+        while (!slowest.isEmpty()) {
+            result.add(slowest.poll().toEntry());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * @return the number of evaluations recorded, including those added up or dropped
+     */
+    int getEvaluationCount() {
+        return evaluations;
+    }
+
+    /**
+     * @return the deepest level of nested validation reached
+     */
+    int getMaxDepth() {
+        return maxDepth;
+    }
+
+    @Override
+    public void recordConstraint(Class<?> type, String field, String constraint, boolean failed, long nanos) {
+        record(-1, type, field, constraint, null, failed, nanos);
+    }
+
+    @Override
+    public void recordValidation(Class<?> type, int errors, long nanos) {
+        // Nested validations are recorded as cascade entries
+    }
+
+    /**
+     * Records an evaluation under the current prefix.
+     *
+     * @param mark the index to insert the entry at in a trace that keeps every evaluation, or
+     *             {@code -1} to append it
+     */
+    private void record(int mark, Class<?> type, String field, String constraint, Object value, boolean failed,
+                        long nanos) {
+        evaluations++;
+        String name = field == null ? ValidationPlan.OBJECT_SOURCE : field;
+        if (entries != null) {
+            SlowValidation.Entry entry = new SlowValidation.Entry(prefix + name, type, constraint, failed, nanos, depth,
+                    sizeOf(value));
+            entries.add(mark < 0 ? entries.size() : mark, entry);
+            return;
+        }
+        probe.prefix = prefix;
+        probe.field = name;
+        probe.constraint = constraint;
+        Timing timing = timings.get(probe);
+        if (timing == null) {
+            if (timings.size() >= maxTimings) {
+                dropFastest();
+            }
+            timing = new Timing(prefix, name, constraint, type, depth);
+            timings.put(timing, timing);
+        }
+        timing.count++;
+        timing.failed |= failed;
+        timing.nanos += nanos;
+        if (value != null) {
+            timing.inputSize = Math.max(timing.inputSize, sizeOf(value));
+        }
+    }
+
+    /**
+     * Drops the fastest half of the timings of a bounded trace that is full.
+     */
+    private void dropFastest() {
+        List<Timing> all = new ArrayList<>(timings.values());
+        all.sort(Comparator.comparingLong(t -> t.nanos));
+        for (int i = 0; i < all.size() / 2; i++) {
+            timings.remove(all.get(i));
+        }
+    }
+
+    /**
+     * Returns the path segment of a nested object: the field, or the field and index of a
+     * collection element. A bounded trace uses {@code field[*]} for every element.
+     */
+    private String segment(String field, int index) {
+        if (index < 0) {
+            return field;
+        }
+        if (entries != null) {
+            return field + "[" + index + "]";
+        }
+        return elementSegments.computeIfAbsent(field, f -> f + "[*]");
+    }
+
+    /**
+     * Returns the prefix of the evaluations of a nested object. A bounded trace builds each
+     * distinct prefix once.
+     */
+    private String prefixOf(String outer, String segment) {
+        if (entries != null) {
+            return outer + segment + ".";
+        }
+        return prefixes.computeIfAbsent(outer, key -> new HashMap<>()).computeIfAbsent(segment, s -> outer + s + ".");
+    }
+
+    /**
+     * Returns the length of a string or the size of a collection, map or array.
+     *
+     * @param value the value
+     * @return the size, or {@code -1} for any other value
+     */
+    static int sizeOf(Object value) {
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length();
+        } else if (value instanceof Collection<?>) {
+            return ((Collection<?>) value).size();
+        } else if (value instanceof Map<?, ?>) {
+            return ((Map<?, ?>) value).size();
+        } else if (value != null && value.getClass().isArray()) {
+            return Array.getLength(value);
+        }
+        return -1;
+    }
+
+    /**
+     * The evaluations of one constraint at one path, added up. A timing is its own key: the
+     * prefix, field and constraint identify it.
+     */
+    private static final class Timing {
+        private String prefix;
+        private String field;
+        private String constraint;
+        private final Class<?> type;
+        private final int depth;
+        private int count;
+        private boolean failed;
+        private long nanos;
+        private int inputSize = -1;
+
+        Timing(String prefix, String field, String constraint, Class<?> type, int depth) {
+            this.prefix = prefix;
+            this.field = field;
+            this.constraint = constraint;
+            this.type = type;
+            this.depth = depth;
+        }
+
+        SlowValidation.Entry toEntry() {
+            return new SlowValidation.Entry(prefix + field, type, constraint, failed, nanos, depth, inputSize, count);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Timing)) {
+                return false;
+            }
+            Timing other = (Timing) o;
+            return prefix.equals(other.prefix) && field.equals(other.field)
+                    && Objects.equals(constraint, other.constraint);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * prefix.hashCode() + field.hashCode()) + Objects.hashCode(constraint);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.danielmorales.validatorx.core;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
-import com.danielmorales.validatorx.jsr380.Jsr380Validator;
+import com.danielmorales.validatorx.jfr.ValidationEvent;
+import com.danielmorales.validatorx.metrics.SlowValidation;
+import com.danielmorales.validatorx.metrics.ValidationMetrics;
 import com.danielmorales.validatorx.rules.RuleRegistry;
 
 /**
@@ -45,7 +50,8 @@ public class Validator {
     }
 
     /**
-     * Performs both the default ValidatorX validations and the JSR 380 validations.
+     * Performs both the default ValidatorX validations and the JSR 380 validations, in a
+     * single pass over the target's fields.
      *
      * @param target the object to validate
      * @return a merged ValidationResult containing errors from both validation mechanisms
@@ -54,13 +60,97 @@ public class Validator {
         return ValidationBuilder.checkWithJsr380(target);
     }
 
+    /**
+     * Performs both the ValidatorX validations and the JSR 380 validations of the given groups.
+     *
+     * @param target the object to validate
+     * @param groups the validation groups; none means {@code Default}
+     * @return a merged ValidationResult containing errors from both validation mechanisms
+     */
+    public static ValidationResult checkWithJsr380(Object target, Class<?>... groups) {
+        return ValidationBuilder.checkWithJsr380(target, groups);
+    }
+
+    /**
+     * Tells whether an object passes its annotation constraints, including cascaded objects.
+     * This is the cheap form of {@code !check(target).validate().hasErrors()}: the same plan
+     * runs, but no error or message is built and the first failing check ends the validation.
+     *
+     * <p>Usage Example:
+     * <pre>
+     * {@code
+     * List<User> valid = users.stream().filter(Validator::isValid).collect(Collectors.toList());
+     * }
+     * </pre>
+     *
+     * @param target the object to validate
+     * @param groups the validation groups; none means the groups of the bound
+     *               {@link ValidationContext}, or {@code Default}
+     * @return {@code true} if the object has no validation errors; {@code false} if it is {@code null}
+     */
+    public static boolean isValid(Object target, Class<?>... groups) {
+        return target != null && annotationPlan(target, groups).isValid(target);
+    }
+
+    /**
+     * Counts the annotation constraint violations of an object, including cascaded objects,
+     * without building any error or message.
+     *
+     * @param target the object to validate
+     * @param groups the validation groups; none means the groups of the bound
+     *               {@link ValidationContext}, or {@code Default}
+     * @return the number of errors {@code check(target).validate()} would report
+     */
+    public static int countViolations(Object target, Class<?>... groups) {
+        return target == null ? 1 : annotationPlan(target, groups).countViolations(target);
+    }
+
+    private static ValidationPlan annotationPlan(Object target, Class<?>... groups) {
+        Set<Class<?>> active = groups.length > 0 ? Groups.of(groups) : ValidationContext.current().getGroups();
+        return PlanCache.forGroups(target.getClass(), active != null ? active : Groups.DEFAULT);
+    }
+
+    /**
+     * Describes the compiled annotation plan of a class: the fields it reads, the checks on
+     * each field in evaluation order, the cascades into nested classes, and how and at what
+     * estimated cost each check is evaluated. For the plan of a rule set, use
+     * {@code PlanCache.getPlan(type, ruleSet).explain()}.
+     *
+     * @param type   the class to explain
+     * @param groups the validation groups; none means {@code Default}
+     * @return the explanation
+     * @see PlanExplanation
+     */
+    public static PlanExplanation explain(Class<?> type, Class<?>... groups) {
+        return PlanCache.getPlan(type, groups).explain();
+    }
+
+    /**
+     * Validates an object with its annotation plan, timing every check, and describes the plan
+     * with the measured time of each step.
+     *
+     * @param target the object to validate
+     * @param groups the validation groups; none means {@code Default}
+     * @return the explanation, with the validation result and timings
+     * @see PlanExplanation
+     */
+    public static PlanExplanation analyze(Object target, Class<?>... groups) {
+        Objects.requireNonNull(target, "target");
+        return PlanCache.getPlan(target.getClass(), groups).analyze(target);
+    }
+
     /**
      * A fluent builder class for defining validation rules.
      */
     public static class ValidationBuilder {
         private final Object target;
-        private final List<ValidationError> errors = new ArrayList<>();
+        private final List<Check> checks = new ArrayList<>();
         private boolean includeAnnotations = true;
+        private boolean includeJsr380;
+        private Set<Class<?>> groups;
+        private ValidationPlan combined;
+        private ValidationPlan combinedBase;
+        private int combinedChecks;
 
         /**
          * Constructs a {@code ValidationBuilder}.
@@ -79,12 +169,47 @@ public class Validator {
          * @return a merged ValidationResult containing errors from both validation mechanisms
          */
         public static ValidationResult checkWithJsr380(Object target) {
-            // First, perform the existing validations (both fluent and custom annotations)
-            ValidationResult result = check(target).validate();
-            // Then, perform the JSR 380 validations and merge the errors
-            ValidationResult jsrResult = Jsr380Validator.validate(target);
-            result.getErrors().addAll(jsrResult.getErrors());
-            return result;
+            return check(target).withJsr380().validate();
+        }
+
+        /**
+         * Performs both the ValidatorX validations and the JSR 380 validations
+         * of the given groups.
+         *
+         * @param target the object to validate
+         * @param groups the validation groups; none means {@code Default}
+         * @return a merged ValidationResult containing errors from both validation mechanisms
+         */
+        public static ValidationResult checkWithJsr380(Object target, Class<?>... groups) {
+            return check(target).groups(groups).withJsr380().validate();
+        }
+
+        /**
+         * Selects the validation groups whose annotation constraints are enforced.
+         * Fluent rules always apply. Without this call, the groups of the bound
+         * {@link ValidationContext} are used, or {@code Default}.
+         *
+         * @param groups the validation groups; none means {@code Default}
+         * @return the current {@code ValidationBuilder} instance
+         * @see Groups
+         */
+        public ValidationBuilder groups(Class<?>... groups) {
+            this.groups = Groups.of(groups);
+            return this;
+        }
+
+        /**
+         * Also enforces the JSR 380 ({@code javax.validation.constraints}) constraints of the
+         * target. They are compiled into the same plan as the ValidatorX constraints, so each
+         * field is read once and all of its constraints are checked together; a JSR 380
+         * constraint that repeats a ValidatorX one on the same field is reported once.
+         *
+         * @return the current {@code ValidationBuilder} instance
+         * @see PlanCache#getUnifiedPlan(Class, Class[])
+         */
+        public ValidationBuilder withJsr380() {
+            this.includeJsr380 = true;
+            return this;
         }
 
         /**
@@ -105,14 +230,8 @@ public class Validator {
          * @return the current {@code ValidationBuilder} instance
          */
         public ValidationBuilder isNotNull(String fieldName, String customMsg) {
-            try {
-                Object value = getFieldValue(fieldName);
-                if (value == null) {
-                    errors.add(new ValidationError(fieldName, customMsg, null));
-                }
-            } catch (Exception e) {
-                // handle reflection or no-such-field
-            }
+            checks.add(new FluentCheck("isNotNull", fieldName, customMsg, value -> value != null,
+                    null, PlanExplanation.COST_CHECK));
             return this;
         }
 
@@ -124,40 +243,26 @@ public class Validator {
          * @return the current {@code ValidationBuilder} instance
          */
         public ValidationBuilder isEmail(String fieldName, String customMsg) {
-            try {
-                Object value = getFieldValue(fieldName);
+            checks.add(new FluentCheck("isEmail", fieldName, customMsg, value -> {
                 if (value instanceof String) {
                     String str = (String) value;
-                    if (!str.contains("@") || !str.contains(".")) {
-                        errors.add(new ValidationError(fieldName, customMsg, str));
-                    }
+                    return str.contains("@") && str.contains(".");
                 }
-            } catch (Exception e) {
-                // handle reflection
-            }
+                return true;
+            }, "contains '@' and '.'", PlanExplanation.COST_LENGTH));
             return this;
         }
 
         /**
-         * Validates the object and returns a {@code ValidationResult}.
+         * Adds a rule that applies a named rule from the {@link RuleRegistry} to a field.
          *
-         * @return a {@code ValidationResult} containing validation errors, if any
+         * @param ruleName  the name of the registered rule
+         * @param fieldName the name of the field
+         * @param customMsg the error message if validation fails
+         * @return the current {@code ValidationBuilder} instance
          */
         public ValidationBuilder applyRule(String ruleName, String fieldName, String customMsg) {
-            try {
-                Object value = getFieldValue(fieldName);
-                Predicate<Object> rule = RuleRegistry.getRule(ruleName);
-                if (rule != null) {
-                    if (!rule.test(value)) {
-                        errors.add(new ValidationError(fieldName, customMsg, value));
-                    }
-                } else {
-                    // Can possibly log or handle the case where the rule doesn't exist
-                    errors.add(new ValidationError(fieldName, "No rule found for: " + ruleName, value));
-                }
-            } catch (Exception e) {
-                // reflection error or field not found
-            }
+            checks.add(new RuleCheck(ruleName, fieldName, customMsg));
             return this;
         }
 
@@ -171,19 +276,14 @@ public class Validator {
          * @return the current {@code ValidationBuilder} instance
          */
         public ValidationBuilder hasLengthBetween(String fieldName, int min, int max, String customMsg) {
-            try {
-                Object value = getFieldValue(fieldName);
+            String message = customMsg.isEmpty() ? String.format("Length must be between %d and %d", min, max) : customMsg;
+            checks.add(new FluentCheck("hasLengthBetween", fieldName, message, value -> {
                 if (value instanceof String) {
                     int length = ((String) value).length();
-                    if (length < min || length > max) {
-                        errors.add(new ValidationError(fieldName,
-                            customMsg.isEmpty() ? String.format("Length must be between %d and %d", min, max) : customMsg,
-                            value));
-                    }
+                    return length >= min && length <= max;
                 }
-            } catch (Exception e) {
-                // Handle reflection exceptions
-            }
+                return true;
+            }, String.format("string length in [%d, %d]", min, max), PlanExplanation.COST_LENGTH));
             return this;
         }
 
@@ -196,19 +296,17 @@ public class Validator {
          * @return the current {@code ValidationBuilder} instance
          */
         public ValidationBuilder matchesRegex(String fieldName, String regex, String customMsg) {
+            Pattern pattern;
             try {
-                Object value = getFieldValue(fieldName);
-                if (value instanceof String) {
-                    String str = (String) value;
-                    if (!str.matches(regex)) {
-                        errors.add(new ValidationError(fieldName,
-                            customMsg.isEmpty() ? String.format("Field '%s' must match regex '%s'", fieldName, regex) : customMsg,
-                            value));
-                    }
-                }
-            } catch (Exception e) {
-                // Handle reflection exceptions
+                pattern = Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                // An invalid regex never reports an error, as before
+                return this;
             }
+            String message = customMsg.isEmpty() ? String.format("Field '%s' must match regex '%s'", fieldName, regex) : customMsg;
+            checks.add(new FluentCheck("matchesRegex", fieldName, message,
+                    value -> !(value instanceof String) || pattern.matcher((String) value).matches(),
+                    "regex '" + regex + "' (java.util.regex)", PlanExplanation.COST_REGEX));
             return this;
         }
 
@@ -216,36 +314,168 @@ public class Validator {
          * Cascades validation into a nested object or collection.
          * If the field is an array, Iterable, or a single object,
          * its own validations will be executed and any errors merged.
+         * Nested objects are validated with the groups and annotation families of this builder
+         * (see {@link #groups} and {@link #withJsr380()}).
          *
          * @param fieldName the name of the field to cascade into
          * @return the current ValidationBuilder instance
          */
         public ValidationBuilder cascade(String fieldName) {
-            try {
-                Object value = getFieldValue(fieldName);
-                if (value == null) {
-                    errors.add(new ValidationError(fieldName, "Nested object is null", null));
-                } else if (value.getClass().isArray()) {
-                    int length = java.lang.reflect.Array.getLength(value);
-                    for (int i = 0; i < length; i++) {
-                        Object item = java.lang.reflect.Array.get(value, i);
-                        ValidationResult childResult = Validator.check(item).validate();
-                        errors.addAll(childResult.getErrors());
+            checks.add(new CompositeCheck(fieldName) {
+                @Override
+                void applyTo(Object target, Object value, ValidationResult result) {
+                    cascadeInto(value, result, null, null);
+                }
+
+                @Override
+                int countViolations(Object target, Object value, int limit) {
+                    try {
+                        if (value == null) {
+                            return 1;
+                        }
+                        if (value.getClass().isArray()) {
+                            int count = 0;
+                            int length = java.lang.reflect.Array.getLength(value);
+                            for (int i = 0; i < length && count < limit; i++) {
+                                count += countNested(java.lang.reflect.Array.get(value, i), limit - count);
+                            }
+                            return count;
+                        }
+                        if (value instanceof Iterable<?>) {
+                            int count = 0;
+                            for (Object item : (Iterable<?>) value) {
+                                count += countNested(item, limit - count);
+                                if (count >= limit) {
+                                    break;
+                                }
+                            }
+                            return count;
+                        }
+                        return countNested(value, limit);
+                    } catch (Exception e) {
+                        return 1;
+                    }
+                }
+
+                @Override
+                void applyMeasured(Object target, Object value, ValidationResult result, ValidationMetrics metrics,
+                                   Class<?> type) {
+                    if (metrics instanceof ValidationTrace && value != null
+                            && (value.getClass().isArray() || value instanceof Iterable<?>)) {
+                        // Record the whole collection as one span, so its size shows in the trace
+                        ValidationTrace trace = (ValidationTrace) metrics;
+                        int mark = trace.size();
+                        int before = result.getErrors().size();
+                        long start = System.nanoTime();
+                        cascadeInto(value, result, metrics, type);
+                        trace.recordSpan(mark, type, fieldName, SlowValidation.Entry.CASCADE, value,
+                                result.getErrors().size() > before, System.nanoTime() - start);
+                    } else {
+                        cascadeInto(value, result, metrics, type);
+                    }
+                }
+
+                @Override
+                boolean isCascade() {
+                    return true;
+                }
+
+                @Override
+                int estimateCost() {
+                    return PlanExplanation.COST_CASCADE;
+                }
+
+                @Override
+                ValidationPlan getCascadePlan(Class<?> declaredType) {
+                    // Elements and subclasses are only known from the runtime value
+                    if (declaredType.isArray() || Iterable.class.isAssignableFrom(declaredType)
+                            || declaredType.isInterface()
+                            || java.lang.reflect.Modifier.isAbstract(declaredType.getModifiers())) {
+                        return null;
                     }
-                } else if (value instanceof Iterable<?>) {
-                    for (Object item : (Iterable<?>) value) {
-                        ValidationResult childResult = Validator.check(item).validate();
-                        errors.addAll(childResult.getErrors());
+                    return planFor(declaredType);
+                }
+
+                private void cascadeInto(Object value, ValidationResult result, ValidationMetrics metrics, Class<?> type) {
+                    try {
+                        if (value == null) {
+                            result.addError(new ValidationError(fieldName, "Nested object is null", null));
+                        } else if (value.getClass().isArray()) {
+                            int length = java.lang.reflect.Array.getLength(value);
+                            for (int i = 0; i < length; i++) {
+                                validateNested(java.lang.reflect.Array.get(value, i), result, metrics, type,
+                                        fieldName, i);
+                            }
+                        } else if (value instanceof Iterable<?>) {
+                            int i = 0;
+                            for (Object item : (Iterable<?>) value) {
+                                validateNested(item, result, metrics, type, fieldName, i++);
+                            }
+                        } else {
+                            // Validate a single nested object
+                            validateNested(value, result, metrics, type, fieldName, -1);
+                        }
+                    } catch (Exception e) {
+                        // Optionally log the exception or add an error.
+                        result.addError(new ValidationError(fieldName, "Error cascading validation: " + e.getMessage(), null));
                     }
-                } else {
-                    // Validate a single nested object
-                    ValidationResult childResult = Validator.check(value).validate();
-                    errors.addAll(childResult.getErrors());
                 }
-            } catch (Exception e) {
-                // Optionally log the exception or add an error.
-                errors.add(new ValidationError(fieldName, "Error cascading validation: " + e.getMessage(), null));
+            });
+            return this;
+        }
+
+        /**
+         * Validates that two fields hold equal values, such as a password and its confirmation.
+         * Two {@code null} values match. The error is reported on {@code otherField}.
+         *
+         * @param fieldName  the name of the field holding the reference value
+         * @param otherField the name of the field that must match it
+         * @param customMsg  the error message if validation fails
+         * @return the current {@code ValidationBuilder} instance
+         */
+        public ValidationBuilder fieldsMatch(String fieldName, String otherField, String customMsg) {
+            String message = customMsg.isEmpty()
+                    ? String.format("Field '%s' must match field '%s'", otherField, fieldName) : customMsg;
+            checks.add(new CrossFieldCheck("fieldsMatch", otherField, new String[] { fieldName, otherField },
+                    values -> Objects.equals(values[0], values[1]), () -> message));
+            return this;
+        }
+
+        /**
+         * Validates that a {@code Comparable} field (such as a date) is strictly before another.
+         * The check passes if either value is {@code null}. The error is reported on {@code endField}.
+         *
+         * @param startField the name of the field that must come first
+         * @param endField   the name of the field that must come after it
+         * @param customMsg  the error message if validation fails
+         * @return the current {@code ValidationBuilder} instance
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public ValidationBuilder isBefore(String startField, String endField, String customMsg) {
+            String message = customMsg.isEmpty()
+                    ? String.format("Field '%s' must be after field '%s'", endField, startField) : customMsg;
+            checks.add(new CrossFieldCheck("isBefore", endField, new String[] { startField, endField }, values ->
+                    values[0] == null || values[1] == null || ((Comparable) values[0]).compareTo(values[1]) < 0,
+                    () -> message));
+            return this;
+        }
+
+        /**
+         * Validates several fields together. The rule receives the values of {@code fieldNames},
+         * in order, and only those fields are read. Errors are reported on {@code reportOn}.
+         *
+         * @param reportOn   the name of the field errors are reported on
+         * @param rule       the predicate over the field values
+         * @param customMsg  the error message if validation fails
+         * @param fieldNames the names of the fields the rule reads
+         * @return the current {@code ValidationBuilder} instance
+         */
+        public ValidationBuilder crossFieldRule(String reportOn, Predicate<Object[]> rule, String customMsg,
+                                                String... fieldNames) {
+            if (fieldNames.length == 0) {
+                throw new IllegalArgumentException("A cross-field rule must declare the fields it reads");
             }
+            checks.add(new CrossFieldCheck("crossFieldRule", reportOn, fieldNames, rule, () -> customMsg));
             return this;
         }
 
@@ -257,34 +487,147 @@ public class Validator {
          * @return the current {@code ValidationBuilder} instance
          */
         public ValidationBuilder customRule(Predicate<Object> rule, String customMsg) {
-            if (!rule.test(target)) {
-                errors.add(new ValidationError("object", customMsg, target));
-            }
+            checks.add(new ValueCheck(null) {
+                @Override
+                boolean test(Object value) {
+                    return rule.test(value);
+                }
+
+                @Override
+                String violationMessage() {
+                    return customMsg;
+                }
+
+                @Override
+                String violationField() {
+                    return "object";
+                }
+
+                @Override
+                String getConstraintType() {
+                    return "customRule";
+                }
+            });
             return this;
         }
 
         /**
-         * Executes validation and accumulates errors.
+         * Executes validation and accumulates errors. Errors of the annotation constraints come
+         * first, in field declaration order, followed by the errors of the fluent checks in the
+         * order they were added.
          *
          * @return a {@code ValidationResult} containing validation errors, if any
          */
         public ValidationResult validate() {
-            ValidationResult result = new ValidationResult();
-
-            // If annotation scanning is enabled, run the ValidatorEngine validations
-            if (includeAnnotations) {
-                ValidatorEngine engine = new ValidatorEngine();
-                // Use accumulateValidate instead of validate to avoid throwing exceptions immediately
-                ValidationResult annotationResult = engine.accumulateValidate(target);
-                result.getErrors().addAll(annotationResult.getErrors());
+            ValidationEvent event = ValidationEvent.start();
+            ValidationResult result = validateTarget();
+            event.finish(target, ValidationEvent.FLUENT, result);
+            return result;
+        }
+
+        /**
+         * Tells whether the target passes every check, without building errors or messages.
+         * The first failing check ends the validation.
+         *
+         * @return {@code true} if {@link #validate()} would report no error
+         */
+        public boolean isValid() {
+            return countViolations(1) == 0;
+        }
+
+        /**
+         * Counts the errors {@link #validate()} would report, without building them.
+         *
+         * @return the number of errors
+         */
+        public int countViolations() {
+            return countViolations(Integer.MAX_VALUE);
+        }
+
+        private int countViolations(int limit) {
+            if (target != null) {
+                return plan().countViolations(target, checks, RuleRegistry.snapshot(), limit);
+            }
+            int count = includeAnnotations ? 1 : 0;
+            for (Check check : checks) {
+                if (count < limit && check.getFieldName() == null) {
+                    count += check.countViolations(null, null, limit - count);
+                }
+            }
+            return Math.min(count, limit);
+        }
+
+        /**
+         * Runs the plan for the target, or only the object-level rules if there is no target.
+         */
+        private ValidationResult validateTarget() {
+            if (target == null) {
+                ValidationResult result = new ValidationResult();
+                if (includeAnnotations) {
+                    result.addError(new ValidationError("object", "Target object is null", null));
+                }
+                // Only object-level rules can run without a target
+                for (Check check : checks) {
+                    if (check.getFieldName() == null) {
+                        check.applyTo(null, null, result);
+                    }
+                }
+                return result;
             }
 
-            // Add fluent builder errors
-            result.getErrors().addAll(errors);
+            return plan().validate(target, checks, RuleRegistry.snapshot());
+        }
 
+        /**
+         * Revalidates the target after some of its fields changed. Only the annotation and
+         * fluent checks that depend on those fields are evaluated; the other errors of the
+         * previous result are kept.
+         *
+         * @param changedFields the names of the fields that changed since {@code previous}
+         * @param previous      the result of validating the target before the change
+         * @return a {@code ValidationResult} containing validation errors, if any
+         * @see ValidationPlan#validateFields(Object, Set, ValidationResult)
+         */
+        public ValidationResult validateFields(Set<String> changedFields, ValidationResult previous) {
+            if (target == null) {
+                return validate();
+            }
+            ValidationEvent event = ValidationEvent.start();
+            ValidationResult result = combinedPlan().validateFields(target, changedFields, previous);
+            event.finish(target, ValidationEvent.INCREMENTAL, result);
             return result;
         }
 
+        /**
+         * Returns the cached plan of the target's annotation checks (when enabled). The fluent
+         * checks run after it in the same pass, in the order they were added, so no plan is
+         * compiled per validation.
+         */
+        private ValidationPlan plan() {
+            if (!includeAnnotations) {
+                return PlanCache.getEmptyPlan(target.getClass());
+            }
+            return planFor(target.getClass());
+        }
+
+        /**
+         * Returns the plan combining the annotation checks with the fluent checks, which
+         * incremental revalidation needs to know which checks depend on a field. It is compiled
+         * once per builder and recompiled only if checks were added, the groups changed or a
+         * named rule it uses was replaced.
+         */
+        private ValidationPlan combinedPlan() {
+            ValidationPlan base = plan();
+            RuleRegistry.Snapshot rules = RuleRegistry.snapshot();
+            if (combined == null || combinedBase != base || combinedChecks != checks.size()
+                    || !combined.isCurrent(rules)) {
+                combined = base.extend(checks, rules);
+                combinedBase = base;
+                combinedChecks = checks.size();
+            }
+            return combined;
+        }
+
         /**
          * Performs validation and immediately throws a ValidationException if any errors are found.
          *
@@ -300,18 +643,116 @@ public class Validator {
         }
 
         /**
-         * Retrieves the value of a field using reflection.
+         * Returns the checks recorded by this builder, in the order they were added.
+         * Used to compile registered profiles into plans.
          *
-         * @param fieldName the name of the field
-         * @return the field's value
-         * @throws IllegalAccessException if the field is inaccessible
-         * @throws NoSuchFieldException if the field does not exist
+         * @return the recorded checks
          */
-        private Object getFieldValue(String fieldName) throws IllegalAccessException, NoSuchFieldException {
-            Class<?> clazz = target.getClass();
-            Field field = clazz.getDeclaredField(fieldName);
-            field.setAccessible(true);
-            return field.get(target);
+        List<Check> getChecks() {
+            return checks;
+        }
+
+        /**
+         * Validates a nested object with its own annotation plan.
+         *
+         * @param item    the nested object (may be {@code null})
+         * @param result  the validation result to accumulate errors
+         * @param metrics the sink of the enclosing validation, or {@code null} if it is not measured
+         * @param type    the class declaring the cascaded field
+         * @param field   the cascaded field
+         * @param index   the index of the element in the field's collection or array, or {@code -1}
+         */
+        private void validateNested(Object item, ValidationResult result, ValidationMetrics metrics,
+                                    Class<?> type, String field, int index) {
+            if (item == null) {
+                result.addError(new ValidationError("object", "Target object is null", null));
+            } else if (metrics == null) {
+                planFor(item.getClass()).validateInto(item, result);
+            } else {
+                ValidationTrace.validateNested(planFor(item.getClass()), item, result, metrics, type, field, index);
+            }
+        }
+
+        /**
+         * Counts the errors of a nested object like {@link #validateNested}, without building them.
+         *
+         * @param item  the nested object (may be {@code null})
+         * @param limit the number of errors after which counting may stop
+         * @return the number of errors
+         */
+        private int countNested(Object item, int limit) {
+            return item == null ? 1 : planFor(item.getClass()).countViolations(item, limit);
+        }
+
+        /**
+         * Returns the annotation plan of a class for the groups and annotation families this
+         * builder enforces, resolved when the validation runs. The target and the objects it
+         * cascades into are validated with the same kind of plan, as with annotation cascades.
+         *
+         * @param type the class of the target or of a nested object
+         * @return the plan of the class
+         */
+        private ValidationPlan planFor(Class<?> type) {
+            Set<Class<?>> active = activeGroups();
+            return includeJsr380 ? PlanCache.forUnified(type, active) : PlanCache.forGroups(type, active);
+        }
+
+        /**
+         * @return the groups selected with {@link #groups}, else those of the bound
+         *         {@link ValidationContext}, else {@code Default}
+         */
+        private Set<Class<?>> activeGroups() {
+            Set<Class<?>> active = groups;
+            if (active == null) {
+                active = ValidationContext.current().getGroups();
+            }
+            return active != null ? active : Groups.DEFAULT;
+        }
+    }
+
+    /**
+     * A check recorded by the fluent API, reporting a fixed message.
+     */
+    private static final class FluentCheck extends ValueCheck {
+        private final String constraintType;
+        private final String message;
+        private final Predicate<Object> predicate;
+        private final String detail;
+        private final int cost;
+
+        FluentCheck(String constraintType, String fieldName, String message, Predicate<Object> predicate,
+                    String detail, int cost) {
+            super(fieldName);
+            this.constraintType = constraintType;
+            this.message = message;
+            this.predicate = predicate;
+            this.detail = detail;
+            this.cost = cost;
+        }
+
+        @Override
+        String describe() {
+            return detail;
+        }
+
+        @Override
+        int estimateCost() {
+            return cost;
+        }
+
+        @Override
+        boolean test(Object value) {
+            return predicate.test(value);
+        }
+
+        @Override
+        String violationMessage() {
+            return message;
+        }
+
+        @Override
+        String getConstraintType() {
+            return constraintType;
         }
     }
-}
\ No newline at end of file
+}
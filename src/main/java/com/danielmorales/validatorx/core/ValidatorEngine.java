@@ -1,16 +1,29 @@
 package com.danielmorales.validatorx.core;
 
+import com.danielmorales.validatorx.annotations.CrossField;
 import com.danielmorales.validatorx.annotations.Email;
+import com.danielmorales.validatorx.annotations.FieldsMatch;
 import com.danielmorales.validatorx.annotations.Max;
 import com.danielmorales.validatorx.annotations.Min;
 import com.danielmorales.validatorx.annotations.NotNull;
 import com.danielmorales.validatorx.annotations.Pattern;
 import com.danielmorales.validatorx.annotations.Size;
+import com.danielmorales.validatorx.annotations.ValidateIf;
 import com.danielmorales.validatorx.i18n.MessageResolver;
+import com.danielmorales.validatorx.jfr.ValidationEvent;
+import com.danielmorales.validatorx.metrics.ValidationMetrics;
+import com.danielmorales.validatorx.rules.MemoizedRule;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
 
 /**
  * The {@code ValidatorEngine} class is responsible for performing annotation-based validation on objects.
@@ -26,7 +39,20 @@ import java.util.List;
  *     <li>{@link Pattern} - Ensures a string field matches a given regex pattern</li>
  * </ul>
  *
+ * <p>Class-level constraints validate several fields together:
+ * <ul>
+ *     <li>{@link FieldsMatch} - Ensures two fields hold equal values</li>
+ *     <li>{@link CrossField} - Applies a registered rule to the values of several fields</li>
+ * </ul>
+ *
  * <p>Nested objects with {@code NotNull} annotation will be validated recursively.
+ *
+ * <p>Constraints can be restricted to validation groups with their {@code groups} attribute
+ * (see {@link Groups}), and made conditional with {@link ValidateIf}.
+ *
+ * <p>Annotations are compiled once per class into a {@link ValidationPlan}; see {@link PlanCache}.
+ * Plans can also enforce the {@code javax.validation.constraints} annotations, see {@link PlanCache#getUnifiedPlan}.
+ * Results for immutable classes can be cached; see {@link ValidationResultCache}.
  */
 public class ValidatorEngine {
 
@@ -38,48 +64,243 @@ public class ValidatorEngine {
      * @return a {@code ValidationResult} containing any validation errors found
      */
     public ValidationResult accumulateValidate(Object target) {
-        ValidationResult result = new ValidationResult();
-
+        ValidationContext context = ValidationContext.bound();
+        if (context != null && context.getGroups() != null && target != null) {
+            return accumulateValidate(target, context.getGroups().toArray(new Class<?>[0]));
+        }
+        ValidationEvent event = ValidationEvent.start();
+        ValidationResult result;
         if (target == null) {
+            result = new ValidationResult();
             result.addError(new ValidationError("object", "Target object is null", null));
-            return result;
+        } else {
+            result = ValidationResultCache.validate(PlanCache.getPlan(target.getClass()), target);
         }
+        event.finish(target, ValidationEvent.ANNOTATIONS, result);
+        return result;
+    }
 
-        Class<?> clazz = target.getClass();
-        List<ReflectionCache.FieldAnnotations> fieldAnnotationsList = ReflectionCache.getFieldAnnotations(clazz);
+    /**
+     * Accumulates the annotation-based validations in a given context: messages are rendered
+     * in the context's locale, and its mode, groups and metrics sink apply, without changing
+     * any global setting. The context is bound to the current thread for the duration of the
+     * call.
+     *
+     * @param target  the object to validate
+     * @param context the context of the validation
+     * @return a {@code ValidationResult} containing any validation errors found
+     */
+    public ValidationResult accumulateValidate(Object target, ValidationContext context) {
+        ValidationContext.Scope scope = context.bind();
+        try {
+            return accumulateValidate(target);
+        } finally {
+            scope.close();
+        }
+    }
 
-        for (ReflectionCache.FieldAnnotations fa : fieldAnnotationsList) {
-            Field field = fa.getField();
+    /**
+     * Accumulates the annotation-based validations of the given groups and returns a
+     * {@code ValidationResult}. Constraints outside the groups are not evaluated.
+     *
+     * @param target the object to validate
+     * @param groups the validation groups; none means {@code Default}
+     * @return a {@code ValidationResult} containing any validation errors found
+     * @see Groups
+     */
+    public ValidationResult accumulateValidate(Object target, Class<?>... groups) {
+        if (target == null) {
+            return accumulateValidate(null);
+        }
+        ValidationEvent event = ValidationEvent.start();
+        ValidationResult result = ValidationResultCache.validate(PlanCache.getPlan(target.getClass(), groups), target);
+        event.finish(target, ValidationEvent.ANNOTATIONS, result);
+        return result;
+    }
+
+    /**
+     * Revalidates an object after some of its fields changed, evaluating only the annotation
+     * checks that depend on those fields and keeping the other errors of the previous result.
+     * Use this for partial (PATCH-style) updates instead of validating the whole object again.
+     *
+     * <p>Usage Example:
+     * <pre>
+     * {@code
+     * ValidationResult before = engine.accumulateValidate(user);
+     * user.setEmail(newEmail);
+     * ValidationResult after = engine.validateFields(user, Collections.singleton("email"), before);
+     * }
+     * </pre>
+     *
+     * @param target        the object to validate
+     * @param changedFields the names of the fields that changed since {@code previous}
+     * @param previous      the result of validating the object before the change
+     * @return a {@code ValidationResult} containing any validation errors found
+     * @see ValidationPlan#validateFields(Object, Set, ValidationResult)
+     */
+    public ValidationResult validateFields(Object target, Set<String> changedFields, ValidationResult previous) {
+        if (target == null) {
+            return accumulateValidate(null);
+        }
+        ValidationEvent event = ValidationEvent.start();
+        ValidationResult result = PlanCache.getPlan(target.getClass()).validateFields(target, changedFields, previous);
+        event.finish(target, ValidationEvent.INCREMENTAL, result);
+        return result;
+    }
+
+    /**
+     * Compiles the annotation-based checks of the {@code Default} group declared on a class,
+     * in field declaration order.
+     *
+     * @param clazz the class to compile
+     * @return the checks for every annotated field
+     */
+    static List<Check> compile(Class<?> clazz) {
+        return compile(clazz, Groups.DEFAULT);
+    }
+
+    /**
+     * Compiles the annotation-based checks declared on a class for a set of groups, in field
+     * declaration order. Constraints outside the groups are left out of the plan entirely.
+     *
+     * @param clazz  the class to compile
+     * @param groups the active groups, as returned by {@link Groups#of(Class[])}
+     * @return the checks for every annotated field
+     */
+    static List<Check> compile(Class<?> clazz, Set<Class<?>> groups) {
+        return compile(clazz, groups, true, false);
+    }
+
+    /**
+     * Compiles the ValidatorX constraints, the JSR 380 constraints, or both, declared on a
+     * class for a set of groups. When both are compiled, the constraints of a field are
+     * evaluated together in declaration order, and a constraint that repeats an earlier one
+     * on the same field (such as {@code javax.validation.constraints.NotNull} next to
+     * {@link NotNull}) is left out, so that it is evaluated and reported once.
+     *
+     * @param clazz      the class to compile
+     * @param groups     the active groups, as returned by {@link Groups#of(Class[])}
+     * @param validatorX whether to compile ValidatorX constraints, conditions and cascades
+     * @param jsr380     whether to compile JSR 380 constraints
+     * @return the checks for every annotated field
+     */
+    static List<Check> compile(Class<?> clazz, Set<Class<?>> groups, boolean validatorX, boolean jsr380) {
+        List<Check> checks = new ArrayList<>();
+        Set<String> compiled = new HashSet<>();
+        for (ReflectionCache.FieldAnnotations fa : ReflectionCache.getFieldAnnotations(clazz)) {
+            String fieldName = fa.getField().getName();
+            List<Check> fieldChecks = new ArrayList<>();
+            ValidateIf condition = null;
+            compiled.clear();
             for (Annotation annotation : fa.getAnnotations()) {
+                if (isJsr380(annotation) ? !jsr380 : !validatorX) {
+                    continue;
+                }
+                if (annotation instanceof ValidateIf) {
+                    condition = (ValidateIf) annotation;
+                    continue;
+                }
                 if (annotation instanceof NotNull) {
-                    validateNotNull(target, field, (NotNull) annotation, result);
-
-                    // Automatic cascading into nested objects
-                    try {
-                        Object nestedObject = field.get(target);
-                        if (nestedObject != null && shouldCascade(nestedObject)) {
-                            ValidationResult nestedResult = accumulateValidate(nestedObject);
-                            result.getErrors().addAll(nestedResult.getErrors());
-                        }
-                    } catch (IllegalAccessException e) {
-                        result.addError(new ValidationError(field.getName(), "Unable to access nested object", null));
-                    }
+                    // Cascading is not a constraint: nested objects are validated with the same groups
+                    fieldChecks.add(new CascadeCheck(fieldName, groups, jsr380));
+                }
+                if (!Groups.isActive(Groups.groupsOf(annotation), groups)) {
+                    continue;
+                }
+                String key = duplicateKey(fa.getField().getType(), annotation);
+                if (key != null && !compiled.add(key)) {
+                    continue;
+                }
+                if (annotation instanceof NotNull) {
+                    // Report the null check before any nested errors
+                    fieldChecks.add(fieldChecks.size() - 1, notNullCheck(fieldName, (NotNull) annotation));
                 } else if (annotation instanceof Email) {
-                    validateEmail(target, field, (Email) annotation, result);
+                    fieldChecks.add(emailCheck(fa.getField(), (Email) annotation));
                 } else if (annotation instanceof Size) {
-                    validateSize(target, field, (Size) annotation, result);
+                    fieldChecks.add(sizeCheck(fieldName, (Size) annotation));
                 } else if (annotation instanceof Min) {
-                    validateMin(target, field, (Min) annotation, result);
+                    fieldChecks.add(minCheck(fieldName, (Min) annotation));
                 } else if (annotation instanceof Max) {
-                    validateMax(target, field, (Max) annotation, result);
+                    fieldChecks.add(maxCheck(fieldName, (Max) annotation));
                 } else if (annotation instanceof Pattern) {
-                    validatePattern(target, field, (Pattern) annotation, result);
+                    fieldChecks.add(patternCheck(fa.getField(), (Pattern) annotation));
+                } else {
+                    Check check = Jsr380Check.compile(fa.getField(), annotation);
+                    if (check != null) {
+                        fieldChecks.add(check);
+                    }
                 }
             }
+            if (condition != null && !fieldChecks.isEmpty()) {
+                checks.add(new ConditionalCheck(fieldName, condition.rule(), condition.dependsOn(), fieldChecks));
+            } else {
+                checks.addAll(fieldChecks);
+            }
+        }
+        if (!validatorX) {
+            return checks;
         }
+        for (FieldsMatch annotation : clazz.getAnnotationsByType(FieldsMatch.class)) {
+            if (Groups.isActive(annotation.groups(), groups)) {
+                checks.add(fieldsMatchCheck(annotation));
+            }
+        }
+        for (CrossField annotation : clazz.getAnnotationsByType(CrossField.class)) {
+            if (Groups.isActive(annotation.groups(), groups)) {
+                checks.add(crossFieldCheck(annotation));
+            }
+        }
+        return checks;
+    }
 
+    private static boolean isJsr380(Annotation annotation) {
+        return annotation.annotationType().getName().startsWith("javax.validation.constraints.");
+    }
 
-        return result;
+    /**
+     * Identifies the constraints that test exactly the same thing in both annotation
+     * families, regardless of their messages. JSR 380 {@code Min} and {@code Max} compare
+     * floating-point values exactly and {@code Size} also measures collections, so they only
+     * repeat their ValidatorX counterparts on integral and {@code String} fields.
+     *
+     * @param fieldType  the declared type of the constrained field
+     * @param annotation a constraint annotation
+     * @return the key, or {@code null} if the constraint never duplicates another
+     */
+    private static String duplicateKey(Class<?> fieldType, Annotation annotation) {
+        if (annotation instanceof NotNull || annotation instanceof javax.validation.constraints.NotNull) {
+            return "NotNull";
+        }
+        boolean integral = fieldType == int.class || fieldType == long.class || fieldType == short.class
+                || fieldType == byte.class || fieldType == Integer.class || fieldType == Long.class
+                || fieldType == Short.class || fieldType == Byte.class;
+        if (integral && annotation instanceof Min) {
+            return "Min:" + ((Min) annotation).value();
+        }
+        if (integral && annotation instanceof javax.validation.constraints.Min) {
+            return "Min:" + ((javax.validation.constraints.Min) annotation).value();
+        }
+        if (integral && annotation instanceof Max) {
+            return "Max:" + ((Max) annotation).value();
+        }
+        if (integral && annotation instanceof javax.validation.constraints.Max) {
+            return "Max:" + ((javax.validation.constraints.Max) annotation).value();
+        }
+        if (fieldType == String.class && annotation instanceof Size) {
+            return "Size:" + ((Size) annotation).min() + ":" + ((Size) annotation).max();
+        }
+        if (fieldType == String.class && annotation instanceof javax.validation.constraints.Size) {
+            javax.validation.constraints.Size size = (javax.validation.constraints.Size) annotation;
+            return "Size:" + size.min() + ":" + size.max();
+        }
+        if (annotation instanceof Pattern) {
+            return "Pattern:" + ((Pattern) annotation).regex();
+        }
+        if (annotation instanceof javax.validation.constraints.Pattern) {
+            javax.validation.constraints.Pattern pattern = (javax.validation.constraints.Pattern) annotation;
+            return pattern.flags().length == 0 ? "Pattern:" + pattern.regexp() : null;
+        }
+        return null;
     }
 
     /**
@@ -88,7 +309,7 @@ public class ValidatorEngine {
      * @param obj the object to check
      * @return {@code true} if the object should be validated, {@code false} otherwise
      */
-    private boolean shouldCascade(Object obj) {
+    private static boolean shouldCascade(Object obj) {
         Class<?> clazz = obj.getClass();
         return !isPrimitiveOrWrapper(clazz) && !clazz.isEnum() && !(obj instanceof String);
     }
@@ -99,7 +320,7 @@ public class ValidatorEngine {
      * @param type the class type
      * @return {@code true} if the type is a primitive or wrapper, {@code false} otherwise
      */
-    private boolean isPrimitiveOrWrapper(Class<?> type) {
+    private static boolean isPrimitiveOrWrapper(Class<?> type) {
         return type.isPrimitive() ||
                type == Byte.class ||
                type == Short.class ||
@@ -128,191 +349,367 @@ public class ValidatorEngine {
         return result;
     }
 
+    /**
+     * Accumulates the annotation-based validations of the given groups and throws a
+     * {@code ValidationException} if any errors are found.
+     *
+     * @param target the object to validate
+     * @param groups the validation groups; none means {@code Default}
+     * @return a {@code ValidationResult} if no validation errors are found
+     * @throws ValidationException if any validation errors are detected
+     */
+    public ValidationResult validateAndThrow(Object target, Class<?>... groups) {
+        ValidationResult result = accumulateValidate(target, groups);
+        if (result.hasErrors()) {
+            throw new ValidationException("Validation failed", result);
+        }
+        return result;
+    }
+
     // ----- Implementation for each annotation check -----
 
     /**
-     * Validates that a field is not null.
+     * Compiles a check that a field is not null.
      *
-     * @param target     the object being validated
-     * @param field      the field to check
+     * @param fieldName  the field to check
      * @param annotation the {@code NotNull} annotation instance
-     * @param result     the validation result to accumulate errors
+     * @return the compiled check
      */
-    private void validateNotNull(Object target, Field field, NotNull annotation, ValidationResult result) {
-        try {
-            Object value = field.get(target);
-            if (value == null) {
-                String message = resolveMessage(annotation.message(), annotation.messageKey(),
-                        field.getName(), "cannot be null");
-                result.addError(new ValidationError(field.getName(), message, null));
-            }
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        }
+    private static Check notNullCheck(String fieldName, NotNull annotation) {
+        return new AnnotationCheck("NotNull", fieldName, annotation.message(), annotation.messageKey(),
+                "cannot be null", value -> value != null, value -> true, null, PlanExplanation.COST_CHECK);
     }
 
     /**
-     * Validates that a field contains a valid email address.
+     * Compiles a check that a field contains a valid email address.
      *
-     * @param target     the object being validated
      * @param field      the field to check
      * @param annotation the {@code Email} annotation instance
-     * @param result     the validation result to accumulate errors
+     * @return the compiled check
      */
-    private void validateEmail(Object target, Field field, Email annotation, ValidationResult result) {
-        try {
-            Object value = field.get(target);
-            if (value instanceof String) {
-                String stringValue = (String) value;
-
-                // Check whether we have a custom regex
-                String customRegex = annotation.regex().trim();
-                boolean isValid;
-                if (!customRegex.isEmpty()) {
-                    // Use the custom regex
-                    isValid = stringValue.matches(customRegex);
-                } else {
-                    // Fall back to your default check
-                    isValid = isValidEmail(stringValue);
-                }
-
-                // If invalid, register an error
-                if (!isValid) {
-                    String message = resolveMessage(
-                            annotation.message(),
-                            annotation.messageKey(),
-                            field.getName(),
-                            "invalid email format"
-                    );
-                    result.addError(new ValidationError(field.getName(), message, stringValue));
-                }
-            }
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        }
+    private static Check emailCheck(Field field, Email annotation) {
+        // Check whether we have a custom regex, otherwise fall back to the default check
+        String customRegex = annotation.regex().trim();
+        java.util.regex.Pattern regex = customRegex.isEmpty() ? EMAIL_PATTERN : java.util.regex.Pattern.compile(customRegex);
+        return new AnnotationCheck("Email", field.getName(), annotation.message(), annotation.messageKey(),
+                "invalid email format",
+                memoize(field, annotation, regexPredicate(regex), annotation.memoize()), value -> true,
+                describeRegex(regex, annotation.memoize()), regexCost(annotation.memoize()));
     }
 
-
     /**
-     * Validates that a field's length is within the specified range.
+     * Compiles a check that a string field's length is within the specified range.
      *
-     * @param target     the object being validated
-     * @param field      the field to check
+     * @param fieldName  the field to check
      * @param annotation the {@code Size} annotation instance
-     * @param result     the validation result to accumulate errors
+     * @return the compiled check
      */
-    private void validateSize(Object target, Field field, Size annotation, ValidationResult result) {
-        try {
-            Object value = field.get(target);
-            if (value != null && value instanceof String) {
-                String stringValue = (String) value;
-                int length = stringValue.length();
-                if (length < annotation.min() || length > annotation.max()) {
-                    String message = resolveMessage(annotation.message(), annotation.messageKey(),
-                            field.getName(),
-                            String.format("length must be between %d and %d", annotation.min(), annotation.max()));
-                    result.addError(new ValidationError(field.getName(), message, stringValue));
-                }
-            }
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        }
+    private static Check sizeCheck(String fieldName, Size annotation) {
+        int min = annotation.min();
+        int max = annotation.max();
+        return new AnnotationCheck("Size", fieldName, annotation.message(), annotation.messageKey(),
+                String.format("length must be between %d and %d", min, max),
+                value -> {
+                    if (!(value instanceof String)) {
+                        return true;
+                    }
+                    int length = ((String) value).length();
+                    return length >= min && length <= max;
+                }, value -> true, String.format("string length in [%d, %d]", min, max), PlanExplanation.COST_LENGTH);
     }
 
     /**
-     * Validates that a numeric field meets the minimum value constraint.
+     * Compiles a check that a numeric field meets the minimum value constraint.
      *
-     * @param target     the object being validated
-     * @param field      the field to check
+     * @param fieldName  the field to check
      * @param annotation the {@code Min} annotation instance
-     * @param result     the validation result to accumulate errors
+     * @return the compiled check
      */
-    private void validateMin(Object target, Field field, Min annotation, ValidationResult result) {
-        try {
-            Object value = field.get(target);
-            if (value instanceof Number) {
-                Number number = (Number) value;
-                if (number.longValue() < annotation.value()) {
-                    String message = resolveMessage(
-                        annotation.message(),
-                        annotation.messageKey(),
-                        field.getName(),
-                        String.format("must be >= %d", annotation.value())
-                    );
-                    result.addError(new ValidationError(field.getName(), message, number));
-                }
-            }
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        }
+    private static Check minCheck(String fieldName, Min annotation) {
+        long min = annotation.value();
+        return new AnnotationCheck("Min", fieldName, annotation.message(), annotation.messageKey(),
+                String.format("must be >= %d", min),
+                value -> !(value instanceof Number) || ((Number) value).longValue() >= min,
+                value -> value >= min, null, PlanExplanation.COST_CHECK, min);
     }
 
-
     /**
-     * Validates that a numeric field does not exceed the maximum value constraint.
+     * Compiles a check that a numeric field does not exceed the maximum value constraint.
      *
-     * @param target     the object being validated
-     * @param field      the field to check
+     * @param fieldName  the field to check
      * @param annotation the {@code Max} annotation instance
-     * @param result     the validation result to accumulate errors
+     * @return the compiled check
      */
-    private void validateMax(Object target, Field field, Max annotation, ValidationResult result) {
-        try {
-            Object value = field.get(target);
-            if (value instanceof Number) {
-                Number number = (Number) value;
-                if (number.longValue() > annotation.value()) {
-                    String message = resolveMessage(
-                        annotation.message(),
-                        annotation.messageKey(),
-                        field.getName(),
-                        String.format("must be <= %d", annotation.value())
-                    );
-                    result.addError(new ValidationError(field.getName(), message, number));
-                }
-            }
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        }
+    private static Check maxCheck(String fieldName, Max annotation) {
+        long max = annotation.value();
+        return new AnnotationCheck("Max", fieldName, annotation.message(), annotation.messageKey(),
+                String.format("must be <= %d", max),
+                value -> !(value instanceof Number) || ((Number) value).longValue() <= max,
+                value -> value <= max, null, PlanExplanation.COST_CHECK, max);
     }
 
     /**
-     * Validates that a string field matches a given regex pattern.
+     * Compiles a check that a string field matches a given regex pattern.
      *
-     * @param target     the object being validated
      * @param field      the field to check
      * @param annotation the {@code Pattern} annotation instance
-     * @param result     the validation result to accumulate errors
+     * @return the compiled check
      */
-    private void validatePattern(Object target, Field field, Pattern annotation, ValidationResult result) {
-        try {
-            Object value = field.get(target);
-            if (value instanceof String) {
-                String stringValue = (String) value;
-                if (!stringValue.matches(annotation.regex())) {
-                    String message = resolveMessage(
-                        annotation.message(),
-                        annotation.messageKey(),
-                        field.getName(),
-                        String.format("must match regex '%s'", annotation.regex())
-                    );
-                    result.addError(new ValidationError(field.getName(), message, stringValue));
-                }
-            }
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
+    private static Check patternCheck(Field field, Pattern annotation) {
+        java.util.regex.Pattern regex = java.util.regex.Pattern.compile(annotation.regex());
+        return new AnnotationCheck("Pattern", field.getName(), annotation.message(), annotation.messageKey(),
+                String.format("must match regex '%s'", annotation.regex()),
+                memoize(field, annotation, regexPredicate(regex), annotation.memoize()), value -> true,
+                describeRegex(regex, annotation.memoize()), regexCost(annotation.memoize()));
+    }
+
+    /**
+     * Compiles a check that two fields hold equal values.
+     *
+     * @param annotation the {@code FieldsMatch} annotation instance
+     * @return the compiled check
+     */
+    private static Check fieldsMatchCheck(FieldsMatch annotation) {
+        String field = annotation.field();
+        String other = annotation.other();
+        return new CrossFieldCheck("FieldsMatch", other, new String[] { field, other },
+                values -> Objects.equals(values[0], values[1]),
+                () -> resolveMessage(annotation.message(), annotation.messageKey(), other,
+                        String.format("must match field '%s'", field)));
+    }
+
+    /**
+     * Compiles a check that applies a registered rule to the values of several fields.
+     *
+     * @param annotation the {@code CrossField} annotation instance
+     * @return the compiled check
+     */
+    private static Check crossFieldCheck(CrossField annotation) {
+        String[] fields = annotation.fields();
+        if (fields.length == 0) {
+            throw new IllegalArgumentException("@CrossField(rule = \"" + annotation.rule() + "\") declares no fields");
         }
+        String reportOn = annotation.reportOn().isEmpty() ? fields[fields.length - 1] : annotation.reportOn();
+        return CrossFieldCheck.ofRule("CrossField", reportOn, fields, annotation.rule(),
+                () -> resolveMessage(annotation.message(), annotation.messageKey(), reportOn,
+                        String.format("failed rule '%s'", annotation.rule())));
+    }
+
+    /**
+     * Creates a predicate that passes non-string values and strings matching a regex.
+     *
+     * @param regex the compiled regex
+     * @return the predicate
+     */
+    private static Predicate<Object> regexPredicate(java.util.regex.Pattern regex) {
+        return value -> !(value instanceof String) || regex.matcher((String) value).matches();
+    }
+
+    /**
+     * Wraps a predicate in a {@link MemoizedRule} if the constraint asks for it. The rule is
+     * created once per field and constraint, so recompiled plans keep their memoized outcomes.
+     *
+     * @param field      the constrained field
+     * @param annotation the constraint annotation
+     * @param predicate  the predicate
+     * @param memoize    whether to memoize outcomes per value
+     * @return the predicate to use
+     */
+    private static Predicate<Object> memoize(Field field, Annotation annotation, Predicate<Object> predicate,
+                                             boolean memoize) {
+        return memoize ? ReflectionCache.getMemoizedRule(field, annotation, () -> predicate) : predicate;
+    }
+
+    /**
+     * Describes how a regex constraint is evaluated, for {@link PlanExplanation}.
+     */
+    private static String describeRegex(java.util.regex.Pattern regex, boolean memoize) {
+        return "regex '" + regex.pattern() + "' (java.util.regex" + (memoize ? ", memoized)" : ")");
     }
 
-    private static final String EMAIL_REGEX = "^(?i)[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,}$";
+    private static int regexCost(boolean memoize) {
+        return memoize ? PlanExplanation.COST_MEMOIZED : PlanExplanation.COST_REGEX;
+    }
+
+    private static final java.util.regex.Pattern EMAIL_PATTERN =
+            java.util.regex.Pattern.compile("^(?i)[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,}$");
+
     /**
-     * Checks whether a given email string is valid.
+     * A check compiled from a ValidatorX annotation. The error message is resolved only
+     * when the check fails, and then kept for the locale it was resolved in: the field name
+     * and bound never change, so later failures in the same locale reuse the same string.
      *
-     * @param email the email address to check
-     * @return {@code true} if the email is valid, {@code false} otherwise
+     * <p>Numeric values are compared as {@code long}, exactly as {@link Number#longValue()}
+     * would convert them, so primitive fields can be checked without boxing.
+     */
+    private static final class AnnotationCheck extends ValueCheck {
+        private final String constraintType;
+        private final String customMessage;
+        private final String messageKey;
+        private final String defaultMsg;
+        private final Predicate<Object> predicate;
+        private final LongPredicate primitivePredicate;
+        private final String detail;
+        private final int cost;
+        private final Object[] messageArgs;
+        private volatile LocalizedMessage message;
+
+        AnnotationCheck(String constraintType, String fieldName, String customMessage, String messageKey,
+                        String defaultMsg, Predicate<Object> predicate, LongPredicate primitivePredicate,
+                        String detail, int cost) {
+            this(constraintType, fieldName, customMessage, messageKey, defaultMsg, predicate, primitivePredicate,
+                    detail, cost, null);
+        }
+
+        AnnotationCheck(String constraintType, String fieldName, String customMessage, String messageKey,
+                        String defaultMsg, Predicate<Object> predicate, LongPredicate primitivePredicate,
+                        String detail, int cost, Object bound) {
+            super(fieldName);
+            this.messageArgs = bound == null ? new Object[] { fieldName } : new Object[] { fieldName, bound };
+            this.constraintType = constraintType;
+            this.customMessage = customMessage;
+            this.messageKey = messageKey;
+            this.defaultMsg = defaultMsg;
+            this.predicate = predicate;
+            this.primitivePredicate = primitivePredicate;
+            this.detail = detail;
+            this.cost = cost;
+        }
+
+        @Override
+        String describe() {
+            return detail;
+        }
+
+        @Override
+        int estimateCost() {
+            return cost;
+        }
+
+        @Override
+        boolean test(Object value) {
+            return predicate.test(value);
+        }
+
+        @Override
+        boolean supportsPrimitive(int kind) {
+            return true;
+        }
+
+        @Override
+        String getConstraintType() {
+            return constraintType;
+        }
+
+        @Override
+        boolean testInt(int value) {
+            return primitivePredicate.test(value);
+        }
+
+        @Override
+        boolean testLong(long value) {
+            return primitivePredicate.test(value);
+        }
+
+        @Override
+        boolean testDouble(double value) {
+            return primitivePredicate.test((long) value);
+        }
+
+        @Override
+        String violationMessage() {
+            Locale locale = ValidationContext.currentLocale();
+            LocalizedMessage resolved = message;
+            if (resolved == null || !resolved.locale.equals(locale)) {
+                resolved = new LocalizedMessage(locale, resolveMessage(customMessage, messageKey, getFieldName(),
+                        defaultMsg, locale, messageArgs));
+                message = resolved;
+            }
+            return resolved.text;
+        }
+    }
+
+    /**
+     * A message resolved in one locale.
+     */
+    static final class LocalizedMessage {
+        final Locale locale;
+        final String text;
+
+        LocalizedMessage(Locale locale, String text) {
+            this.locale = locale;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Cascades annotation-based validation into a non-null nested object.
      */
-    private boolean isValidEmail(String email) {
-        return email.matches(EMAIL_REGEX);
+    private static final class CascadeCheck extends CompositeCheck {
+        private final Set<Class<?>> groups;
+        private final boolean jsr380;
+
+        CascadeCheck(String fieldName, Set<Class<?>> groups, boolean jsr380) {
+            super(fieldName);
+            this.groups = groups;
+            this.jsr380 = jsr380;
+        }
+
+        /**
+         * Returns the plan of a nested class, enforcing the same annotation families as the
+         * plan this check belongs to.
+         */
+        private ValidationPlan nestedPlan(Class<?> nestedType) {
+            return jsr380 ? PlanCache.forUnified(nestedType, groups) : PlanCache.forGroups(nestedType, groups);
+        }
+
+        @Override
+        void applyTo(Object target, Object value, ValidationResult result) {
+            if (value != null && shouldCascade(value)) {
+                nestedPlan(value.getClass()).validateInto(value, result);
+            }
+        }
+
+        @Override
+        int countViolations(Object target, Object value, int limit) {
+            if (value == null || !shouldCascade(value)) {
+                return 0;
+            }
+            return nestedPlan(value.getClass()).countViolations(value, limit);
+        }
+
+        @Override
+        void applyMeasured(Object target, Object value, ValidationResult result, ValidationMetrics metrics,
+                           Class<?> type) {
+            if (value != null && shouldCascade(value)) {
+                ValidationTrace.validateNested(nestedPlan(value.getClass()), value, result, metrics,
+                        type, getFieldName());
+            }
+        }
+
+        @Override
+        boolean appliesTo(Class<?> declaredType) {
+            return !isPrimitiveOrWrapper(declaredType) && !declaredType.isEnum();
+        }
+
+        @Override
+        boolean isCascade() {
+            return true;
+        }
+
+        @Override
+        int estimateCost() {
+            return PlanExplanation.COST_CASCADE;
+        }
+
+        @Override
+        ValidationPlan getCascadePlan(Class<?> declaredType) {
+            // Subclasses and implementations are only known from the runtime value
+            if (declaredType.isInterface() || java.lang.reflect.Modifier.isAbstract(declaredType.getModifiers())) {
+                return null;
+            }
+            return nestedPlan(declaredType);
+        }
     }
 
     // ----- Message resolution logic -----
@@ -326,13 +723,23 @@ public class ValidatorEngine {
      * @param defaultMsg    the default message to use if neither customMessage nor messageKey is available
      * @return the resolved validation message
      */
-    private String resolveMessage(String customMessage, String messageKey, String fieldName, String defaultMsg) {
+    private static String resolveMessage(String customMessage, String messageKey, String fieldName, String defaultMsg) {
+        return resolveMessage(customMessage, messageKey, fieldName, defaultMsg, ValidationContext.currentLocale(),
+                new Object[] { fieldName });
+    }
+
+    /**
+     * Resolves a validation message in a given locale. The first argument is the field name;
+     * later arguments fill the {@code {1}}, {@code {2}}, ... placeholders of the message.
+     */
+    private static String resolveMessage(String customMessage, String messageKey, String fieldName, String defaultMsg,
+                                         Locale locale, Object[] args) {
         if (!customMessage.isEmpty()) {
             return customMessage;
         }
 
         try {
-            return MessageResolver.getMessage(messageKey, fieldName);
+            return MessageResolver.getMessage(locale, messageKey, args);
         } catch (Exception e) {
             return String.format("Field '%s' %s", fieldName, defaultMsg);
         }
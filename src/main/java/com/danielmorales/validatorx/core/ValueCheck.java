@@ -0,0 +1,134 @@
+package com.danielmorales.validatorx.core;
+
+/**
+ * A check that tests one value and reports at most one error, such as a constraint
+ * annotation, a fluent rule or a named rule.
+ *
+ * <p>A value check can also test primitive values without boxing them. A plan reads a
+ * primitive field unboxed if every check on it supports the field's kind.
+ *
+ * @author Daniel Morales
+ */
+abstract class ValueCheck extends Check {
+    /** A {@code byte}, {@code short} or {@code int} field, read with {@link java.lang.reflect.Field#getInt}. */
+    static final int INT = 0;
+    /** A {@code long} field, read with {@link java.lang.reflect.Field#getLong}. */
+    static final int LONG = 1;
+    /** A {@code float} or {@code double} field, read with {@link java.lang.reflect.Field#getDouble}. */
+    static final int DOUBLE = 2;
+
+    private volatile ValidationError.Identity description;
+
+    /**
+     * Constructs a {@code ValueCheck}.
+     *
+     * @param fieldName the field this check reads, or {@code null} for an object-level check
+     */
+    ValueCheck(String fieldName) {
+        super(fieldName);
+    }
+
+    /**
+     * Tests a value against this check.
+     *
+     * @param value the field value (or the target itself for object-level checks)
+     * @return {@code true} if the value is valid, {@code false} otherwise
+     */
+    abstract boolean test(Object value);
+
+    /**
+     * Tells whether this check can test a primitive value of the given kind without boxing it.
+     *
+     * @param kind one of {@link #INT}, {@link #LONG} or {@link #DOUBLE}
+     * @return {@code true} if the matching {@code testInt}/{@code testLong}/{@code testDouble}
+     *         method gives the same answer as {@link #test(Object)} on the boxed value
+     */
+    boolean supportsPrimitive(int kind) {
+        return false;
+    }
+
+    /**
+     * Tests an {@code int} value. Boxes unless overridden.
+     *
+     * @param value the field value
+     * @return {@code true} if the value is valid
+     */
+    boolean testInt(int value) {
+        return test(value);
+    }
+
+    /**
+     * Tests a {@code long} value. Boxes unless overridden.
+     *
+     * @param value the field value
+     * @return {@code true} if the value is valid
+     */
+    boolean testLong(long value) {
+        return test(value);
+    }
+
+    /**
+     * Tests a {@code double} value. Boxes unless overridden.
+     *
+     * @param value the field value
+     * @return {@code true} if the value is valid
+     */
+    boolean testDouble(double value) {
+        return test(value);
+    }
+
+    /**
+     * Computes the message reported when {@link #test(Object)} fails.
+     *
+     * @return the error message
+     */
+    abstract String violationMessage();
+
+    /**
+     * @return the field name errors of this check report, by default {@link #getFieldName()}
+     */
+    String violationField() {
+        return getFieldName();
+    }
+
+    /**
+     * Builds the error reported when {@link #test(Object)} fails, tagged with the code of
+     * this check's constraint. The description of the error is built once per message and
+     * shared between the errors of this check, so each error only adds its invalid value.
+     *
+     * @param value the value that failed the check
+     * @return the validation error to report
+     */
+    final ValidationError report(Object value) {
+        String message = violationMessage();
+        String source = getFieldName() == null ? ValidationPlan.OBJECT_SOURCE : getFieldName();
+        ValidationError.Identity identity = description;
+        if (identity == null || !identity.matches(message, source)) {
+            identity = new ValidationError.Identity(violationField(), message, getConstraintCode(), source);
+            description = identity;
+        }
+        return new ValidationError(identity, value);
+    }
+
+    /**
+     * Evaluates this check and records any error in the given result.
+     *
+     * @param value  the value to check
+     * @param result the validation result to accumulate errors
+     */
+    void apply(Object value, ValidationResult result) {
+        if (!test(value)) {
+            result.addError(report(value));
+        }
+    }
+
+    @Override
+    void applyTo(Object target, Object value, ValidationResult result) {
+        apply(value, result);
+    }
+
+    @Override
+    int countViolations(Object target, Object value, int limit) {
+        return test(value) ? 0 : 1;
+    }
+}
@@ -0,0 +1,245 @@
+package com.danielmorales.validatorx.i18n;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-only view of a binary message catalog written by {@link MessageCatalogCompiler}.
+ *
+ * <p>The catalog holds the messages of every bundle of one base name ({@code message},
+ * {@code message_fr}, ...) with their placeholders already parsed. Opening it reads only the
+ * header and the bundle names; a message is decoded when it is first looked up, so messages
+ * that are never used never reach the heap. A catalog on the file system is memory-mapped;
+ * one inside a jar is read into a direct buffer.
+ *
+ * <p>Layout (big-endian {@code int}s; string offsets are relative to the string pool):
+ * <pre>
+ * header    magic, version, keyCount, tableSize, bundleCount, poolOffset
+ * table     tableSize slots: key index + 1, or 0 if empty (open addressing on String.hashCode)
+ * keys      keyCount string offsets, sorted by key
+ * bundles   bundleCount pairs: name string offset, index offset
+ * indexes   per bundle, keyCount record offsets, or -1 if the bundle lacks the key
+ * records   pattern string offset, literal count n, n literal string offsets, n - 1 argument indexes
+ * pool      strings as a byte length followed by UTF-8 bytes
+ * </pre>
+ *
+ * <p>Lookups use absolute reads only and are safe from multiple threads.
+ *
+ * @author Daniel Morales
+ */
+final class MessageCatalog {
+    static final int MAGIC = 0x56584D43; // "VXMC"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 6 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final String location;
+    private final int keyCount;
+    private final int tableSize;
+    private final int poolOffset;
+    private final Map<String, Integer> bundles;
+
+    private MessageCatalog(ByteBuffer buffer, String location) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a message catalog: " + location);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported message catalog version " + buffer.getInt(4)
+                    + ": " + location);
+        }
+        this.buffer = buffer;
+        this.location = location;
+        this.keyCount = buffer.getInt(8);
+        this.tableSize = buffer.getInt(12);
+        int bundleCount = buffer.getInt(16);
+        this.poolOffset = buffer.getInt(20);
+        Map<String, Integer> names = new HashMap<>();
+        int bundlesOffset = bundlesOffset();
+        for (int i = 0; i < bundleCount; i++) {
+            names.put(string(buffer.getInt(bundlesOffset + i * 8)), buffer.getInt(bundlesOffset + i * 8 + 4));
+        }
+        this.bundles = Collections.unmodifiableMap(names);
+    }
+
+    /**
+     * Opens a catalog held in a buffer.
+     *
+     * @param buffer   the catalog
+     * @param location where the catalog was read from, for error messages and {@link #covers}
+     * @return the catalog
+     * @throws IllegalArgumentException if the buffer does not hold a catalog
+     */
+    static MessageCatalog open(ByteBuffer buffer, String location) {
+        return new MessageCatalog(buffer, location);
+    }
+
+    /**
+     * Opens a catalog from a URL, memory-mapping it if it is a file.
+     *
+     * @param url the catalog
+     * @return the catalog
+     * @throws IOException if the catalog cannot be read
+     */
+    static MessageCatalog load(URL url) throws IOException {
+        String location = url.toString();
+        if ("file".equals(url.getProtocol())) {
+            Path path;
+            try {
+                path = Paths.get(url.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid catalog location: " + location, e);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                return open(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), location);
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            byte[] bytes = in.readAllBytes();
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).flip();
+            return open(direct, location);
+        }
+    }
+
+    /**
+     * @return the names of the bundles in this catalog, such as {@code message_fr}
+     */
+    Set<String> getBundleNames() {
+        return bundles.keySet();
+    }
+
+    /**
+     * @return the number of distinct keys across all bundles
+     */
+    int getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Resolves the bundles to search for a locale, most specific first. A bundle is taken from
+     * the catalog only if the class loader finds its properties file next to the catalog; a
+     * properties file found anywhere else, such as one added by an application or a test,
+     * was not compiled into this catalog.
+     *
+     * @param bundleNames the candidate bundle names, most specific first
+     * @param loader      the class loader bundles are loaded from
+     * @return the bundles to search, as index offsets, or {@code null} if the catalog does not cover
+     * the candidates and the properties files must be read instead
+     */
+    int[] covers(List<String> bundleNames, ClassLoader loader) {
+        String directory = location.substring(0, location.lastIndexOf('/') + 1);
+        int[] chain = new int[bundleNames.size()];
+        int length = 0;
+        for (String name : bundleNames) {
+            URL properties = loader.getResource(name + ".properties");
+            if (properties == null) {
+                continue;
+            }
+            Integer index = bundles.get(name);
+            if (index == null || !properties.toString().equals(directory + name + ".properties")) {
+                return null;
+            }
+            chain[length++] = index;
+        }
+        return Arrays.copyOf(chain, length);
+    }
+
+    /**
+     * Finds the index of a key.
+     *
+     * @param key the message key
+     * @return the key index, or {@code -1} if no bundle has the key
+     */
+    int keyIndex(String key) {
+        if (keyCount == 0) {
+            return -1;
+        }
+        byte[] utf8 = key.getBytes(StandardCharsets.UTF_8);
+        int mask = tableSize - 1;
+        for (int slot = spread(key.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            int entry = buffer.getInt(HEADER_SIZE + slot * Integer.BYTES);
+            if (entry == 0) {
+                return -1;
+            }
+            int index = entry - 1;
+            if (stringEquals(buffer.getInt(keysOffset() + index * Integer.BYTES), utf8)) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Decodes a message of one bundle.
+     *
+     * @param bundle   the bundle's index offset, as returned by {@link #covers}
+     * @param keyIndex the key index, as returned by {@link #keyIndex}
+     * @return the template, or {@code null} if the bundle lacks the key
+     */
+    MessageTemplate template(int bundle, int keyIndex) {
+        int record = buffer.getInt(bundle + keyIndex * Integer.BYTES);
+        if (record < 0) {
+            return null;
+        }
+        String pattern = string(buffer.getInt(record));
+        int literalCount = buffer.getInt(record + 4);
+        String[] literals = new String[literalCount];
+        int position = record + 8;
+        for (int i = 0; i < literalCount; i++, position += Integer.BYTES) {
+            literals[i] = string(buffer.getInt(position));
+        }
+        int[] arguments = new int[literalCount - 1];
+        for (int i = 0; i < arguments.length; i++, position += Integer.BYTES) {
+            arguments[i] = buffer.getInt(position);
+        }
+        return MessageTemplate.of(pattern, literals, arguments);
+    }
+
+    static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private int keysOffset() {
+        return HEADER_SIZE + tableSize * Integer.BYTES;
+    }
+
+    private int bundlesOffset() {
+        return keysOffset() + keyCount * Integer.BYTES;
+    }
+
+    private String string(int offset) {
+        int position = poolOffset + offset;
+        byte[] bytes = new byte[buffer.getInt(position)];
+        ByteBuffer view = buffer.duplicate();
+        view.position(position + Integer.BYTES);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean stringEquals(int offset, byte[] utf8) {
+        int position = poolOffset + offset;
+        if (buffer.getInt(position) != utf8.length) {
+            return false;
+        }
+        position += Integer.BYTES;
+        for (int i = 0; i < utf8.length; i++) {
+            if (buffer.get(position + i) != utf8[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
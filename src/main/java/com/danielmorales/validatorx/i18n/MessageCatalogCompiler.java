@@ -0,0 +1,213 @@
+package com.danielmorales.validatorx.i18n;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Compiles the {@code .properties} files of a message bundle into a binary {@link MessageCatalog}.
+ *
+ * <p>The build runs it after resources are copied, writing {@code message.catalog} next to
+ * {@code message.properties}. {@link MessageResolver} then reads messages from the catalog
+ * instead of parsing the properties files at runtime. Properties files are read exactly as
+ * {@code ResourceBundle} reads them: as UTF-8, or as ISO-8859-1 if they are not valid UTF-8.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * java com.danielmorales.validatorx.i18n.MessageCatalogCompiler target/classes target/classes/message.catalog
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class MessageCatalogCompiler {
+    /** The file name of the compiled catalog of the {@code message} bundle. */
+    public static final String CATALOG_NAME = "message.catalog";
+
+    private MessageCatalogCompiler() {
+    }
+
+    /**
+     * Compiles the {@code message*.properties} files of a directory.
+     *
+     * @param args the directory, the output file and, optionally, the bundle base name
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: MessageCatalogCompiler <directory> <output> [baseName]");
+        }
+        compile(Paths.get(args[0]), args.length > 2 ? args[2] : "message", Paths.get(args[1]));
+    }
+
+    /**
+     * Compiles the properties files of one bundle, such as {@code message.properties} and
+     * {@code message_fr.properties}, into a catalog file.
+     *
+     * @param directory the directory holding the properties files
+     * @param baseName  the bundle base name
+     * @param output    the catalog file to write
+     * @throws IOException if a file cannot be read or written
+     */
+    public static void compile(Path directory, String baseName, Path output) throws IOException {
+        Map<String, Map<String, String>> bundles = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, baseName + "*.properties")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                name = name.substring(0, name.length() - ".properties".length());
+                if (name.equals(baseName) || name.startsWith(baseName + "_")) {
+                    bundles.put(name, read(file));
+                }
+            }
+        }
+        try (OutputStream out = Files.newOutputStream(output)) {
+            write(bundles, out);
+        }
+    }
+
+    /**
+     * Writes a catalog.
+     *
+     * @param bundles the messages of each bundle, keyed by bundle name
+     * @param out     the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    static void write(Map<String, Map<String, String>> bundles, OutputStream out) throws IOException {
+        TreeSet<String> sortedKeys = new TreeSet<>();
+        for (Map<String, String> messages : bundles.values()) {
+            sortedKeys.addAll(messages.keySet());
+        }
+        List<String> keys = new ArrayList<>(sortedKeys);
+        StringPool pool = new StringPool();
+
+        int[] keyOffsets = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            keyOffsets[i] = pool.add(keys.get(i));
+        }
+
+        // Records, relative to the start of the record section
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(recordBytes);
+        List<String> names = new ArrayList<>(bundles.keySet());
+        int[][] indexes = new int[names.size()][keys.size()];
+        for (int b = 0; b < names.size(); b++) {
+            Map<String, String> messages = bundles.get(names.get(b));
+            for (int k = 0; k < keys.size(); k++) {
+                String pattern = messages.get(keys.get(k));
+                if (pattern == null) {
+                    indexes[b][k] = -1;
+                    continue;
+                }
+                indexes[b][k] = records.size();
+                MessageTemplate template = MessageTemplate.compile(pattern);
+                records.writeInt(pool.add(pattern));
+                records.writeInt(template.getLiterals().length);
+                for (String literal : template.getLiterals()) {
+                    records.writeInt(pool.add(literal));
+                }
+                for (int argument : template.getArguments()) {
+                    records.writeInt(argument);
+                }
+            }
+        }
+        int[] nameOffsets = new int[names.size()];
+        for (int b = 0; b < names.size(); b++) {
+            nameOffsets[b] = pool.add(names.get(b));
+        }
+
+        int tableSize = Integer.highestOneBit(Math.max(2, keys.size() * 2) - 1) << 1;
+        int[] table = new int[tableSize];
+        for (int k = 0; k < keys.size(); k++) {
+            int slot = MessageCatalog.spread(keys.get(k).hashCode()) & (tableSize - 1);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & (tableSize - 1);
+            }
+            table[slot] = k + 1;
+        }
+
+        int keysOffset = MessageCatalog.HEADER_SIZE + tableSize * Integer.BYTES;
+        int bundlesOffset = keysOffset + keys.size() * Integer.BYTES;
+        int indexesOffset = bundlesOffset + names.size() * 2 * Integer.BYTES;
+        int recordsOffset = indexesOffset + names.size() * keys.size() * Integer.BYTES;
+        int poolOffset = recordsOffset + records.size();
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MessageCatalog.MAGIC);
+        data.writeInt(MessageCatalog.VERSION);
+        data.writeInt(keys.size());
+        data.writeInt(tableSize);
+        data.writeInt(names.size());
+        data.writeInt(poolOffset);
+        for (int slot : table) {
+            data.writeInt(slot);
+        }
+        for (int offset : keyOffsets) {
+            data.writeInt(offset);
+        }
+        for (int b = 0; b < names.size(); b++) {
+            data.writeInt(nameOffsets[b]);
+            data.writeInt(indexesOffset + b * keys.size() * Integer.BYTES);
+        }
+        for (int[] index : indexes) {
+            for (int record : index) {
+                data.writeInt(record < 0 ? -1 : recordsOffset + record);
+            }
+        }
+        recordBytes.writeTo(data);
+        pool.writeTo(data);
+        data.flush();
+    }
+
+    private static Map<String, String> read(Path file) throws IOException {
+        PropertyResourceBundle bundle;
+        try (InputStream in = Files.newInputStream(file)) {
+            bundle = new PropertyResourceBundle(in);
+        }
+        Map<String, String> messages = new HashMap<>();
+        for (String key : bundle.keySet()) {
+            messages.put(key, bundle.getString(key));
+        }
+        return messages;
+    }
+
+    /**
+     * Strings stored once each, as a byte length followed by UTF-8 bytes.
+     */
+    private static final class StringPool {
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        int add(String value) throws IOException {
+            Integer offset = offsets.get(value);
+            if (offset != null) {
+                return offset;
+            }
+            int position = out.size();
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+            offsets.put(value, position);
+            return position;
+        }
+
+        void writeTo(OutputStream target) throws IOException {
+            bytes.writeTo(target);
+        }
+    }
+}
@@ -1,26 +1,65 @@
 package com.danielmorales.validatorx.i18n;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Utility class for resolving localized messages from a resource bundle.
  * This class provides support for retrieving messages based on locale settings
  * and formatting messages with parameters.
+ *
+ * <p>Each message is compiled once per locale into an immutable {@link MessageTemplate},
+ * so resolving a message is a map lookup followed by placeholder substitution. Templates are
+ * held in concurrent maps; the resolver is safe to use from multiple threads. The fallback
+ * for a missing key is also computed once per key and locale.
+ *
+ * <p>The build compiles the bundled properties files into a binary catalog
+ * ({@code message.catalog}, see {@link MessageCatalogCompiler}). When it is present, messages
+ * are read from the memory-mapped catalog as they are first used, and properties files are
+ * not parsed at all. Locales whose properties files are not in the catalog, such as those
+ * an application adds, are loaded from their {@code ResourceBundle} as usual.
+ *
+ * <p>Messages use {@code {0}}, {@code {1}}, ... placeholders, which are replaced by the
+ * arguments in order. Unlike {@link java.text.MessageFormat}, single quotes are kept as
+ * they are, so {@code Field '{0}' cannot be null} renders as {@code Field 'name' cannot be null}.
  */
 public class MessageResolver {
     // Use "message" to match resource file: message.properties
-    private static ResourceBundle bundle = ResourceBundle.getBundle("message", Locale.getDefault());
+    private static final String BUNDLE = "message";
+    private static final ResourceBundle.Control CONTROL =
+            ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private static volatile MessageCatalog compiled = loadCatalog();
+
+    private static final ConcurrentMap<Locale, Catalog> catalogs = new ConcurrentHashMap<>();
+    private static volatile Locale locale = Locale.getDefault();
 
     /**
      * Sets the locale for message resolution.
-     * This updates the resource bundle to use the specified locale.
+     * The locale's messages are loaded on first use and kept for later switches.
      *
      * @param locale the new locale to be used for message resolution
      */
     public static void setLocale(Locale locale) {
-        bundle = ResourceBundle.getBundle("message", locale);
+        catalog(locale);
+        MessageResolver.locale = locale;
+    }
+
+    /**
+     * Gets the locale used for message resolution.
+     *
+     * @return the current locale
+     */
+    public static Locale getLocale() {
+        return locale;
     }
 
     /**
@@ -31,16 +70,170 @@ public class MessageResolver {
      * @return the resolved and formatted message, or a fallback message if the key is not found
      */
     public static String getMessage(String key, Object... args) {
+        return getMessage(locale, key, args);
+    }
+
+    /**
+     * Retrieves a message for the given key in a given locale, without changing the current locale.
+     *
+     * @param locale the locale of the message
+     * @param key    the message key to look up in the resource bundle
+     * @param args   optional arguments to format the message
+     * @return the resolved and formatted message, or a fallback message if the key is not found
+     */
+    public static String getMessage(Locale locale, String key, Object... args) {
+        return getTemplate(locale, key).format(args);
+    }
+
+    /**
+     * Retrieves the precompiled template of a message. A missing key resolves to a template
+     * that renders {@code ??key??}.
+     *
+     * @param locale the locale of the message
+     * @param key    the message key to look up in the resource bundle
+     * @return the template
+     */
+    public static MessageTemplate getTemplate(Locale locale, String key) {
+        return catalog(locale).get(key);
+    }
+
+    /**
+     * Loads the messages of several locales ahead of their first use.
+     *
+     * @param locales the locales to load
+     */
+    public static void preload(Locale... locales) {
+        for (Locale l : locales) {
+            catalog(l);
+        }
+    }
+
+    /**
+     * Drops every loaded message, so that the catalog and bundles are read again on their next use.
+     */
+    public static void reload() {
+        ResourceBundle.clearCache();
+        compiled = loadCatalog();
+        catalogs.clear();
+    }
+
+    /**
+     * @return {@code true} if messages of the given locale are read from the compiled catalog
+     */
+    public static boolean isCompiled(Locale locale) {
+        return catalog(locale).compiled != null;
+    }
+
+    private static MessageCatalog loadCatalog() {
+        URL url = MessageResolver.class.getClassLoader().getResource(MessageCatalogCompiler.CATALOG_NAME);
+        if (url == null) {
+            return null;
+        }
         try {
-            String message = bundle.getString(key);
-            if (args != null && args.length > 0) {
-                // Simple placeholder replacement using String.format.
-                return String.format(message, args);
+            return MessageCatalog.load(url);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + url, e);
+        }
+    }
+
+    private static Catalog catalog(Locale locale) {
+        Catalog catalog = catalogs.get(locale);
+        return catalog != null ? catalog : catalogs.computeIfAbsent(locale, Catalog::load);
+    }
+
+    /**
+     * The messages of one locale, compiled into templates as they are first used.
+     */
+    private static final class Catalog {
+        private final ConcurrentMap<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+        private final MessageCatalog compiled;
+        private final int[] bundles;
+        private final ResourceBundle bundle;
+
+        private Catalog(MessageCatalog compiled, int[] bundles, ResourceBundle bundle) {
+            this.compiled = compiled;
+            this.bundles = bundles;
+            this.bundle = bundle;
+        }
+
+        static Catalog load(Locale locale) {
+            MessageCatalog catalog = MessageResolver.compiled;
+            if (catalog != null) {
+                ClassLoader loader = MessageResolver.class.getClassLoader();
+                int[] bundles = catalog.covers(bundleNames(locale, loader), loader);
+                if (bundles != null) {
+                    return new Catalog(catalog, bundles, null);
+                }
+            }
+            try {
+                return new Catalog(null, null, ResourceBundle.getBundle(BUNDLE, locale));
+            } catch (MissingResourceException e) {
+                // No bundle at all: every key falls back
+                return new Catalog(null, null, null);
+            }
+        }
+
+        /**
+         * Lists the bundles {@link ResourceBundle#getBundle(String, Locale)} searches for a
+         * locale, most specific first. When only the base bundle exists among the candidates of
+         * the locale, the candidates of the fallback locale ({@link Locale#getDefault()}) are
+         * used if one of their bundles exists, so both ways of loading messages agree.
+         */
+        private static List<String> bundleNames(Locale locale, ClassLoader loader) {
+            List<String> baseOnly = null;
+            for (Locale target = locale; target != null; target = CONTROL.getFallbackLocale(BUNDLE, target)) {
+                List<Locale> candidates = CONTROL.getCandidateLocales(BUNDLE, target);
+                List<String> names = new ArrayList<>(candidates.size());
+                Locale found = null;
+                for (Locale candidate : candidates) {
+                    String name = CONTROL.toBundleName(BUNDLE, candidate);
+                    names.add(name);
+                    if (found == null && loader.getResource(name + ".properties") != null) {
+                        found = candidate;
+                    }
+                }
+                if (found != null) {
+                    if (!Locale.ROOT.equals(found) || found.equals(locale) || candidates.size() == 1) {
+                        return names;
+                    }
+                    if (baseOnly == null) {
+                        baseOnly = names;
+                    }
+                }
+                if (target.equals(Locale.getDefault())) {
+                    break;
+                }
+            }
+            if (baseOnly != null) {
+                return baseOnly;
+            }
+            List<String> names = new ArrayList<>();
+            for (Locale candidate : CONTROL.getCandidateLocales(BUNDLE, locale)) {
+                names.add(CONTROL.toBundleName(BUNDLE, candidate));
+            }
+            return names;
+        }
+
+        MessageTemplate get(String key) {
+            MessageTemplate template = templates.get(key);
+            return template != null ? template : templates.computeIfAbsent(key, this::compile);
+        }
+
+        private MessageTemplate compile(String key) {
+            if (compiled != null) {
+                int index = compiled.keyIndex(key);
+                if (index >= 0) {
+                    for (int b : bundles) {
+                        MessageTemplate template = compiled.template(b, index);
+                        if (template != null) {
+                            return template;
+                        }
+                    }
+                }
+            } else if (bundle != null && bundle.containsKey(key)) {
+                return MessageTemplate.compile(bundle.getString(key));
             }
-            return message;
-        } catch (MissingResourceException e) {
-            // Fallback message if the key is missing
-            return "??" + key + "??";
+            return MessageTemplate.constant("??" + key + "??");
         }
     }
 }
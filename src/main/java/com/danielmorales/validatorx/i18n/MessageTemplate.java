@@ -0,0 +1,156 @@
+package com.danielmorales.validatorx.i18n;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message parsed once into literal text and {@code {n}} placeholders.
+ *
+ * <p>Formatting appends the literals and the arguments to a single, presized
+ * {@code StringBuilder}; a message without placeholders is returned as is. A placeholder
+ * whose argument is missing is rendered unchanged.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * MessageTemplate template = MessageTemplate.compile("Field '{0}' must be >= {1}");
+ * template.format("age", 18); // Field 'age' must be >= 18
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class MessageTemplate {
+    private static final int[] NO_ARGUMENTS = new int[0];
+
+    private final String pattern;
+    private final String[] literals;
+    private final int[] arguments;
+    private final int literalLength;
+
+    private MessageTemplate(String pattern, String[] literals, int[] arguments) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.arguments = arguments;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses a message.
+     *
+     * @param pattern the message, with {@code {0}}, {@code {1}}, ... placeholders
+     * @return the template
+     */
+    public static MessageTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        int start = 0;
+        int open = pattern.indexOf('{');
+        while (open >= 0) {
+            int close = open + 1;
+            while (close < pattern.length() && Character.isDigit(pattern.charAt(close))) {
+                close++;
+            }
+            if (close > open + 1 && close - open <= 4 && close < pattern.length() && pattern.charAt(close) == '}') {
+                literals.add(pattern.substring(start, open));
+                arguments.add(Integer.parseInt(pattern.substring(open + 1, close)));
+                start = close + 1;
+                open = pattern.indexOf('{', start);
+            } else {
+                open = pattern.indexOf('{', open + 1);
+            }
+        }
+        if (arguments.isEmpty()) {
+            return constant(pattern);
+        }
+        literals.add(pattern.substring(start));
+        int[] indexes = new int[arguments.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = arguments.get(i);
+        }
+        return new MessageTemplate(pattern, literals.toArray(new String[0]), indexes);
+    }
+
+    /**
+     * Creates a template without placeholders.
+     *
+     * @param text the message
+     * @return the template
+     */
+    public static MessageTemplate constant(String text) {
+        return new MessageTemplate(text, new String[] { text }, NO_ARGUMENTS);
+    }
+
+    /**
+     * Creates a template from parts that were parsed ahead of time, such as those stored in
+     * a {@link MessageCatalog}.
+     *
+     * @param pattern   the message
+     * @param literals  the text around the placeholders; one more than the arguments
+     * @param arguments the argument index of each placeholder
+     * @return the template
+     */
+    static MessageTemplate of(String pattern, String[] literals, int[] arguments) {
+        return arguments.length == 0 ? constant(pattern) : new MessageTemplate(pattern, literals, arguments);
+    }
+
+    /**
+     * @return the text around the placeholders; the array must not be modified
+     */
+    String[] getLiterals() {
+        return literals;
+    }
+
+    /**
+     * @return the argument index of each placeholder; the array must not be modified
+     */
+    int[] getArguments() {
+        return arguments;
+    }
+
+    /**
+     * @return the message as written in the bundle
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return {@code true} if the message has no placeholders
+     */
+    public boolean isConstant() {
+        return arguments.length == 0;
+    }
+
+    /**
+     * Replaces the placeholders with arguments.
+     *
+     * @param args the arguments, by placeholder index
+     * @return the message
+     */
+    public String format(Object... args) {
+        if (arguments.length == 0) {
+            return pattern;
+        }
+        StringBuilder sb = new StringBuilder(literalLength + 16 * arguments.length);
+        for (int i = 0; i < arguments.length; i++) {
+            sb.append(literals[i]);
+            int index = arguments[i];
+            if (args != null && index < args.length) {
+                sb.append(args[index]);
+            } else {
+                sb.append('{').append(index).append('}');
+            }
+        }
+        return sb.append(literals[arguments.length]).toString();
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,68 @@
+package com.danielmorales.validatorx.jfr;
+
+import com.danielmorales.validatorx.core.ValidationResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event for one execution of a validation pipeline, including its callbacks.
+ * Disabled by default; enable it in a recording with
+ * {@code com.danielmorales.validatorx.PipelineExecution#enabled=true}.
+ *
+ * @author Daniel Morales
+ */
+@Name("com.danielmorales.validatorx.PipelineExecution")
+@Label("Validation Pipeline Execution")
+@Description("An execution of a validation pipeline, including its callbacks")
+@Category("ValidatorX")
+@Enabled(false)
+@StackTrace(false)
+public final class PipelineExecutionEvent extends Event {
+
+    @Label("Rule Set")
+    String ruleSet;
+
+    @Label("Validated Class")
+    Class<?> validatedClass;
+
+    @Label("Outcome")
+    @Description("success or failure")
+    String outcome;
+
+    @Label("Error Count")
+    int errorCount;
+
+    /**
+     * Creates an event and starts timing it.
+     *
+     * @return the event
+     */
+    public static PipelineExecutionEvent start() {
+        PipelineExecutionEvent event = new PipelineExecutionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing this event and commits it if it is enabled and above its threshold.
+     *
+     * @param ruleSet the rule set the pipeline applied, or {@code null} if none
+     * @param request the validated request (may be {@code null})
+     * @param result  the validation result
+     */
+    public void finish(String ruleSet, Object request, ValidationResult result) {
+        end();
+        if (shouldCommit()) {
+            this.ruleSet = ruleSet;
+            this.validatedClass = request == null ? null : request.getClass();
+            this.errorCount = result.getErrors().size();
+            this.outcome = result.hasErrors() ? "failure" : "success";
+            commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.danielmorales.validatorx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event for a constraint evaluation that took longer than
+ * {@link ValidationEvents#getSlowConstraintThreshold()}. Disabled by default; enable it in a
+ * recording with {@code com.danielmorales.validatorx.SlowConstraint#enabled=true}.
+ *
+ * <p>The event is committed after the evaluation, so its own duration is zero; the time the
+ * evaluation took is in {@code evaluationTime}.
+ *
+ * @author Daniel Morales
+ */
+@Name("com.danielmorales.validatorx.SlowConstraint")
+@Label("Slow Constraint")
+@Description("A constraint evaluation slower than the configured threshold")
+@Category("ValidatorX")
+@Enabled(false)
+@StackTrace(false)
+public final class SlowConstraintEvent extends Event {
+
+    @Label("Validated Class")
+    Class<?> validatedClass;
+
+    @Label("Field")
+    String field;
+
+    @Label("Constraint")
+    String constraint;
+
+    @Label("Failed")
+    boolean failed;
+
+    @Label("Evaluation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long evaluationTime;
+}
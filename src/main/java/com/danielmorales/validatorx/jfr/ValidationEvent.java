@@ -0,0 +1,71 @@
+package com.danielmorales.validatorx.jfr;
+
+import com.danielmorales.validatorx.core.ValidationResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event for one top-level validation call. Disabled by default; enable it in a
+ * recording with {@code com.danielmorales.validatorx.Validation#enabled=true}.
+ *
+ * @author Daniel Morales
+ */
+@Name("com.danielmorales.validatorx.Validation")
+@Label("Validation")
+@Description("A top-level validation call")
+@Category("ValidatorX")
+@Enabled(false)
+@StackTrace(false)
+public final class ValidationEvent extends Event {
+    /** Annotation-based validation through {@code ValidatorEngine}. */
+    public static final String ANNOTATIONS = "annotations";
+    /** Validation through a fluent {@code ValidationBuilder}. */
+    public static final String FLUENT = "fluent";
+    /** Incremental revalidation of changed fields. */
+    public static final String INCREMENTAL = "incremental";
+    /** Validation of JSR 380 annotations. */
+    public static final String JSR380 = "jsr380";
+
+    @Label("Validated Class")
+    Class<?> validatedClass;
+
+    @Label("Error Count")
+    int errorCount;
+
+    @Label("Mode")
+    @Description("How the object was validated: annotations, fluent, incremental or jsr380")
+    String mode;
+
+    /**
+     * Creates an event and starts timing it.
+     *
+     * @return the event
+     */
+    public static ValidationEvent start() {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing this event and commits it if it is enabled and above its threshold.
+     *
+     * @param target the validated object (may be {@code null})
+     * @param mode   how the object was validated, one of the constants of this class
+     * @param result the validation result
+     */
+    public void finish(Object target, String mode, ValidationResult result) {
+        end();
+        if (shouldCommit()) {
+            this.validatedClass = target == null ? null : target.getClass();
+            this.errorCount = result.getErrors().size();
+            this.mode = mode;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.danielmorales.validatorx.jfr;
+
+import com.danielmorales.validatorx.metrics.MetricsRegistry;
+import com.danielmorales.validatorx.metrics.ValidationMetrics;
+import jdk.jfr.FlightRecorder;
+
+import java.time.Duration;
+
+/**
+ * Configures the ValidatorX JFR events: {@link ValidationEvent}, {@link PipelineExecutionEvent}
+ * and {@link SlowConstraintEvent}.
+ *
+ * <p>All events are disabled by default. Enable them per recording, in a custom {@code .jfc}
+ * settings file or with {@code Recording.enable("com.danielmorales.validatorx.Validation")}.
+ * While they are disabled, a validation commits no event and takes no timings.
+ *
+ * <p>Constraint evaluations are only timed while the {@code SlowConstraint} event is enabled
+ * (or while a {@link ValidationMetrics} sink is registered); only those slower than the
+ * threshold are committed.
+ *
+ * @author Daniel Morales
+ */
+public final class ValidationEvents {
+    /** The default slow-constraint threshold. */
+    public static final Duration DEFAULT_SLOW_CONSTRAINT_THRESHOLD = Duration.ofMillis(1);
+
+    /** Only used to ask whether the event is enabled; never committed. */
+    private static final SlowConstraintEvent SLOW_CONSTRAINT_PROBE = new SlowConstraintEvent();
+
+    private static volatile long slowConstraintThresholdNanos = DEFAULT_SLOW_CONSTRAINT_THRESHOLD.toNanos();
+    private static volatile Tee tee;
+
+    private ValidationEvents() {
+    }
+
+    /**
+     * Registers the event types with the flight recorder, so that they are listed in
+     * recording settings before the first validation runs.
+     */
+    public static void register() {
+        FlightRecorder.register(ValidationEvent.class);
+        FlightRecorder.register(PipelineExecutionEvent.class);
+        FlightRecorder.register(SlowConstraintEvent.class);
+    }
+
+    /**
+     * Sets the minimum evaluation time of a constraint for a {@link SlowConstraintEvent}.
+     *
+     * @param threshold the threshold; zero reports every evaluation
+     */
+    public static void setSlowConstraintThreshold(Duration threshold) {
+        if (threshold.isNegative()) {
+            throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+        }
+        slowConstraintThresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * @return the minimum evaluation time of a constraint for a {@link SlowConstraintEvent}
+     */
+    public static Duration getSlowConstraintThreshold() {
+        return Duration.ofNanos(slowConstraintThresholdNanos);
+    }
+
+    /**
+     * Returns the sink a validation should report constraint evaluations to: the registered
+     * {@link ValidationMetrics} sink, extended with slow-constraint events while they are enabled.
+     * Validators call this once per validation.
+     *
+     * @return the sink, or {@code null} if constraint evaluations need not be timed
+     */
+    public static ValidationMetrics sink() {
+        return sink(MetricsRegistry.get());
+    }
+
+    /**
+     * Returns the sink a validation should report constraint evaluations to: the given sink,
+     * extended with slow-constraint events while they are enabled.
+     *
+     * @param metrics the sink, or {@code null} if metrics are disabled
+     * @return the sink, or {@code null} if constraint evaluations need not be timed
+     */
+    public static ValidationMetrics sink(ValidationMetrics metrics) {
+        if (!SLOW_CONSTRAINT_PROBE.isEnabled()) {
+            return metrics;
+        }
+        if (metrics == null) {
+            return SlowConstraintSink.INSTANCE;
+        }
+        Tee current = tee;
+        if (current == null || current.metrics != metrics) {
+            current = new Tee(metrics);
+            tee = current;
+        }
+        return current;
+    }
+
+    /**
+     * Commits a slow-constraint event if the evaluation exceeded the threshold.
+     */
+    private static void recordSlowConstraint(Class<?> type, String field, String constraint, boolean failed,
+                                             long nanos) {
+        if (nanos < slowConstraintThresholdNanos) {
+            return;
+        }
+        SlowConstraintEvent event = new SlowConstraintEvent();
+        if (event.shouldCommit()) {
+            event.validatedClass = type;
+            event.field = field;
+            event.constraint = constraint;
+            event.failed = failed;
+            event.evaluationTime = nanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Reports slow constraints as JFR events.
+     */
+    private static final class SlowConstraintSink implements ValidationMetrics {
+        static final SlowConstraintSink INSTANCE = new SlowConstraintSink();
+
+        @Override
+        public void recordConstraint(Class<?> type, String field, String constraint, boolean failed, long nanos) {
+            recordSlowConstraint(type, field, constraint, failed, nanos);
+        }
+
+        @Override
+        public void recordValidation(Class<?> type, int errors, long nanos) {
+        }
+    }
+
+    /**
+     * Reports to the registered metrics sink and as JFR events.
+     */
+    private static final class Tee implements ValidationMetrics {
+        final ValidationMetrics metrics;
+
+        Tee(ValidationMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void recordConstraint(Class<?> type, String field, String constraint, boolean failed, long nanos) {
+            metrics.recordConstraint(type, field, constraint, failed, nanos);
+            recordSlowConstraint(type, field, constraint, failed, nanos);
+        }
+
+        @Override
+        public void recordValidation(Class<?> type, int errors, long nanos) {
+            metrics.recordValidation(type, errors, nanos);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.danielmorales.validatorx.management;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * The validation totals of one class, as reported by {@link ValidatorXMXBean#getClassStatistics()}.
+ * JMX clients see it as a {@code CompositeData} with one item per getter.
+ *
+ * @author Daniel Morales
+ */
+public final class ClassStatistics {
+    private final String className;
+    private final long validations;
+    private final long failedValidations;
+    private final long errors;
+    private final long totalNanos;
+
+    @ConstructorProperties({"className", "validations", "failedValidations", "errors", "totalNanos"})
+    public ClassStatistics(String className, long validations, long failedValidations, long errors,
+                           long totalNanos) {
+        this.className = className;
+        this.validations = validations;
+        this.failedValidations = failedValidations;
+        this.errors = errors;
+        this.totalNanos = totalNanos;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public long getValidations() {
+        return validations;
+    }
+
+    /**
+     * @return the number of validations that reported at least one error
+     */
+    public long getFailedValidations() {
+        return failedValidations;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return the mean time per validation, in nanoseconds
+     */
+    public double getMeanNanos() {
+        return validations == 0 ? 0 : (double) totalNanos / validations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d validations, %d failed, %d errors, %d ns total",
+                className, validations, failedValidations, errors, totalNanos);
+    }
+}
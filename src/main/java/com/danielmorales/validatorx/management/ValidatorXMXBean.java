@@ -0,0 +1,111 @@
+package com.danielmorales.validatorx.management;
+
+import java.util.List;
+
+/**
+ * The management interface of ValidatorX, exposed over JMX by {@link ValidatorXManagement}.
+ *
+ * <p>Read-only attributes report cache sizes and hit rates, registry versions and per-class
+ * validation statistics. Read-write attributes change runtime settings without a restart;
+ * every change takes effect for the next validation.
+ *
+ * @author Daniel Morales
+ */
+public interface ValidatorXMXBean {
+
+    // Settings
+
+    boolean isFailFastDefault();
+
+    void setFailFastDefault(boolean failFast);
+
+    boolean isMetricsEnabled();
+
+    /**
+     * Pauses or resumes metrics. The registered sink is kept while metrics are paused and
+     * reports again once they are resumed; a new in-memory sink is registered only if none is.
+     */
+    void setMetricsEnabled(boolean enabled);
+
+    boolean isSlowValidationLogEnabled();
+
+    void setSlowValidationLogEnabled(boolean enabled);
+
+    long getSlowValidationThresholdMillis();
+
+    void setSlowValidationThresholdMillis(long thresholdMillis);
+
+    boolean isLatencyHistogramsEnabled();
+
+    void setLatencyHistogramsEnabled(boolean enabled);
+
+    boolean isResultCacheEnabled();
+
+    void setResultCacheEnabled(boolean enabled);
+
+    int getResultCacheMaximumSize();
+
+    void setResultCacheMaximumSize(int maximumSize);
+
+    long getResultCacheMaximumWeight();
+
+    void setResultCacheMaximumWeight(long maximumWeight);
+
+    int getMemoizedRuleMaximumSize();
+
+    void setMemoizedRuleMaximumSize(int maximumSize);
+
+    // Registries
+
+    long getRuleRegistryVersion();
+
+    long getProfileRegistryVersion();
+
+    // Caches
+
+    int getPlanCacheSize();
+
+    int getReflectionCacheSize();
+
+    int getResultCacheSize();
+
+    long getResultCacheWeight();
+
+    long getResultCacheHitCount();
+
+    long getResultCacheMissCount();
+
+    long getResultCacheEvictionCount();
+
+    double getResultCacheHitRate();
+
+    int getMemoizedRuleSize();
+
+    long getMemoizedRuleHitCount();
+
+    long getMemoizedRuleMissCount();
+
+    double getMemoizedRuleHitRate();
+
+    // Statistics
+
+    long getSlowValidationCount();
+
+    /**
+     * @return the validation totals of every class, or an empty list unless the registered
+     * metrics sink is a {@code StripedValidationMetrics}
+     */
+    List<ClassStatistics> getClassStatistics();
+
+    // Operations
+
+    /**
+     * Removes every compiled plan, cached result and memoized rule outcome.
+     */
+    void clearCaches();
+
+    /**
+     * Resets the cache hit and miss counters and the per-class statistics.
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,285 @@
+package com.danielmorales.validatorx.management;
+
+import com.danielmorales.validatorx.core.PlanCache;
+import com.danielmorales.validatorx.core.ReflectionCache;
+import com.danielmorales.validatorx.core.ValidationPlan;
+import com.danielmorales.validatorx.core.ValidationProfileRegistry;
+import com.danielmorales.validatorx.core.ValidationResultCache;
+import com.danielmorales.validatorx.metrics.LatencyHistograms;
+import com.danielmorales.validatorx.metrics.MetricsRegistry;
+import com.danielmorales.validatorx.metrics.MetricsSnapshot;
+import com.danielmorales.validatorx.metrics.SlowValidationLog;
+import com.danielmorales.validatorx.metrics.StripedValidationMetrics;
+import com.danielmorales.validatorx.metrics.ValidationMetrics;
+import com.danielmorales.validatorx.rules.MemoizedRule;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exposes ValidatorX over JMX, so that caches and statistics can be inspected and settings
+ * changed at runtime from JConsole, VisualVM or any JMX agent.
+ *
+ * <p>The bean reads and writes the static settings of the library ({@link ValidationPlan},
+ * {@link ValidationResultCache}, {@link MemoizedRule}, {@link MetricsRegistry},
+ * {@link SlowValidationLog} and {@link LatencyHistograms}); it holds no state of its own.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * ValidatorXManagement.register();
+ * // com.danielmorales.validatorx:type=ValidatorX is now visible in JConsole
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class ValidatorXManagement implements ValidatorXMXBean {
+    /** The name the bean is registered under. */
+    public static final String OBJECT_NAME = "com.danielmorales.validatorx:type=ValidatorX";
+
+    /**
+     * Registers the bean with the platform MBean server, unless it is already registered.
+     *
+     * @return the name of the bean
+     * @throws IllegalStateException if the bean cannot be registered
+     */
+    public static synchronized ObjectName register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new ValidatorXManagement(), name);
+            }
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Removes the bean from the platform MBean server, if it is registered.
+     *
+     * @throws IllegalStateException if the bean cannot be unregistered
+     */
+    public static synchronized void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to unregister " + OBJECT_NAME, e);
+        }
+    }
+
+    @Override
+    public boolean isFailFastDefault() {
+        return ValidationPlan.isFailFastDefault();
+    }
+
+    @Override
+    public void setFailFastDefault(boolean failFast) {
+        ValidationPlan.setFailFastDefault(failFast);
+    }
+
+    @Override
+    public boolean isMetricsEnabled() {
+        return MetricsRegistry.isEnabled();
+    }
+
+    @Override
+    public void setMetricsEnabled(boolean enabled) {
+        MetricsRegistry.setEnabled(enabled);
+    }
+
+    @Override
+    public boolean isSlowValidationLogEnabled() {
+        return SlowValidationLog.isEnabled();
+    }
+
+    @Override
+    public void setSlowValidationLogEnabled(boolean enabled) {
+        if (enabled) {
+            SlowValidationLog.enable();
+        } else {
+            SlowValidationLog.disable();
+        }
+    }
+
+    @Override
+    public long getSlowValidationThresholdMillis() {
+        return SlowValidationLog.getThreshold().toMillis();
+    }
+
+    @Override
+    public void setSlowValidationThresholdMillis(long thresholdMillis) {
+        SlowValidationLog.setThreshold(Duration.ofMillis(thresholdMillis));
+    }
+
+    @Override
+    public boolean isLatencyHistogramsEnabled() {
+        return LatencyHistograms.isEnabled();
+    }
+
+    @Override
+    public void setLatencyHistogramsEnabled(boolean enabled) {
+        LatencyHistograms.setEnabled(enabled);
+    }
+
+    @Override
+    public boolean isResultCacheEnabled() {
+        return ValidationResultCache.isEnabled();
+    }
+
+    @Override
+    public void setResultCacheEnabled(boolean enabled) {
+        ValidationResultCache.setEnabled(enabled);
+    }
+
+    @Override
+    public int getResultCacheMaximumSize() {
+        return ValidationResultCache.getMaximumSize();
+    }
+
+    @Override
+    public void setResultCacheMaximumSize(int maximumSize) {
+        ValidationResultCache.setMaximumSize(maximumSize);
+    }
+
+    @Override
+    public long getResultCacheMaximumWeight() {
+        return ValidationResultCache.getMaximumWeight();
+    }
+
+    @Override
+    public void setResultCacheMaximumWeight(long maximumWeight) {
+        ValidationResultCache.setMaximumWeight(maximumWeight);
+    }
+
+    @Override
+    public int getMemoizedRuleMaximumSize() {
+        return MemoizedRule.getMaximumSize();
+    }
+
+    @Override
+    public void setMemoizedRuleMaximumSize(int maximumSize) {
+        MemoizedRule.setMaximumSize(maximumSize);
+    }
+
+    @Override
+    public long getRuleRegistryVersion() {
+        return RuleRegistry.snapshot().getVersion();
+    }
+
+    @Override
+    public long getProfileRegistryVersion() {
+        return ValidationProfileRegistry.getVersion();
+    }
+
+    @Override
+    public int getPlanCacheSize() {
+        return PlanCache.size();
+    }
+
+    @Override
+    public int getReflectionCacheSize() {
+        return ReflectionCache.size();
+    }
+
+    @Override
+    public int getResultCacheSize() {
+        return ValidationResultCache.getStats().getSize();
+    }
+
+    @Override
+    public long getResultCacheWeight() {
+        return ValidationResultCache.getStats().getWeight();
+    }
+
+    @Override
+    public long getResultCacheHitCount() {
+        return ValidationResultCache.getStats().getHitCount();
+    }
+
+    @Override
+    public long getResultCacheMissCount() {
+        return ValidationResultCache.getStats().getMissCount();
+    }
+
+    @Override
+    public long getResultCacheEvictionCount() {
+        return ValidationResultCache.getStats().getEvictionCount();
+    }
+
+    @Override
+    public double getResultCacheHitRate() {
+        return ValidationResultCache.getStats().getHitRate();
+    }
+
+    @Override
+    public int getMemoizedRuleSize() {
+        return MemoizedRule.size();
+    }
+
+    @Override
+    public long getMemoizedRuleHitCount() {
+        return MemoizedRule.getHitCount();
+    }
+
+    @Override
+    public long getMemoizedRuleMissCount() {
+        return MemoizedRule.getMissCount();
+    }
+
+    @Override
+    public double getMemoizedRuleHitRate() {
+        long hits = MemoizedRule.getHitCount();
+        long total = hits + MemoizedRule.getMissCount();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public long getSlowValidationCount() {
+        return SlowValidationLog.getSlowCount();
+    }
+
+    @Override
+    public List<ClassStatistics> getClassStatistics() {
+        ValidationMetrics metrics = MetricsRegistry.getRegistered();
+        if (!(metrics instanceof StripedValidationMetrics)) {
+            return Collections.emptyList();
+        }
+        List<ClassStatistics> statistics = new ArrayList<>();
+        for (MetricsSnapshot.ClassMetrics c : ((StripedValidationMetrics) metrics).snapshot().getClasses()) {
+            statistics.add(new ClassStatistics(c.getType().getName(), c.getValidations(),
+                    c.getFailedValidations(), c.getErrors(), c.getTotalNanos()));
+        }
+        return statistics;
+    }
+
+    @Override
+    public void clearCaches() {
+        PlanCache.clear();
+        ValidationResultCache.clear();
+        MemoizedRule.clear();
+    }
+
+    @Override
+    public void resetStatistics() {
+        ValidationResultCache.resetStats();
+        MemoizedRule.resetStats();
+        ValidationMetrics metrics = MetricsRegistry.getRegistered();
+        if (metrics instanceof StripedValidationMetrics) {
+            ((StripedValidationMetrics) metrics).reset();
+        }
+    }
+}
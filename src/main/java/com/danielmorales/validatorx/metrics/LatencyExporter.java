@@ -0,0 +1,26 @@
+package com.danielmorales.validatorx.metrics;
+
+/**
+ * Receives interval snapshots from {@link LatencyHistograms#exportInterval(LatencyExporter)},
+ * for example to publish them to a monitoring system.
+ *
+ * @author Daniel Morales
+ */
+public interface LatencyExporter {
+
+    /**
+     * Receives the latencies of one rule set.
+     *
+     * @param ruleSet   the rule set, or {@link LatencyHistograms#NO_RULE_SET}
+     * @param latencies the latencies recorded during the interval
+     */
+    void exportRuleSet(String ruleSet, LatencyHistogram.Snapshot latencies);
+
+    /**
+     * Receives the latencies of one validated class.
+     *
+     * @param type      the validated class
+     * @param latencies the latencies recorded during the interval
+     */
+    void exportClass(Class<?> type, LatencyHistogram.Snapshot latencies);
+}
@@ -0,0 +1,206 @@
+package com.danielmorales.validatorx.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free, fixed-size histogram of latencies in nanoseconds.
+ *
+ * <p>Buckets are log-linear: values below 64 ns each have their own bucket, and every power
+ * of two above that is split into 32 equal buckets. Every recorded value is therefore kept
+ * with a relative error below about 3%, in a fixed {@value #BUCKET_COUNT}-bucket array,
+ * whatever the distribution. Values above about 18 minutes are recorded as the maximum.
+ *
+ * <p>Recording is a single atomic increment and never allocates. Taking a snapshot does not
+ * block recording; {@link #snapshotAndReset()} moves each bucket's count into the snapshot
+ * atomically, so consecutive interval snapshots never lose or double-count a value.
+ *
+ * @author Daniel Morales
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int MAX_MAGNITUDE = 40;
+    /** The largest value recorded exactly; larger values are recorded as this. */
+    static final long MAX_VALUE = (1L << MAX_MAGNITUDE) - 1;
+    /** The number of buckets. */
+    static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency, in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketIndex(nanos < 0 ? 0 : Math.min(nanos, MAX_VALUE)));
+    }
+
+    /**
+     * Takes a snapshot of every value recorded since creation or since the last reset.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy);
+    }
+
+    /**
+     * Takes a snapshot and resets the histogram, for interval reporting.
+     *
+     * @return the values recorded since the last reset
+     */
+    public Snapshot snapshotAndReset() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.getAndSet(i, 0);
+        }
+        return new Snapshot(copy);
+    }
+
+    /**
+     * Resets every bucket to zero.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS + 1;
+        return shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long lowestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKETS - 1;
+        return (long) (index - shift * HALF_SUB_BUCKETS) << shift;
+    }
+
+    static long highestValue(int index) {
+        return index + 1 < BUCKET_COUNT ? lowestValue(index + 1) - 1 : MAX_VALUE;
+    }
+
+    /**
+     * An immutable copy of the buckets of a histogram.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+
+        Snapshot(long[] counts) {
+            this.counts = counts;
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            this.count = total;
+        }
+
+        /**
+         * @return the number of recorded values
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the value at a percentile, as the midpoint of the bucket it falls in.
+         *
+         * @param percentile the percentile, from 0 to 100
+         * @return the latency in nanoseconds, or 0 if no value was recorded
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return midpoint(i);
+                }
+            }
+            return midpoint(counts.length - 1);
+        }
+
+        /**
+         * @return the estimated mean latency in nanoseconds, or 0 if no value was recorded
+         */
+        public double getMean() {
+            if (count == 0) {
+                return 0;
+            }
+            double sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    sum += (double) counts[i] * midpoint(i);
+                }
+            }
+            return sum / count;
+        }
+
+        /**
+         * @return the highest value that may have been recorded, in nanoseconds, or 0 if none
+         */
+        public long getMax() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] != 0) {
+                    return highestValue(i);
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Passes every non-empty bucket to a consumer, in increasing order, for export to
+         * systems that store histograms natively.
+         *
+         * @param consumer receives the bounds of each bucket, in nanoseconds, and its count
+         */
+        public void forEachBucket(BucketConsumer consumer) {
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    consumer.accept(lowestValue(i), highestValue(i), counts[i]);
+                }
+            }
+        }
+
+        private static long midpoint(int index) {
+            long low = lowestValue(index);
+            return low + (highestValue(index) - low) / 2;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d p50=%dns p99=%dns p999=%dns max=%dns", count,
+                    getValueAtPercentile(50), getValueAtPercentile(99), getValueAtPercentile(99.9), getMax());
+        }
+    }
+
+    /**
+     * Receives the buckets of a {@link Snapshot}.
+     */
+    @FunctionalInterface
+    public interface BucketConsumer {
+        /**
+         * @param lowestNanos  the lowest value of the bucket, inclusive
+         * @param highestNanos the highest value of the bucket, inclusive
+         * @param count        the number of values in the bucket
+         */
+        void accept(long lowestNanos, long highestNanos, long count);
+    }
+}
@@ -0,0 +1,136 @@
+package com.danielmorales.validatorx.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency histograms of validation pipeline executions, per rule set and per validated class.
+ *
+ * <p>Recording is disabled by default. When it is enabled,
+ * {@link com.danielmorales.validatorx.pipeline.DefaultValidationPipeline} records the time of
+ * each execution (excluding callbacks) into the histogram of its rule set and the histogram of
+ * the request's class. Each histogram is a fixed-size {@link LatencyHistogram}, so memory
+ * grows only with the number of rule sets and classes.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * LatencyHistograms.setEnabled(true);
+ * // Every minute:
+ * LatencyHistograms.exportInterval(new LatencyExporter() {
+ *     public void exportRuleSet(String ruleSet, LatencyHistogram.Snapshot latencies) {
+ *         log.info("{}: {}", ruleSet, latencies);
+ *     }
+ *
+ *     public void exportClass(Class<?> type, LatencyHistogram.Snapshot latencies) {
+ *     }
+ * });
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class LatencyHistograms {
+    /** The rule set name recorded for pipelines without a rule set. */
+    public static final String NO_RULE_SET = "";
+
+    private static final Map<String, LatencyHistogram> byRuleSet = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, LatencyHistogram> byClass = new ConcurrentHashMap<>();
+    private static volatile boolean enabled;
+
+    private LatencyHistograms() {
+    }
+
+    /**
+     * Enables or disables recording. Recorded values are kept when disabling.
+     *
+     * @param enabled {@code true} to record pipeline latencies
+     */
+    public static void setEnabled(boolean enabled) {
+        LatencyHistograms.enabled = enabled;
+    }
+
+    /**
+     * @return {@code true} if pipeline latencies are recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records the latency of one validation. Called by the pipeline; applications may call it
+     * for their own validation paths, such as batches.
+     *
+     * @param ruleSet the rule set, or {@code null} for none
+     * @param type    the validated class, or {@code null} if unknown
+     * @param nanos   the latency, in nanoseconds
+     */
+    public static void record(String ruleSet, Class<?> type, long nanos) {
+        String key = ruleSet == null ? NO_RULE_SET : ruleSet;
+        LatencyHistogram forRuleSet = byRuleSet.get(key);
+        if (forRuleSet == null) {
+            forRuleSet = byRuleSet.computeIfAbsent(key, k -> new LatencyHistogram());
+        }
+        forRuleSet.record(nanos);
+        if (type != null) {
+            LatencyHistogram forClass = byClass.get(type);
+            if (forClass == null) {
+                forClass = byClass.computeIfAbsent(type, t -> new LatencyHistogram());
+            }
+            forClass.record(nanos);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the histogram of every rule set, without resetting them.
+     *
+     * @return the snapshots, keyed by rule set ({@link #NO_RULE_SET} for none)
+     */
+    public static Map<String, LatencyHistogram.Snapshot> snapshotByRuleSet() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new HashMap<>();
+        byRuleSet.forEach((ruleSet, histogram) -> snapshots.put(ruleSet, histogram.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Takes a snapshot of the histogram of every class, without resetting them.
+     *
+     * @return the snapshots, keyed by validated class
+     */
+    public static Map<Class<?>, LatencyHistogram.Snapshot> snapshotByClass() {
+        Map<Class<?>, LatencyHistogram.Snapshot> snapshots = new HashMap<>();
+        byClass.forEach((type, histogram) -> snapshots.put(type, histogram.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Passes the values recorded since the last interval to an exporter, and starts a new
+     * interval. Histograms without values in the interval are skipped.
+     *
+     * @param exporter the exporter
+     */
+    public static void exportInterval(LatencyExporter exporter) {
+        byRuleSet.forEach((ruleSet, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+            if (snapshot.getCount() > 0) {
+                exporter.exportRuleSet(ruleSet, snapshot);
+            }
+        });
+        byClass.forEach((type, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+            if (snapshot.getCount() > 0) {
+                exporter.exportClass(type, snapshot);
+            }
+        });
+    }
+
+    /**
+     * Removes every histogram.
+     */
+    public static void clear() {
+        byRuleSet.clear();
+        byClass.clear();
+    }
+}
@@ -0,0 +1,98 @@
+package com.danielmorales.validatorx.metrics;
+
+/**
+ * Holds the {@link ValidationMetrics} sink that validators report into.
+ *
+ * <p>Metrics are disabled until a sink is registered. A registered sink can be paused with
+ * {@link #setEnabled(boolean)} and resumed later: it stays registered, and validators skip it
+ * while metrics are paused.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * StripedValidationMetrics metrics = MetricsRegistry.enable();
+ * // ... validate ...
+ * metrics.snapshot().getConstraintsByTotalTime().stream()
+ *         .limit(10)
+ *         .forEach(System.out::println);
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class MetricsRegistry {
+    private static volatile ValidationMetrics metrics;
+    private static volatile boolean paused;
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Registers a sink, replacing the current one, and resumes metrics if they were paused.
+     *
+     * @param metrics the sink, or {@code null} to disable metrics
+     */
+    public static void register(ValidationMetrics metrics) {
+        MetricsRegistry.metrics = metrics;
+        paused = false;
+    }
+
+    /**
+     * Registers a new in-memory {@link StripedValidationMetrics} sink.
+     *
+     * @return the registered sink
+     */
+    public static StripedValidationMetrics enable() {
+        StripedValidationMetrics striped = new StripedValidationMetrics();
+        register(striped);
+        return striped;
+    }
+
+    /**
+     * Disables metrics.
+     */
+    public static void disable() {
+        register(null);
+    }
+
+    /**
+     * Pauses or resumes metrics without replacing the registered sink. Resuming with no sink
+     * registered registers a new {@link StripedValidationMetrics}.
+     *
+     * @param enabled {@code false} to pause metrics, {@code true} to resume them
+     */
+    public static void setEnabled(boolean enabled) {
+        if (!enabled) {
+            paused = true;
+        } else if (metrics == null) {
+            enable();
+        } else {
+            paused = false;
+        }
+    }
+
+    /**
+     * @return {@code true} if a sink is registered and metrics are not paused
+     */
+    public static boolean isEnabled() {
+        return !paused && metrics != null;
+    }
+
+    /**
+     * Returns the sink validators report to. Validators call this once per validation.
+     *
+     * @return the sink, or {@code null} if metrics are disabled or paused
+     */
+    public static ValidationMetrics get() {
+        return paused ? null : metrics;
+    }
+
+    /**
+     * Returns the registered sink, even while metrics are paused, to read what it recorded.
+     *
+     * @return the sink, or {@code null} if none is registered
+     */
+    public static ValidationMetrics getRegistered() {
+        return metrics;
+    }
+}
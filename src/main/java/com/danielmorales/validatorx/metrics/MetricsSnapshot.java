@@ -0,0 +1,194 @@
+package com.danielmorales.validatorx.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable copy of the counters of a {@link StripedValidationMetrics} sink.
+ *
+ * @author Daniel Morales
+ */
+public final class MetricsSnapshot {
+    private final List<ConstraintMetrics> constraints;
+    private final List<ClassMetrics> classes;
+
+    MetricsSnapshot(List<ConstraintMetrics> constraints, List<ClassMetrics> classes) {
+        this.constraints = Collections.unmodifiableList(constraints);
+        this.classes = Collections.unmodifiableList(classes);
+    }
+
+    /**
+     * @return the counters of every constraint evaluated so far
+     */
+    public List<ConstraintMetrics> getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * @return the constraints, most expensive (by cumulative time) first
+     */
+    public List<ConstraintMetrics> getConstraintsByTotalTime() {
+        List<ConstraintMetrics> sorted = new ArrayList<>(constraints);
+        sorted.sort(Comparator.comparingLong(ConstraintMetrics::getTotalNanos).reversed());
+        return sorted;
+    }
+
+    /**
+     * @return the totals of every class validated so far
+     */
+    public List<ClassMetrics> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Finds the counters of one constraint.
+     *
+     * @param type       the validated class
+     * @param field      the field, or {@code null} for object-level constraints
+     * @param constraint the constraint type
+     * @return the counters, or {@code null} if the constraint was never evaluated
+     */
+    public ConstraintMetrics getConstraint(Class<?> type, String field, String constraint) {
+        String key = field == null ? "" : field;
+        for (ConstraintMetrics metrics : constraints) {
+            if (metrics.type == type && metrics.field.equals(key) && metrics.constraint.equals(constraint)) {
+                return metrics;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the totals of one class.
+     *
+     * @param type the validated class
+     * @return the totals, or {@code null} if the class was never validated
+     */
+    public ClassMetrics getClass(Class<?> type) {
+        for (ClassMetrics metrics : classes) {
+            if (metrics.type == type) {
+                return metrics;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The counters of one constraint on one field of a class.
+     */
+    public static final class ConstraintMetrics {
+        private final Class<?> type;
+        private final String field;
+        private final String constraint;
+        private final long evaluations;
+        private final long failures;
+        private final long totalNanos;
+
+        ConstraintMetrics(Class<?> type, String field, String constraint, long evaluations, long failures,
+                          long totalNanos) {
+            this.type = type;
+            this.field = field;
+            this.constraint = constraint;
+            this.evaluations = evaluations;
+            this.failures = failures;
+            this.totalNanos = totalNanos;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * @return the field name, or an empty string for object-level constraints
+         */
+        public String getField() {
+            return field;
+        }
+
+        public String getConstraint() {
+            return constraint;
+        }
+
+        public long getEvaluations() {
+            return evaluations;
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return the mean time per evaluation, in nanoseconds
+         */
+        public double getMeanNanos() {
+            return evaluations == 0 ? 0 : (double) totalNanos / evaluations;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s.%s %s: %d evaluations, %d failures, %d ns total",
+                    type.getSimpleName(), field, constraint, evaluations, failures, totalNanos);
+        }
+    }
+
+    /**
+     * The totals of one class.
+     */
+    public static final class ClassMetrics {
+        private final Class<?> type;
+        private final long validations;
+        private final long failedValidations;
+        private final long errors;
+        private final long totalNanos;
+
+        ClassMetrics(Class<?> type, long validations, long failedValidations, long errors, long totalNanos) {
+            this.type = type;
+            this.validations = validations;
+            this.failedValidations = failedValidations;
+            this.errors = errors;
+            this.totalNanos = totalNanos;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public long getValidations() {
+            return validations;
+        }
+
+        /**
+         * @return the number of validations that reported at least one error
+         */
+        public long getFailedValidations() {
+            return failedValidations;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return the mean time per validation, in nanoseconds
+         */
+        public double getMeanNanos() {
+            return validations == 0 ? 0 : (double) totalNanos / validations;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d validations, %d failed, %d errors, %d ns total",
+                    type.getSimpleName(), validations, failedValidations, errors, totalNanos);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.danielmorales.validatorx.metrics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A breakdown of one validation that exceeded the {@link SlowValidationLog} threshold.
+ *
+ * <p>The breakdown comes from replaying the validation once with every constraint timed, right
+ * after it was found to be slow. Entries are ordered from slowest to fastest. A
+ * {@code cascade} entry covers a whole nested validation, so its time includes the time of the
+ * entries below it. The elements of a collection or array share one path, such as
+ * {@code lines[*].sku}, and their evaluations are added up in one entry.
+ *
+ * @author Daniel Morales
+ */
+public final class SlowValidation {
+    private final Instant timestamp;
+    private final Class<?> type;
+    private final long durationNanos;
+    private final long replayNanos;
+    private final int cascadeDepth;
+    private final int evaluationCount;
+    private final List<Entry> entries;
+
+    /**
+     * Creates a breakdown, keeping the slowest entries.
+     *
+     * @param timestamp     when the validation finished
+     * @param type          the validated class
+     * @param durationNanos the duration of the slow validation
+     * @param replayNanos   the duration of the timed replay
+     * @param cascadeDepth  the deepest level of nested validation reached (0 without cascades)
+     * @param entries       every evaluation of the replay
+     * @param maxEntries    the number of slowest entries to keep
+     */
+    public SlowValidation(Instant timestamp, Class<?> type, long durationNanos, long replayNanos, int cascadeDepth,
+                          List<Entry> entries, int maxEntries) {
+        this(timestamp, type, durationNanos, replayNanos, cascadeDepth, entries.size(), entries, maxEntries);
+    }
+
+    /**
+     * Creates a breakdown from entries that were already aggregated or bounded while recording,
+     * keeping the slowest of them.
+     *
+     * @param timestamp       when the validation finished
+     * @param type            the validated class
+     * @param durationNanos   the duration of the slow validation
+     * @param replayNanos     the duration of the timed replay
+     * @param cascadeDepth    the deepest level of nested validation reached (0 without cascades)
+     * @param evaluationCount the number of evaluations of the replay
+     * @param entries         the recorded entries
+     * @param maxEntries      the number of slowest entries to keep
+     */
+    public SlowValidation(Instant timestamp, Class<?> type, long durationNanos, long replayNanos, int cascadeDepth,
+                          int evaluationCount, List<Entry> entries, int maxEntries) {
+        this.timestamp = timestamp;
+        this.type = type;
+        this.durationNanos = durationNanos;
+        this.replayNanos = replayNanos;
+        this.cascadeDepth = cascadeDepth;
+        this.evaluationCount = evaluationCount;
+        List<Entry> slowest = new ArrayList<>(entries);
+        slowest.sort(Comparator.comparingLong(Entry::getNanos).reversed());
+        this.entries = Collections.unmodifiableList(
+                new ArrayList<>(slowest.subList(0, Math.min(maxEntries, slowest.size()))));
+    }
+
+    /**
+     * @return when the validation finished
+     */
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the validated class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return the duration of the validation that exceeded the threshold, in nanoseconds
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Returns the duration of the timed replay. A replay much faster than the original
+     * validation points to a cause outside the input, such as a GC pause or a cold cache.
+     *
+     * @return the duration of the replay, in nanoseconds
+     */
+    public long getReplayNanos() {
+        return replayNanos;
+    }
+
+    /**
+     * @return the deepest level of nested validation reached (0 if nothing was cascaded into)
+     */
+    public int getCascadeDepth() {
+        return cascadeDepth;
+    }
+
+    /**
+     * @return the number of evaluations in the replay, including those not kept as entries
+     */
+    public int getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    /**
+     * @return the slowest evaluations, slowest first
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(type.getName()).append(" took ").append(millis(durationNanos)).append(" ms (replay ")
+                .append(millis(replayNanos)).append(" ms, ").append(evaluationCount).append(" evaluations, depth ")
+                .append(cascadeDepth).append(')');
+        for (Entry entry : entries) {
+            sb.append(System.lineSeparator()).append("  ").append(entry);
+        }
+        return sb.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * One timed evaluation of a constraint or a nested validation, or the sum of the
+     * evaluations of the elements of a collection under the same path.
+     */
+    public static final class Entry {
+        /** The constraint type of entries that cover a nested validation. */
+        public static final String CASCADE = "cascade";
+
+        private final String path;
+        private final Class<?> type;
+        private final String constraint;
+        private final boolean failed;
+        private final long nanos;
+        private final int depth;
+        private final int inputSize;
+        private final int count;
+
+        /**
+         * @param path       the path of the field from the validated object, such as {@code items[2].sku}
+         * @param type       the class declaring the field
+         * @param constraint the constraint type, as reported to {@link ValidationMetrics}
+         * @param failed     whether the evaluation reported an error
+         * @param nanos      the evaluation time
+         * @param depth      the level of nested validation (0 for the validated object)
+         * @param inputSize  the length of a string or the size of a collection, map or array,
+         *                   or {@code -1} for other values
+         */
+        public Entry(String path, Class<?> type, String constraint, boolean failed, long nanos, int depth,
+                     int inputSize) {
+            this(path, type, constraint, failed, nanos, depth, inputSize, 1);
+        }
+
+        /**
+         * @param path       the path of the field from the validated object, such as {@code items[*].sku}
+         * @param type       the class declaring the field
+         * @param constraint the constraint type, as reported to {@link ValidationMetrics}
+         * @param failed     whether any of the evaluations reported an error
+         * @param nanos      the total time of the evaluations
+         * @param depth      the level of nested validation (0 for the validated object)
+         * @param inputSize  the largest length of a string or size of a collection, map or array,
+         *                   or {@code -1} for other values
+         * @param count      the number of evaluations added up in this entry
+         */
+        public Entry(String path, Class<?> type, String constraint, boolean failed, long nanos, int depth,
+                     int inputSize, int count) {
+            this.path = path;
+            this.type = type;
+            this.constraint = constraint;
+            this.failed = failed;
+            this.nanos = nanos;
+            this.depth = depth;
+            this.inputSize = inputSize;
+            this.count = count;
+        }
+
+        /**
+         * @return the path of the field from the validated object, such as {@code items[2].sku}
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return the class declaring the field
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * @return the constraint type, or {@link #CASCADE} for a nested validation
+         */
+        public String getConstraint() {
+            return constraint;
+        }
+
+        /**
+         * @return {@code true} if the evaluation reported an error
+         */
+        public boolean isFailed() {
+            return failed;
+        }
+
+        /**
+         * @return the evaluation time, in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return the level of nested validation (0 for the validated object)
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * @return the length of a string or the size of a collection, map or array (the largest
+         *         one for the elements of a collection), or {@code -1} if the value has no size
+         */
+        public int getInputSize() {
+            return inputSize;
+        }
+
+        /**
+         * @return the number of evaluations added up in this entry (1 outside collections)
+         */
+        public int getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s: %d ns%s%s%s", path, constraint, nanos, count > 1 ? " in " + count : "",
+                    inputSize >= 0 ? ", size " + inputSize : "", failed ? ", failed" : "");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.danielmorales.validatorx.metrics;
+
+/**
+ * Receives the breakdown of each slow validation captured by the {@link SlowValidationLog}.
+ *
+ * <p>Listeners are called on the validating thread, right after the breakdown is captured,
+ * and should hand it off quickly (for example to a logger).
+ *
+ * @author Daniel Morales
+ */
+@FunctionalInterface
+public interface SlowValidationListener {
+
+    /**
+     * Called for each captured slow validation.
+     *
+     * @param validation the breakdown
+     */
+    void onSlowValidation(SlowValidation validation);
+}
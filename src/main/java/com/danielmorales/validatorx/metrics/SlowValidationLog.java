@@ -0,0 +1,281 @@
+package com.danielmorales.validatorx.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Captures a breakdown of validations slower than a threshold, for production troubleshooting.
+ *
+ * <p>While the log is enabled, every full validation of a compiled plan is timed. When one
+ * takes longer than the threshold, it is replayed once with every constraint timed, and the
+ * resulting {@link SlowValidation} (time per field and constraint, cascade depth, string
+ * lengths and collection sizes) is kept in a bounded ring and passed to the listeners.
+ *
+ * <p>The replay runs on the calling thread, right after the slow validation, and evaluates
+ * every check again, including user predicates and registered rules. Its breakdown is bounded:
+ * collection elements are added up per field and constraint, and only the slowest timings are
+ * kept.
+ *
+ * <p>Captures are rate limited: at most one per {@linkplain #setMinCaptureInterval interval}
+ * (one second by default), so a burst of slow inputs costs at most one replay per interval.
+ * Slow validations that are not captured are only counted. While the log is disabled, a
+ * validation pays a single volatile read.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * SlowValidationLog.enable(Duration.ofMillis(20));
+ * SlowValidationLog.addListener(slow -> log.warn("Slow validation: {}", slow));
+ * }
+ * </pre>
+ *
+ * @author Daniel Morales
+ */
+public final class SlowValidationLog {
+    /** The default threshold. */
+    public static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(10);
+    /** The default minimum interval between two captures. */
+    public static final Duration DEFAULT_MIN_CAPTURE_INTERVAL = Duration.ofSeconds(1);
+    /** The default number of captures kept. */
+    public static final int DEFAULT_CAPACITY = 32;
+    /** The default number of entries kept per capture. */
+    public static final int DEFAULT_MAX_ENTRIES = 20;
+
+    private static final List<SlowValidationListener> listeners = new CopyOnWriteArrayList<>();
+    private static final AtomicLong nextCapture = new AtomicLong(Long.MIN_VALUE);
+    private static final AtomicLong written = new AtomicLong();
+    private static final LongAdder slowCount = new LongAdder();
+    private static final LongAdder capturedCount = new LongAdder();
+
+    private static volatile boolean enabled;
+    private static volatile long thresholdNanos = DEFAULT_THRESHOLD.toNanos();
+    private static volatile long minCaptureIntervalNanos = DEFAULT_MIN_CAPTURE_INTERVAL.toNanos();
+    private static volatile int maxEntries = DEFAULT_MAX_ENTRIES;
+    private static volatile AtomicReferenceArray<SlowValidation> ring = new AtomicReferenceArray<>(DEFAULT_CAPACITY);
+
+    private SlowValidationLog() {
+    }
+
+    /**
+     * Enables the log with the current threshold.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Enables the log with a threshold.
+     *
+     * @param threshold the minimum duration of a validation to capture
+     */
+    public static void enable(Duration threshold) {
+        setThreshold(threshold);
+        enable();
+    }
+
+    /**
+     * Disables the log. Captured validations are kept.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * @return {@code true} if validations are timed against the threshold
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the minimum duration of a validation to capture.
+     *
+     * @param threshold the threshold
+     */
+    public static void setThreshold(Duration threshold) {
+        if (threshold.isNegative()) {
+            throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+        }
+        thresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * @return the minimum duration of a validation to capture
+     */
+    public static Duration getThreshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    /**
+     * Sets the minimum time between two captures. Zero captures every slow validation.
+     *
+     * @param interval the interval
+     */
+    public static void setMinCaptureInterval(Duration interval) {
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("Interval must not be negative: " + interval);
+        }
+        minCaptureIntervalNanos = interval.toNanos();
+        nextCapture.set(Long.MIN_VALUE);
+    }
+
+    /**
+     * @return the minimum time between two captures
+     */
+    public static Duration getMinCaptureInterval() {
+        return Duration.ofNanos(minCaptureIntervalNanos);
+    }
+
+    /**
+     * Sets the number of captures kept, and removes the current ones.
+     *
+     * @param capacity the number of captures
+     */
+    public static synchronized void setCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        ring = new AtomicReferenceArray<>(capacity);
+        written.set(0);
+    }
+
+    /**
+     * @return the number of captures kept
+     */
+    public static int getCapacity() {
+        return ring.length();
+    }
+
+    /**
+     * Sets the number of slowest evaluations kept per capture.
+     *
+     * @param maxEntries the number of entries
+     */
+    public static void setMaxEntries(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Max entries must be at least 1: " + maxEntries);
+        }
+        SlowValidationLog.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return the number of slowest evaluations kept per capture
+     */
+    public static int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Adds a listener for captured slow validations.
+     *
+     * @param listener the listener
+     */
+    public static void addListener(SlowValidationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener
+     */
+    public static void removeListener(SlowValidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the captured slow validations still in the ring.
+     *
+     * @return the captures, most recent first
+     */
+    public static List<SlowValidation> getRecent() {
+        AtomicReferenceArray<SlowValidation> current = ring;
+        long end = written.get();
+        List<SlowValidation> recent = new ArrayList<>();
+        for (long i = end - 1; i >= 0 && i >= end - current.length(); i--) {
+            SlowValidation validation = current.get((int) (i % current.length()));
+            if (validation != null) {
+                recent.add(validation);
+            }
+        }
+        return recent;
+    }
+
+    /**
+     * @return the number of validations that exceeded the threshold, captured or not
+     */
+    public static long getSlowCount() {
+        return slowCount.sum();
+    }
+
+    /**
+     * @return the number of slow validations captured
+     */
+    public static long getCapturedCount() {
+        return capturedCount.sum();
+    }
+
+    /**
+     * Removes every capture and resets the counters and the rate limit.
+     */
+    public static synchronized void clear() {
+        ring = new AtomicReferenceArray<>(ring.length());
+        written.set(0);
+        slowCount.reset();
+        capturedCount.reset();
+        nextCapture.set(Long.MIN_VALUE);
+    }
+
+    /**
+     * Starts timing a validation. Called by validators.
+     *
+     * @return the start time, or {@code 0} if the log is disabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Tells whether a finished validation should be replayed and captured. Counts the
+     * validation if it is slow, and takes the capture slot of the current interval.
+     * Called by validators.
+     *
+     * @param durationNanos the duration of the validation
+     * @return {@code true} if the caller should capture a breakdown and {@link #publish} it
+     */
+    public static boolean shouldCapture(long durationNanos) {
+        if (durationNanos < thresholdNanos) {
+            return false;
+        }
+        slowCount.increment();
+        long now = System.nanoTime();
+        long next = nextCapture.get();
+        return (next == Long.MIN_VALUE || now - next >= 0)
+                && nextCapture.compareAndSet(next, now + minCaptureIntervalNanos);
+    }
+
+    /**
+     * Adds a captured slow validation to the ring and passes it to the listeners.
+     * Called by validators.
+     *
+     * @param validation the breakdown
+     */
+    public static void publish(SlowValidation validation) {
+        capturedCount.increment();
+        AtomicReferenceArray<SlowValidation> current = ring;
+        long index = written.getAndIncrement();
+        current.set((int) (index % current.length()), validation);
+        for (SlowValidationListener listener : listeners) {
+            try {
+                listener.onSlowValidation(validation);
+            } catch (RuntimeException e) {
+                // A failing listener must not fail the validation
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.danielmorales.validatorx.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An in-memory {@link ValidationMetrics} sink that keeps counters per (class, field,
+ * constraint type) and totals per class.
+ *
+ * <p>Counters are {@link LongAdder}s, which stripe updates across cells, so threads
+ * validating the same class do not contend on a single counter. Counters are looked up
+ * through nested maps keyed by the class, the field name and the constraint type, so
+ * recording does not allocate once a constraint has been seen.
+ *
+ * @author Daniel Morales
+ */
+public class StripedValidationMetrics implements ValidationMetrics {
+    private final Map<Class<?>, ClassCounters> classes = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordConstraint(Class<?> type, String field, String constraint, boolean failed, long nanos) {
+        Counters counters = counters(type).constraint(field, constraint);
+        counters.evaluations.increment();
+        if (failed) {
+            counters.failures.increment();
+        }
+        counters.nanos.add(nanos);
+    }
+
+    @Override
+    public void recordValidation(Class<?> type, int errors, long nanos) {
+        ClassCounters counters = counters(type);
+        counters.totals.evaluations.increment();
+        if (errors > 0) {
+            counters.totals.failures.increment();
+            counters.errors.add(errors);
+        }
+        counters.totals.nanos.add(nanos);
+    }
+
+    /**
+     * Takes a snapshot of every counter. Counters updated while the snapshot is taken may
+     * be reflected or not.
+     *
+     * @return the snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        List<MetricsSnapshot.ConstraintMetrics> constraints = new ArrayList<>();
+        List<MetricsSnapshot.ClassMetrics> totals = new ArrayList<>();
+        for (Map.Entry<Class<?>, ClassCounters> byClass : classes.entrySet()) {
+            Class<?> type = byClass.getKey();
+            ClassCounters counters = byClass.getValue();
+            totals.add(new MetricsSnapshot.ClassMetrics(type, counters.totals.evaluations.sum(),
+                    counters.totals.failures.sum(), counters.errors.sum(), counters.totals.nanos.sum()));
+            for (Map.Entry<String, Map<String, Counters>> byField : counters.fields.entrySet()) {
+                for (Map.Entry<String, Counters> byConstraint : byField.getValue().entrySet()) {
+                    Counters c = byConstraint.getValue();
+                    constraints.add(new MetricsSnapshot.ConstraintMetrics(type, byField.getKey(),
+                            byConstraint.getKey(), c.evaluations.sum(), c.failures.sum(), c.nanos.sum()));
+                }
+            }
+        }
+        return new MetricsSnapshot(constraints, totals);
+    }
+
+    /**
+     * Resets every counter to zero.
+     */
+    public void reset() {
+        classes.clear();
+    }
+
+    private ClassCounters counters(Class<?> type) {
+        ClassCounters counters = classes.get(type);
+        return counters != null ? counters : classes.computeIfAbsent(type, t -> new ClassCounters());
+    }
+
+    /**
+     * The counters of one class.
+     */
+    private static final class ClassCounters {
+        final Counters totals = new Counters();
+        final LongAdder errors = new LongAdder();
+        final Map<String, Map<String, Counters>> fields = new ConcurrentHashMap<>();
+
+        Counters constraint(String field, String constraint) {
+            // Object-level constraints have no field
+            String key = field == null ? "" : field;
+            Map<String, Counters> byConstraint = fields.get(key);
+            if (byConstraint == null) {
+                byConstraint = fields.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+            }
+            Counters counters = byConstraint.get(constraint);
+            return counters != null ? counters : byConstraint.computeIfAbsent(constraint, c -> new Counters());
+        }
+    }
+
+    /**
+     * Evaluation, failure and time counters.
+     */
+    private static final class Counters {
+        final LongAdder evaluations = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+    }
+}
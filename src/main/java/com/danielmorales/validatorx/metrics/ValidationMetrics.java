@@ -0,0 +1,40 @@
+package com.danielmorales.validatorx.metrics;
+
+/**
+ * A sink for validation metrics. Implement this interface to forward ValidatorX metrics to a
+ * monitoring system, or use {@link StripedValidationMetrics}, which aggregates them in memory.
+ *
+ * <p>Metrics are only collected while an instance is registered with
+ * {@link MetricsRegistry#register(ValidationMetrics)}. Without one, the validators read a
+ * single volatile field per validation and take no timings.
+ *
+ * <p>Implementations are called concurrently from every validating thread and must be
+ * thread-safe. They should return quickly, since they run inside every constraint evaluation.
+ *
+ * @author Daniel Morales
+ */
+public interface ValidationMetrics {
+
+    /**
+     * Records the evaluation of one constraint on one field.
+     *
+     * @param type       the class being validated
+     * @param field      the field the constraint applies to (for cross-field constraints, the
+     *                   field errors are reported on)
+     * @param constraint the constraint type, such as {@code NotNull}, {@code jsr380:Size},
+     *                   {@code rule:sku} for a registered rule or {@code isEmail} for a fluent rule
+     * @param failed     {@code true} if the constraint reported an error
+     * @param nanos      the time spent evaluating the constraint, in nanoseconds
+     */
+    void recordConstraint(Class<?> type, String field, String constraint, boolean failed, long nanos);
+
+    /**
+     * Records one validation pass over an object. Nested objects validated through a cascade
+     * are recorded as passes of their own, and their time is included in the outer pass.
+     *
+     * @param type   the class being validated
+     * @param errors the number of errors the pass reported
+     * @param nanos  the time spent in the pass, in nanoseconds
+     */
+    void recordValidation(Class<?> type, int errors, long nanos);
+}
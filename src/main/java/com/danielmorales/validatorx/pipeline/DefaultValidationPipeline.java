@@ -1,9 +1,16 @@
 package com.danielmorales.validatorx.pipeline;
 
+import com.danielmorales.validatorx.core.Groups;
+import com.danielmorales.validatorx.core.PlanCache;
+import com.danielmorales.validatorx.core.ValidationContext;
 import com.danielmorales.validatorx.core.ValidationResult;
+import com.danielmorales.validatorx.core.ValidationResultCache;
 import com.danielmorales.validatorx.core.Validator;
 import com.danielmorales.validatorx.core.ValidationProfileRegistry;
+import com.danielmorales.validatorx.jfr.PipelineExecutionEvent;
+import com.danielmorales.validatorx.metrics.LatencyHistograms;
 
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
@@ -16,6 +23,7 @@ import java.util.function.Consumer;
 public class DefaultValidationPipeline<T> implements ValidationPipeline<T> {
     private T request;
     private String ruleSetName;
+    private Class<?>[] groups;
     private Consumer<ValidationResult> failureAction;
     private Runnable successAction;
 
@@ -44,6 +52,21 @@ public class DefaultValidationPipeline<T> implements ValidationPipeline<T> {
         return this;
     }
 
+    /**
+     * Selects the validation groups whose annotation constraints are enforced.
+     * A separate plan is compiled per group set, so other constraints cost nothing.
+     * Without this call, the groups of the bound {@link ValidationContext} apply, or
+     * {@code Default} if it selects none.
+     *
+     * @param groups the validation groups
+     * @return the current pipeline instance for method chaining
+     */
+    @Override
+    public ValidationPipeline<T> withGroups(Class<?>... groups) {
+        this.groups = groups.clone();
+        return this;
+    }
+
     /**
      * Defines a callback function to be executed if validation fails.
      *
@@ -70,26 +93,21 @@ public class DefaultValidationPipeline<T> implements ValidationPipeline<T> {
 
     /**
      * Executes the validation pipeline.
-     * It first performs annotation-based and fluent validation, applies any specified rule set,
-     * and then triggers the appropriate callback based on the validation result.
+     * The annotation-based checks and the specified rule set are compiled into a single plan
+     * per (class, rule set), so the request is read once in a single pass. The appropriate
+     * callback is then triggered based on the validation result.
      */
     @Override
     public void execute() {
-        // Run the base (annotation-based and fluent) validations.
-        ValidationResult result = Validator.check(request).validate();
-
-        // If a rule set (profile) is specified, look it up and apply it.
-        if (ruleSetName != null) {
-            Consumer<Validator.ValidationBuilder> profile = ValidationProfileRegistry.getProfile(ruleSetName);
-            if (profile != null) {
-                // Create a new builder for additional rules (skip annotations)
-                Validator.ValidationBuilder profileBuilder = Validator.check(request).skipAnnotations();
-                // Apply the profile validations
-                profile.accept(profileBuilder);
-                // Merge errors from the profile into the overall result.
-                ValidationResult profileResult = profileBuilder.validate();
-                result.getErrors().addAll(profileResult.getErrors());
-            }
+        PipelineExecutionEvent event = PipelineExecutionEvent.start();
+        long start = LatencyHistograms.isEnabled() ? System.nanoTime() : 0L;
+        // Run the annotation-based validations and the rule set (profile), if any, together.
+        ValidationResult result = request == null
+                ? Validator.check(null).validate()
+                : ValidationResultCache.validate(PlanCache.getPlan(request.getClass(), ruleSetName, activeGroups()),
+                        request);
+        if (start != 0L) {
+            LatencyHistograms.record(ruleSetName, request == null ? null : request.getClass(), System.nanoTime() - start);
         }
 
         // Evaluate and trigger the appropriate callback.
@@ -102,5 +120,18 @@ public class DefaultValidationPipeline<T> implements ValidationPipeline<T> {
                 successAction.run();
             }
         }
+        event.finish(ruleSetName, request, result);
+    }
+
+    /**
+     * @return the groups selected with {@link #withGroups}, else those of the bound
+     *         {@link ValidationContext}, else {@code Default}
+     */
+    private Class<?>[] activeGroups() {
+        if (groups != null) {
+            return groups;
+        }
+        Set<Class<?>> bound = ValidationContext.current().getGroups();
+        return (bound != null ? bound : Groups.DEFAULT).toArray(new Class<?>[0]);
     }
 }
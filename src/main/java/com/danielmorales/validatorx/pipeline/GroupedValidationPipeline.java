@@ -0,0 +1,71 @@
+package com.danielmorales.validatorx.pipeline;
+
+import com.danielmorales.validatorx.core.ValidationContext;
+import com.danielmorales.validatorx.core.ValidationResult;
+
+import java.util.function.Consumer;
+
+/**
+ * Executes another pipeline with validation groups selected by a bound {@link ValidationContext}.
+ * Returned by the default {@link ValidationPipeline#withGroups(Class[])}.
+ *
+ * @param <T> The type of object to validate.
+ */
+final class GroupedValidationPipeline<T> implements ValidationPipeline<T> {
+    private final ValidationPipeline<T> delegate;
+    private Class<?>[] groups;
+
+    /**
+     * Constructs a {@code GroupedValidationPipeline}.
+     *
+     * @param delegate the pipeline to execute
+     * @param groups   the validation groups
+     */
+    GroupedValidationPipeline(ValidationPipeline<T> delegate, Class<?>[] groups) {
+        this.delegate = delegate;
+        this.groups = groups.clone();
+    }
+
+    @Override
+    public ValidationPipeline<T> validateRequest(T request) {
+        delegate.validateRequest(request);
+        return this;
+    }
+
+    @Override
+    public ValidationPipeline<T> withRuleSet(String ruleSetName) {
+        delegate.withRuleSet(ruleSetName);
+        return this;
+    }
+
+    @Override
+    public ValidationPipeline<T> withGroups(Class<?>... groups) {
+        this.groups = groups.clone();
+        return this;
+    }
+
+    @Override
+    public ValidationPipeline<T> onFailure(Consumer<ValidationResult> action) {
+        delegate.onFailure(action);
+        return this;
+    }
+
+    @Override
+    public ValidationPipeline<T> onSuccess(Runnable action) {
+        delegate.onSuccess(action);
+        return this;
+    }
+
+    /**
+     * Executes the wrapped pipeline with the groups bound to the current thread.
+     */
+    @Override
+    public void execute() {
+        ValidationContext.Scope scope = ValidationContext.current().withGroups(groups).bind();
+        try {
+            delegate.execute();
+        } finally {
+            scope.close();
+        }
+    }
+}
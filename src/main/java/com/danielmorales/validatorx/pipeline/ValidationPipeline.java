@@ -1,5 +1,6 @@
 package com.danielmorales.validatorx.pipeline;
 
+import com.danielmorales.validatorx.core.ValidationContext;
 import com.danielmorales.validatorx.core.ValidationResult;
 
 import java.util.function.Consumer;
@@ -32,6 +33,23 @@ public interface ValidationPipeline<T> {
      */
     ValidationPipeline<T> withRuleSet(String ruleSetName);
 
+    /**
+     * Selects the validation groups whose annotation constraints are enforced.
+     * <p>
+     * Without groups, the {@code Default} group is validated. Rule set rules always apply.
+     * <p>
+     * The default implementation returns a pipeline that executes this one with the groups
+     * selected by a bound {@link ValidationContext}, so validations that follow the context
+     * (such as {@code Validator.check}) enforce them. Implementations that select groups
+     * another way override it.
+     *
+     * @param groups the validation groups.
+     * @return a {@code ValidationPipeline} that validates the given groups.
+     */
+    default ValidationPipeline<T> withGroups(Class<?>... groups) {
+        return new GroupedValidationPipeline<>(this, groups);
+    }
+
     /**
      * Specifies an action to execute if validation fails.
      * <p>
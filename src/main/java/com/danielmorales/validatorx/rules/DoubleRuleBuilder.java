@@ -0,0 +1,192 @@
+package com.danielmorales.validatorx.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.Predicate;
+
+/**
+ * A builder for validation rules on double values.
+ * <p>
+ * The resulting {@link DoubleRule} can be evaluated on a primitive {@code double} without boxing.
+ * The validation engine does this when a rule registered in the {@link RuleRegistry} is
+ * applied to a primitive field.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * RuleRegistry.registerRule("price", new DoubleRuleBuilder()
+ *         .between(0.0, 10_000.0, "Price out of range")
+ *         .build());
+ * }
+ * </pre>
+ */
+public class DoubleRuleBuilder {
+    private final List<DoublePredicate> predicates = new ArrayList<>();
+    private final List<String> errorMessages = new ArrayList<>();
+
+    /**
+     * Adds a rule that requires a value to be at least the given minimum.
+     *
+     * @param min the minimum allowed value.
+     * @return the current instance of {@code DoubleRuleBuilder}.
+     */
+    public DoubleRuleBuilder atLeast(double min) {
+        return atLeast(min, "Must be at least " + min);
+    }
+
+    /**
+     * Adds a rule that requires a value to be at least the given minimum,
+     * using a custom error message.
+     *
+     * @param min      the minimum allowed value.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code DoubleRuleBuilder}.
+     */
+    public DoubleRuleBuilder atLeast(double min, String errorMsg) {
+        return satisfies(value -> value >= min, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a value to be at most the given maximum.
+     *
+     * @param max the maximum allowed value.
+     * @return the current instance of {@code DoubleRuleBuilder}.
+     */
+    public DoubleRuleBuilder atMost(double max) {
+        return atMost(max, "Must be at most " + max);
+    }
+
+    /**
+     * Adds a rule that requires a value to be at most the given maximum,
+     * using a custom error message.
+     *
+     * @param max      the maximum allowed value.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code DoubleRuleBuilder}.
+     */
+    public DoubleRuleBuilder atMost(double max, String errorMsg) {
+        return satisfies(value -> value <= max, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a value to lie within an inclusive range.
+     *
+     * @param min the minimum allowed value.
+     * @param max the maximum allowed value.
+     * @return the current instance of {@code DoubleRuleBuilder}.
+     */
+    public DoubleRuleBuilder between(double min, double max) {
+        return between(min, max, "Must be between " + min + " and " + max);
+    }
+
+    /**
+     * Adds a rule that requires a value to lie within an inclusive range,
+     * using a custom error message.
+     *
+     * @param min      the minimum allowed value.
+     * @param max      the maximum allowed value.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code DoubleRuleBuilder}.
+     */
+    public DoubleRuleBuilder between(double min, double max, String errorMsg) {
+        return satisfies(value -> value >= min && value <= max, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a value to be neither infinite nor NaN.
+     *
+     * @return the current instance of {@code DoubleRuleBuilder}.
+     */
+    public DoubleRuleBuilder finite() {
+        return satisfies(Double::isFinite, "Must be a finite number");
+    }
+
+    /**
+     * Adds a custom rule.
+     *
+     * @param predicate the condition that must be met for the rule to pass.
+     * @param errorMsg  the error message if the rule fails.
+     * @return the current instance of {@code DoubleRuleBuilder}.
+     */
+    public DoubleRuleBuilder satisfies(DoublePredicate predicate, String errorMsg) {
+        predicates.add(predicate);
+        errorMessages.add(errorMsg);
+        return this;
+    }
+
+    /**
+     * Combines all added rules into a single composite rule.
+     *
+     * @return a {@code DoubleRule} that represents the combined rules.
+     */
+    public DoubleRule build() {
+        return new DoubleRule(predicates.toArray(new DoublePredicate[0]), errorMessages.toArray(new String[0]));
+    }
+
+    /**
+     * A composite double rule. It can be tested on a primitive {@code double} without boxing,
+     * or on a boxed value, in which case any {@code Number} is converted with {@link Number#doubleValue()}.
+     */
+    public static class DoubleRule implements Predicate<Object> {
+        private final DoublePredicate[] predicates;
+        private final String[] errorMessages;
+
+        /**
+         * Creates a composite rule.
+         *
+         * @param predicates    the rules to combine.
+         * @param errorMessages the error message of each rule.
+         */
+        DoubleRule(DoublePredicate[] predicates, String[] errorMessages) {
+            this.predicates = predicates;
+            this.errorMessages = errorMessages;
+        }
+
+        /**
+         * Wraps a single predicate.
+         *
+         * @param predicate the predicate to wrap.
+         * @return a {@code DoubleRule} that evaluates the predicate.
+         */
+        static DoubleRule of(DoublePredicate predicate) {
+            return new DoubleRule(new DoublePredicate[] { predicate }, new String[] { "Must satisfy rule" });
+        }
+
+        /**
+         * Tests a primitive value without boxing it.
+         *
+         * @param value the value to test.
+         * @return {@code true} if the value passes every rule.
+         */
+        public boolean testDouble(double value) {
+            for (DoublePredicate predicate : predicates) {
+                if (!predicate.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean test(Object value) {
+            if (value instanceof Number) {
+                return testDouble(((Number) value).doubleValue());
+            }
+            return false;
+        }
+
+        /**
+         * Returns a concatenated string of all error messages.
+         *
+         * @return a string containing all error messages.
+         */
+        public String getErrorMessages() {
+            StringBuilder sb = new StringBuilder();
+            for (String message : errorMessages) {
+                sb.append(message).append("; ");
+            }
+            return sb.toString();
+        }
+    }
+}
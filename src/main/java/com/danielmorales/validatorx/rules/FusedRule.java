@@ -0,0 +1,500 @@
+package com.danielmorales.validatorx.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A rule that evaluates several simple string rules in one linear scan.
+ * <p>
+ * {@link RuleBuilder#build()} recognizes rules with these shapes and fuses them:
+ * <ul>
+ *     <li>{@code lengthAtLeast(n)} - a length bound</li>
+ *     <li>{@code .*[A-Z].*}, {@code .*\d.*}, {@code .*@.*} - a required character class</li>
+ *     <li>{@code ^[a-z0-9_]+$}, {@code \w{3,16}} - an allowed alphabet, with optional length bounds
+ *     (except for negated classes, which count supplementary characters as one)</li>
+ *     <li>{@code ^ACME-.*} and {@code .*\.com$} - a literal prefix or suffix</li>
+ * </ul>
+ * Every character is examined once, instead of once per rule plus regex backtracking.
+ * The fused rule gives exactly the same answers as {@link String#matches(String)}, including
+ * the fact that {@code .} does not match line terminators.
+ */
+final class FusedRule extends RuleBuilder.Rule {
+    private static final int REQUIRED = 0;
+    private static final int ALPHABET = 1;
+    private static final int PREFIX = 2;
+    private static final int SUFFIX = 3;
+    private static final int MIN_LENGTH = 4;
+
+    private final RuleBuilder.Rule[] parts;
+    private final Shape[] shapes;
+
+    private FusedRule(RuleBuilder.Rule[] parts, Shape[] shapes) {
+        super(str -> false, joinMessages(parts));
+        this.parts = parts;
+        this.shapes = shapes;
+    }
+
+    /**
+     * Fuses every rule that has a recognized shape. Returns {@code null} when fusing
+     * would not save any work.
+     *
+     * @param rules     the candidate rules, in declaration order.
+     * @param remaining receives the rules that could not be fused, in declaration order.
+     * @return the fused rule, or {@code null} if nothing was fused.
+     */
+    static FusedRule fuse(List<RuleBuilder.Rule> rules, List<RuleBuilder.Rule> remaining) {
+        List<RuleBuilder.Rule> parts = new ArrayList<>();
+        List<Shape> shapes = new ArrayList<>();
+        List<RuleBuilder.Rule> unfused = new ArrayList<>();
+        boolean hasRegex = false;
+        for (RuleBuilder.Rule rule : rules) {
+            Shape shape = null;
+            if (rule.getMinLength() >= 0) {
+                shape = new Shape(MIN_LENGTH, null, null, rule.getMinLength(), Integer.MAX_VALUE);
+            } else if (rule.getRegex() != null) {
+                shape = parse(rule.getRegex());
+                hasRegex |= shape != null;
+            }
+            if (shape == null) {
+                unfused.add(rule);
+            } else {
+                parts.add(rule);
+                shapes.add(shape);
+            }
+        }
+        if (!hasRegex && parts.size() < 2) {
+            remaining.addAll(rules);
+            return null;
+        }
+        remaining.addAll(unfused);
+        return new FusedRule(parts.toArray(new RuleBuilder.Rule[0]), shapes.toArray(new Shape[0]));
+    }
+
+    @Override
+    public boolean test(String value) {
+        return firstFailure(value) < 0;
+    }
+
+    /**
+     * Returns the fused rule at the given index.
+     *
+     * @param index the index returned by {@link #firstFailure(String)}.
+     * @return the rule.
+     */
+    RuleBuilder.Rule getPart(int index) {
+        return parts[index];
+    }
+
+    /**
+     * Scans the value once and reports a failing rule.
+     *
+     * @param value the value to test.
+     * @return the index of a failing rule, or {@code -1} if every fused rule passes.
+     */
+    int firstFailure(String value) {
+        int length = value.length();
+        // Length bounds, prefixes and suffixes do not need the scan
+        for (int k = 0; k < shapes.length; k++) {
+            Shape shape = shapes[k];
+            if (length < shape.min || length > shape.max) {
+                return k;
+            }
+            if (shape.kind == PREFIX && !value.startsWith(shape.literal)) {
+                return k;
+            }
+            if (shape.kind == SUFFIX && !value.endsWith(shape.literal)) {
+                return k;
+            }
+        }
+
+        boolean[] found = new boolean[shapes.length];
+        int terminators = 0;
+        int firstTerminator = -1;
+        int lastTerminator = -1;
+        char terminator = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (isLineTerminator(c)) {
+                if (terminators++ == 0) {
+                    firstTerminator = i;
+                    terminator = c;
+                }
+                lastTerminator = i;
+            }
+            for (int k = 0; k < shapes.length; k++) {
+                Shape shape = shapes[k];
+                if (shape.kind == ALPHABET) {
+                    if (!shape.chars.matches(c)) {
+                        return k;
+                    }
+                } else if (shape.kind == REQUIRED && !found[k] && shape.chars.matches(c)) {
+                    found[k] = true;
+                }
+            }
+        }
+
+        for (int k = 0; k < shapes.length; k++) {
+            Shape shape = shapes[k];
+            switch (shape.kind) {
+                case REQUIRED:
+                    // ".*X.*" matches if X is found and the rest holds no line terminator,
+                    // or if the single line terminator is itself the X
+                    if (terminators == 0 ? !found[k] : terminators > 1 || !shape.chars.matches(terminator)) {
+                        return k;
+                    }
+                    break;
+                case PREFIX:
+                    if (lastTerminator >= shape.literal.length()) {
+                        return k;
+                    }
+                    break;
+                case SUFFIX:
+                    if (firstTerminator >= 0 && firstTerminator < length - shape.literal.length()) {
+                        return k;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("fused linear scan of [");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(parts[i].getRegex() != null ? "'" + parts[i].getRegex() + "'" : "length >= " + parts[i].getMinLength());
+        }
+        return sb.append(']').toString();
+    }
+
+    private static String joinMessages(RuleBuilder.Rule[] parts) {
+        StringBuilder sb = new StringBuilder();
+        for (RuleBuilder.Rule part : parts) {
+            if (sb.length() > 0) {
+                sb.append("; ");
+            }
+            sb.append(part.getErrorMessage());
+        }
+        return sb.toString();
+    }
+
+    // ----- Regex shape recognition -----
+
+    /**
+     * Recognizes a regex as one of the fusable shapes.
+     *
+     * @param regex the regex passed to {@link String#matches(String)}.
+     * @return the shape, or {@code null} if the regex has to be evaluated by the regex engine.
+     */
+    static Shape parse(String regex) {
+        String body = regex;
+        if (body.startsWith("^")) {
+            body = body.substring(1);
+        }
+        if (body.endsWith("$") && !isEscaped(body, body.length() - 1)) {
+            body = body.substring(0, body.length() - 1);
+        }
+        if (body.isEmpty()) {
+            return null;
+        }
+
+        boolean leadingAny = body.startsWith(".*");
+        boolean trailingAny = body.length() >= 2 && body.endsWith(".*") && !isEscaped(body, body.length() - 2);
+        if (leadingAny && trailingAny && body.length() > 4) {
+            String middle = body.substring(2, body.length() - 2);
+            Cursor cursor = new Cursor(middle);
+            CharClass chars = parseAtom(cursor);
+            if (chars != null && cursor.atEnd()) {
+                return new Shape(REQUIRED, chars, null, 1, Integer.MAX_VALUE);
+            }
+            return null;
+        }
+        if (trailingAny && !leadingAny) {
+            String literal = parseLiteral(body.substring(0, body.length() - 2));
+            return literal == null ? null : new Shape(PREFIX, null, literal, literal.length(), Integer.MAX_VALUE);
+        }
+        if (leadingAny) {
+            String literal = parseLiteral(body.substring(2));
+            return literal == null ? null : new Shape(SUFFIX, null, literal, literal.length(), Integer.MAX_VALUE);
+        }
+
+        Cursor cursor = new Cursor(body);
+        CharClass chars = parseAtom(cursor);
+        if (chars == null || cursor.atEnd()) {
+            return null;
+        }
+        char quantifier = cursor.next();
+        int min;
+        int max;
+        if (quantifier == '+') {
+            min = 1;
+            max = Integer.MAX_VALUE;
+        } else if (quantifier == '*') {
+            min = 0;
+            max = Integer.MAX_VALUE;
+        } else if (quantifier == '{') {
+            min = cursor.number();
+            if (min < 0) {
+                return null;
+            }
+            max = min;
+            if (!cursor.atEnd() && cursor.peek() == ',') {
+                cursor.next();
+                max = cursor.atEnd() || cursor.peek() == '}' ? Integer.MAX_VALUE : cursor.number();
+                if (max < min) {
+                    return null;
+                }
+            }
+            if (cursor.atEnd() || cursor.next() != '}') {
+                return null;
+            }
+        } else {
+            return null;
+        }
+        if (chars.negated && (min > 1 || max != Integer.MAX_VALUE)) {
+            // A negated class matches a supplementary character as one code point, but the
+            // scan sees two chars: bounds could only be checked by counting code points
+            return null;
+        }
+        return cursor.atEnd() ? new Shape(ALPHABET, chars, null, min, max) : null;
+    }
+
+    /**
+     * Parses a single character class: {@code [...]}, {@code \d}, {@code \w}, {@code \s},
+     * their negations, or one literal character.
+     */
+    private static CharClass parseAtom(Cursor cursor) {
+        if (cursor.atEnd()) {
+            return null;
+        }
+        char c = cursor.next();
+        if (c == '[') {
+            return parseBracket(cursor);
+        }
+        if (c == '\\') {
+            if (cursor.atEnd()) {
+                return null;
+            }
+            char e = cursor.next();
+            CharClass predefined = CharClass.predefined(e);
+            if (predefined != null) {
+                return predefined;
+            }
+            return isPunctuation(e) ? CharClass.single(e) : null;
+        }
+        if (isMeta(c) || c >= 128) {
+            return null;
+        }
+        return CharClass.single(c);
+    }
+
+    private static CharClass parseBracket(Cursor cursor) {
+        CharClass chars = new CharClass();
+        if (!cursor.atEnd() && cursor.peek() == '^') {
+            cursor.next();
+            chars.negated = true;
+        }
+        if (!cursor.atEnd() && cursor.peek() == ']') {
+            return null;
+        }
+        int previous = -1;
+        while (!cursor.atEnd()) {
+            char c = cursor.next();
+            if (c == ']') {
+                return chars;
+            }
+            if (c == '[' || c >= 128 || (c == '&' && !cursor.atEnd() && cursor.peek() == '&')) {
+                return null;
+            }
+            if (c == '-' && previous >= 0 && !cursor.atEnd() && cursor.peek() != ']') {
+                char end = cursor.next();
+                if (end == '\\') {
+                    if (cursor.atEnd() || !isPunctuation(cursor.peek())) {
+                        return null;
+                    }
+                    end = cursor.next();
+                } else if (end == '[' || end >= 128) {
+                    return null;
+                }
+                if (end < previous) {
+                    return null;
+                }
+                chars.addRange((char) previous, end);
+                previous = -1;
+                continue;
+            }
+            if (c == '\\') {
+                if (cursor.atEnd()) {
+                    return null;
+                }
+                char e = cursor.next();
+                if (e == 'd' || e == 'w' || e == 's') {
+                    chars.addAll(CharClass.predefined(e));
+                    previous = -1;
+                    continue;
+                }
+                if (e == 't' || e == 'n' || e == 'r' || e == 'f') {
+                    c = e == 't' ? '\t' : e == 'n' ? '\n' : e == 'r' ? '\r' : '\f';
+                } else if (isPunctuation(e)) {
+                    c = e;
+                } else {
+                    return null;
+                }
+            }
+            chars.addRange(c, c);
+            previous = c;
+        }
+        return null;
+    }
+
+    private static String parseLiteral(String text) {
+        if (text.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                if (i + 1 >= text.length() || !isPunctuation(text.charAt(i + 1))) {
+                    return null;
+                }
+                sb.append(text.charAt(++i));
+            } else if (isMeta(c)) {
+                return null;
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isMeta(char c) {
+        return "\\^$.|?*+()[]{}".indexOf(c) >= 0;
+    }
+
+    private static boolean isPunctuation(char c) {
+        return c < 128 && !Character.isLetterOrDigit(c) && c > ' ';
+    }
+
+    private static boolean isEscaped(String text, int index) {
+        int backslashes = 0;
+        for (int i = index - 1; i >= 0 && text.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return (backslashes & 1) == 1;
+    }
+
+    /**
+     * A recognized rule shape. Every shape also carries the length bounds it implies.
+     */
+    static final class Shape {
+        private final int kind;
+        private final CharClass chars;
+        private final String literal;
+        private final int min;
+        private final int max;
+
+        Shape(int kind, CharClass chars, String literal, int min, int max) {
+            this.kind = kind;
+            this.chars = chars;
+            this.literal = literal;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    /**
+     * A set of characters with ASCII members in a lookup table. Non-ASCII characters only
+     * belong to negated classes.
+     */
+    static final class CharClass {
+        private final boolean[] ascii = new boolean[128];
+        private boolean negated;
+
+        static CharClass single(char c) {
+            CharClass chars = new CharClass();
+            chars.addRange(c, c);
+            return chars;
+        }
+
+        static CharClass predefined(char escape) {
+            CharClass chars = new CharClass();
+            switch (Character.toLowerCase(escape)) {
+                case 'd':
+                    chars.addRange('0', '9');
+                    break;
+                case 'w':
+                    chars.addRange('a', 'z');
+                    chars.addRange('A', 'Z');
+                    chars.addRange('0', '9');
+                    chars.addRange('_', '_');
+                    break;
+                case 's':
+                    chars.addRange(' ', ' ');
+                    chars.addRange('\t', '\r');
+                    break;
+                default:
+                    return null;
+            }
+            chars.negated = Character.isUpperCase(escape);
+            return chars;
+        }
+
+        void addRange(char from, char to) {
+            for (char c = from; c <= to; c++) {
+                ascii[c] = true;
+            }
+        }
+
+        void addAll(CharClass other) {
+            for (int i = 0; i < ascii.length; i++) {
+                ascii[i] |= other.ascii[i];
+            }
+        }
+
+        boolean matches(char c) {
+            return c < 128 ? ascii[c] != negated : negated;
+        }
+    }
+
+    /**
+     * A minimal reader over a regex fragment.
+     */
+    private static final class Cursor {
+        private final String text;
+        private int position;
+
+        Cursor(String text) {
+            this.text = text;
+        }
+
+        boolean atEnd() {
+            return position >= text.length();
+        }
+
+        char peek() {
+            return text.charAt(position);
+        }
+
+        char next() {
+            return text.charAt(position++);
+        }
+
+        int number() {
+            int start = position;
+            while (!atEnd() && Character.isDigit(peek()) && position - start < 9) {
+                position++;
+            }
+            return position == start ? -1 : Integer.parseInt(text.substring(start, position));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.danielmorales.validatorx.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A builder for validation rules on int values.
+ * <p>
+ * The resulting {@link IntRule} can be evaluated on a primitive {@code int} without boxing.
+ * The validation engine does this when a rule registered in the {@link RuleRegistry} is
+ * applied to a primitive field.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * RuleRegistry.registerRule("quantity", new IntRuleBuilder()
+ *         .between(1, 100, "Quantity must be 1-100")
+ *         .build());
+ * }
+ * </pre>
+ */
+public class IntRuleBuilder {
+    private final List<IntPredicate> predicates = new ArrayList<>();
+    private final List<String> errorMessages = new ArrayList<>();
+
+    /**
+     * Adds a rule that requires a value to be at least the given minimum.
+     *
+     * @param min the minimum allowed value.
+     * @return the current instance of {@code IntRuleBuilder}.
+     */
+    public IntRuleBuilder atLeast(int min) {
+        return atLeast(min, "Must be at least " + min);
+    }
+
+    /**
+     * Adds a rule that requires a value to be at least the given minimum,
+     * using a custom error message.
+     *
+     * @param min      the minimum allowed value.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code IntRuleBuilder}.
+     */
+    public IntRuleBuilder atLeast(int min, String errorMsg) {
+        return satisfies(value -> value >= min, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a value to be at most the given maximum.
+     *
+     * @param max the maximum allowed value.
+     * @return the current instance of {@code IntRuleBuilder}.
+     */
+    public IntRuleBuilder atMost(int max) {
+        return atMost(max, "Must be at most " + max);
+    }
+
+    /**
+     * Adds a rule that requires a value to be at most the given maximum,
+     * using a custom error message.
+     *
+     * @param max      the maximum allowed value.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code IntRuleBuilder}.
+     */
+    public IntRuleBuilder atMost(int max, String errorMsg) {
+        return satisfies(value -> value <= max, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a value to lie within an inclusive range.
+     *
+     * @param min the minimum allowed value.
+     * @param max the maximum allowed value.
+     * @return the current instance of {@code IntRuleBuilder}.
+     */
+    public IntRuleBuilder between(int min, int max) {
+        return between(min, max, "Must be between " + min + " and " + max);
+    }
+
+    /**
+     * Adds a rule that requires a value to lie within an inclusive range,
+     * using a custom error message.
+     *
+     * @param min      the minimum allowed value.
+     * @param max      the maximum allowed value.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code IntRuleBuilder}.
+     */
+    public IntRuleBuilder between(int min, int max, String errorMsg) {
+        return satisfies(value -> value >= min && value <= max, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a value to be strictly positive.
+     *
+     * @return the current instance of {@code IntRuleBuilder}.
+     */
+    public IntRuleBuilder positive() {
+        return satisfies(value -> value > 0, "Must be positive");
+    }
+
+    /**
+     * Adds a custom rule.
+     *
+     * @param predicate the condition that must be met for the rule to pass.
+     * @param errorMsg  the error message if the rule fails.
+     * @return the current instance of {@code IntRuleBuilder}.
+     */
+    public IntRuleBuilder satisfies(IntPredicate predicate, String errorMsg) {
+        predicates.add(predicate);
+        errorMessages.add(errorMsg);
+        return this;
+    }
+
+    /**
+     * Combines all added rules into a single composite rule.
+     *
+     * @return an {@code IntRule} that represents the combined rules.
+     */
+    public IntRule build() {
+        return new IntRule(predicates.toArray(new IntPredicate[0]), errorMessages.toArray(new String[0]));
+    }
+
+    /**
+     * A composite int rule. It can be tested on a primitive {@code int} without boxing,
+     * or on a boxed value, in which case only {@code Integer}, {@code Short} and {@code Byte} values can pass.
+     */
+    public static class IntRule implements Predicate<Object> {
+        private final IntPredicate[] predicates;
+        private final String[] errorMessages;
+
+        /**
+         * Creates a composite rule.
+         *
+         * @param predicates    the rules to combine.
+         * @param errorMessages the error message of each rule.
+         */
+        IntRule(IntPredicate[] predicates, String[] errorMessages) {
+            this.predicates = predicates;
+            this.errorMessages = errorMessages;
+        }
+
+        /**
+         * Wraps a single predicate.
+         *
+         * @param predicate the predicate to wrap.
+         * @return an {@code IntRule} that evaluates the predicate.
+         */
+        static IntRule of(IntPredicate predicate) {
+            return new IntRule(new IntPredicate[] { predicate }, new String[] { "Must satisfy rule" });
+        }
+
+        /**
+         * Tests a primitive value without boxing it.
+         *
+         * @param value the value to test.
+         * @return {@code true} if the value passes every rule.
+         */
+        public boolean testInt(int value) {
+            for (IntPredicate predicate : predicates) {
+                if (!predicate.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean test(Object value) {
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return testInt(((Number) value).intValue());
+            }
+            return false;
+        }
+
+        /**
+         * Returns a concatenated string of all error messages.
+         *
+         * @return a string containing all error messages.
+         */
+        public String getErrorMessages() {
+            StringBuilder sb = new StringBuilder();
+            for (String message : errorMessages) {
+                sb.append(message).append("; ");
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.danielmorales.validatorx.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A builder for validation rules on long values.
+ * <p>
+ * The resulting {@link LongRule} can be evaluated on a primitive {@code long} without boxing.
+ * The validation engine does this when a rule registered in the {@link RuleRegistry} is
+ * applied to a primitive field.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * RuleRegistry.registerRule("accountId", new LongRuleBuilder()
+ *         .between(1L, 999_999_999_999L, "Invalid account id")
+ *         .build());
+ * }
+ * </pre>
+ */
+public class LongRuleBuilder {
+    private final List<LongPredicate> predicates = new ArrayList<>();
+    private final List<String> errorMessages = new ArrayList<>();
+
+    /**
+     * Adds a rule that requires a value to be at least the given minimum.
+     *
+     * @param min the minimum allowed value.
+     * @return the current instance of {@code LongRuleBuilder}.
+     */
+    public LongRuleBuilder atLeast(long min) {
+        return atLeast(min, "Must be at least " + min);
+    }
+
+    /**
+     * Adds a rule that requires a value to be at least the given minimum,
+     * using a custom error message.
+     *
+     * @param min      the minimum allowed value.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code LongRuleBuilder}.
+     */
+    public LongRuleBuilder atLeast(long min, String errorMsg) {
+        return satisfies(value -> value >= min, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a value to be at most the given maximum.
+     *
+     * @param max the maximum allowed value.
+     * @return the current instance of {@code LongRuleBuilder}.
+     */
+    public LongRuleBuilder atMost(long max) {
+        return atMost(max, "Must be at most " + max);
+    }
+
+    /**
+     * Adds a rule that requires a value to be at most the given maximum,
+     * using a custom error message.
+     *
+     * @param max      the maximum allowed value.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code LongRuleBuilder}.
+     */
+    public LongRuleBuilder atMost(long max, String errorMsg) {
+        return satisfies(value -> value <= max, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a value to lie within an inclusive range.
+     *
+     * @param min the minimum allowed value.
+     * @param max the maximum allowed value.
+     * @return the current instance of {@code LongRuleBuilder}.
+     */
+    public LongRuleBuilder between(long min, long max) {
+        return between(min, max, "Must be between " + min + " and " + max);
+    }
+
+    /**
+     * Adds a rule that requires a value to lie within an inclusive range,
+     * using a custom error message.
+     *
+     * @param min      the minimum allowed value.
+     * @param max      the maximum allowed value.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code LongRuleBuilder}.
+     */
+    public LongRuleBuilder between(long min, long max, String errorMsg) {
+        return satisfies(value -> value >= min && value <= max, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a value to be strictly positive.
+     *
+     * @return the current instance of {@code LongRuleBuilder}.
+     */
+    public LongRuleBuilder positive() {
+        return satisfies(value -> value > 0L, "Must be positive");
+    }
+
+    /**
+     * Adds a custom rule.
+     *
+     * @param predicate the condition that must be met for the rule to pass.
+     * @param errorMsg  the error message if the rule fails.
+     * @return the current instance of {@code LongRuleBuilder}.
+     */
+    public LongRuleBuilder satisfies(LongPredicate predicate, String errorMsg) {
+        predicates.add(predicate);
+        errorMessages.add(errorMsg);
+        return this;
+    }
+
+    /**
+     * Combines all added rules into a single composite rule.
+     *
+     * @return a {@code LongRule} that represents the combined rules.
+     */
+    public LongRule build() {
+        return new LongRule(predicates.toArray(new LongPredicate[0]), errorMessages.toArray(new String[0]));
+    }
+
+    /**
+     * A composite long rule. It can be tested on a primitive {@code long} without boxing,
+     * or on a boxed value, in which case only {@code Long}, {@code Integer}, {@code Short} and {@code Byte} values can pass.
+     */
+    public static class LongRule implements Predicate<Object> {
+        private final LongPredicate[] predicates;
+        private final String[] errorMessages;
+
+        /**
+         * Creates a composite rule.
+         *
+         * @param predicates    the rules to combine.
+         * @param errorMessages the error message of each rule.
+         */
+        LongRule(LongPredicate[] predicates, String[] errorMessages) {
+            this.predicates = predicates;
+            this.errorMessages = errorMessages;
+        }
+
+        /**
+         * Wraps a single predicate.
+         *
+         * @param predicate the predicate to wrap.
+         * @return a {@code LongRule} that evaluates the predicate.
+         */
+        static LongRule of(LongPredicate predicate) {
+            return new LongRule(new LongPredicate[] { predicate }, new String[] { "Must satisfy rule" });
+        }
+
+        /**
+         * Tests a primitive value without boxing it.
+         *
+         * @param value the value to test.
+         * @return {@code true} if the value passes every rule.
+         */
+        public boolean testLong(long value) {
+            for (LongPredicate predicate : predicates) {
+                if (!predicate.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean test(Object value) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return testLong(((Number) value).longValue());
+            }
+            return false;
+        }
+
+        /**
+         * Returns a concatenated string of all error messages.
+         *
+         * @return a string containing all error messages.
+         */
+        public String getErrorMessages() {
+            StringBuilder sb = new StringBuilder();
+            for (String message : errorMessages) {
+                sb.append(message).append("; ");
+            }
+            return sb.toString();
+        }
+    }
+}
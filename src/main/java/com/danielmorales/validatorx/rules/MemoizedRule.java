@@ -0,0 +1,204 @@
+package com.danielmorales.validatorx.rules;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A rule that remembers whether each value it has seen passed or failed.
+ * <p>
+ * Memoization pays off for expensive checks (such as regular expressions) that see a small
+ * set of values over and over, like email domains, currency codes or SKU formats. The wrapped
+ * rule is then only evaluated for values that have not been seen before.
+ * <p>
+ * Every {@code MemoizedRule} is a separate constraint with its own identifier. All of them
+ * share one bounded, concurrent cache from (constraint, value) to the outcome. The cache keeps
+ * two generations of entries: when the current generation is full it becomes the old one,
+ * and the previous old generation is dropped. Values found in the old generation are moved
+ * back into the current one, so frequently seen values stay cached.
+ * <p>
+ * Only immutable values are memoized: strings, boxed primitives and enum constants. Any other
+ * value is passed straight to the wrapped rule.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * RuleRegistry.registerRule("sku", new RuleBuilder().matches("^[A-Z]{3}-\\d{6}$").build(), true);
+ * }
+ * </pre>
+ */
+public final class MemoizedRule implements Predicate<Object> {
+    /** Default maximum number of memoized outcomes across all constraints. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 100_000;
+
+    private static final AtomicInteger nextId = new AtomicInteger();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private static volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private static volatile Map<Key, Boolean> current = new ConcurrentHashMap<>();
+    private static volatile Map<Key, Boolean> previous = new ConcurrentHashMap<>();
+
+    private final int id;
+    private final Predicate<Object> rule;
+
+    private MemoizedRule(Predicate<Object> rule) {
+        this.id = nextId.getAndIncrement();
+        this.rule = rule;
+    }
+
+    /**
+     * Wraps a rule so that its outcome is memoized per value.
+     *
+     * @param rule the rule to memoize.
+     * @return a new constraint that evaluates {@code rule} at most once per cached value.
+     */
+    public static MemoizedRule of(Predicate<Object> rule) {
+        return new MemoizedRule(Objects.requireNonNull(rule, "rule"));
+    }
+
+    /**
+     * @return the rule whose outcomes are memoized.
+     */
+    public Predicate<Object> getRule() {
+        return rule;
+    }
+
+    @Override
+    public boolean test(Object value) {
+        if (!isMemoizable(value)) {
+            return rule.test(value);
+        }
+        Key key = new Key(id, value);
+        Boolean outcome = current.get(key);
+        if (outcome != null) {
+            hits.increment();
+            return outcome;
+        }
+        outcome = previous.get(key);
+        if (outcome != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            outcome = rule.test(value);
+        }
+        store(key, outcome);
+        return outcome;
+    }
+
+    /**
+     * Sets the maximum number of memoized outcomes across all constraints and clears the cache.
+     *
+     * @param maximumSize the maximum number of outcomes.
+     */
+    public static void setMaximumSize(int maximumSize) {
+        if (maximumSize < 2) {
+            throw new IllegalArgumentException("Maximum size must be at least 2: " + maximumSize);
+        }
+        MemoizedRule.maximumSize = maximumSize;
+        clear();
+    }
+
+    /**
+     * @return the maximum number of memoized outcomes across all constraints.
+     */
+    public static int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Removes every memoized outcome.
+     */
+    public static synchronized void clear() {
+        current = new ConcurrentHashMap<>();
+        previous = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return the number of memoized outcomes currently held.
+     */
+    public static int size() {
+        return current.size() + previous.size();
+    }
+
+    /**
+     * @return the number of evaluations answered from the cache.
+     */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of evaluations that ran the wrapped rule.
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public static void resetStats() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Adds an outcome to the current generation, starting a new generation when it is full.
+     */
+    private static void store(Key key, Boolean outcome) {
+        Map<Key, Boolean> generation = current;
+        generation.put(key, outcome);
+        if (generation.size() >= maximumSize / 2) {
+            synchronized (MemoizedRule.class) {
+                if (current == generation) {
+                    previous = generation;
+                    current = new ConcurrentHashMap<>();
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells whether a value is immutable and can be used as a cache key.
+     */
+    private static boolean isMemoizable(Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte || value instanceof Character
+                || value instanceof Boolean || value instanceof Double || value instanceof Float
+                || value instanceof Enum<?>;
+    }
+
+    /**
+     * Identifies a value tested by one constraint.
+     */
+    private static final class Key {
+        private final int constraintId;
+        private final Object value;
+
+        Key(int constraintId, Object value) {
+            this.constraintId = constraintId;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return constraintId == other.constraintId && value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * constraintId + value.hashCode();
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.danielmorales.validatorx.rules;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * A builder for defining custom validation rules.
@@ -32,7 +37,7 @@ public class RuleBuilder {
      * @return the current instance of {@code RuleBuilder}.
      */
     public RuleBuilder lengthAtLeast(int len, String errorMsg) {
-        rules.add(new Rule(str -> str.length() >= len, errorMsg));
+        rules.add(new Rule(str -> str.length() >= len, errorMsg, len, null));
         return this;
     }
 
@@ -55,17 +60,22 @@ public class RuleBuilder {
      * @return the current instance of {@code RuleBuilder}.
      */
     public RuleBuilder matches(String regex, String errorMsg) {
-        rules.add(new Rule(str -> str.matches(regex), errorMsg));
+        Pattern pattern = Pattern.compile(regex);
+        rules.add(new Rule(str -> pattern.matcher(str).matches(), errorMsg, -1, regex));
         return this;
     }
 
     /**
      * Combines all added rules into a single composite rule.
+     * <p>
+     * Length bounds and simple regexes (required character classes, allowed alphabets,
+     * literal prefixes and suffixes) are fused into a single linear scan of the string;
+     * other rules are evaluated separately.
      *
      * @return a {@code Predicate<Object>} that represents the combined rules.
      */
     public Predicate<Object> build() {
-        return new CompositeRule(rules);
+        return new CompositeRule(new ArrayList<>(rules));
     }
 
     /**
@@ -74,6 +84,8 @@ public class RuleBuilder {
     public static class Rule {
         private final Predicate<String> predicate;
         private final String errorMessage;
+        private final int minLength;
+        private final String regex;
 
         /**
          * Creates a validation rule.
@@ -82,8 +94,22 @@ public class RuleBuilder {
          * @param errorMessage the error message if the rule fails.
          */
         public Rule(Predicate<String> predicate, String errorMessage) {
+            this(predicate, errorMessage, -1, null);
+        }
+
+        /**
+         * Creates a validation rule that remembers how it was defined, so it can be fused.
+         *
+         * @param predicate    the condition that must be met for the rule to pass.
+         * @param errorMessage the error message if the rule fails.
+         * @param minLength    the minimum length for a length rule, otherwise {@code -1}.
+         * @param regex        the regex for a regex rule, otherwise {@code null}.
+         */
+        Rule(Predicate<String> predicate, String errorMessage, int minLength, String regex) {
             this.predicate = predicate;
             this.errorMessage = errorMessage;
+            this.minLength = minLength;
+            this.regex = regex;
         }
 
         /**
@@ -104,13 +130,55 @@ public class RuleBuilder {
         public String getErrorMessage() {
             return errorMessage;
         }
+
+        /**
+         * @return the minimum length for a length rule, otherwise {@code -1}.
+         */
+        int getMinLength() {
+            return minLength;
+        }
+
+        /**
+         * @return the regex for a regex rule, otherwise {@code null}.
+         */
+        String getRegex() {
+            return regex;
+        }
+
+        @Override
+        public String toString() {
+            if (regex != null) {
+                return "regex '" + regex + "' (java.util.regex)";
+            }
+            return minLength >= 0 ? "length >= " + minLength : "predicate";
+        }
     }
 
     /**
      * A composite rule that aggregates multiple rules.
+     * <p>
+     * The composite passes only if every rule passes, so the order in which rules are
+     * evaluated does not change the outcome, only the cost. A sample of evaluations is
+     * timed, and the rules are periodically reordered so that those rejecting the most
+     * values per nanosecond run first. Call {@link #freeze()} to stop learning and keep
+     * the current order.
+     * <p>
+     * Rules that can be fused (see {@link RuleBuilder#build()}) are evaluated together as
+     * one unit; {@link #getFailedRule(Object)} still reports the individual rule that failed.
      */
     public static class CompositeRule implements Predicate<Object> {
+        /** One in {@code SAMPLE_MASK + 1} evaluations is timed. */
+        private static final int SAMPLE_MASK = 15;
+        /** Number of timed evaluations between two reorderings. */
+        private static final long REORDER_INTERVAL = 1024;
+
         private final List<Rule> rules;
+        private final List<Rule> units;
+        private final RuleStats[] stats;
+        private final LongAdder sampledEvaluations = new LongAdder();
+        private final AtomicBoolean reordering = new AtomicBoolean();
+        private volatile int[] order;
+        private volatile boolean frozen;
 
         /**
          * Creates a composite rule from a list of individual rules.
@@ -119,22 +187,172 @@ public class RuleBuilder {
          */
         public CompositeRule(List<Rule> rules) {
             this.rules = rules;
+            List<Rule> remaining = new ArrayList<>();
+            FusedRule fused = FusedRule.fuse(rules, remaining);
+            this.units = new ArrayList<>(remaining.size() + 1);
+            if (fused != null) {
+                units.add(fused);
+            }
+            units.addAll(remaining);
+
+            this.stats = new RuleStats[units.size()];
+            this.order = new int[units.size()];
+            for (int i = 0; i < stats.length; i++) {
+                stats[i] = new RuleStats();
+                order[i] = i;
+            }
+            // A single unit has nothing to reorder
+            this.frozen = units.size() < 2;
         }
 
         @Override
         public boolean test(Object value) {
             if (value instanceof String) {
                 String str = (String) value;
-                for (Rule rule : rules) {
-                    if (!rule.test(str)) {
-                        return false;
+                int[] current = order;
+                if (frozen || (ThreadLocalRandom.current().nextInt() & SAMPLE_MASK) != 0) {
+                    for (int index : current) {
+                        if (!units.get(index).test(str)) {
+                            return false;
+                        }
                     }
+                    return true;
                 }
-                return true;
+                return testSampled(str, current);
             }
             return false;
         }
 
+        /**
+         * Evaluates the rules while recording the cost and outcome of each one.
+         *
+         * @param str     the value to test.
+         * @param current the evaluation order.
+         * @return {@code true} if every rule passes.
+         */
+        private boolean testSampled(String str, int[] current) {
+            boolean passed = true;
+            for (int index : current) {
+                long start = System.nanoTime();
+                boolean ok = units.get(index).test(str);
+                stats[index].record(System.nanoTime() - start, !ok);
+                if (!ok) {
+                    passed = false;
+                    break;
+                }
+            }
+            sampledEvaluations.increment();
+            if (sampledEvaluations.sum() >= REORDER_INTERVAL) {
+                reorder();
+            }
+            return passed;
+        }
+
+        /**
+         * Reorders the rules by observed rejections per nanosecond, using the statistics
+         * gathered since the previous reordering. Rules that have not been sampled keep
+         * their relative position. This method does nothing once the rule is frozen.
+         */
+        public void reorder() {
+            if (frozen || !reordering.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sampledEvaluations.reset();
+                int[] current = order;
+                double[] scores = new double[stats.length];
+                for (int index : current) {
+                    scores[index] = stats[index].scoreAndReset();
+                }
+                Integer[] next = new Integer[current.length];
+                for (int i = 0; i < current.length; i++) {
+                    next[i] = current[i];
+                }
+                // Stable sort: ties (including unsampled rules) keep their current order
+                Arrays.sort(next, (a, b) -> Double.compare(scores[b], scores[a]));
+                int[] reordered = new int[next.length];
+                for (int i = 0; i < next.length; i++) {
+                    reordered[i] = next[i];
+                }
+                order = reordered;
+            } finally {
+                reordering.set(false);
+            }
+        }
+
+        /**
+         * Stops adapting and keeps the current evaluation order from now on.
+         */
+        public void freeze() {
+            frozen = true;
+        }
+
+        /**
+         * @return {@code true} if the evaluation order is no longer adapted.
+         */
+        public boolean isFrozen() {
+            return frozen;
+        }
+
+        /**
+         * Returns the evaluation units in the order they are currently evaluated. Fused rules
+         * appear as a single unit whose error message joins the fused rules' messages.
+         *
+         * @return the units in evaluation order.
+         */
+        public List<Rule> getEvaluationOrder() {
+            int[] current = order;
+            List<Rule> ordered = new ArrayList<>(current.length);
+            for (int index : current) {
+                ordered.add(units.get(index));
+            }
+            return ordered;
+        }
+
+        /**
+         * Describes the evaluation units in their current order, and whether the order adapts.
+         *
+         * @return the description.
+         */
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("composite [");
+            for (Rule unit : getEvaluationOrder()) {
+                if (sb.length() > "composite [".length()) {
+                    sb.append(", ");
+                }
+                sb.append(unit);
+            }
+            return sb.append(frozen ? "]" : "], adaptive order").toString();
+        }
+
+        /**
+         * Finds the individual rule that rejects a value.
+         *
+         * @param value the value to test.
+         * @return the first failing rule in evaluation order, or {@code null} if the value
+         *         passes or is not a {@code String}.
+         */
+        public Rule getFailedRule(Object value) {
+            if (!(value instanceof String)) {
+                return null;
+            }
+            String str = (String) value;
+            for (int index : order) {
+                Rule unit = units.get(index);
+                if (unit instanceof FusedRule) {
+                    FusedRule fused = (FusedRule) unit;
+                    int failure = fused.firstFailure(str);
+                    if (failure >= 0) {
+                        return fused.getPart(failure);
+                    }
+                } else if (!unit.test(str)) {
+                    return unit;
+                }
+            }
+            return null;
+        }
+
         /**
          * Returns a concatenated string of all error messages from failed rules.
          *
@@ -148,4 +366,35 @@ public class RuleBuilder {
             return sb.toString();
         }
     }
+
+    /**
+     * Striped counters describing how one rule behaves on sampled evaluations.
+     */
+    private static final class RuleStats {
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void record(long elapsed, boolean rejected) {
+            evaluations.increment();
+            nanos.add(elapsed);
+            if (rejected) {
+                rejections.increment();
+            }
+        }
+
+        /**
+         * Computes rejections per nanosecond and starts a new window.
+         * Unsampled rules score zero.
+         */
+        double scoreAndReset() {
+            long evaluated = evaluations.sumThenReset();
+            long rejected = rejections.sumThenReset();
+            long elapsed = nanos.sumThenReset();
+            if (evaluated == 0) {
+                return 0.0;
+            }
+            return (double) rejected / Math.max(elapsed, 1L);
+        }
+    }
 }
@@ -1,7 +1,12 @@
 package com.danielmorales.validatorx.rules;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 
 /**
@@ -9,9 +14,19 @@ import java.util.function.Predicate;
  * <p>
  * This class allows registering and retrieving named validation rules
  * that can be applied dynamically in validation workflows.
+ * <p>
+ * The registry is safe to use from multiple threads. Rules are held in an immutable,
+ * versioned {@link Snapshot} that is replaced atomically on every registration, so
+ * lookups never block and a validation that works from one snapshot always sees a
+ * consistent rule set.
+ * <p>
+ * Numeric rules can be registered as primitive predicates (see {@link #registerIntRule},
+ * {@link #registerLongRule} and {@link #registerDoubleRule}, or the typed rule builders).
+ * When such a rule is applied to a primitive field, it is called without boxing the value.
  */
 public class RuleRegistry {
-    private static final Map<String, Predicate<Object>> rules = new HashMap<>();
+    private static final AtomicReference<Snapshot> current =
+            new AtomicReference<>(new Snapshot(Collections.emptyMap(), 0L));
 
 
     /**
@@ -23,7 +38,73 @@ public class RuleRegistry {
      * @param rule the validation logic as a {@code Predicate<Object>}.
      */
     public static void registerRule(String name, Predicate<Object> rule) {
-        rules.put(name, rule);
+        registerRules(Collections.singletonMap(name, rule));
+    }
+
+    /**
+     * Registers a validation rule with a given name, optionally memoizing its outcome per value.
+     * <p>
+     * Memoization suits expensive rules, such as regular expressions, that are applied to a
+     * small set of repeated values. See {@link MemoizedRule}.
+     *
+     * @param name    the name of the rule.
+     * @param rule    the validation logic as a {@code Predicate<Object>}.
+     * @param memoize {@code true} to remember whether each value passed or failed.
+     */
+    public static void registerRule(String name, Predicate<Object> rule, boolean memoize) {
+        registerRule(name, memoize ? MemoizedRule.of(rule) : rule);
+    }
+
+    /**
+     * Registers an {@code int} validation rule with a given name.
+     *
+     * @param name the name of the rule.
+     * @param rule the validation logic as an {@code IntPredicate}.
+     * @see IntRuleBuilder
+     */
+    public static void registerIntRule(String name, IntPredicate rule) {
+        registerRule(name, IntRuleBuilder.IntRule.of(rule));
+    }
+
+    /**
+     * Registers a {@code long} validation rule with a given name.
+     *
+     * @param name the name of the rule.
+     * @param rule the validation logic as a {@code LongPredicate}.
+     * @see LongRuleBuilder
+     */
+    public static void registerLongRule(String name, LongPredicate rule) {
+        registerRule(name, LongRuleBuilder.LongRule.of(rule));
+    }
+
+    /**
+     * Registers a {@code double} validation rule with a given name.
+     *
+     * @param name the name of the rule.
+     * @param rule the validation logic as a {@code DoublePredicate}.
+     * @see DoubleRuleBuilder
+     */
+    public static void registerDoubleRule(String name, DoublePredicate rule) {
+        registerRule(name, DoubleRuleBuilder.DoubleRule.of(rule));
+    }
+
+    /**
+     * Registers several validation rules at once.
+     * <p>
+     * Readers see either none or all of the new rules, which makes this method suitable
+     * for reloading a rule set at runtime.
+     *
+     * @param newRules the rules to register, keyed by name.
+     */
+    public static void registerRules(Map<String, Predicate<Object>> newRules) {
+        Snapshot previous;
+        Snapshot next;
+        do {
+            previous = current.get();
+            Map<String, Predicate<Object>> copy = new HashMap<>(previous.rules);
+            copy.putAll(newRules);
+            next = new Snapshot(Collections.unmodifiableMap(copy), previous.version + 1);
+        } while (!current.compareAndSet(previous, next));
     }
 
     /**
@@ -35,6 +116,47 @@ public class RuleRegistry {
      * @return the rule predicate, or {@code null} if no rule is registered under the given name.
      */
     public static Predicate<Object> getRule(String name) {
-        return rules.get(name);
+        return current.get().getRule(name);
+    }
+
+    /**
+     * Returns the current immutable snapshot of all registered rules.
+     *
+     * @return the current snapshot.
+     */
+    public static Snapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * An immutable view of the registry at a point in time.
+     */
+    public static final class Snapshot {
+        private final Map<String, Predicate<Object>> rules;
+        private final long version;
+
+        private Snapshot(Map<String, Predicate<Object>> rules, long version) {
+            this.rules = rules;
+            this.version = version;
+        }
+
+        /**
+         * Retrieves a rule from this snapshot.
+         *
+         * @param name the name of the rule.
+         * @return the rule predicate, or {@code null} if no rule is registered under the given name.
+         */
+        public Predicate<Object> getRule(String name) {
+            return rules.get(name);
+        }
+
+        /**
+         * Gets the version of this snapshot. Versions increase with every registration.
+         *
+         * @return the snapshot version.
+         */
+        public long getVersion() {
+            return version;
+        }
     }
 }
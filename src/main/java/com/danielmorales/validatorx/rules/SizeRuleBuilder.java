@@ -0,0 +1,198 @@
+package com.danielmorales.validatorx.rules;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A builder for validation rules on the size of collections, maps, arrays and strings.
+ * <p>
+ * The resulting {@link SizeRule} reads the size once and evaluates every bound on the
+ * primitive {@code int}, without iterating or copying the container.
+ *
+ * <p>Usage Example:
+ * <pre>
+ * {@code
+ * RuleRegistry.registerRule("lineItems", new SizeRuleBuilder()
+ *         .notEmpty("An order needs at least one line item")
+ *         .atMost(100)
+ *         .build());
+ * }
+ * </pre>
+ */
+public class SizeRuleBuilder {
+    private final List<IntPredicate> predicates = new ArrayList<>();
+    private final List<String> errorMessages = new ArrayList<>();
+
+    /**
+     * Adds a rule that requires at least one element.
+     *
+     * @return the current instance of {@code SizeRuleBuilder}.
+     */
+    public SizeRuleBuilder notEmpty() {
+        return notEmpty("Must not be empty");
+    }
+
+    /**
+     * Adds a rule that requires at least one element, using a custom error message.
+     *
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code SizeRuleBuilder}.
+     */
+    public SizeRuleBuilder notEmpty(String errorMsg) {
+        return satisfies(size -> size > 0, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a size of at least the given minimum.
+     *
+     * @param min the minimum size.
+     * @return the current instance of {@code SizeRuleBuilder}.
+     */
+    public SizeRuleBuilder atLeast(int min) {
+        return atLeast(min, "Size must be at least " + min);
+    }
+
+    /**
+     * Adds a rule that requires a size of at least the given minimum,
+     * using a custom error message.
+     *
+     * @param min      the minimum size.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code SizeRuleBuilder}.
+     */
+    public SizeRuleBuilder atLeast(int min, String errorMsg) {
+        return satisfies(size -> size >= min, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a size of at most the given maximum.
+     *
+     * @param max the maximum size.
+     * @return the current instance of {@code SizeRuleBuilder}.
+     */
+    public SizeRuleBuilder atMost(int max) {
+        return atMost(max, "Size must be at most " + max);
+    }
+
+    /**
+     * Adds a rule that requires a size of at most the given maximum,
+     * using a custom error message.
+     *
+     * @param max      the maximum size.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code SizeRuleBuilder}.
+     */
+    public SizeRuleBuilder atMost(int max, String errorMsg) {
+        return satisfies(size -> size <= max, errorMsg);
+    }
+
+    /**
+     * Adds a rule that requires a size within an inclusive range.
+     *
+     * @param min the minimum size.
+     * @param max the maximum size.
+     * @return the current instance of {@code SizeRuleBuilder}.
+     */
+    public SizeRuleBuilder between(int min, int max) {
+        return between(min, max, "Size must be between " + min + " and " + max);
+    }
+
+    /**
+     * Adds a rule that requires a size within an inclusive range,
+     * using a custom error message.
+     *
+     * @param min      the minimum size.
+     * @param max      the maximum size.
+     * @param errorMsg the custom error message for this rule.
+     * @return the current instance of {@code SizeRuleBuilder}.
+     */
+    public SizeRuleBuilder between(int min, int max, String errorMsg) {
+        return satisfies(size -> size >= min && size <= max, errorMsg);
+    }
+
+    /**
+     * Adds a custom rule on the size.
+     *
+     * @param predicate the condition the size must meet for the rule to pass.
+     * @param errorMsg  the error message if the rule fails.
+     * @return the current instance of {@code SizeRuleBuilder}.
+     */
+    public SizeRuleBuilder satisfies(IntPredicate predicate, String errorMsg) {
+        predicates.add(predicate);
+        errorMessages.add(errorMsg);
+        return this;
+    }
+
+    /**
+     * Combines all added rules into a single composite rule.
+     *
+     * @return a {@code SizeRule} that represents the combined rules.
+     */
+    public SizeRule build() {
+        return new SizeRule(predicates.toArray(new IntPredicate[0]), errorMessages.toArray(new String[0]));
+    }
+
+    /**
+     * A composite size rule. Values that are not a {@code Collection}, {@code Map}, array
+     * or {@code CharSequence} (including {@code null}) do not pass.
+     */
+    public static class SizeRule implements Predicate<Object> {
+        private final IntPredicate[] predicates;
+        private final String[] errorMessages;
+
+        SizeRule(IntPredicate[] predicates, String[] errorMessages) {
+            this.predicates = predicates;
+            this.errorMessages = errorMessages;
+        }
+
+        @Override
+        public boolean test(Object value) {
+            int size;
+            if (value instanceof Collection<?>) {
+                size = ((Collection<?>) value).size();
+            } else if (value instanceof Map<?, ?>) {
+                size = ((Map<?, ?>) value).size();
+            } else if (value instanceof CharSequence) {
+                size = ((CharSequence) value).length();
+            } else if (value != null && value.getClass().isArray()) {
+                size = Array.getLength(value);
+            } else {
+                return false;
+            }
+            return testSize(size);
+        }
+
+        /**
+         * Tests a size directly.
+         *
+         * @param size the size to test.
+         * @return {@code true} if the size passes every rule.
+         */
+        public boolean testSize(int size) {
+            for (IntPredicate predicate : predicates) {
+                if (!predicate.test(size)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns a concatenated string of all error messages.
+         *
+         * @return a string containing all error messages.
+         */
+        public String getErrorMessages() {
+            StringBuilder sb = new StringBuilder();
+            for (String message : errorMessages) {
+                sb.append(message).append("; ");
+            }
+            return sb.toString();
+        }
+    }
+}
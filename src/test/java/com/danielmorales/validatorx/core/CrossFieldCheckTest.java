@@ -0,0 +1,224 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.annotations.CrossField;
+import com.danielmorales.validatorx.annotations.FieldsMatch;
+import com.danielmorales.validatorx.annotations.Immutable;
+import com.danielmorales.validatorx.annotations.Size;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrossFieldCheckTest {
+
+    interface Registration {
+    }
+
+    @FieldsMatch(field = "password", other = "confirmPassword", message = "Passwords do not match")
+    @FieldsMatch(field = "email", other = "confirmEmail", groups = Registration.class)
+    static class SignUpForm {
+        String email;
+        String confirmEmail;
+
+        @Size(min = 8, max = 64, message = "Password too short")
+        String password;
+        String confirmPassword;
+
+        SignUpForm(String email, String confirmEmail, String password, String confirmPassword) {
+            this.email = email;
+            this.confirmEmail = confirmEmail;
+            this.password = password;
+            this.confirmPassword = confirmPassword;
+        }
+    }
+
+    @CrossField(rule = "crossFieldTest.ordered", fields = {"low", "high"}, message = "Bounds are reversed")
+    static class Range {
+        int low;
+        int high;
+        String label;
+
+        Range(int low, int high, String label) {
+            this.low = low;
+            this.high = high;
+            this.label = label;
+        }
+    }
+
+    @Immutable
+    @CrossField(rule = "crossFieldTest.ordered", fields = {"low", "high"}, reportOn = "low")
+    static final class FrozenRange {
+        final int low;
+        final int high;
+
+        FrozenRange(int low, int high) {
+            this.low = low;
+            this.high = high;
+        }
+    }
+
+    @CrossField(rule = "crossFieldTest.unregistered", fields = {"low", "high"})
+    static class UnknownRuleRange {
+        int low = 1;
+        int high = 2;
+    }
+
+    static class Booking {
+        LocalDate start;
+        LocalDate end;
+        int guests;
+        int beds;
+
+        Booking(LocalDate start, LocalDate end, int guests, int beds) {
+            this.start = start;
+            this.end = end;
+            this.guests = guests;
+            this.beds = beds;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ValidationResultCache.setEnabled(false);
+        ValidationResultCache.clear();
+    }
+
+    @Test
+    void testFieldsMatch_reportsOnOtherField() {
+        ValidatorEngine engine = new ValidatorEngine();
+
+        assertFalse(engine.accumulateValidate(new SignUpForm("a@x.io", "b@x.io", "secret-pw", "secret-pw")).hasErrors(),
+                "Constraints outside the active groups are not evaluated");
+        assertFalse(engine.accumulateValidate(new SignUpForm(null, null, null, null)).hasErrors(), "Two nulls match");
+
+        List<ValidationError> errors = engine.accumulateValidate(
+                new SignUpForm("a@x.io", "a@x.io", "secret-pw", "secret-px")).getErrors();
+        assertEquals(1, errors.size());
+        assertEquals("confirmPassword", errors.get(0).getFieldName());
+        assertEquals("Passwords do not match", errors.get(0).getMessage());
+        assertEquals("secret-px", errors.get(0).getInvalidValue());
+    }
+
+    @Test
+    void testFieldsMatch_sharesValuesWithFieldChecksAndHonorsGroups() {
+        ValidatorEngine engine = new ValidatorEngine();
+        SignUpForm form = new SignUpForm("a@x.io", "b@x.io", "short", "shorter");
+
+        List<ValidationError> errors = engine.accumulateValidate(form).getErrors();
+        assertEquals(2, errors.size());
+        assertEquals("Password too short", errors.get(0).getMessage());
+        assertEquals("confirmPassword", errors.get(1).getFieldName());
+
+        errors = engine.accumulateValidate(form, Registration.class).getErrors();
+        assertEquals(1, errors.size());
+        assertEquals("confirmEmail", errors.get(0).getFieldName());
+    }
+
+    @Test
+    void testCrossField_passesValuesInOrderToRegisteredRule() {
+        RuleRegistry.registerRule("crossFieldTest.ordered", values -> {
+            Object[] bounds = (Object[]) values;
+            return (Integer) bounds[0] <= (Integer) bounds[1];
+        });
+        ValidatorEngine engine = new ValidatorEngine();
+
+        assertFalse(engine.accumulateValidate(new Range(1, 5, "ok")).hasErrors());
+        List<ValidationError> errors = engine.accumulateValidate(new Range(5, 1, "reversed")).getErrors();
+        assertEquals(1, errors.size());
+        assertEquals("high", errors.get(0).getFieldName(), "Errors are reported on the last field by default");
+        assertEquals("Bounds are reversed", errors.get(0).getMessage());
+        assertEquals(1, errors.get(0).getInvalidValue());
+    }
+
+    @Test
+    void testCrossField_missingRuleIsReported() {
+        ValidationResult result = new ValidatorEngine().accumulateValidate(new UnknownRuleRange());
+        assertTrue(result.getErrors().stream()
+                .anyMatch(e -> e.getMessage().equals("No rule found for: crossFieldTest.unregistered")));
+    }
+
+    @Test
+    void testValidateFields_onlyRevalidatesWhenADeclaredFieldChanges() {
+        RuleRegistry.registerRule("crossFieldTest.ordered", values -> {
+            Object[] bounds = (Object[]) values;
+            return (Integer) bounds[0] <= (Integer) bounds[1];
+        });
+        ValidatorEngine engine = new ValidatorEngine();
+        Range range = new Range(5, 1, "reversed");
+        ValidationResult previous = engine.accumulateValidate(range);
+        assertEquals(1, previous.getErrors().size());
+
+        range.label = "renamed";
+        ValidationResult unchanged = engine.validateFields(range, Collections.singleton("label"), previous);
+        assertEquals(1, unchanged.getErrors().size(), "The cross-field error is kept");
+
+        range.low = 0;
+        ValidationResult fixed = engine.validateFields(range, Collections.singleton("low"), previous);
+        assertFalse(fixed.hasErrors());
+    }
+
+    @Test
+    void testResultCache_keysOnCrossFieldValues() {
+        RuleRegistry.registerRule("crossFieldTest.ordered", values -> {
+            Object[] bounds = (Object[]) values;
+            return (Integer) bounds[0] <= (Integer) bounds[1];
+        });
+        ValidationResultCache.setEnabled(true);
+        ValidatorEngine engine = new ValidatorEngine();
+
+        assertFalse(engine.accumulateValidate(new FrozenRange(1, 2)).hasErrors());
+        ValidationResult reversed = engine.accumulateValidate(new FrozenRange(2, 1));
+        assertEquals(1, reversed.getErrors().size());
+        assertEquals("low", reversed.getErrors().get(0).getFieldName());
+        assertEquals(2, reversed.getErrors().get(0).getInvalidValue());
+    }
+
+    @Test
+    void testFluentCrossFieldRules() {
+        LocalDate today = LocalDate.of(2024, 5, 1);
+        Booking booking = new Booking(today, today.minusDays(2), 3, 1);
+
+        ValidationResult result = Validator.check(booking)
+                .isBefore("start", "end", "Check-out must be after check-in")
+                .crossFieldRule("beds", values -> (Integer) values[0] <= 2 * (Integer) values[1],
+                        "Not enough beds", "guests", "beds")
+                .fieldsMatch("start", "start", "")
+                .validate();
+
+        assertEquals(Arrays.asList("end", "beds"),
+                Arrays.asList(result.getErrors().get(0).getFieldName(), result.getErrors().get(1).getFieldName()));
+        assertEquals("Check-out must be after check-in", result.getErrors().get(0).getMessage());
+        assertEquals(2, result.getErrors().size());
+
+        booking.end = null;
+        booking.beds = 2;
+        assertFalse(Validator.check(booking).isBefore("start", "end", "").validate().hasErrors(),
+                "A missing value passes");
+        assertThrows(IllegalArgumentException.class,
+                () -> Validator.check(booking).crossFieldRule("beds", values -> true, "msg"));
+    }
+
+    @Test
+    void testCheckOnItsOwnReadsItsFieldsFromTheTarget() {
+        CrossFieldCheck check = new CrossFieldCheck("fieldsMatch", "confirmPassword",
+                new String[] { "password", "confirmPassword" }, values -> values[0].equals(values[1]),
+                () -> "Passwords do not match");
+        SignUpForm form = new SignUpForm("a@b.c", "a@b.c", "secret-1", "secret-2");
+
+        ValidationResult result = new ValidationResult();
+        check.applyTo(form, null, result);
+        assertEquals(1, result.getErrors().size());
+        assertEquals("confirmPassword", result.getErrors().get(0).getFieldName());
+        assertEquals("secret-2", result.getErrors().get(0).getInvalidValue());
+        assertEquals(1, check.countViolations(form, null, Integer.MAX_VALUE));
+
+        // A target without the fields is skipped, as plans drop such checks
+        assertEquals(0, check.countViolations(new Range(1, 2, "x"), null, 1));
+    }
+}
@@ -0,0 +1,148 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Pattern;
+import com.danielmorales.validatorx.annotations.Size;
+import com.danielmorales.validatorx.annotations.ValidateIf;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.groups.Default;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupsTest {
+
+    interface Create {
+    }
+
+    interface Update {
+    }
+
+    interface CreateOrDefault extends Create, Default {
+    }
+
+    static class Account {
+        @NotNull
+        String username;
+
+        @NotNull(groups = Create.class)
+        @Size(min = 8, max = 64, groups = { Create.class, Update.class })
+        String password;
+
+        Account(String username, String password) {
+            this.username = username;
+            this.password = password;
+        }
+    }
+
+    @Test
+    void testOf_normalizesDefault() {
+        assertSame(Groups.DEFAULT, Groups.of());
+        assertSame(Groups.DEFAULT, Groups.of(Default.class));
+        assertEquals(new HashSet<>(Arrays.asList(Create.class, Update.class)), Groups.of(Update.class, Create.class));
+    }
+
+    @Test
+    void testIsActive_followsGroupInheritance() {
+        Class<?>[] create = { Create.class };
+        assertTrue(Groups.isActive(create, Groups.of(Create.class)));
+        assertFalse(Groups.isActive(create, Groups.DEFAULT));
+        assertTrue(Groups.isActive(create, Groups.of(CreateOrDefault.class)), "A subgroup activates its parents");
+        assertTrue(Groups.isActive(new Class<?>[0], Groups.of(CreateOrDefault.class)));
+        assertFalse(Groups.isActive(new Class<?>[0], Groups.of(Update.class)));
+    }
+
+    @Test
+    void testAccumulateValidate_onlyEnforcesActiveGroups() {
+        ValidatorEngine engine = new ValidatorEngine();
+        Account account = new Account(null, null);
+
+        ValidationResult byDefault = engine.accumulateValidate(account);
+        assertEquals(1, byDefault.getErrors().size(), "Only the Default constraint should apply");
+        assertEquals("username", byDefault.getErrors().get(0).getFieldName());
+
+        ValidationResult onCreate = engine.accumulateValidate(account, Create.class);
+        assertEquals(1, onCreate.getErrors().size(), "Only the Create constraints should apply");
+        assertEquals("password", onCreate.getErrors().get(0).getFieldName());
+
+        ValidationResult both = engine.accumulateValidate(account, CreateOrDefault.class);
+        assertEquals(2, both.getErrors().size());
+
+        ValidationResult onUpdate = engine.accumulateValidate(new Account(null, "short"), Update.class);
+        assertEquals(1, onUpdate.getErrors().size());
+        assertEquals("password", onUpdate.getErrors().get(0).getFieldName());
+    }
+
+    @Test
+    void testPlans_compiledPerGroupSet() {
+        ValidationPlan create = PlanCache.getPlan(Account.class, Create.class);
+        assertSame(create, PlanCache.getPlan(Account.class, Create.class));
+        assertNotSame(create, PlanCache.getPlan(Account.class));
+        assertSame(PlanCache.getPlan(Account.class), PlanCache.getPlan(Account.class, Default.class));
+    }
+
+    @Test
+    void testFluentBuilder_withGroups() {
+        ValidationResult result = Validator.check(new Account("alice", null))
+                .groups(Create.class)
+                .isNotNull("username", "Username is required")
+                .validate();
+
+        assertEquals(1, result.getErrors().size());
+        assertEquals("password", result.getErrors().get(0).getFieldName());
+    }
+
+    static class Customer {
+        String country;
+
+        @ValidateIf(rule = "groupsTestIsEu", dependsOn = "country")
+        @NotNull(message = "VAT ID is required for EU customers")
+        @Pattern(regex = "^[A-Z]{2}[0-9A-Z]{8,12}$")
+        String vatId;
+
+        @ValidateIf(rule = "groupsTestHasReference")
+        @NotNull
+        String reference;
+
+        Customer(String country, String vatId, String reference) {
+            this.country = country;
+            this.vatId = vatId;
+            this.reference = reference;
+        }
+    }
+
+    @Test
+    void testValidateIf_appliesConstraintsOnlyWhenConditionHolds() {
+        RuleRegistry.registerRule("groupsTestIsEu", obj -> Arrays.asList("DE", "FR", "ES").contains(((Customer) obj).country));
+        RuleRegistry.registerRule("groupsTestHasReference", obj -> true);
+        ValidatorEngine engine = new ValidatorEngine();
+
+        assertFalse(engine.accumulateValidate(new Customer("US", null, "r")).hasErrors(),
+                "The VAT ID is not required outside the EU");
+
+        ValidationResult eu = engine.accumulateValidate(new Customer("DE", null, "r"));
+        assertEquals(1, eu.getErrors().size());
+        assertEquals("VAT ID is required for EU customers", eu.getErrors().get(0).getMessage());
+
+        assertTrue(engine.accumulateValidate(new Customer("FR", "bad", "r")).hasErrors());
+        assertFalse(engine.accumulateValidate(new Customer("FR", "FR12345678901", "r")).hasErrors());
+    }
+
+    @Test
+    void testValidateIf_dependsOnDrivesIncrementalRevalidation() {
+        RuleRegistry.registerRule("groupsTestIsEu", obj -> Arrays.asList("DE", "FR", "ES").contains(((Customer) obj).country));
+        RuleRegistry.registerRule("groupsTestHasReference", obj -> true);
+        ValidatorEngine engine = new ValidatorEngine();
+        Customer customer = new Customer("US", null, "r");
+        ValidationResult previous = engine.accumulateValidate(customer);
+
+        customer.country = "ES";
+        ValidationResult result = engine.validateFields(customer, Collections.singleton("country"), previous);
+        assertEquals(1, result.getErrors().size(), "Changing the country should re-evaluate the VAT ID");
+        assertEquals("vatId", result.getErrors().get(0).getFieldName());
+    }
+}
@@ -0,0 +1,149 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.annotations.Max;
+import com.danielmorales.validatorx.annotations.Min;
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Size;
+import com.danielmorales.validatorx.rules.DoubleRuleBuilder;
+import com.danielmorales.validatorx.rules.IntRuleBuilder;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanCacheTest {
+
+    static class PlanModel {
+        @NotNull
+        @Size(min = 3, max = 10)
+        String name;
+
+        String nickname;
+
+        PlanModel(String name, String nickname) {
+            this.name = name;
+            this.nickname = nickname;
+        }
+    }
+
+    static class PrimitiveModel {
+        @Min(1)
+        @Max(10)
+        int quantity;
+
+        short stock;
+
+        long id;
+
+        float ratio;
+
+        PrimitiveModel(int quantity, short stock, long id, float ratio) {
+            this.quantity = quantity;
+            this.stock = stock;
+            this.id = id;
+            this.ratio = ratio;
+        }
+    }
+
+    @Test
+    void testGetPlan_cachesPerClass() {
+        ValidationPlan plan1 = PlanCache.getPlan(PlanModel.class);
+        ValidationPlan plan2 = PlanCache.getPlan(PlanModel.class);
+
+        assertSame(plan1, plan2, "Subsequent calls should return the same compiled plan");
+        assertEquals(PlanModel.class, plan1.getType());
+    }
+
+    @Test
+    void testGetPlan_withRuleSet_mergesAnnotationsAndProfile() {
+        ValidationProfileRegistry.registerProfile("planCacheNickname", builder ->
+                builder.isNotNull("nickname", "Nickname is required"));
+
+        ValidationPlan plan = PlanCache.getPlan(PlanModel.class, "planCacheNickname");
+        assertSame(plan, PlanCache.getPlan(PlanModel.class, "planCacheNickname"),
+                "Combined plan should be cached per (class, rule set)");
+
+        ValidationResult result = plan.validate(new PlanModel("ab", null));
+        assertEquals(2, result.getErrors().size(), "Expected the @Size error and the profile error");
+        assertEquals("name", result.getErrors().get(0).getFieldName());
+        assertEquals("nickname", result.getErrors().get(1).getFieldName());
+    }
+
+    @Test
+    void testGetPlan_unknownRuleSet_fallsBackToAnnotations() {
+        assertSame(PlanCache.getPlan(PlanModel.class), PlanCache.getPlan(PlanModel.class, "noSuchRuleSet"));
+    }
+
+    @Test
+    void testProfile_compiledOnceAtRegistration() {
+        AtomicInteger invocations = new AtomicInteger();
+        ValidationProfileRegistry.registerProfile("planCacheCounting", builder -> {
+            invocations.incrementAndGet();
+            builder.hasLengthBetween("nickname", 1, 5, "Nickname too long");
+        });
+
+        for (int i = 0; i < 5; i++) {
+            PlanCache.getPlan(PlanModel.class, "planCacheCounting").validate(new PlanModel("valid", "toolongnick"));
+        }
+
+        assertEquals(1, invocations.get(), "Profile should only be run once, when registered");
+    }
+
+    @Test
+    void testReRegisteringProfile_invalidatesCombinedPlan() {
+        ValidationProfileRegistry.registerProfile("planCacheReload", builder ->
+                builder.isNotNull("nickname", "first"));
+        ValidationResult first = PlanCache.getPlan(PlanModel.class, "planCacheReload").validate(new PlanModel("valid", null));
+
+        ValidationProfileRegistry.registerProfile("planCacheReload", builder ->
+                builder.isNotNull("nickname", "second"));
+        ValidationResult second = PlanCache.getPlan(PlanModel.class, "planCacheReload").validate(new PlanModel("valid", null));
+
+        assertEquals("first", first.getErrors().get(0).getMessage());
+        assertEquals("second", second.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void testReplacingRule_invalidatesDependentPlan() {
+        RuleRegistry.registerRule("planCacheRule", obj -> true);
+        ValidationProfileRegistry.registerProfile("planCacheRuleSet", builder ->
+                builder.applyRule("planCacheRule", "nickname", "Rule failed"));
+
+        ValidationPlan before = PlanCache.getPlan(PlanModel.class, "planCacheRuleSet");
+        assertFalse(before.validate(new PlanModel("valid", "nick")).hasErrors());
+
+        RuleRegistry.registerRule("planCacheUnrelatedRule", obj -> true);
+        assertSame(before, PlanCache.getPlan(PlanModel.class, "planCacheRuleSet"),
+                "Unrelated rule changes should not recompile the plan");
+
+        RuleRegistry.registerRule("planCacheRule", obj -> false);
+        ValidationPlan after = PlanCache.getPlan(PlanModel.class, "planCacheRuleSet");
+        assertNotSame(before, after, "Replacing a rule should recompile dependent plans");
+        assertTrue(after.validate(new PlanModel("valid", "nick")).hasErrors());
+    }
+
+    @Test
+    void testPrimitiveFields_typedRulesAndAnnotations() {
+        RuleRegistry.registerRule("planCacheStock", new IntRuleBuilder().atLeast(0).build());
+        RuleRegistry.registerLongRule("planCacheId", value -> value > 0);
+        RuleRegistry.registerRule("planCacheRatio", new DoubleRuleBuilder().between(0.0, 1.0).build());
+        ValidationProfileRegistry.registerProfile("planCachePrimitives", builder -> builder
+                .applyRule("planCacheStock", "stock", "Stock cannot be negative")
+                .applyRule("planCacheId", "id", "Id must be positive")
+                .applyRule("planCacheRatio", "ratio", "Ratio must be between 0 and 1"));
+
+        ValidationPlan plan = PlanCache.getPlan(PrimitiveModel.class, "planCachePrimitives");
+        assertFalse(plan.validate(new PrimitiveModel(5, (short) 3, 42L, 0.5f)).hasErrors());
+
+        ValidationResult result = plan.validate(new PrimitiveModel(11, (short) -1, 0L, 1.5f));
+        assertEquals(4, result.getErrors().size(), "Expected @Max and three rule errors");
+        assertEquals("quantity", result.getErrors().get(0).getFieldName());
+        assertEquals(11, result.getErrors().get(0).getInvalidValue());
+        assertEquals((short) -1, result.getErrors().get(1).getInvalidValue(),
+                "Errors should carry the value boxed as its declared type");
+        assertEquals(0L, result.getErrors().get(2).getInvalidValue());
+        assertEquals(1.5f, result.getErrors().get(3).getInvalidValue());
+    }
+}
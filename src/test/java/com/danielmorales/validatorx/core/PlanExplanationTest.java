@@ -0,0 +1,120 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.annotations.Min;
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Pattern;
+import com.danielmorales.validatorx.annotations.Size;
+import com.danielmorales.validatorx.rules.RuleBuilder;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanExplanationTest {
+
+    static class Order {
+        @NotNull
+        String id;
+
+        @Min(1)
+        int quantity;
+
+        @NotNull
+        Customer customer;
+
+        Order(String id, int quantity, Customer customer) {
+            this.id = id;
+            this.quantity = quantity;
+            this.customer = customer;
+        }
+    }
+
+    static class Customer {
+        @Size(min = 1, max = 5)
+        String name;
+
+        @Pattern(regex = "^[A-Z]{2}$", memoize = true)
+        String country;
+
+        Customer(String name, String country) {
+            this.name = name;
+            this.country = country;
+        }
+    }
+
+    static class Employee {
+        @NotNull
+        Employee manager;
+    }
+
+    @Test
+    void testExplainListsFieldsChecksAndCascades() {
+        PlanExplanation explanation = Validator.explain(Order.class);
+
+        List<String> fields = explanation.getNodes().stream().map(PlanExplanation.Node::getPath)
+                .collect(Collectors.toList());
+        assertEquals(List.of("id", "quantity", "customer"), fields);
+        assertFalse(explanation.isAnalyzed());
+        assertFalse(explanation.isResultCacheable());
+
+        PlanExplanation.Node id = explanation.find("id", null);
+        assertEquals(1, id.getChildren().size(), "A String is never cascaded into");
+        assertEquals("int, unboxed", explanation.find("quantity", null).getDetail());
+
+        PlanExplanation.Node cascade = explanation.find("customer", "cascade");
+        assertEquals(PlanExplanation.Node.Kind.CASCADE, cascade.getKind());
+        assertEquals("Customer", cascade.getDetail());
+        assertEquals("regex '^[A-Z]{2}$' (java.util.regex, memoized)",
+                explanation.find("customer.country", "Pattern").getDetail());
+        assertEquals("string length in [1, 5]", explanation.find("customer.name", "Size").getDetail());
+
+        assertTrue(cascade.getEstimatedCost() > explanation.find("customer.name", "Size").getEstimatedCost());
+        assertEquals(explanation.getNodes().stream().mapToInt(PlanExplanation.Node::getEstimatedCost).sum(),
+                explanation.getEstimatedCost());
+        assertTrue(explanation.toString().contains("cascade customer: Customer"), explanation.toString());
+    }
+
+    @Test
+    void testRecursiveCascadeStops() {
+        PlanExplanation explanation = Validator.explain(Employee.class);
+
+        PlanExplanation.Node cascade = explanation.find("manager", "cascade");
+        assertEquals("Employee, recursive", cascade.getDetail());
+        assertTrue(cascade.getChildren().isEmpty());
+    }
+
+    @Test
+    void testAnalyzeTimesEveryNode() {
+        Order order = new Order(null, 0, new Customer("Alexander", "FR"));
+        PlanExplanation analysis = Validator.analyze(order);
+
+        assertTrue(analysis.isAnalyzed());
+        assertEquals(3, analysis.getResult().getErrors().size());
+        assertTrue(analysis.getTotalNanos() > 0);
+
+        PlanExplanation.Node name = analysis.find("customer.name", "Size");
+        assertEquals(1, name.getEvaluations());
+        assertEquals(1, name.getFailures());
+        PlanExplanation.Node cascade = analysis.find("customer", "cascade");
+        assertEquals(1, cascade.getEvaluations());
+        assertTrue(cascade.getNanos() >= name.getNanos());
+        assertEquals(1, analysis.find("quantity", "Min").getFailures());
+        assertTrue(analysis.getTimings().stream().anyMatch(entry -> entry.getPath().equals("customer.country")));
+    }
+
+    @Test
+    void testExplainRuleSetShowsFusedRules() {
+        RuleRegistry.registerRule("explainCustomerName",
+                new RuleBuilder().lengthAtLeast(2).matches("^[a-z]+$").build());
+        ValidationProfileRegistry.registerProfile("explainProfile",
+                builder -> builder.applyRule("explainCustomerName", "name", "Invalid name"));
+
+        PlanExplanation explanation = PlanCache.getPlan(Customer.class, "explainProfile").explain();
+
+        String detail = explanation.find("name", "rule:explainCustomerName").getDetail();
+        assertTrue(detail.startsWith("rule 'explainCustomerName': composite [fused linear scan of"), detail);
+    }
+}
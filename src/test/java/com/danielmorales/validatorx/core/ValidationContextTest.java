@@ -0,0 +1,109 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Size;
+import com.danielmorales.validatorx.i18n.MessageResolver;
+import com.danielmorales.validatorx.metrics.MetricsRegistry;
+import com.danielmorales.validatorx.metrics.StripedValidationMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationContextTest {
+
+    interface Create {
+    }
+
+    static class Account {
+        @NotNull
+        String id;
+
+        @Size(min = 3, max = 10)
+        String name;
+
+        @NotNull(groups = Create.class)
+        String password;
+
+        Account(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private final ValidatorEngine engine = new ValidatorEngine();
+    private final ValidationContext french = ValidationContext.builder().locale(Locale.FRANCE).build();
+    private final ValidationContext english = ValidationContext.builder().locale(Locale.ROOT).build();
+
+    @Test
+    void testRendersMessagesPerCallWithoutChangingTheGlobalLocale() {
+        Locale global = MessageResolver.getLocale();
+        Account invalid = new Account(null, "Ada");
+
+        assertEquals("Le champ 'id' ne peut pas être nul",
+                engine.accumulateValidate(invalid, french).getErrors().get(0).getMessage());
+        assertEquals("Field 'id' cannot be null",
+                engine.accumulateValidate(invalid, english).getErrors().get(0).getMessage());
+        assertEquals(global, MessageResolver.getLocale());
+        assertNull(ValidationContext.bound());
+    }
+
+    @Test
+    void testMixedLocalesAcrossThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                boolean useFrench = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    String message = engine.accumulateValidate(new Account(null, "Ada"), useFrench ? french : english)
+                            .getErrors().get(0).getMessage();
+                    return message.startsWith(useFrench ? "Le champ" : "Field");
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testScopesApplyModeAndGroupsAndNest() {
+        Account invalid = new Account(null, "Al");
+        ValidationContext failFast = ValidationContext.builder().mode(ValidationContext.Mode.FAIL_FAST).build();
+        ValidationContext create = ValidationContext.builder().groups(Create.class).build();
+
+        try (ValidationContext.Scope outer = failFast.bind()) {
+            assertEquals(1, engine.accumulateValidate(invalid).getErrors().size());
+            assertEquals(1, Validator.check(invalid).validate().getErrors().size());
+
+            try (ValidationContext.Scope inner = create.bind()) {
+                ValidationResult result = engine.accumulateValidate(invalid);
+                assertEquals(1, result.getErrors().size());
+                assertEquals("password", result.getErrors().get(0).getFieldName());
+            }
+            assertSame(failFast, ValidationContext.current());
+        }
+        assertFalse(ValidationPlan.isFailFastDefault());
+        assertEquals(2, engine.accumulateValidate(invalid).getErrors().size());
+    }
+
+    @Test
+    void testReportsToTheContextMetricsSink() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        ValidationContext measured = ValidationContext.builder().metrics(metrics).build();
+
+        assertFalse(MetricsRegistry.isEnabled());
+        engine.accumulateValidate(new Account("a1", "Ada"), measured);
+
+        assertEquals(1, metrics.snapshot().getClass(Account.class).getValidations());
+    }
+}
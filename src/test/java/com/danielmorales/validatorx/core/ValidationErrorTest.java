@@ -1,11 +1,38 @@
 package com.danielmorales.validatorx.core;
 
+import com.danielmorales.validatorx.annotations.Min;
+import com.danielmorales.validatorx.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ValidationErrorTest {
 
+    static class Line {
+        @NotNull
+        String sku;
+
+        @Min(1)
+        int quantity;
+
+        Line(String sku, int quantity) {
+            this.sku = sku;
+            this.quantity = quantity;
+        }
+    }
+
+    static class Order {
+        @NotNull
+        Line line;
+
+        Order(Line line) {
+            this.line = line;
+        }
+    }
+
     @Test
     void testValidationErrorFieldsAndToString() {
         ValidationError error = new ValidationError("myField", "Some error occurred", "badValue");
@@ -19,4 +46,78 @@ class ValidationErrorTest {
         assertTrue(errorString.contains("Some error occurred"), "toString should include error message");
         assertTrue(errorString.contains("badValue"), "toString should include invalid value");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testErrorsCarryConstraintCodes() {
+        ValidationResult result = new ValidatorEngine().accumulateValidate(new Line(null, 0));
+
+        ValidationError missing = result.getErrors().get(0);
+        assertEquals("NotNull", missing.getConstraint());
+        assertEquals(ConstraintCodes.codeOf("NotNull"), missing.getConstraintCode());
+        assertEquals("Min", result.getErrors().get(1).getConstraint());
+        assertNotEquals(missing.getConstraintCode(), result.getErrors().get(1).getConstraintCode());
+
+        ValidationError manual = new ValidationError("field", "message", null);
+        assertEquals(ConstraintCodes.UNKNOWN, manual.getConstraintCode());
+        assertNull(manual.getConstraint());
+    }
+
+    @Test
+    void testIdenticalErrorsShareOneDescription() {
+        ValidatorEngine engine = new ValidatorEngine();
+        List<ValidationError> errors = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            errors.addAll(engine.accumulateValidate(new Line(null, 0)).getErrors());
+        }
+
+        assertEquals(200, errors.size());
+        for (int i = 2; i < errors.size(); i++) {
+            assertTrue(errors.get(i % 2).sharesIdentity(errors.get(i)));
+            assertNotSame(errors.get(i % 2), errors.get(i));
+        }
+        // A different invalid value shares the description but keeps its own value
+        ValidationError negative = engine.accumulateValidate(new Line("A", -1)).getErrors().get(0);
+        assertEquals(-1, negative.getInvalidValue());
+        assertEquals(0, errors.get(1).getInvalidValue());
+        assertTrue(errors.get(1).sharesIdentity(negative));
+    }
+
+    @Test
+    void testDistinctInvalidValuesDoNotGrowThePlan() {
+        ValidatorEngine engine = new ValidatorEngine();
+        ValidationPlan plan = PlanCache.getPlan(Line.class);
+        engine.accumulateValidate(new Line("A", 0));
+        int descriptions = plan.getCanonicalErrorCount();
+        List<ValidationError> errors = new ArrayList<>();
+        for (int i = 1; i <= 10_000; i++) {
+            errors.addAll(engine.accumulateValidate(new Line("A", -i)).getErrors());
+        }
+
+        // 10,000 errors, one description: each error is only a reference to it plus its own value
+        assertEquals(10_000, errors.size());
+        ValidationError first = errors.get(0);
+        for (int i = 0; i < errors.size(); i++) {
+            ValidationError error = errors.get(i);
+            assertTrue(first.sharesIdentity(error));
+            assertEquals(-(i + 1), error.getInvalidValue());
+        }
+        // Descriptions belong to the checks: the plan keeps nothing per error, and never an invalid value
+        assertEquals(descriptions, plan.getCanonicalErrorCount());
+    }
+
+    @Test
+    void testNestedErrorsKeepTheirOwnCanonicalDescription() {
+        ValidatorEngine engine = new ValidatorEngine();
+        ValidationError direct = engine.accumulateValidate(new Line(null, 1)).getErrors().get(0);
+        ValidationError nested = engine.accumulateValidate(new Order(new Line(null, 1))).getErrors().get(0);
+
+        assertEquals("sku", nested.getFieldName());
+        assertEquals(direct.getMessage(), nested.getMessage());
+        assertEquals("sku", direct.getSource());
+        assertEquals("line", nested.getSource());
+        assertFalse(direct.sharesIdentity(nested));
+        ValidationError again = engine.accumulateValidate(new Order(new Line(null, 1))).getErrors().get(0);
+        assertTrue(nested.sharesIdentity(again));
+        assertEquals("sku", engine.accumulateValidate(new Line(null, 1)).getErrors().get(0).getSource());
+    }
+}
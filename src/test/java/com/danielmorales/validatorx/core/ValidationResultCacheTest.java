@@ -0,0 +1,133 @@
+package com.danielmorales.validatorx.core;
+
+import com.danielmorales.validatorx.annotations.Immutable;
+import com.danielmorales.validatorx.annotations.Min;
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Size;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationResultCacheTest {
+
+    @Immutable
+    static final class Currency {
+        @NotNull
+        @Size(min = 3, max = 3)
+        final String code;
+
+        @Min(0)
+        final int digits;
+
+        Currency(String code, int digits) {
+            this.code = code;
+            this.digits = digits;
+        }
+    }
+
+    static final class MutableCurrency {
+        @NotNull
+        String code;
+    }
+
+    private final ValidatorEngine engine = new ValidatorEngine();
+
+    @BeforeEach
+    void enableCache() {
+        ValidationResultCache.setEnabled(true);
+        ValidationResultCache.resetStats();
+    }
+
+    @AfterEach
+    void restoreDefaults() {
+        ValidationResultCache.setEnabled(false);
+        ValidationResultCache.setMaximumSize(ValidationResultCache.DEFAULT_MAXIMUM_SIZE);
+        ValidationResultCache.setMaximumWeight(ValidationResultCache.DEFAULT_MAXIMUM_WEIGHT);
+        ValidationResultCache.resetStats();
+    }
+
+    @Test
+    void testEqualObjects_shareCachedResult() {
+        ValidationResult first = engine.accumulateValidate(new Currency("EURO", -1));
+        ValidationResult second = engine.accumulateValidate(new Currency("EURO", -1));
+
+        assertEquals(2, first.getErrors().size());
+        assertEquals(2, second.getErrors().size());
+        assertSame(first.getErrors().get(0), second.getErrors().get(0), "The cached errors should be reused");
+
+        ValidationResultCache.Stats stats = ValidationResultCache.getStats();
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getSize());
+        assertEquals(3, stats.getWeight(), "An entry weighs one plus its number of errors");
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    void testCachedResult_isCopiedOnEveryHit() {
+        engine.accumulateValidate(new Currency("USD", 2));
+        ValidationResult hit = engine.accumulateValidate(new Currency("USD", 2));
+        hit.addError(new ValidationError("code", "added by the caller", null));
+
+        assertFalse(engine.accumulateValidate(new Currency("USD", 2)).hasErrors(),
+                "Changing a returned result must not change the cache");
+    }
+
+    @Test
+    void testMutableClasses_areNotCached() {
+        MutableCurrency currency = new MutableCurrency();
+        engine.accumulateValidate(currency);
+        engine.accumulateValidate(currency);
+
+        assertFalse(ValidationResultCache.isCacheable(MutableCurrency.class));
+        assertEquals(0, ValidationResultCache.getStats().getMissCount());
+    }
+
+    @Test
+    void testRegistryChange_invalidatesCache() {
+        engine.accumulateValidate(new Currency("GBP", 2));
+        RuleRegistry.registerRule("resultCacheUnrelatedRule", obj -> true);
+        engine.accumulateValidate(new Currency("GBP", 2));
+
+        assertEquals(2, ValidationResultCache.getStats().getMissCount(),
+                "Registering a rule should clear cached results");
+        assertEquals(1, ValidationResultCache.getStats().getSize());
+    }
+
+    @Test
+    void testFullCache_admitsOnlyMoreFrequentEntries() {
+        ValidationResultCache.setMaximumSize(2);
+        for (int i = 0; i < 3; i++) {
+            engine.accumulateValidate(new Currency("AAA", 2));
+            engine.accumulateValidate(new Currency("BBB", 2));
+        }
+
+        engine.accumulateValidate(new Currency("CCC", 2));
+        ValidationResultCache.Stats stats = ValidationResultCache.getStats();
+        assertEquals(1, stats.getRejectionCount(), "A one-off value should not replace popular entries");
+        assertEquals(0, stats.getEvictionCount());
+
+        for (int i = 0; i < 3; i++) {
+            engine.accumulateValidate(new Currency("CCC", 2));
+        }
+        stats = ValidationResultCache.getStats();
+        assertEquals(1, stats.getEvictionCount(), "A value requested more often should replace the oldest entry");
+        assertEquals(2, stats.getSize());
+
+        long hitsBefore = stats.getHitCount();
+        engine.accumulateValidate(new Currency("CCC", 2));
+        assertEquals(hitsBefore + 1, ValidationResultCache.getStats().getHitCount());
+    }
+
+    @Test
+    void testEntriesHeavierThanMaximumWeight_areRejected() {
+        ValidationResultCache.setMaximumWeight(2);
+        engine.accumulateValidate(new Currency(null, -1));
+
+        assertEquals(0, ValidationResultCache.getStats().getSize());
+        assertEquals(1, ValidationResultCache.getStats().getRejectionCount());
+    }
+}
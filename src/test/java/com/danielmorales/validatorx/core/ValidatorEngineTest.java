@@ -3,9 +3,15 @@ package com.danielmorales.validatorx.core;
 import com.danielmorales.validatorx.annotations.Email;
 import com.danielmorales.validatorx.annotations.Min;
 import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Pattern;
 import com.danielmorales.validatorx.annotations.Size;
+import com.danielmorales.validatorx.rules.MemoizedRule;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ValidatorEngineTest {
@@ -78,4 +84,101 @@ class ValidatorEngineTest {
         assertDoesNotThrow(() -> engine.validateAndThrow(model),
                 "No exception should be thrown for valid data");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testValidateFields_reevaluatesOnlyChangedFields() {
+        EngineTestModel model = new EngineTestModel(null, "invalid", "tooLong", 5);
+        ValidatorEngine engine = new ValidatorEngine();
+        ValidationResult previous = engine.accumulateValidate(model);
+        assertEquals(4, previous.getErrors().size());
+
+        model.sizeLimited = "okay";
+        model.minimumValue = 1; // still invalid, but not reported as changed
+        ValidationResult result = engine.validateFields(model, Collections.singleton("sizeLimited"), previous);
+
+        assertEquals(3, result.getErrors().size(), "Only the fixed @Size error should disappear");
+        assertSame(previous.getErrors().get(0), result.getErrors().get(0), "Unaffected errors are kept as is");
+        assertEquals(5, result.getErrors().get(2).getInvalidValue(),
+                "Unchanged fields are not re-read");
+        assertEquals(4, previous.getErrors().size(), "The previous result must not be modified");
+    }
+
+    @Test
+    void testValidateFields_reportsNewErrorsOnChangedFields() {
+        EngineTestModel model = new EngineTestModel("NotNull", "test@example.com", "okay", 15);
+        ValidatorEngine engine = new ValidatorEngine();
+        ValidationResult previous = engine.accumulateValidate(model);
+
+        model.mustBeEmail = "broken";
+        model.mustNotBeNull = null;
+        ValidationResult result = engine.validateFields(model,
+                new HashSet<>(Arrays.asList("mustBeEmail", "mustNotBeNull", "noSuchField")), previous);
+
+        assertEquals(2, result.getErrors().size());
+        assertEquals("mustNotBeNull", result.getErrors().get(0).getFieldName());
+        assertEquals("mustBeEmail", result.getErrors().get(1).getFieldName());
+    }
+
+    static class Parent {
+        @NotNull
+        EngineTestModel child;
+
+        @Size(min = 1, max = 3)
+        String code;
+    }
+
+    @Test
+    void testValidateFields_nestedErrorsBelongToCascadedField() {
+        Parent parent = new Parent();
+        parent.child = new EngineTestModel(null, "invalid", "okay", 15);
+        parent.code = "toolong";
+        ValidatorEngine engine = new ValidatorEngine();
+        ValidationResult previous = engine.accumulateValidate(parent);
+        assertEquals(3, previous.getErrors().size());
+
+        parent.child = new EngineTestModel("NotNull", "test@example.com", "okay", 15);
+        ValidationResult result = engine.validateFields(parent, Collections.singleton("child"), previous);
+
+        assertEquals(1, result.getErrors().size(), "Nested errors should be replaced when the child changes");
+        assertEquals("code", result.getErrors().get(0).getFieldName());
+    }
+
+    @Test
+    void testValidateFields_withoutPreviousResult_validatesEverything() {
+        EngineTestModel model = new EngineTestModel(null, "invalid", "tooLong", 5);
+        ValidationResult result = new ValidatorEngine().validateFields(model, Collections.emptySet(), null);
+        assertEquals(4, result.getErrors().size());
+    }
+
+    static class Sku {
+        @Pattern(regex = "^[A-Z]{3}-\\d{6}$", memoize = true)
+        String code;
+
+        Sku(String code) {
+            this.code = code;
+        }
+    }
+
+    @Test
+    void testMemoizedPattern_answersRepeatedValuesFromCache() {
+        ValidatorEngine engine = new ValidatorEngine();
+        long hitsBefore = MemoizedRule.getHitCount();
+
+        for (int i = 0; i < 10; i++) {
+            assertFalse(engine.accumulateValidate(new Sku("ABC-123456")).hasErrors());
+            assertTrue(engine.accumulateValidate(new Sku("abc-123")).hasErrors());
+        }
+        assertTrue(MemoizedRule.getHitCount() - hitsBefore >= 18, "Repeated values should be memoized");
+    }
+
+    @Test
+    void testMemoizedPattern_keepsOutcomesWhenThePlanIsRecompiled() {
+        ValidatorEngine engine = new ValidatorEngine();
+        assertFalse(engine.accumulateValidate(new Sku("RCP-000001")).hasErrors());
+        PlanCache.clear();
+        long missesBefore = MemoizedRule.getMissCount();
+
+        assertFalse(engine.accumulateValidate(new Sku("RCP-000001")).hasErrors());
+        assertEquals(missesBefore, MemoizedRule.getMissCount(), "A recompiled plan should reuse the memoized rule");
+    }
+}
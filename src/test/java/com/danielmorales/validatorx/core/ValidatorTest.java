@@ -1,7 +1,14 @@
 package com.danielmorales.validatorx.core;
 
+import com.danielmorales.validatorx.annotations.Min;
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Size;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ValidatorTest {
@@ -81,4 +88,199 @@ class ValidatorTest {
         assertTrue(result.hasErrors(), "Annotation-based validation should catch null field");
         assertEquals(1, result.getErrors().size(), "Expect exactly one error for the null field");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testValidateFields_rerunsObjectLevelRules() {
+        FluentTestModel model = new FluentTestModel();
+        model.name = null;
+        model.email = "user@example.com";
+        model.password = "secret";
+
+        Validator.ValidationBuilder builder = Validator.check(model)
+                .skipAnnotations()
+                .isNotNull("name", "Name is required")
+                .isEmail("email", "Invalid email")
+                .customRule(obj -> !((FluentTestModel) obj).password.equals(((FluentTestModel) obj).email),
+                        "Password must differ from email");
+        ValidationResult previous = builder.validate();
+        assertEquals(1, previous.getErrors().size());
+
+        model.password = "user@example.com";
+        ValidationResult result = builder.validateFields(Collections.singleton("password"), previous);
+
+        assertEquals(2, result.getErrors().size(),
+                "The name error is kept and the object-level rule is re-evaluated");
+        assertEquals("name", result.getErrors().get(0).getFieldName());
+        assertEquals("object", result.getErrors().get(1).getFieldName());
+    }
+
+    interface Create {
+    }
+
+    static class Address {
+        @NotNull
+        String city;
+
+        @Size(min = 2, max = 2)
+        String country;
+
+        Address(String city, String country) {
+            this.city = city;
+            this.country = country;
+        }
+    }
+
+    static class Customer {
+        @NotNull
+        String name;
+
+        @Min(18)
+        int age;
+
+        @NotNull
+        Address address;
+
+        @NotNull(groups = Create.class)
+        String password;
+
+        Customer(String name, int age, Address address) {
+            this.name = name;
+            this.age = age;
+            this.address = address;
+        }
+    }
+
+    static class Order {
+        List<Address> addresses;
+    }
+
+    @Test
+    void testIsValidAndCountViolationsMatchValidate() {
+        Customer valid = new Customer("Ada", 36, new Address("London", "GB"));
+        Customer invalid = new Customer(null, 12, new Address(null, "GBR"));
+
+        assertTrue(Validator.isValid(valid));
+        assertEquals(0, Validator.countViolations(valid));
+        assertFalse(Validator.isValid(invalid));
+        // name and age, plus city and country in the cascaded address
+        assertEquals(Validator.check(invalid).validate().getErrors().size(), Validator.countViolations(invalid));
+        assertEquals(4, Validator.countViolations(invalid));
+        assertFalse(Validator.isValid(null));
+        assertEquals(1, Validator.countViolations(null));
+    }
+
+    @Test
+    void testCountViolationsHonorsGroupsAndContext() {
+        Customer customer = new Customer("Ada", 36, new Address("London", "GB"));
+
+        assertTrue(Validator.isValid(customer));
+        assertFalse(Validator.isValid(customer, Create.class));
+        assertEquals(1, Validator.countViolations(customer, Create.class));
+        try (ValidationContext.Scope scope = ValidationContext.builder().groups(Create.class).build().bind()) {
+            assertFalse(Validator.isValid(customer));
+        }
+        try (ValidationContext.Scope scope = ValidationContext.builder()
+                .mode(ValidationContext.Mode.FAIL_FAST).build().bind()) {
+            assertEquals(1, Validator.countViolations(new Customer(null, 12, null)));
+        }
+    }
+
+    static class Account {
+        Customer holder;
+
+        Account(Customer holder) {
+            this.holder = holder;
+        }
+    }
+
+    static class Contact {
+        @javax.validation.constraints.NotNull
+        String phone;
+    }
+
+    static class Lead {
+        Contact contact = new Contact();
+    }
+
+    @Test
+    void testFluentCascadeUsesTheBuilderGroups() {
+        Account account = new Account(new Customer("Ada", 36, new Address("London", "GB")));
+
+        assertFalse(Validator.check(account).cascade("holder").validate().hasErrors());
+        ValidationResult result = Validator.check(account).groups(Create.class).cascade("holder").validate();
+        assertEquals(1, result.getErrors().size());
+        assertEquals("password", result.getErrors().get(0).getFieldName());
+        assertEquals(1, Validator.check(account).groups(Create.class).cascade("holder").countViolations());
+        assertFalse(Validator.check(account).groups(Create.class).cascade("holder").isValid());
+        try (ValidationContext.Scope scope = ValidationContext.builder().groups(Create.class).build().bind()) {
+            assertFalse(Validator.check(account).cascade("holder").isValid());
+        }
+        // JSR 380 constraints of nested objects are enforced only with withJsr380()
+        assertTrue(Validator.check(new Lead()).cascade("contact").isValid());
+        assertEquals(1, Validator.check(new Lead()).withJsr380().cascade("contact").countViolations());
+    }
+
+    @Test
+    void testBuilderCountsFluentChecks() {
+        FluentTestModel model = new FluentTestModel();
+        model.email = "invalid";
+        model.password = "short";
+
+        Validator.ValidationBuilder builder = Validator.check(model)
+                .skipAnnotations()
+                .isNotNull("name", "Name must not be null")
+                .isEmail("email", "Email is invalid")
+                .hasLengthBetween("password", 8, 20, "Password must be between 8-20 chars")
+                .fieldsMatch("password", "email", "Must match")
+                .customRule(obj -> false, "Always fails");
+
+        assertEquals(builder.validate().getErrors().size(), builder.countViolations());
+        assertEquals(5, builder.countViolations());
+        assertFalse(builder.isValid());
+
+        Order order = new Order();
+        order.addresses = Arrays.asList(null, new Address(null, "GB"), new Address("Paris", "FR"));
+        Validator.ValidationBuilder cascade = Validator.check(order).skipAnnotations().cascade("addresses");
+        assertEquals(2, cascade.countViolations());
+        assertEquals(cascade.validate().getErrors().size(), cascade.countViolations());
+    }
+
+    static class Triple {
+        String a;
+
+        @NotNull
+        String b;
+
+        String c;
+    }
+
+    @Test
+    void testAnnotationErrorsComeBeforeFluentErrorsInCallOrder() {
+        Validator.ValidationBuilder builder = Validator.check(new Triple())
+                .isNotNull("c", "c is required")
+                .isNotNull("a", "a is required");
+
+        List<ValidationError> errors = builder.validate().getErrors();
+        assertEquals(3, errors.size());
+        assertEquals("b", errors.get(0).getFieldName());
+        assertEquals("c", errors.get(1).getFieldName());
+        assertEquals("a", errors.get(2).getFieldName());
+        assertEquals(3, builder.countViolations());
+    }
+
+    @Test
+    void testValidateFieldsAcceptsAFluentResult() {
+        Triple triple = new Triple();
+        Validator.ValidationBuilder builder = Validator.check(triple)
+                .isNotNull("c", "c is required")
+                .fieldsMatch("a", "c", "c must match a");
+        ValidationResult previous = builder.validate();
+        assertEquals(2, previous.getErrors().size());
+
+        triple.c = "x";
+        ValidationResult result = builder.validateFields(Collections.singleton("c"), previous);
+        assertEquals(2, result.getErrors().size());
+        assertEquals("b", result.getErrors().get(0).getFieldName());
+        assertEquals("c must match a", result.getErrors().get(1).getMessage());
+    }
+}
@@ -0,0 +1,84 @@
+package com.danielmorales.validatorx.i18n;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageCatalogTest {
+
+    @TempDir
+    Path directory;
+
+    private MessageCatalog compile() throws Exception {
+        write("message.properties", "greeting=Hello {0}, you are {1}\nfarewell=Bye\n");
+        write("message_de.properties", "greeting=Hallo {0}, du bist {1}\numlaut=Grüße\n");
+        write("other.properties", "ignored=yes\n");
+        Path output = directory.resolve(MessageCatalogCompiler.CATALOG_NAME);
+        MessageCatalogCompiler.main(new String[] { directory.toString(), output.toString() });
+        return MessageCatalog.load(output.toUri().toURL());
+    }
+
+    private void write(String name, String content) throws Exception {
+        Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCompilesBundlesWithParsedPlaceholders() throws Exception {
+        MessageCatalog catalog = compile();
+
+        assertEquals(3, catalog.getKeyCount());
+        assertEquals(2, catalog.getBundleNames().size());
+        assertTrue(catalog.getBundleNames().containsAll(Arrays.asList("message", "message_de")));
+        assertEquals(-1, catalog.keyIndex("ignored"));
+        assertEquals(-1, catalog.keyIndex("missing"));
+    }
+
+    @Test
+    void testResolvesThroughTheBundleChain() throws Exception {
+        MessageCatalog catalog = compile();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, null)) {
+            int[] german = catalog.covers(Arrays.asList("message_de_DE", "message_de", "message"), loader);
+            assertNotNull(german);
+            assertEquals(2, german.length);
+
+            MessageTemplate greeting = catalog.template(german[0], catalog.keyIndex("greeting"));
+            assertEquals("Hallo Ada, du bist 36", greeting.format("Ada", 36));
+            assertEquals("Grüße", catalog.template(german[0], catalog.keyIndex("umlaut")).format());
+
+            // Missing from message_de, found in the root bundle
+            int farewell = catalog.keyIndex("farewell");
+            assertNull(catalog.template(german[0], farewell));
+            assertTrue(catalog.template(german[1], farewell).isConstant());
+            assertEquals("Bye", catalog.template(german[1], farewell).format());
+        }
+    }
+
+    @Test
+    void testDoesNotCoverPropertiesCompiledElsewhere() throws Exception {
+        MessageCatalog catalog = compile();
+        Path elsewhere = Files.createDirectory(directory.resolve("elsewhere"));
+        Files.write(elsewhere.resolve("message_fr.properties"), "greeting=Salut {0}\n".getBytes(StandardCharsets.UTF_8));
+        URL[] path = { elsewhere.toUri().toURL(), directory.toUri().toURL() };
+        try (URLClassLoader loader = new URLClassLoader(path, null)) {
+            assertNull(catalog.covers(Arrays.asList("message_fr", "message"), loader));
+            assertNotNull(catalog.covers(Arrays.asList("message_it", "message"), loader));
+        }
+    }
+
+    @Test
+    void testResolverReadsTheBuildCatalog() {
+        // The build compiles src/main/resources; message_fr only exists in the test resources
+        assertTrue(MessageResolver.isCompiled(Locale.ROOT));
+        assertFalse(MessageResolver.isCompiled(Locale.FRANCE));
+        assertEquals("Field 'age' must be >= 18", MessageResolver.getMessage(Locale.ROOT, "error.min", "age", 18));
+    }
+}
@@ -3,6 +3,7 @@ package com.danielmorales.validatorx.i18n;
 import org.junit.jupiter.api.Test;
 
 import java.util.Locale;
+import java.util.ResourceBundle;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,4 +45,48 @@ class MessageResolverTest {
             MessageResolver.setLocale(oldLocale);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetMessage_fallsBackToTheDefaultLocaleLikeResourceBundle() {
+        // message_de.properties does not exist, message_fr.properties does (outside the catalog)
+        Locale oldLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.FRANCE);
+            MessageResolver.reload();
+            String expected = ResourceBundle.getBundle("message", Locale.GERMAN).getString("error.notNull")
+                    .replace("{0}", "nom");
+            assertEquals(expected, MessageResolver.getMessage(Locale.GERMAN, "error.notNull", "nom"));
+            assertTrue(expected.startsWith("Le champ"));
+        } finally {
+            Locale.setDefault(oldLocale);
+            MessageResolver.reload();
+        }
+    }
+
+    @Test
+    void testGetMessage_substitutesArguments() {
+        assertEquals("Field 'age' must be >= 18",
+                MessageResolver.getMessage(Locale.ROOT, "error.min", "age", 18));
+        // A placeholder without an argument is kept
+        assertEquals("Field 'age' must be <= {1}", MessageResolver.getMessage(Locale.ROOT, "error.max", "age"));
+    }
+
+    @Test
+    void testGetTemplate_isCompiledOncePerLocale() {
+        MessageTemplate template = MessageResolver.getTemplate(Locale.ROOT, "error.notNull");
+        assertSame(template, MessageResolver.getTemplate(Locale.ROOT, "error.notNull"));
+        assertFalse(template.isConstant());
+
+        MessageTemplate missing = MessageResolver.getTemplate(Locale.ROOT, "non.existent.key");
+        assertSame(missing, MessageResolver.getTemplate(Locale.ROOT, "non.existent.key"));
+        assertEquals("??non.existent.key??", missing.format("ignored"));
+    }
+
+    @Test
+    void testTemplate_parsesPlaceholders() {
+        MessageTemplate template = MessageTemplate.compile("{1} of {0} in {x} and {} {12345}");
+        assertEquals("b of a in {x} and {} {12345}", template.format("a", "b"));
+        assertTrue(MessageTemplate.compile("no placeholders").isConstant());
+        assertEquals("{0}", MessageTemplate.compile("{0}").format((Object[]) null));
+    }
+}
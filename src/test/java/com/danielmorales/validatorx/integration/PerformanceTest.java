@@ -6,6 +6,7 @@ import com.danielmorales.validatorx.model.User;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,20 +37,18 @@ class PerformanceTest {
 
     @RepeatedTest(3)
     void testBulkValidationPerformance() {
-        // Validate many random users in a loop to see if performance remains acceptable
-        long start = System.currentTimeMillis();
-
+        // Validate many users in a loop. Throughput is not asserted here: wall-clock timings
+        // are unreliable in a unit test, and regressions are caught by the perf-gate profile
+        // of the validatorx-benchmarks module against its committed baseline.
+        int failures = 0;
         for (int i = 0; i < 10_000; i++) {
             User user = new User("User" + i, "test" + i + "@example.com", "Pass" + i + "word");
             ValidationResult result = Validator.check(user).validate();
-            result.hasErrors();// In real usage, we might accumulate or handle them
+            if (result.hasErrors()) {
+                failures++;
+            }
         }
 
-        long end = System.currentTimeMillis();
-        long duration = end - start;
-
-        // Arbitrary threshold for demonstration: 2 seconds for 10k validations
-        assertTrue(duration < 2000,
-                   "Validating 10,000 simple objects should finish in under 2 seconds on a typical modern machine");
+        assertEquals(0, failures, "Every generated user is valid");
     }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.danielmorales.validatorx.jfr;
+
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Pattern;
+import com.danielmorales.validatorx.core.ValidationProfileRegistry;
+import com.danielmorales.validatorx.core.ValidatorEngine;
+import com.danielmorales.validatorx.metrics.MetricsRegistry;
+import com.danielmorales.validatorx.metrics.StripedValidationMetrics;
+import com.danielmorales.validatorx.pipeline.DefaultValidationPipeline;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationEventsTest {
+    private static final String VALIDATION = "com.danielmorales.validatorx.Validation";
+    private static final String PIPELINE = "com.danielmorales.validatorx.PipelineExecution";
+    private static final String SLOW_CONSTRAINT = "com.danielmorales.validatorx.SlowConstraint";
+
+    @TempDir
+    Path directory;
+
+    static class Ticket {
+        @NotNull
+        String id;
+
+        @Pattern(regex = "^[A-Z]{2}[0-9]{3}$")
+        String code;
+
+        Ticket(String id, String code) {
+            this.id = id;
+            this.code = code;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ValidationEvents.setSlowConstraintThreshold(ValidationEvents.DEFAULT_SLOW_CONSTRAINT_THRESHOLD);
+        MetricsRegistry.disable();
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws Exception {
+        Path file = directory.resolve(eventName + ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testEventsAreDisabledByDefault() {
+        assertNull(ValidationEvents.sink(), "Nothing is timed without a recording or metrics");
+        assertFalse(new ValidationEvent().isEnabled());
+        ValidationEvents.register();
+    }
+
+    @Test
+    void testValidationEvent_recordsClassErrorsAndMode() throws Exception {
+        List<RecordedEvent> events = record(VALIDATION,
+                () -> new ValidatorEngine().accumulateValidate(new Ticket(null, "bad")));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(Ticket.class.getName(), event.getClass("validatedClass").getName());
+        assertEquals(2, event.getInt("errorCount"));
+        assertEquals(ValidationEvent.ANNOTATIONS, event.getString("mode"));
+    }
+
+    @Test
+    void testPipelineExecutionEvent_recordsRuleSetAndOutcome() throws Exception {
+        ValidationProfileRegistry.registerProfile("eventsTest.ticket",
+                builder -> builder.isNotNull("code", "Code is required"));
+        List<RecordedEvent> events = record(PIPELINE, () -> new DefaultValidationPipeline<Ticket>()
+                .validateRequest(new Ticket("T-1", "AB123"))
+                .withRuleSet("eventsTest.ticket")
+                .execute());
+
+        assertEquals(1, events.size());
+        assertEquals("eventsTest.ticket", events.get(0).getString("ruleSet"));
+        assertEquals("success", events.get(0).getString("outcome"));
+        assertEquals(0, events.get(0).getInt("errorCount"));
+    }
+
+    @Test
+    void testSlowConstraintEvent_onlyAboveThreshold() throws Exception {
+        ValidationEvents.setSlowConstraintThreshold(Duration.ZERO);
+        List<RecordedEvent> all = record(SLOW_CONSTRAINT,
+                () -> new ValidatorEngine().accumulateValidate(new Ticket("T-1", "bad")));
+        assertEquals(2, all.size());
+        RecordedEvent pattern = all.stream().filter(e -> e.getString("constraint").equals("Pattern")).findFirst().get();
+        assertEquals("code", pattern.getString("field"));
+        assertTrue(pattern.getBoolean("failed"));
+
+        ValidationEvents.setSlowConstraintThreshold(Duration.ofSeconds(10));
+        assertTrue(record(SLOW_CONSTRAINT,
+                () -> new ValidatorEngine().accumulateValidate(new Ticket("T-1", "bad"))).isEmpty());
+    }
+
+    @Test
+    void testSlowConstraintEvents_andMetricsBothReceiveEvaluations() throws Exception {
+        StripedValidationMetrics metrics = MetricsRegistry.enable();
+        ValidationEvents.setSlowConstraintThreshold(Duration.ZERO);
+        List<RecordedEvent> events = record(SLOW_CONSTRAINT,
+                () -> new ValidatorEngine().accumulateValidate(new Ticket("T-1", "AB123")));
+
+        assertEquals(2, events.size());
+        assertEquals(1, metrics.snapshot().getConstraint(Ticket.class, "code", "Pattern").getEvaluations());
+    }
+
+    @Test
+    void testSetSlowConstraintThreshold_rejectsNegative() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ValidationEvents.setSlowConstraintThreshold(Duration.ofMillis(-1)));
+    }
+}
@@ -1,11 +1,19 @@
 package com.danielmorales.validatorx.jsr380;
 
+import com.danielmorales.validatorx.core.PlanCache;
 import com.danielmorales.validatorx.core.ValidationError;
 import com.danielmorales.validatorx.core.ValidationResult;
 import com.danielmorales.validatorx.jsr380.Jsr380Validator;
 import org.junit.jupiter.api.Test;
 import com.danielmorales.validatorx.core.Validator;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -93,4 +101,202 @@ class Jsr380ValidatorTest {
         assertEquals("customField", error.getFieldName(), "Error should be for customField");
         assertTrue(error.getMessage().contains("Custom NotNull"), "Expected custom error message");
     }
-}
\ No newline at end of file
+
+    interface Strict {
+    }
+
+    static class GroupedModel {
+        @javax.validation.constraints.NotNull
+        String always;
+
+        @javax.validation.constraints.Size(min = 5, groups = Strict.class)
+        String strictOnly;
+
+        GroupedModel(String always, String strictOnly) {
+            this.always = always;
+            this.strictOnly = strictOnly;
+        }
+    }
+
+    @Test
+    void testValidate_withGroups() {
+        GroupedModel model = new GroupedModel(null, "abc");
+
+        ValidationResult byDefault = Jsr380Validator.validate(model);
+        assertEquals(1, byDefault.getErrors().size());
+        assertEquals("always", byDefault.getErrors().get(0).getFieldName());
+
+        ValidationResult strict = Jsr380Validator.validate(model, Strict.class);
+        assertEquals(1, strict.getErrors().size());
+        assertEquals("strictOnly", strict.getErrors().get(0).getFieldName());
+
+        assertEquals(2, Validator.checkWithJsr380(model, Strict.class, javax.validation.groups.Default.class)
+                .getErrors().size());
+    }
+
+    static class Address {
+        @javax.validation.constraints.Size(min = 2, max = 2)
+        String country;
+
+        Address(String country) {
+            this.country = country;
+        }
+    }
+
+    static class MixedModel {
+        @com.danielmorales.validatorx.annotations.NotNull(message = "Name is required")
+        @javax.validation.constraints.NotNull
+        String name;
+
+        @javax.validation.constraints.Min(18)
+        @com.danielmorales.validatorx.annotations.Min(18)
+        @com.danielmorales.validatorx.annotations.Max(120)
+        int age;
+
+        @com.danielmorales.validatorx.annotations.NotNull
+        Address address;
+
+        MixedModel(String name, int age, Address address) {
+            this.name = name;
+            this.age = age;
+            this.address = address;
+        }
+    }
+
+    @Test
+    void testCheckWithJsr380_reportsDuplicateConstraintsOnce() {
+        ValidationResult result = Validator.checkWithJsr380(new MixedModel(null, 12, new Address("GB")));
+
+        assertEquals(2, result.getErrors().size());
+        assertEquals("name", result.getErrors().get(0).getFieldName());
+        assertEquals("Name is required", result.getErrors().get(0).getMessage(),
+                "The first of the duplicate constraints is kept");
+        assertEquals("age", result.getErrors().get(1).getFieldName());
+        assertEquals("jsr380:Min", result.getErrors().get(1).getConstraint());
+    }
+
+    @Test
+    void testUnifiedPlan_readsEachFieldOnceAndCascades() {
+        // name, age and address, each read once for both annotation families
+        assertEquals(3, PlanCache.getUnifiedPlan(MixedModel.class).explain().getNodes().size());
+
+        ValidationResult result = Validator.checkWithJsr380(new MixedModel("Ada", 130, new Address("GBR")));
+        assertEquals(2, result.getErrors().size());
+        assertEquals("age", result.getErrors().get(0).getFieldName());
+        assertEquals("country", result.getErrors().get(1).getFieldName(),
+                "JSR 380 constraints of cascaded objects are enforced too");
+        assertEquals(0, new com.danielmorales.validatorx.core.ValidatorEngine()
+                .accumulateValidate(new Address("GBR")).getErrors().size(), "The annotation plan ignores them");
+    }
+
+    @Test
+    void testValidate_resolvesDefaultMessageTemplates() {
+        ValidationResult result = Jsr380Validator.validate(new GroupedModel(null, "abc"));
+
+        assertEquals("Field 'always' cannot be null", result.getErrors().get(0).getMessage());
+        assertEquals("jsr380:NotNull", result.getErrors().get(0).getConstraint());
+    }
+
+    static class Order {
+        @javax.validation.constraints.NotBlank
+        String reference;
+
+        @javax.validation.constraints.NotEmpty
+        @javax.validation.constraints.Size(max = 2)
+        List<String> items;
+
+        @javax.validation.constraints.Positive
+        int quantity;
+
+        @javax.validation.constraints.PositiveOrZero
+        long discount;
+
+        @javax.validation.constraints.Negative
+        Integer adjustment;
+
+        @javax.validation.constraints.DecimalMin(value = "0.5", inclusive = false)
+        @javax.validation.constraints.DecimalMax("100.00")
+        double weight;
+
+        @javax.validation.constraints.Digits(integer = 3, fraction = 2)
+        BigDecimal price;
+
+        @javax.validation.constraints.Past
+        LocalDate created;
+
+        @javax.validation.constraints.Future
+        LocalDate due;
+
+        @javax.validation.constraints.AssertTrue
+        boolean accepted;
+
+        @javax.validation.constraints.Null
+        String internal;
+    }
+
+    private static Order validOrder() {
+        Order order = new Order();
+        order.reference = "A-1";
+        order.items = Arrays.asList("apple", "pear");
+        order.quantity = 1;
+        order.discount = 0;
+        order.adjustment = -5;
+        order.weight = 0.75;
+        order.price = new BigDecimal("999.99");
+        order.created = LocalDate.now().minusDays(1);
+        order.due = LocalDate.now().plusDays(1);
+        order.accepted = true;
+        return order;
+    }
+
+    private static List<String> failures(Object target) {
+        return Jsr380Validator.validate(target).getErrors().stream()
+                .map(error -> error.getFieldName() + ":" + error.getConstraint())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testValidate_acceptsValidValuesOfEveryConstraint() {
+        assertEquals(Collections.emptyList(), failures(validOrder()));
+    }
+
+    @Test
+    void testValidate_reportsEveryConstraint() {
+        Order order = new Order();
+        order.reference = "  ";
+        order.items = Collections.emptyList();
+        order.quantity = 0;
+        order.discount = -1;
+        order.adjustment = 0;
+        order.weight = 0.5;
+        order.price = new BigDecimal("1000.1");
+        order.created = LocalDate.now();
+        order.due = LocalDate.now();
+        order.internal = "set";
+
+        assertEquals(Arrays.asList("reference:jsr380:NotBlank", "items:jsr380:NotEmpty", "quantity:jsr380:Positive",
+                "discount:jsr380:PositiveOrZero", "adjustment:jsr380:Negative", "weight:jsr380:DecimalMin",
+                "price:jsr380:Digits", "created:jsr380:Past", "due:jsr380:Future", "accepted:jsr380:AssertTrue",
+                "internal:jsr380:Null"), failures(order));
+    }
+
+    @Test
+    void testValidate_checksSizesBoundsAndNullsLikeTheSpecification() {
+        Order order = validOrder();
+        order.items = Arrays.asList("a", "b", "c");
+        order.weight = 100.01;
+        order.adjustment = null;
+        order.price = null;
+        order.created = null;
+
+        assertEquals(Arrays.asList("items:jsr380:Size", "weight:jsr380:DecimalMax"), failures(order),
+                "Collections are sized, doubles are compared exactly and null is valid");
+        assertEquals("Field 'weight' must be <= 100.00",
+                Jsr380Validator.validate(order).getErrors().get(1).getMessage());
+
+        order = validOrder();
+        order.reference = null;
+        order.items = null;
+        assertEquals(Arrays.asList("reference:jsr380:NotBlank", "items:jsr380:NotEmpty"), failures(order));
+    }
+}
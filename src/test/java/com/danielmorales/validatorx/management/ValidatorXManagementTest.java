@@ -0,0 +1,131 @@
+package com.danielmorales.validatorx.management;
+
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Size;
+import com.danielmorales.validatorx.core.ValidationPlan;
+import com.danielmorales.validatorx.core.ValidationResult;
+import com.danielmorales.validatorx.core.ValidatorEngine;
+import com.danielmorales.validatorx.metrics.MetricsRegistry;
+import com.danielmorales.validatorx.metrics.StripedValidationMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorXManagementTest {
+
+    static class Account {
+        @NotNull
+        String id;
+
+        @Size(min = 3, max = 10)
+        String name;
+
+        Account(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private final ValidatorEngine engine = new ValidatorEngine();
+    private ObjectName name;
+
+    @BeforeEach
+    void setUp() {
+        name = ValidatorXManagement.register();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ValidationPlan.setFailFastDefault(false);
+        MetricsRegistry.disable();
+        ValidatorXManagement.unregister();
+    }
+
+    @Test
+    void testRegistersOnce() {
+        assertTrue(server.isRegistered(name));
+        assertEquals(name, ValidatorXManagement.register());
+        ValidatorXManagement.unregister();
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    void testReadsCachesAndRegistries() throws Exception {
+        engine.accumulateValidate(new Account("a1", "Ada Lovelace"));
+
+        assertTrue((Integer) server.getAttribute(name, "PlanCacheSize") > 0);
+        assertTrue((Integer) server.getAttribute(name, "ReflectionCacheSize") > 0);
+        assertTrue((Long) server.getAttribute(name, "RuleRegistryVersion") >= 0);
+        assertNotNull(server.getAttribute(name, "ResultCacheHitRate"));
+
+        server.invoke(name, "clearCaches", new Object[0], new String[0]);
+        assertEquals(0, server.getAttribute(name, "PlanCacheSize"));
+    }
+
+    @Test
+    void testChangesFailFastAtRuntime() throws Exception {
+        Account invalid = new Account(null, "Al");
+        assertEquals(2, engine.accumulateValidate(invalid).getErrors().size());
+
+        server.setAttribute(name, new Attribute("FailFastDefault", true));
+        assertTrue(ValidationPlan.isFailFastDefault());
+
+        ValidationResult result = engine.accumulateValidate(invalid);
+        assertEquals(1, result.getErrors().size());
+        assertEquals("id", result.getErrors().get(0).getFieldName());
+    }
+
+    @Test
+    void testReportsClassStatistics() throws Exception {
+        ValidatorXMXBean proxy = JMX.newMXBeanProxy(server, name, ValidatorXMXBean.class);
+        assertTrue(proxy.getClassStatistics().isEmpty());
+
+        proxy.setMetricsEnabled(true);
+        assertTrue(MetricsRegistry.isEnabled());
+        engine.accumulateValidate(new Account("a1", "Ada"));
+        engine.accumulateValidate(new Account(null, "Ada"));
+
+        CompositeData[] raw = (CompositeData[]) server.getAttribute(name, "ClassStatistics");
+        assertEquals(1, raw.length);
+        assertEquals(Account.class.getName(), raw[0].get("className"));
+
+        List<ClassStatistics> statistics = proxy.getClassStatistics();
+        assertEquals(2, statistics.get(0).getValidations());
+        assertEquals(1, statistics.get(0).getFailedValidations());
+
+        proxy.resetStatistics();
+        assertTrue(proxy.getClassStatistics().isEmpty());
+        proxy.setMetricsEnabled(false);
+        assertFalse(MetricsRegistry.isEnabled());
+    }
+
+    @Test
+    void testMetricsToggleKeepsTheRegisteredSink() {
+        ValidatorXMXBean proxy = JMX.newMXBeanProxy(server, name, ValidatorXMXBean.class);
+        StripedValidationMetrics registered = new StripedValidationMetrics();
+        MetricsRegistry.register(registered);
+
+        proxy.setMetricsEnabled(false);
+        assertFalse(proxy.isMetricsEnabled());
+        assertNull(MetricsRegistry.get());
+        engine.accumulateValidate(new Account(null, "Ada"));
+        assertTrue(registered.snapshot().getClasses().isEmpty(), "A paused sink records nothing");
+
+        proxy.setMetricsEnabled(true);
+        assertTrue(proxy.isMetricsEnabled());
+        assertSame(registered, MetricsRegistry.get());
+        engine.accumulateValidate(new Account(null, "Ada"));
+        assertEquals(1, registered.snapshot().getClasses().size());
+    }
+}
@@ -0,0 +1,148 @@
+package com.danielmorales.validatorx.metrics;
+
+import com.danielmorales.validatorx.core.ValidationProfileRegistry;
+import com.danielmorales.validatorx.pipeline.DefaultValidationPipeline;
+import com.danielmorales.validatorx.pipeline.ValidationPipeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    static class Request {
+        String input;
+
+        Request(String input) {
+            this.input = input;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        LatencyHistograms.setEnabled(false);
+        LatencyHistograms.clear();
+    }
+
+    @Test
+    void testBucketsCoverEveryValueWithBoundedError() {
+        for (int index = 0; index < LatencyHistogram.BUCKET_COUNT; index++) {
+            long low = LatencyHistogram.lowestValue(index);
+            long high = LatencyHistogram.highestValue(index);
+            assertEquals(index, LatencyHistogram.bucketIndex(low));
+            assertEquals(index, LatencyHistogram.bucketIndex(high));
+            if (index + 1 < LatencyHistogram.BUCKET_COUNT) {
+                assertEquals(high + 1, LatencyHistogram.lowestValue(index + 1));
+            }
+            assertTrue(high - low <= Math.max(0, low / 32), "Bucket " + index + " is too wide");
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500_000, snapshot.getValueAtPercentile(50), 500_000 * 0.04);
+        assertEquals(990_000, snapshot.getValueAtPercentile(99), 990_000 * 0.04);
+        assertEquals(1_000_000, snapshot.getMax(), 1_000_000 * 0.04);
+        assertEquals(500_500, snapshot.getMean(), 500_500 * 0.04);
+    }
+
+    @Test
+    void testOutOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(0, snapshot.getValueAtPercentile(0));
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.getMax());
+    }
+
+    @Test
+    void testSnapshotAndResetStartsNewInterval() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.record(200);
+
+        assertEquals(2, histogram.snapshotAndReset().getCount());
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getValueAtPercentile(99));
+
+        histogram.record(300);
+        assertEquals(1, histogram.snapshotAndReset().getCount());
+    }
+
+    @Test
+    void testConcurrentRecordingLosesNothing() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        long drained = 0;
+        for (int i = 0; i < 10; i++) {
+            drained += histogram.snapshotAndReset().getCount();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        drained += histogram.snapshotAndReset().getCount();
+
+        assertEquals(40_000, drained);
+    }
+
+    @Test
+    void testPipelineRecordsPerRuleSetAndClass() {
+        ValidationProfileRegistry.registerProfile("latencyMinLength", builder ->
+                builder.hasLengthBetween("input", 5, 50, "Input must be at least 5 chars"));
+        ValidationPipeline<Request> pipeline = new DefaultValidationPipeline<Request>()
+                .withRuleSet("latencyMinLength");
+        pipeline.validateRequest(new Request("abc")).execute();
+        assertTrue(LatencyHistograms.snapshotByRuleSet().isEmpty(), "Recording is disabled by default");
+
+        LatencyHistograms.setEnabled(true);
+        pipeline.validateRequest(new Request("abc")).execute();
+        pipeline.validateRequest(new Request("HelloWorld")).execute();
+
+        assertEquals(2, LatencyHistograms.snapshotByRuleSet().get("latencyMinLength").getCount());
+        assertEquals(2, LatencyHistograms.snapshotByClass().get(Request.class).getCount());
+
+        Map<String, Long> exported = new HashMap<>();
+        LatencyExporter exporter = new LatencyExporter() {
+            @Override
+            public void exportRuleSet(String ruleSet, LatencyHistogram.Snapshot latencies) {
+                exported.put(ruleSet, latencies.getCount());
+            }
+
+            @Override
+            public void exportClass(Class<?> type, LatencyHistogram.Snapshot latencies) {
+                exported.put(type.getSimpleName(), latencies.getCount());
+            }
+        };
+        LatencyHistograms.exportInterval(exporter);
+        assertEquals(2L, exported.get("latencyMinLength"));
+        assertEquals(2L, exported.get("Request"));
+
+        exported.clear();
+        LatencyHistograms.exportInterval(exporter);
+        assertTrue(exported.isEmpty(), "Empty intervals are not exported");
+    }
+}
@@ -0,0 +1,183 @@
+package com.danielmorales.validatorx.metrics;
+
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Size;
+import com.danielmorales.validatorx.core.ValidationResult;
+import com.danielmorales.validatorx.core.Validator;
+import com.danielmorales.validatorx.core.ValidatorEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowValidationLogTest {
+
+    static class Order {
+        @NotNull
+        Customer customer;
+
+        List<Line> lines;
+
+        Order(Customer customer, Line... lines) {
+            this.customer = customer;
+            this.lines = Arrays.asList(lines);
+        }
+    }
+
+    static class Customer {
+        @Size(min = 1, max = 5)
+        String name;
+
+        Customer(String name) {
+            this.name = name;
+        }
+    }
+
+    static class Line {
+        @NotNull
+        String sku;
+
+        Line(String sku) {
+            this.sku = sku;
+        }
+    }
+
+    private final ValidatorEngine engine = new ValidatorEngine();
+
+    @BeforeEach
+    void setUp() {
+        SlowValidationLog.clear();
+        SlowValidationLog.setMinCaptureInterval(Duration.ZERO);
+        SlowValidationLog.enable(Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SlowValidationLog.disable();
+        SlowValidationLog.setThreshold(SlowValidationLog.DEFAULT_THRESHOLD);
+        SlowValidationLog.setMinCaptureInterval(SlowValidationLog.DEFAULT_MIN_CAPTURE_INTERVAL);
+        SlowValidationLog.setCapacity(SlowValidationLog.DEFAULT_CAPACITY);
+        SlowValidationLog.clear();
+    }
+
+    @Test
+    void testCapturesBreakdownWithCascadeDepthAndSizes() {
+        ValidationResult result = engine.accumulateValidate(new Order(new Customer("Alexander")));
+        assertEquals(1, result.getErrors().size(), "The replay must not change the result");
+
+        List<SlowValidation> recent = SlowValidationLog.getRecent();
+        assertEquals(1, recent.size());
+        SlowValidation slow = recent.get(0);
+        assertEquals(Order.class, slow.getType());
+        assertEquals(1, slow.getCascadeDepth());
+        assertEquals(3, slow.getEvaluationCount());
+
+        SlowValidation.Entry name = find(slow, "customer.name", "Size").orElseThrow(AssertionError::new);
+        assertEquals(Customer.class, name.getType());
+        assertEquals(9, name.getInputSize());
+        assertEquals(1, name.getDepth());
+        assertTrue(name.isFailed());
+
+        SlowValidation.Entry cascade = find(slow, "customer", SlowValidation.Entry.CASCADE)
+                .orElseThrow(AssertionError::new);
+        assertEquals(0, cascade.getDepth());
+        assertTrue(cascade.getNanos() >= name.getNanos(), "A cascade includes its nested evaluations");
+    }
+
+    @Test
+    void testFluentCascadeAddsUpCollectionElements() {
+        Order order = new Order(new Customer("Ann"), new Line("A-1"), new Line(null), new Line("C-3"));
+        Validator.check(order).cascade("lines").validate();
+
+        SlowValidation slow = SlowValidationLog.getRecent().get(0);
+        assertEquals(3, find(slow, "lines", SlowValidation.Entry.CASCADE).get().getInputSize());
+        // The elements share one path: one entry per field and constraint, not per element
+        SlowValidation.Entry sku = find(slow, "lines[*].sku", "NotNull").get();
+        assertEquals(3, sku.getCount());
+        assertTrue(sku.isFailed());
+        assertEquals(3, find(slow, "lines[*]", SlowValidation.Entry.CASCADE).get().getCount());
+        assertFalse(find(slow, "lines[1].sku", "NotNull").isPresent());
+    }
+
+    @Test
+    void testCaptureOfALargeCollectionStaysBounded() {
+        SlowValidationLog.setMaxEntries(5);
+        Line[] lines = new Line[10_000];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = new Line(i % 2 == 0 ? "A-" + i : null);
+        }
+        try {
+            Validator.check(new Order(new Customer("Ann"), lines)).cascade("lines").validate();
+        } finally {
+            SlowValidationLog.setMaxEntries(SlowValidationLog.DEFAULT_MAX_ENTRIES);
+        }
+
+        SlowValidation slow = SlowValidationLog.getRecent().get(0);
+        assertTrue(slow.getEvaluationCount() > 20_000, "Every evaluation is counted");
+        assertTrue(slow.getEntries().size() <= 5);
+        assertEquals(10_000, find(slow, "lines[*].sku", "NotNull").get().getCount());
+    }
+
+    @Test
+    void testRateLimitCountsButDoesNotCapture() {
+        SlowValidationLog.setMinCaptureInterval(Duration.ofHours(1));
+        engine.accumulateValidate(new Order(new Customer("Ann")));
+        engine.accumulateValidate(new Order(new Customer("Bob")));
+
+        assertEquals(2, SlowValidationLog.getSlowCount());
+        assertEquals(1, SlowValidationLog.getCapturedCount());
+        assertEquals(1, SlowValidationLog.getRecent().size());
+    }
+
+    @Test
+    void testThresholdAndDisable() {
+        SlowValidationLog.setThreshold(Duration.ofMinutes(1));
+        engine.accumulateValidate(new Order(new Customer("Ann")));
+        assertEquals(0, SlowValidationLog.getSlowCount());
+
+        SlowValidationLog.setThreshold(Duration.ZERO);
+        SlowValidationLog.disable();
+        engine.accumulateValidate(new Order(new Customer("Ann")));
+        assertEquals(0, SlowValidationLog.getSlowCount());
+        assertThrows(IllegalArgumentException.class, () -> SlowValidationLog.setThreshold(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    void testRingKeepsMostRecentAndNotifiesListeners() {
+        SlowValidationLog.setCapacity(2);
+        List<String> names = new ArrayList<>();
+        SlowValidationListener failing = slow -> {
+            throw new IllegalStateException("listener failure");
+        };
+        SlowValidationListener recording = slow -> names.add(slow.getType().getSimpleName());
+        SlowValidationLog.addListener(failing);
+        SlowValidationLog.addListener(recording);
+        try {
+            engine.accumulateValidate(new Customer("Ann"));
+            engine.accumulateValidate(new Line("A-1"));
+            engine.accumulateValidate(new Order(new Customer("Ann")));
+        } finally {
+            SlowValidationLog.removeListener(failing);
+            SlowValidationLog.removeListener(recording);
+        }
+
+        assertEquals(Arrays.asList("Customer", "Line", "Order"), names);
+        List<SlowValidation> recent = SlowValidationLog.getRecent();
+        assertEquals(2, recent.size());
+        assertEquals(Order.class, recent.get(0).getType());
+        assertEquals(Line.class, recent.get(1).getType());
+    }
+
+    private static Optional<SlowValidation.Entry> find(SlowValidation slow, String path, String constraint) {
+        return slow.getEntries().stream()
+                .filter(entry -> entry.getPath().equals(path) && entry.getConstraint().equals(constraint))
+                .findFirst();
+    }
+}
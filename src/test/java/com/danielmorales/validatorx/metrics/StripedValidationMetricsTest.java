@@ -0,0 +1,134 @@
+package com.danielmorales.validatorx.metrics;
+
+import com.danielmorales.validatorx.annotations.Min;
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Pattern;
+import com.danielmorales.validatorx.core.Validator;
+import com.danielmorales.validatorx.core.ValidatorEngine;
+import com.danielmorales.validatorx.jsr380.Jsr380Validator;
+import com.danielmorales.validatorx.rules.RuleRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedValidationMetricsTest {
+
+    static class Product {
+        @NotNull
+        @Pattern(regex = "^[A-Z]{3}-[0-9]{4}$")
+        String sku;
+
+        @Min(1)
+        int quantity;
+
+        @NotNull
+        Warehouse warehouse;
+
+        Product(String sku, int quantity, Warehouse warehouse) {
+            this.sku = sku;
+            this.quantity = quantity;
+            this.warehouse = warehouse;
+        }
+    }
+
+    static class Warehouse {
+        @NotNull
+        String code;
+
+        Warehouse(String code) {
+            this.code = code;
+        }
+    }
+
+    static class JsrProduct {
+        @javax.validation.constraints.NotNull
+        String sku;
+
+        JsrProduct(String sku) {
+            this.sku = sku;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        MetricsRegistry.disable();
+    }
+
+    @Test
+    void testDisabled_recordsNothing() {
+        StripedValidationMetrics metrics = new StripedValidationMetrics();
+        assertFalse(MetricsRegistry.isEnabled());
+        new ValidatorEngine().accumulateValidate(new Product("ABC-1234", 1, new Warehouse("W1")));
+        assertTrue(metrics.snapshot().getConstraints().isEmpty());
+        assertNull(MetricsRegistry.get());
+    }
+
+    @Test
+    void testAnnotationConstraints_countEvaluationsAndFailures() {
+        StripedValidationMetrics metrics = MetricsRegistry.enable();
+        ValidatorEngine engine = new ValidatorEngine();
+        engine.accumulateValidate(new Product("ABC-1234", 5, new Warehouse("W1")));
+        engine.accumulateValidate(new Product("bad", 0, new Warehouse(null)));
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        MetricsSnapshot.ConstraintMetrics pattern = snapshot.getConstraint(Product.class, "sku", "Pattern");
+        assertEquals(2, pattern.getEvaluations());
+        assertEquals(1, pattern.getFailures());
+        assertTrue(pattern.getTotalNanos() >= 0);
+        assertEquals(1, snapshot.getConstraint(Product.class, "quantity", "Min").getFailures(),
+                "Primitive fields are measured too");
+        assertEquals(0, snapshot.getConstraint(Product.class, "sku", "NotNull").getFailures());
+
+        MetricsSnapshot.ClassMetrics product = snapshot.getClass(Product.class);
+        assertEquals(2, product.getValidations());
+        assertEquals(1, product.getFailedValidations());
+        assertEquals(3, product.getErrors(), "Nested errors count towards the outer class");
+
+        MetricsSnapshot.ClassMetrics warehouse = snapshot.getClass(Warehouse.class);
+        assertEquals(2, warehouse.getValidations(), "Cascaded objects are recorded as passes of their own");
+        assertEquals(1, snapshot.getConstraint(Warehouse.class, "code", "NotNull").getFailures());
+    }
+
+    @Test
+    void testFluentAndRegisteredRules_areReportedByName() {
+        RuleRegistry.registerRule("metricsTest.upperCase", value -> value instanceof String
+                && ((String) value).equals(((String) value).toUpperCase()));
+        StripedValidationMetrics metrics = MetricsRegistry.enable();
+
+        Validator.check(new Product("abc-1234", 1, new Warehouse("W1")))
+                .skipAnnotations()
+                .isNotNull("sku", "SKU is required")
+                .applyRule("metricsTest.upperCase", "sku", "SKU must be upper case")
+                .customRule(target -> true, "never fails")
+                .validate();
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getConstraint(Product.class, "sku", "isNotNull").getEvaluations());
+        assertEquals(1, snapshot.getConstraint(Product.class, "sku", "rule:metricsTest.upperCase").getFailures());
+        assertEquals(1, snapshot.getConstraint(Product.class, null, "customRule").getEvaluations());
+        assertEquals("rule:metricsTest.upperCase", snapshot.getConstraintsByTotalTime().stream()
+                .filter(c -> c.getFailures() > 0).findFirst().get().getConstraint());
+    }
+
+    @Test
+    void testJsr380Constraints_areReported() {
+        StripedValidationMetrics metrics = MetricsRegistry.enable();
+        Jsr380Validator.validate(new JsrProduct(null));
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getConstraint(JsrProduct.class, "sku", "jsr380:NotNull").getFailures());
+        assertEquals(1, snapshot.getClass(JsrProduct.class).getErrors());
+    }
+
+    @Test
+    void testReset_clearsCounters() {
+        StripedValidationMetrics metrics = MetricsRegistry.enable();
+        new ValidatorEngine().accumulateValidate(new Warehouse("W1"));
+        assertEquals(1, metrics.snapshot().getClasses().size());
+
+        metrics.reset();
+        assertTrue(metrics.snapshot().getClasses().isEmpty());
+        assertTrue(metrics.snapshot().getConstraints().isEmpty());
+    }
+}
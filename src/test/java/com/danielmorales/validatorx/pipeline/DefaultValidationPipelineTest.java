@@ -1,5 +1,6 @@
 package com.danielmorales.validatorx.pipeline;
 
+import com.danielmorales.validatorx.core.ValidationContext;
 import com.danielmorales.validatorx.core.ValidationProfileRegistry;
 import com.danielmorales.validatorx.core.ValidationResult;
 import org.junit.jupiter.api.BeforeAll;
@@ -88,4 +89,52 @@ class DefaultValidationPipelineTest {
         assertFalse(failureCalled[0], "No errors expected since there's no rule set or annotations");
         assertTrue(successCalled[0], "Success callback should be triggered by default in this scenario");
     }
-}
\ No newline at end of file
+
+    interface Create {
+    }
+
+    static class Signup {
+        @com.danielmorales.validatorx.annotations.NotNull(groups = Create.class)
+        String password;
+    }
+
+    @Test
+    void testPipeline_withGroups() {
+        boolean[] failed = new boolean[1];
+
+        new DefaultValidationPipeline<Signup>()
+            .validateRequest(new Signup())
+            .onFailure(result -> failed[0] = true)
+            .execute();
+        assertFalse(failed[0], "Create constraints should not apply to the Default group");
+
+        new DefaultValidationPipeline<Signup>()
+            .validateRequest(new Signup())
+            .withGroups(Create.class)
+            .onFailure(result -> failed[0] = true)
+            .execute();
+        assertTrue(failed[0], "Create constraints should apply when the Create group is active");
+    }
+
+    @Test
+    void testPipeline_usesTheGroupsOfTheBoundContext() {
+        boolean[] failed = new boolean[1];
+        ValidationContext context = ValidationContext.builder().groups(Create.class).build();
+
+        try (ValidationContext.Scope scope = context.bind()) {
+            new DefaultValidationPipeline<Signup>()
+                .validateRequest(new Signup())
+                .onFailure(result -> failed[0] = true)
+                .execute();
+            assertTrue(failed[0], "The groups of the bound context should apply");
+
+            failed[0] = false;
+            new DefaultValidationPipeline<Signup>()
+                .validateRequest(new Signup())
+                .withGroups()
+                .onFailure(result -> failed[0] = true)
+                .execute();
+            assertFalse(failed[0], "Explicit groups should take precedence over the bound context");
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.danielmorales.validatorx.pipeline;
 
+import com.danielmorales.validatorx.core.ValidationContext;
 import com.danielmorales.validatorx.core.ValidationResult;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Consumer;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ValidationPipelineTest {
@@ -76,4 +81,44 @@ class ValidationPipelineTest {
         assertTrue(actionsCalled[0], "Success was called");
         assertFalse(actionsCalled[1], "Failure was not called");
     }
-}
\ No newline at end of file
+
+    interface Create {
+    }
+
+    @Test
+    void testDefaultWithGroupsBindsTheGroupsWhileExecuting() {
+        @SuppressWarnings("unchecked")
+        Set<Class<?>>[] seen = new Set[1];
+        ValidationPipeline<String> pipeline = new ValidationPipeline<>() {
+            @Override
+            public ValidationPipeline<String> validateRequest(String request) {
+                return this;
+            }
+
+            @Override
+            public ValidationPipeline<String> withRuleSet(String ruleSetName) {
+                return this;
+            }
+
+            @Override
+            public ValidationPipeline<String> onFailure(Consumer<ValidationResult> action) {
+                return this;
+            }
+
+            @Override
+            public ValidationPipeline<String> onSuccess(Runnable action) {
+                return this;
+            }
+
+            @Override
+            public void execute() {
+                seen[0] = ValidationContext.current().getGroups();
+            }
+        };
+
+        pipeline.validateRequest("data").withGroups(Create.class).onSuccess(() -> {}).execute();
+
+        assertEquals(Collections.singleton(Create.class), seen[0]);
+        assertNull(ValidationContext.current().getGroups(), "The groups are only bound while executing");
+    }
+}
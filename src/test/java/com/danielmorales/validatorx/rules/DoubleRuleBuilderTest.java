@@ -0,0 +1,43 @@
+package com.danielmorales.validatorx.rules;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleRuleBuilderTest {
+
+    @Test
+    void testBetween_primitiveAndBoxed() {
+        DoubleRuleBuilder.DoubleRule rule = new DoubleRuleBuilder().between(0.0, 1.0).build();
+
+        assertTrue(rule.testDouble(0.0));
+        assertTrue(rule.testDouble(0.5));
+        assertTrue(rule.testDouble(1.0));
+        assertFalse(rule.testDouble(1.0001));
+        assertFalse(rule.testDouble(Double.NaN), "NaN is not within any range");
+
+        assertTrue(rule.test(0.25), "Boxed Double should be tested like the primitive");
+        assertTrue(rule.test(1), "Any number is converted to double");
+        assertFalse(rule.test("0.5"), "Non-numeric values should fail");
+        assertFalse(rule.test(null), "Null should fail");
+    }
+
+    @Test
+    void testFinite() {
+        DoubleRuleBuilder.DoubleRule rule = new DoubleRuleBuilder().finite().build();
+
+        assertTrue(rule.testDouble(123.45));
+        assertFalse(rule.testDouble(Double.POSITIVE_INFINITY));
+        assertFalse(rule.testDouble(Double.NaN));
+        assertTrue(rule.getErrorMessages().contains("Must be a finite number"));
+    }
+
+    @Test
+    void testRegisterDoubleRule_wrapsPredicate() {
+        RuleRegistry.registerDoubleRule("doubleRuleBuilderTestPercent", value -> value >= 0 && value <= 100);
+
+        assertTrue(RuleRegistry.getRule("doubleRuleBuilderTestPercent") instanceof DoubleRuleBuilder.DoubleRule);
+        assertTrue(RuleRegistry.getRule("doubleRuleBuilderTestPercent").test(99.5));
+        assertFalse(RuleRegistry.getRule("doubleRuleBuilderTestPercent").test(100.5));
+    }
+}
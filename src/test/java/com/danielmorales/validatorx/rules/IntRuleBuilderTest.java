@@ -0,0 +1,52 @@
+package com.danielmorales.validatorx.rules;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntRuleBuilderTest {
+
+    @Test
+    void testBetween_primitiveAndBoxed() {
+        IntRuleBuilder.IntRule rule = new IntRuleBuilder().between(1, 100).build();
+
+        assertTrue(rule.testInt(1));
+        assertTrue(rule.testInt(100));
+        assertFalse(rule.testInt(0));
+        assertFalse(rule.testInt(101));
+
+        assertTrue(rule.test(50), "Boxed Integer should be tested like the primitive");
+        assertTrue(rule.test((short) 50), "Short values should be accepted");
+        assertFalse(rule.test(50L), "Long values are not int values");
+        assertFalse(rule.test("50"), "Non-numeric values should fail");
+        assertFalse(rule.test(null), "Null should fail");
+    }
+
+    @Test
+    void testCombinedRules_withMessages() {
+        IntRuleBuilder.IntRule rule = new IntRuleBuilder()
+                .positive()
+                .atMost(10, "Too many")
+                .satisfies(value -> value % 2 == 0, "Must be even")
+                .build();
+
+        assertTrue(rule.testInt(4));
+        assertFalse(rule.testInt(-2), "Negative values fail positive()");
+        assertFalse(rule.testInt(12), "Values above 10 fail atMost");
+        assertFalse(rule.testInt(3), "Odd values fail the custom rule");
+
+        String messages = rule.getErrorMessages();
+        assertTrue(messages.contains("Must be positive"));
+        assertTrue(messages.contains("Too many"));
+        assertTrue(messages.contains("Must be even"));
+    }
+
+    @Test
+    void testRegisterIntRule_wrapsPredicate() {
+        RuleRegistry.registerIntRule("intRuleBuilderTestEven", value -> value % 2 == 0);
+
+        assertTrue(RuleRegistry.getRule("intRuleBuilderTestEven") instanceof IntRuleBuilder.IntRule);
+        assertTrue(RuleRegistry.getRule("intRuleBuilderTestEven").test(4));
+        assertFalse(RuleRegistry.getRule("intRuleBuilderTestEven").test(5));
+    }
+}
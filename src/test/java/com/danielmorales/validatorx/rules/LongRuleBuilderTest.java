@@ -0,0 +1,48 @@
+package com.danielmorales.validatorx.rules;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongRuleBuilderTest {
+
+    @Test
+    void testAtLeastAtMost_primitiveAndBoxed() {
+        LongRuleBuilder.LongRule rule = new LongRuleBuilder()
+                .atLeast(0L)
+                .atMost(5_000_000_000L)
+                .build();
+
+        assertTrue(rule.testLong(0L));
+        assertTrue(rule.testLong(5_000_000_000L));
+        assertFalse(rule.testLong(-1L));
+        assertFalse(rule.testLong(5_000_000_001L));
+
+        assertTrue(rule.test(42L), "Boxed Long should be tested like the primitive");
+        assertTrue(rule.test(42), "Integer values widen to long");
+        assertFalse(rule.test(42.0), "Double values are not long values");
+        assertFalse(rule.test(null), "Null should fail");
+    }
+
+    @Test
+    void testPositive_withCustomRule() {
+        LongRuleBuilder.LongRule rule = new LongRuleBuilder()
+                .positive()
+                .satisfies(value -> value % 1000 == 0, "Must be a multiple of 1000")
+                .build();
+
+        assertTrue(rule.testLong(3000L));
+        assertFalse(rule.testLong(0L));
+        assertFalse(rule.testLong(3001L));
+        assertTrue(rule.getErrorMessages().contains("Must be a multiple of 1000"));
+    }
+
+    @Test
+    void testRegisterLongRule_wrapsPredicate() {
+        RuleRegistry.registerLongRule("longRuleBuilderTestPositive", value -> value > 0);
+
+        assertTrue(RuleRegistry.getRule("longRuleBuilderTestPositive") instanceof LongRuleBuilder.LongRule);
+        assertTrue(RuleRegistry.getRule("longRuleBuilderTestPositive").test(7L));
+        assertFalse(RuleRegistry.getRule("longRuleBuilderTestPositive").test(-7L));
+    }
+}
@@ -0,0 +1,83 @@
+package com.danielmorales.validatorx.rules;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizedRuleTest {
+
+    @AfterEach
+    void restoreDefaults() {
+        MemoizedRule.setMaximumSize(MemoizedRule.DEFAULT_MAXIMUM_SIZE);
+        MemoizedRule.resetStats();
+    }
+
+    @Test
+    void testRepeatedValues_evaluatedOnce() {
+        AtomicInteger evaluations = new AtomicInteger();
+        MemoizedRule rule = MemoizedRule.of(value -> {
+            evaluations.incrementAndGet();
+            return ((String) value).startsWith("EUR");
+        });
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(rule.test("EUR"));
+            assertFalse(rule.test("USD"));
+        }
+        assertEquals(2, evaluations.get(), "Each distinct value should be evaluated only once");
+    }
+
+    @Test
+    void testConstraints_doNotShareOutcomes() {
+        MemoizedRule startsWithA = MemoizedRule.of(value -> ((String) value).startsWith("A"));
+        MemoizedRule endsWithA = MemoizedRule.of(value -> ((String) value).endsWith("A"));
+
+        assertTrue(startsWithA.test("AB"));
+        assertFalse(endsWithA.test("AB"), "The same value must be evaluated again for another constraint");
+    }
+
+    @Test
+    void testMutableValues_areNotMemoized() {
+        AtomicInteger evaluations = new AtomicInteger();
+        MemoizedRule rule = MemoizedRule.of(value -> {
+            evaluations.incrementAndGet();
+            return value != null;
+        });
+        List<String> list = new ArrayList<>();
+
+        rule.test(list);
+        rule.test(list);
+        rule.test(null);
+        assertEquals(3, evaluations.get());
+    }
+
+    @Test
+    void testCache_isBounded() {
+        MemoizedRule.setMaximumSize(10);
+        MemoizedRule rule = MemoizedRule.of(value -> true);
+
+        for (int i = 0; i < 1000; i++) {
+            rule.test("value-" + i);
+        }
+        assertTrue(MemoizedRule.size() <= 10, "The cache should never hold more than its maximum size");
+    }
+
+    @Test
+    void testRegisterRule_withMemoization() {
+        AtomicInteger evaluations = new AtomicInteger();
+        RuleRegistry.registerRule("memoizedCurrency", value -> {
+            evaluations.incrementAndGet();
+            return "EUR".equals(value);
+        }, true);
+
+        RuleRegistry.getRule("memoizedCurrency").test("EUR");
+        RuleRegistry.getRule("memoizedCurrency").test("EUR");
+        assertTrue(RuleRegistry.getRule("memoizedCurrency") instanceof MemoizedRule);
+        assertEquals(1, evaluations.get());
+    }
+}
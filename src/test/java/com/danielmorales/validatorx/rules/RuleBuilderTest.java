@@ -2,6 +2,7 @@ package com.danielmorales.validatorx.rules;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -81,4 +82,136 @@ class RuleBuilderTest {
         assertTrue(errorMsgs.contains("Must be digits only"), 
                 "Composite should contain second message");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCompositeRule_reordersCheapRejectingRuleFirst() {
+        // An expensive rule that always passes, followed by a cheap rule that rejects short input
+        RuleBuilder.CompositeRule rule = (RuleBuilder.CompositeRule) new RuleBuilder()
+                .matches("^(?:[a-z]+\\d*)+$", "Expensive regex")
+                .lengthAtLeast(50, "Too short")
+                .build();
+
+        String shortInput = "abcdefghijklmnopqrstuvwxyz0123456789";
+        for (int i = 0; i < 20_000; i++) {
+            assertFalse(rule.test(shortInput));
+        }
+        rule.reorder();
+
+        assertEquals("Too short", rule.getEvaluationOrder().get(0).getErrorMessage(),
+                "The cheap, always-rejecting rule should be evaluated first");
+        assertTrue(rule.getErrorMessages().startsWith("Expensive regex"),
+                "Error messages should keep declaration order");
+    }
+
+    @Test
+    void testCompositeRule_freezeKeepsOrder() {
+        RuleBuilder.CompositeRule rule = (RuleBuilder.CompositeRule) new RuleBuilder()
+                .matches("^(?:\\w)+$", "Word characters")
+                .lengthAtLeast(50, "Too short")
+                .build();
+        rule.freeze();
+
+        for (int i = 0; i < 20_000; i++) {
+            rule.test("short");
+        }
+        rule.reorder();
+
+        assertTrue(rule.isFrozen());
+        assertEquals("Word characters", rule.getEvaluationOrder().get(0).getErrorMessage(),
+                "A frozen rule should keep its order");
+        assertFalse(rule.test("short"), "Reordering must not change the outcome");
+        assertTrue(rule.test("12345678901234567890123456789012345678901234567890"));
+    }
+
+    @Test
+    void testBuild_fusesSimpleRulesIntoOneScan() {
+        RuleBuilder.CompositeRule rule = (RuleBuilder.CompositeRule) new RuleBuilder()
+                .lengthAtLeast(8, "Too short")
+                .matches(".*[A-Z].*", "Needs an uppercase letter")
+                .matches(".*\\d.*", "Needs a digit")
+                .matches("^[A-Za-z0-9!@#]+$", "Unsupported character")
+                .matches("^(?:\\w)+$", "Not fusable")
+                .build();
+
+        assertEquals(2, rule.getEvaluationOrder().size(), "Four rules should be fused into one unit");
+        assertEquals("Too short", rule.getFailedRule("Ab1").getErrorMessage());
+        assertEquals("Needs an uppercase letter", rule.getFailedRule("abcdefg1").getErrorMessage());
+        assertEquals("Needs a digit", rule.getFailedRule("Abcdefgh").getErrorMessage());
+        assertEquals("Unsupported character", rule.getFailedRule("Abcdefg1 ").getErrorMessage());
+        assertEquals("Not fusable", rule.getFailedRule("Abcdefg1!").getErrorMessage());
+        assertNull(rule.getFailedRule("abababAB12"), "A valid value has no failed rule");
+    }
+
+    @Test
+    void testFusedRules_agreeWithRegexEngine() {
+        String[] regexes = {
+                ".*[A-Z].*", ".*\\d.*", "^.*@.*$", ".*\\s.*", ".*[^a-z].*",
+                "^[a-z0-9_]+$", "\\w{3,5}", "[\\-.a-c]*", "\\D+", "[A-F\\d]{2}",
+                "^ACME-.*", ".*\\.com$", "abc.*", ".*xyz"
+        };
+        String[] inputs = {
+                "", "a", "A", "abc", "ab_9", "Hello World", "a\nb", "\n", "A\n", "\nA\n", "a\r\nB",
+                "x@y", "ACME-42", "ACME-\n", "site.com", "\nsite.com", "abcdef", "00", "F9", "-.b",
+                "wxyz", "w\nxyz", "caf\u00e9", "\u2028", "12345", "abcde", "abcdef"
+        };
+        for (String regex : regexes) {
+            assertNotNull(FusedRule.parse(regex), "Expected regex to be fusable: " + regex);
+            Predicate<Object> fused = new RuleBuilder().matches(regex).build();
+            for (String input : inputs) {
+                assertEquals(input.matches(regex), fused.test(input),
+                        "Fused rule disagrees with String.matches for " + regex + " on '" + input + "'");
+            }
+        }
+    }
+
+    @Test
+    void testFusedRules_agreeWithRegexEngineOnRandomInput() {
+        String[] atoms = {
+                "a", "Z", "7", "@", "\\.", "\\-", "\\d", "\\D", "\\w", "\\W", "\\s", "\\S",
+                "[a-c]", "[^a]", "[^a-z0-9]", "[\\d_]", "[^\\s]", "[A-F\\d]", "[\\-.x]", "[^\\n]"
+        };
+        String[] quantifiers = { "+", "*", "{2}", "{1,3}", "{2,}", "{0,2}", "{3,5}" };
+        String[] literals = { "ACME-", "x", "\\.com", "\u00e9t\u00e9" };
+        String[] pieces = {
+                "a", "b", "Z", "0", "9", "_", "-", ".", "@", " ", "\t", "\n", "\r", "\u0085", "\u2028",
+                "\u00e9", "\uD83D\uDE00", "\uD83D", "\uDE00", "ACME-", ".com", "\u00e9t\u00e9"
+        };
+        Random random = new Random(20261019L);
+        int fused = 0;
+        for (int r = 0; r < 3000; r++) {
+            String atom = atoms[random.nextInt(atoms.length)];
+            String regex;
+            switch (random.nextInt(4)) {
+                case 0:
+                    regex = ".*" + atom + ".*";
+                    break;
+                case 1:
+                    regex = (random.nextBoolean() ? "^" : "") + atom + quantifiers[random.nextInt(quantifiers.length)]
+                            + (random.nextBoolean() ? "$" : "");
+                    break;
+                case 2:
+                    regex = "^" + literals[random.nextInt(literals.length)] + ".*";
+                    break;
+                default:
+                    regex = ".*" + literals[random.nextInt(literals.length)] + "$";
+                    break;
+            }
+            if (FusedRule.parse(regex) == null) {
+                continue;
+            }
+            fused++;
+            Predicate<Object> rule = new RuleBuilder().matches(regex).build();
+            for (int i = 0; i < 40; i++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(7);
+                for (int j = 0; j < length; j++) {
+                    input.append(pieces[random.nextInt(pieces.length)]);
+                }
+                String value = input.toString();
+                assertEquals(value.matches(regex), rule.test(value),
+                        "Fused rule disagrees with String.matches for " + regex + " on '" + value + "'");
+            }
+        }
+        assertTrue(fused > 1000, "Most generated regexes should be fusable");
+    }
+}
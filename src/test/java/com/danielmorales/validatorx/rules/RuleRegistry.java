@@ -3,6 +3,10 @@ package com.danielmorales.validatorx.rules;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,4 +55,58 @@ class RuleRegistryTest {
         assertFalse(RuleRegistry.getRule("lengthRule").test("abcd"), 
                 "New rule expects length > 5 => fails for 'abcd'");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSnapshot_isUnaffectedByLaterRegistrations() {
+        RuleRegistry.registerRule("snapshotRule", obj -> true);
+        RuleRegistry.Snapshot before = RuleRegistry.snapshot();
+
+        RuleRegistry.registerRule("snapshotRule", obj -> false);
+        RuleRegistry.Snapshot after = RuleRegistry.snapshot();
+
+        assertTrue(before.getRule("snapshotRule").test("x"), "Old snapshot should keep the old rule");
+        assertFalse(after.getRule("snapshotRule").test("x"), "New snapshot should see the new rule");
+        assertTrue(after.getVersion() > before.getVersion(), "Versions should increase on registration");
+    }
+
+    @Test
+    void testRegisterRules_isAtomic() {
+        Map<String, Predicate<Object>> reload = new HashMap<>();
+        reload.put("bulkA", obj -> true);
+        reload.put("bulkB", obj -> true);
+
+        long version = RuleRegistry.snapshot().getVersion();
+        RuleRegistry.registerRules(reload);
+        RuleRegistry.Snapshot snapshot = RuleRegistry.snapshot();
+
+        assertNotNull(snapshot.getRule("bulkA"));
+        assertNotNull(snapshot.getRule("bulkB"));
+        assertEquals(version + 1, snapshot.getVersion(), "A bulk registration should produce a single version");
+    }
+
+    @Test
+    void testConcurrentRegistration_keepsEveryRule() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            final int thread = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    RuleRegistry.registerRule("concurrent-" + thread + "-" + i, obj -> true);
+                    RuleRegistry.getRule("concurrent-0-0");
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int t = 0; t < 8; t++) {
+            for (int i = 0; i < 200; i++) {
+                assertNotNull(RuleRegistry.getRule("concurrent-" + t + "-" + i), "No registration should be lost");
+            }
+        }
+    }
+}
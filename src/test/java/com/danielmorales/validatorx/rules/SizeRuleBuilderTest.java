@@ -0,0 +1,46 @@
+package com.danielmorales.validatorx.rules;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SizeRuleBuilderTest {
+
+    @Test
+    void testBetween_onSupportedContainers() {
+        Predicate<Object> rule = new SizeRuleBuilder().between(1, 3).build();
+
+        assertTrue(rule.test(Arrays.asList("a", "b")), "List of size 2 should pass");
+        assertTrue(rule.test(Collections.singletonMap("k", "v")), "Map of size 1 should pass");
+        assertTrue(rule.test("abc"), "String of length 3 should pass");
+        assertTrue(rule.test(new int[] { 1, 2 }), "Primitive arrays should be supported");
+        assertFalse(rule.test(Collections.emptyList()), "Empty list should fail");
+        assertFalse(rule.test(new String[4]), "Array of length 4 should fail");
+    }
+
+    @Test
+    void testUnsupportedValues_fail() {
+        Predicate<Object> rule = new SizeRuleBuilder().atMost(10).build();
+
+        assertFalse(rule.test(null), "Null has no size");
+        assertFalse(rule.test(5), "Numbers have no size");
+    }
+
+    @Test
+    void testNotEmpty_withCustomMessage() {
+        SizeRuleBuilder.SizeRule rule = new SizeRuleBuilder()
+                .notEmpty("An order needs at least one line item")
+                .atMost(100)
+                .build();
+
+        assertTrue(rule.testSize(1));
+        assertFalse(rule.testSize(0));
+        assertFalse(rule.testSize(101));
+        assertTrue(rule.getErrorMessages().contains("An order needs at least one line item"));
+        assertTrue(rule.getErrorMessages().contains("Size must be at most 100"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.benchmarks.Fixtures.Company;
+import com.danielmorales.validatorx.benchmarks.Fixtures.Customer;
+import com.danielmorales.validatorx.core.ValidationResult;
+import com.danielmorales.validatorx.core.ValidatorEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ValidatorEngine#accumulateValidate(Object)} on flat objects and on
+ * five-level object graphs, from one thread and from four.
+ *
+ * @author Daniel Morales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnotationValidationBenchmark {
+
+    @Param({"0", "10", "50"})
+    public int invalidPercent;
+
+    private final ValidatorEngine engine = new ValidatorEngine();
+    private Customer[] customers;
+    private Company[] companies;
+
+    @Setup
+    public void setUp() {
+        customers = Fixtures.customers(invalidPercent);
+        companies = Fixtures.companies(invalidPercent);
+    }
+
+    @Benchmark
+    public ValidationResult flat(Cursor cursor) {
+        return engine.accumulateValidate(customers[cursor.next()]);
+    }
+
+    @Benchmark
+    public ValidationResult deepGraph(Cursor cursor) {
+        return engine.accumulateValidate(companies[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ValidationResult flatConcurrent(Cursor cursor) {
+        return engine.accumulateValidate(customers[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ValidationResult deepGraphConcurrent(Cursor cursor) {
+        return engine.accumulateValidate(companies[cursor.next()]);
+    }
+}
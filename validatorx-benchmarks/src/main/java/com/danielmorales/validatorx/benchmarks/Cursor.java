@@ -0,0 +1,26 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A per-thread position in a data set, so that each invocation validates the next object
+ * and threads do not contend on a shared index.
+ *
+ * @author Daniel Morales
+ */
+@State(Scope.Thread)
+public class Cursor {
+    private int position;
+
+    /**
+     * Returns the next index in a data set of {@link Fixtures#DATA_SET_SIZE} objects.
+     *
+     * @return the index
+     */
+    public int next() {
+        int index = position;
+        position = (index + 1) & (Fixtures.DATA_SET_SIZE - 1);
+        return index;
+    }
+}
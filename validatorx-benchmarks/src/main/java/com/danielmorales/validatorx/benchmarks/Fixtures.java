@@ -0,0 +1,240 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.annotations.Email;
+import com.danielmorales.validatorx.annotations.Max;
+import com.danielmorales.validatorx.annotations.Min;
+import com.danielmorales.validatorx.annotations.NotNull;
+import com.danielmorales.validatorx.annotations.Pattern;
+import com.danielmorales.validatorx.annotations.Size;
+
+import java.util.Random;
+
+/**
+ * Models and data sets shared by the benchmarks.
+ *
+ * <p>Data sets are generated from a fixed seed, so every run validates the same objects.
+ * A data set mixes valid and invalid objects in the requested proportion; invalid objects
+ * break one or two constraints each, like real input does.
+ *
+ * @author Daniel Morales
+ */
+public final class Fixtures {
+    /** Number of objects in each data set. Large enough to defeat branch-history tricks. */
+    public static final int DATA_SET_SIZE = 1024;
+
+    private static final long SEED = 42L;
+
+    private Fixtures() {
+    }
+
+    /**
+     * A flat object with one constraint of each ValidatorX annotation type.
+     */
+    public static class Customer {
+        @NotNull
+        private String name;
+
+        @Email
+        private String email;
+
+        @Size(min = 8, max = 20)
+        private String password;
+
+        @Min(18)
+        @Max(130)
+        private int age;
+
+        @Pattern(regex = "^[0-9]{5}$")
+        private String postcode;
+
+        public Customer(String name, String email, String password, int age, String postcode) {
+            this.name = name;
+            this.email = email;
+            this.password = password;
+            this.age = age;
+            this.postcode = postcode;
+        }
+    }
+
+    /**
+     * The same object as {@link Customer}, constrained with JSR 380 annotations.
+     */
+    public static class JsrCustomer {
+        @javax.validation.constraints.NotNull
+        private String name;
+
+        @javax.validation.constraints.Email
+        private String email;
+
+        @javax.validation.constraints.Size(min = 8, max = 20)
+        private String password;
+
+        @javax.validation.constraints.Min(18)
+        @javax.validation.constraints.Max(130)
+        private int age;
+
+        @javax.validation.constraints.Pattern(regexp = "^[0-9]{5}$")
+        private String postcode;
+
+        public JsrCustomer(String name, String email, String password, int age, String postcode) {
+            this.name = name;
+            this.email = email;
+            this.password = password;
+            this.age = age;
+            this.postcode = postcode;
+        }
+    }
+
+    /**
+     * The root of a five-level object graph validated through {@code NotNull} cascades.
+     */
+    public static class Company {
+        @NotNull
+        private String name;
+
+        @NotNull
+        private Department department;
+
+        public Company(String name, Department department) {
+            this.name = name;
+            this.department = department;
+        }
+    }
+
+    public static class Department {
+        @NotNull
+        @Size(min = 2, max = 40)
+        private String name;
+
+        @NotNull
+        private Team team;
+
+        public Department(String name, Team team) {
+            this.name = name;
+            this.team = team;
+        }
+    }
+
+    public static class Team {
+        @Min(1)
+        @Max(50)
+        private int headcount;
+
+        @NotNull
+        private Employee lead;
+
+        public Team(int headcount, Employee lead) {
+            this.headcount = headcount;
+            this.lead = lead;
+        }
+    }
+
+    public static class Employee {
+        @NotNull
+        private String name;
+
+        @Email
+        private String email;
+
+        @NotNull
+        private Address address;
+
+        public Employee(String name, String email, Address address) {
+            this.name = name;
+            this.email = email;
+            this.address = address;
+        }
+    }
+
+    public static class Address {
+        @NotNull
+        private String street;
+
+        @Pattern(regex = "^[0-9]{5}$")
+        private String postcode;
+
+        public Address(String street, String postcode) {
+            this.street = street;
+            this.postcode = postcode;
+        }
+    }
+
+    /**
+     * Generates customers, a given percentage of which are invalid.
+     *
+     * @param invalidPercent the percentage of invalid customers, from 0 to 100
+     * @return the data set
+     */
+    public static Customer[] customers(int invalidPercent) {
+        Random random = new Random(SEED);
+        Customer[] customers = new Customer[DATA_SET_SIZE];
+        for (int i = 0; i < customers.length; i++) {
+            String[] values = customerValues(random, i, random.nextInt(100) < invalidPercent);
+            customers[i] = new Customer(values[0], values[1], values[2], Integer.parseInt(values[3]), values[4]);
+        }
+        return customers;
+    }
+
+    /**
+     * Generates JSR 380 customers, a given percentage of which are invalid.
+     *
+     * @param invalidPercent the percentage of invalid customers, from 0 to 100
+     * @return the data set
+     */
+    public static JsrCustomer[] jsrCustomers(int invalidPercent) {
+        Random random = new Random(SEED);
+        JsrCustomer[] customers = new JsrCustomer[DATA_SET_SIZE];
+        for (int i = 0; i < customers.length; i++) {
+            String[] values = customerValues(random, i, random.nextInt(100) < invalidPercent);
+            customers[i] = new JsrCustomer(values[0], values[1], values[2], Integer.parseInt(values[3]), values[4]);
+        }
+        return customers;
+    }
+
+    /**
+     * Generates company graphs, a given percentage of which have an invalid leaf.
+     *
+     * @param invalidPercent the percentage of invalid graphs, from 0 to 100
+     * @return the data set
+     */
+    public static Company[] companies(int invalidPercent) {
+        Random random = new Random(SEED);
+        Company[] companies = new Company[DATA_SET_SIZE];
+        for (int i = 0; i < companies.length; i++) {
+            boolean invalid = random.nextInt(100) < invalidPercent;
+            Address address = new Address("Main St " + i, invalid ? "ABCDE" : String.format("%05d", i));
+            Employee lead = new Employee("Lead " + i, invalid ? "lead" + i : "lead" + i + "@example.com", address);
+            companies[i] = new Company("Company " + i, new Department("Dept " + i, new Team(1 + i % 50, lead)));
+        }
+        return companies;
+    }
+
+    /**
+     * Builds the field values of one customer.
+     */
+    private static String[] customerValues(Random random, int i, boolean invalid) {
+        String name = "Customer " + i;
+        String email = "customer" + i + "@example.com";
+        String password = "Passw0rd" + i % 1000;
+        int age = 18 + i % 80;
+        String postcode = String.format("%05d", i);
+        if (invalid) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    name = null;
+                    break;
+                case 1:
+                    email = "customer" + i;
+                    break;
+                case 2:
+                    password = "short";
+                    age = 12;
+                    break;
+                default:
+                    postcode = "N/A";
+                    break;
+            }
+        }
+        return new String[] { name, email, password, String.valueOf(age), postcode };
+    }
+}
@@ -0,0 +1,72 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.benchmarks.Fixtures.Customer;
+import com.danielmorales.validatorx.core.ValidationResult;
+import com.danielmorales.validatorx.core.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks fluent {@link Validator.ValidationBuilder} chains, built and run once per
+ * object as applications do, with and without the annotation checks.
+ *
+ * @author Daniel Morales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FluentValidationBenchmark {
+
+    @Param({"0", "10", "50"})
+    public int invalidPercent;
+
+    private Customer[] customers;
+
+    @Setup
+    public void setUp() {
+        customers = Fixtures.customers(invalidPercent);
+    }
+
+    @Benchmark
+    public ValidationResult fluentOnly(Cursor cursor) {
+        return Validator.check(customers[cursor.next()])
+                .skipAnnotations()
+                .isNotNull("name", "Name is required")
+                .isEmail("email", "Invalid email")
+                .hasLengthBetween("password", 8, 20, "Password must be 8-20 characters")
+                .matchesRegex("postcode", "^[0-9]{5}$", "Invalid postcode")
+                .validate();
+    }
+
+    @Benchmark
+    public ValidationResult fluentWithAnnotations(Cursor cursor) {
+        return Validator.check(customers[cursor.next()])
+                .isNotNull("name", "Name is required")
+                .isEmail("email", "Invalid email")
+                .validate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ValidationResult fluentWithAnnotationsConcurrent(Cursor cursor) {
+        return Validator.check(customers[cursor.next()])
+                .isNotNull("name", "Name is required")
+                .isEmail("email", "Invalid email")
+                .validate();
+    }
+}
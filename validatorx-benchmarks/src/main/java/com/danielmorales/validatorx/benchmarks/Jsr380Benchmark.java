@@ -0,0 +1,55 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.benchmarks.Fixtures.JsrCustomer;
+import com.danielmorales.validatorx.core.ValidationResult;
+import com.danielmorales.validatorx.jsr380.Jsr380Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Jsr380Validator#validate(Object)} on objects constrained with JSR 380
+ * annotations.
+ *
+ * @author Daniel Morales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Jsr380Benchmark {
+
+    @Param({"0", "10", "50"})
+    public int invalidPercent;
+
+    private JsrCustomer[] customers;
+
+    @Setup
+    public void setUp() {
+        customers = Fixtures.jsrCustomers(invalidPercent);
+    }
+
+    @Benchmark
+    public ValidationResult validate(Cursor cursor) {
+        return Jsr380Validator.validate(customers[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ValidationResult validateConcurrent(Cursor cursor) {
+        return Jsr380Validator.validate(customers[cursor.next()]);
+    }
+}
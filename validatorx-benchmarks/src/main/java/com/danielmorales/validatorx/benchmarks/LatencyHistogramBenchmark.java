@@ -0,0 +1,56 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.metrics.LatencyHistogram;
+import com.danielmorales.validatorx.metrics.LatencyHistograms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of recording a latency, into one histogram and through the
+ * per-rule-set and per-class registry used by the pipeline.
+ *
+ * @author Daniel Morales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LatencyHistogramBenchmark {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long nanos = 12_345;
+
+    @Benchmark
+    public void record() {
+        histogram.record(nanos);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordConcurrent() {
+        histogram.record(nanos);
+    }
+
+    @Benchmark
+    public void recordPerRuleSetAndClass() {
+        LatencyHistograms.record("orders", Fixtures.Customer.class, nanos);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordPerRuleSetAndClassConcurrent() {
+        LatencyHistograms.record("orders", Fixtures.Customer.class, nanos);
+    }
+}
@@ -0,0 +1,54 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.i18n.MessageResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link MessageResolver#getMessage(String, Object...)} for plain messages,
+ * messages with arguments and missing keys.
+ *
+ * @author Daniel Morales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageResolverBenchmark {
+
+    private String field = "email";
+    private Long bound = 18L;
+
+    @Benchmark
+    public String plain() {
+        return MessageResolver.getMessage("error.invalidEmail");
+    }
+
+    @Benchmark
+    public String withArguments() {
+        return MessageResolver.getMessage("error.min", field, bound);
+    }
+
+    @Benchmark
+    public String missingKey() {
+        return MessageResolver.getMessage("error.unknown", field);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String withArgumentsConcurrent() {
+        return MessageResolver.getMessage("error.min", field, bound);
+    }
+}
@@ -0,0 +1,220 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.benchmarks.PerformanceSnapshot.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a fixed set of benchmarks and fails if they regressed against a committed baseline.
+ *
+ * <p>Each benchmark is run twice: in throughput mode with the GC profiler, for the throughput
+ * and the bytes allocated per operation, and in sample-time mode, for the latency percentiles.
+ * The measurements are written as JSON and compared with the baseline. The process exits
+ * with status 1 if any gated metric is worse than the baseline by more than its tolerance.
+ *
+ * <p>Configuration, as system properties:
+ * <ul>
+ *     <li>{@code perf.baseline} - the baseline file (default: {@code baselines/perf-baseline.json})</li>
+ *     <li>{@code perf.results} - where to write the results (default: {@code target/perf/results.json})</li>
+ *     <li>{@code perf.updateBaseline} - if {@code true}, write the results as the new baseline instead of comparing</li>
+ *     <li>{@code perf.tolerance.throughput} - allowed relative throughput loss (default: 0.10)</li>
+ *     <li>{@code perf.tolerance.latency} - allowed relative p50/p99 latency increase (default: 0.25)</li>
+ *     <li>{@code perf.tolerance.allocation} - allowed relative allocation increase (default: 0.10)</li>
+ *     <li>{@code perf.allocation.slack} - allocation increase always allowed, in bytes per operation (default: 16)</li>
+ *     <li>{@code perf.warmupIterations}, {@code perf.measurementIterations}, {@code perf.forks}</li>
+ * </ul>
+ *
+ * @author Daniel Morales
+ */
+public final class PerformanceGate {
+
+    /** The gated benchmarks. All are single-threaded, for stable results. */
+    static final String[] BENCHMARKS = {
+            AnnotationValidationBenchmark.class.getName() + ".flat$",
+            AnnotationValidationBenchmark.class.getName() + ".deepGraph$",
+            FluentValidationBenchmark.class.getName() + ".fluentWithAnnotations$",
+            Jsr380Benchmark.class.getName() + ".validate$",
+            PipelineBenchmark.class.getName() + ".execute$",
+            MessageResolverBenchmark.class.getName() + ".withArguments$",
+            RuleBuilderBenchmark.class.getName() + ".composite$",
+    };
+
+    /** The valid/invalid mix of the gated benchmarks. */
+    static final String INVALID_PERCENT = "10";
+
+    private PerformanceGate() {
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Path baselineFile = Paths.get(System.getProperty("perf.baseline", "baselines/perf-baseline.json"));
+        Path resultsFile = Paths.get(System.getProperty("perf.results", "target/perf/results.json"));
+
+        PerformanceSnapshot current = measure();
+        current.write(resultsFile);
+        System.out.println("Performance results written to " + resultsFile);
+
+        if (Boolean.getBoolean("perf.updateBaseline")) {
+            current.write(baselineFile);
+            System.out.println("Baseline updated: " + baselineFile);
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            System.err.println("No baseline at " + baselineFile + "; run with -Dperf.updateBaseline=true to create one");
+            System.exit(1);
+        }
+
+        Tolerances tolerances = new Tolerances(
+                doubleProperty("perf.tolerance.throughput", 0.10),
+                doubleProperty("perf.tolerance.latency", 0.25),
+                doubleProperty("perf.tolerance.allocation", 0.10),
+                doubleProperty("perf.allocation.slack", 16));
+        List<String> regressions = compare(PerformanceSnapshot.read(baselineFile), current, tolerances);
+        if (regressions.isEmpty()) {
+            System.out.println("Performance gate passed: no regression against " + baselineFile);
+            return;
+        }
+        System.err.println("Performance gate failed against " + baselineFile + ":");
+        for (String regression : regressions) {
+            System.err.println("  " + regression);
+        }
+        System.exit(1);
+    }
+
+    /**
+     * Compares a run with a baseline.
+     *
+     * @param baseline   the baseline
+     * @param current    the run
+     * @param tolerances the allowed deviations
+     * @return a description of each regression; empty if there is none
+     */
+    static List<String> compare(PerformanceSnapshot baseline, PerformanceSnapshot current, Tolerances tolerances) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Measurement> entry : baseline.getResults().entrySet()) {
+            String name = entry.getKey();
+            Measurement expected = entry.getValue();
+            Measurement actual = current.getResults().get(name);
+            if (actual == null) {
+                regressions.add(name + ": not measured");
+                continue;
+            }
+            if (expected.throughput != null && actual.throughput != null
+                    && actual.throughput < expected.throughput * (1 - tolerances.throughput)) {
+                regressions.add(describe(name, "throughput (ops/us)", expected.throughput, actual.throughput));
+            }
+            if (expected.p50 != null && actual.p50 != null
+                    && actual.p50 > expected.p50 * (1 + tolerances.latency)) {
+                regressions.add(describe(name, "p50 latency (us)", expected.p50, actual.p50));
+            }
+            if (expected.p99 != null && actual.p99 != null
+                    && actual.p99 > expected.p99 * (1 + tolerances.latency)) {
+                regressions.add(describe(name, "p99 latency (us)", expected.p99, actual.p99));
+            }
+            if (expected.allocation != null && actual.allocation != null
+                    && actual.allocation > expected.allocation * (1 + tolerances.allocation) + tolerances.allocationSlack) {
+                regressions.add(describe(name, "allocation (B/op)", expected.allocation, actual.allocation));
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Runs the gated benchmarks and collects their measurements.
+     */
+    private static PerformanceSnapshot measure() throws RunnerException {
+        PerformanceSnapshot snapshot = new PerformanceSnapshot(
+                System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+
+        ChainedOptionsBuilder throughput = options().mode(Mode.Throughput).addProfiler(GCProfiler.class);
+        for (RunResult run : new Runner(throughput.build()).run()) {
+            Measurement measurement = snapshot.measurement(key(run.getParams()));
+            measurement.throughput = run.getPrimaryResult().getScore();
+            Result<?> allocation = run.getSecondaryResults().get("gc.alloc.rate.norm");
+            if (allocation != null) {
+                measurement.allocation = allocation.getScore();
+            }
+        }
+
+        Collection<RunResult> sampled = new Runner(options().mode(Mode.SampleTime).build()).run();
+        for (RunResult run : sampled) {
+            Measurement measurement = snapshot.measurement(key(run.getParams()));
+            measurement.p50 = run.getPrimaryResult().getStatistics().getPercentile(50);
+            measurement.p99 = run.getPrimaryResult().getStatistics().getPercentile(99);
+            measurement.p999 = run.getPrimaryResult().getStatistics().getPercentile(99.9);
+        }
+        return snapshot;
+    }
+
+    private static ChainedOptionsBuilder options() {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .param("invalidPercent", INVALID_PERCENT)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .warmupIterations(Integer.getInteger("perf.warmupIterations", 3))
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(Integer.getInteger("perf.measurementIterations", 5))
+                .measurementTime(TimeValue.seconds(1))
+                .forks(Integer.getInteger("perf.forks", 1))
+                .threads(1);
+        for (String benchmark : BENCHMARKS) {
+            options.include(benchmark);
+        }
+        return options;
+    }
+
+    /**
+     * Builds the key of a benchmark: its short name followed by its parameters.
+     */
+    private static String key(BenchmarkParams params) {
+        String benchmark = params.getBenchmark();
+        StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+        for (String param : params.getParamsKeys()) {
+            key.append('[').append(param).append('=').append(params.getParam(param)).append(']');
+        }
+        return key.toString();
+    }
+
+    private static String describe(String name, String metric, double expected, double actual) {
+        return String.format("%s: %s went from %.3f to %.3f (%+.1f%%)",
+                name, metric, expected, actual, 100 * (actual - expected) / expected);
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isEmpty() ? defaultValue : Double.parseDouble(value);
+    }
+
+    /**
+     * The allowed deviations from the baseline.
+     */
+    static final class Tolerances {
+        final double throughput;
+        final double latency;
+        final double allocation;
+        final double allocationSlack;
+
+        Tolerances(double throughput, double latency, double allocation, double allocationSlack) {
+            this.throughput = throughput;
+            this.latency = latency;
+            this.allocation = allocation;
+            this.allocationSlack = allocationSlack;
+        }
+    }
+}
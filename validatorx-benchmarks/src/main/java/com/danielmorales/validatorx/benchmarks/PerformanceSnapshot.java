@@ -0,0 +1,128 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The measurements of one performance gate run, keyed by benchmark name and parameters.
+ * Both the results of a run and the committed baselines are stored in this format.
+ *
+ * @author Daniel Morales
+ */
+public final class PerformanceSnapshot {
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private String jvm;
+    private Map<String, Measurement> results = new TreeMap<>();
+
+    /**
+     * Creates an empty snapshot.
+     *
+     * @param jvm a description of the JVM the measurements come from
+     */
+    public PerformanceSnapshot(String jvm) {
+        this.jvm = jvm;
+    }
+
+    /**
+     * @return a description of the JVM the measurements come from
+     */
+    public String getJvm() {
+        return jvm;
+    }
+
+    /**
+     * @return the measurements, keyed by benchmark name and parameters
+     */
+    public Map<String, Measurement> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the measurement of a benchmark, creating it if needed.
+     *
+     * @param key the benchmark name and parameters
+     * @return the measurement
+     */
+    public Measurement measurement(String key) {
+        return results.computeIfAbsent(key, k -> new Measurement());
+    }
+
+    /**
+     * Reads a snapshot from a JSON file.
+     *
+     * @param file the file
+     * @return the snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public static PerformanceSnapshot read(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            PerformanceSnapshot snapshot = GSON.fromJson(reader, PerformanceSnapshot.class);
+            if (snapshot == null || snapshot.results == null) {
+                throw new IOException("Not a performance snapshot: " + file);
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Writes this snapshot to a JSON file, creating parent directories as needed.
+     *
+     * @param file the file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            GSON.toJson(this, writer);
+        }
+    }
+
+    /**
+     * The measurements of one benchmark. Metrics that were not measured are {@code null}.
+     */
+    public static final class Measurement {
+        /** Operations per microsecond. */
+        Double throughput;
+        /** Median latency, in microseconds. */
+        Double p50;
+        /** 99th percentile latency, in microseconds. */
+        Double p99;
+        /** 99.9th percentile latency, in microseconds. Recorded, not gated. */
+        Double p999;
+        /** Bytes allocated per operation. */
+        Double allocation;
+
+        public Double getThroughput() {
+            return throughput;
+        }
+
+        public Double getP50() {
+            return p50;
+        }
+
+        public Double getP99() {
+            return p99;
+        }
+
+        public Double getP999() {
+            return p999;
+        }
+
+        public Double getAllocation() {
+            return allocation;
+        }
+    }
+}
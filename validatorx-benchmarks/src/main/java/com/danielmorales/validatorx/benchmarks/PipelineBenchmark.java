@@ -0,0 +1,70 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.benchmarks.Fixtures.Customer;
+import com.danielmorales.validatorx.core.ValidationProfileRegistry;
+import com.danielmorales.validatorx.pipeline.DefaultValidationPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DefaultValidationPipeline#execute()} with a registered rule set,
+ * including the creation of the pipeline and its callbacks.
+ *
+ * @author Daniel Morales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+    private static final String RULE_SET = "benchmarks.customer";
+
+    @Param({"0", "10", "50"})
+    public int invalidPercent;
+
+    private Customer[] customers;
+
+    @Setup
+    public void setUp() {
+        customers = Fixtures.customers(invalidPercent);
+        ValidationProfileRegistry.registerProfile(RULE_SET, builder ->
+                builder.isNotNull("name", "Name is required")
+                        .hasLengthBetween("name", 1, 100, "Name is too long")
+                        .isEmail("email", "Invalid email"));
+    }
+
+    @Benchmark
+    public void execute(Cursor cursor, Blackhole blackhole) {
+        run(customers[cursor.next()], blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void executeConcurrent(Cursor cursor, Blackhole blackhole) {
+        run(customers[cursor.next()], blackhole);
+    }
+
+    private static void run(Customer customer, Blackhole blackhole) {
+        new DefaultValidationPipeline<Customer>()
+                .validateRequest(customer)
+                .withRuleSet(RULE_SET)
+                .onFailure(blackhole::consume)
+                .onSuccess(() -> blackhole.consume(customer))
+                .execute();
+    }
+}
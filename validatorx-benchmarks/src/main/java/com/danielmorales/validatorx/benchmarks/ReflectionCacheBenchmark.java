@@ -0,0 +1,57 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.core.ReflectionCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ReflectionCache#getFieldAnnotations(Class)} lookups of cached classes.
+ *
+ * @author Daniel Morales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionCacheBenchmark {
+
+    private final Class<?>[] classes = {
+            Fixtures.Customer.class, Fixtures.JsrCustomer.class, Fixtures.Company.class,
+            Fixtures.Department.class, Fixtures.Team.class, Fixtures.Employee.class, Fixtures.Address.class
+    };
+
+    @State(Scope.Thread)
+    public static class ClassCursor {
+        int position;
+    }
+
+    @Benchmark
+    public List<ReflectionCache.FieldAnnotations> lookup(ClassCursor cursor) {
+        return ReflectionCache.getFieldAnnotations(nextClass(cursor));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<ReflectionCache.FieldAnnotations> lookupConcurrent(ClassCursor cursor) {
+        return ReflectionCache.getFieldAnnotations(nextClass(cursor));
+    }
+
+    private Class<?> nextClass(ClassCursor cursor) {
+        int index = cursor.position;
+        cursor.position = index + 1 == classes.length ? 0 : index + 1;
+        return classes[index];
+    }
+}
@@ -0,0 +1,68 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.rules.RuleBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Benchmarks composite rules built with {@link RuleBuilder}, on a mix of passing and
+ * failing values.
+ *
+ * @author Daniel Morales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleBuilderBenchmark {
+
+    @Param({"0", "10", "50"})
+    public int invalidPercent;
+
+    private Predicate<Object> composite;
+    private String[] values;
+
+    @Setup
+    public void setUp() {
+        composite = new RuleBuilder()
+                .lengthAtLeast(8, "Too short")
+                .matches("^[A-Za-z0-9]+$", "Only letters and digits")
+                .build();
+        Random random = new Random(42L);
+        values = new String[Fixtures.DATA_SET_SIZE];
+        for (int i = 0; i < values.length; i++) {
+            if (random.nextInt(100) >= invalidPercent) {
+                values[i] = "Passw0rd" + i;
+            } else {
+                values[i] = random.nextBoolean() ? "pw" + i : "pass word " + i;
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean composite(Cursor cursor) {
+        return composite.test(values[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean compositeConcurrent(Cursor cursor) {
+        return composite.test(values[cursor.next()]);
+    }
+}
@@ -0,0 +1,68 @@
+package com.danielmorales.validatorx.benchmarks;
+
+import com.danielmorales.validatorx.benchmarks.PerformanceSnapshot.Measurement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerformanceGateTest {
+    private static final PerformanceGate.Tolerances TOLERANCES = new PerformanceGate.Tolerances(0.10, 0.25, 0.10, 16);
+
+    private static PerformanceSnapshot snapshot(double throughput, double p50, double p99, double allocation) {
+        PerformanceSnapshot snapshot = new PerformanceSnapshot("test");
+        Measurement measurement = snapshot.measurement("FlatBenchmark.flat[invalidPercent=10]");
+        measurement.throughput = throughput;
+        measurement.p50 = p50;
+        measurement.p99 = p99;
+        measurement.allocation = allocation;
+        return snapshot;
+    }
+
+    @Test
+    void testCompare_withinTolerancesPasses() {
+        PerformanceSnapshot baseline = snapshot(1.0, 2.0, 10.0, 500);
+        assertTrue(PerformanceGate.compare(baseline, snapshot(0.95, 2.4, 12.0, 560), TOLERANCES).isEmpty());
+        assertTrue(PerformanceGate.compare(baseline, snapshot(2.0, 1.0, 5.0, 100), TOLERANCES).isEmpty(),
+                "Improvements are never regressions");
+    }
+
+    @Test
+    void testCompare_reportsEachRegressedMetric() {
+        PerformanceSnapshot baseline = snapshot(1.0, 2.0, 10.0, 500);
+        List<String> regressions = PerformanceGate.compare(baseline, snapshot(0.5, 2.6, 13.0, 600), TOLERANCES);
+        assertEquals(4, regressions.size());
+        assertTrue(regressions.get(0).contains("throughput"));
+        assertTrue(regressions.get(0).contains("-50.0%"));
+    }
+
+    @Test
+    void testCompare_allocationSlackAbsorbsSmallAllocations() {
+        PerformanceSnapshot baseline = snapshot(1.0, 2.0, 10.0, 0.1);
+        assertTrue(PerformanceGate.compare(baseline, snapshot(1.0, 2.0, 10.0, 8), TOLERANCES).isEmpty());
+        assertEquals(1, PerformanceGate.compare(baseline, snapshot(1.0, 2.0, 10.0, 24), TOLERANCES).size());
+    }
+
+    @Test
+    void testCompare_missingBenchmarkFails() {
+        List<String> regressions = PerformanceGate.compare(snapshot(1.0, 2.0, 10.0, 500),
+                new PerformanceSnapshot("test"), TOLERANCES);
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).endsWith("not measured"));
+    }
+
+    @Test
+    void testSnapshot_roundTripsThroughJson(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("nested/baseline.json");
+        snapshot(1.5, 2.0, 10.0, 500).write(file);
+        PerformanceSnapshot read = PerformanceSnapshot.read(file);
+        assertEquals("test", read.getJvm());
+        Measurement measurement = read.getResults().get("FlatBenchmark.flat[invalidPercent=10]");
+        assertEquals(1.5, measurement.getThroughput());
+        assertEquals(500, measurement.getAllocation());
+        assertNull(measurement.getP999());
+    }
+}